@@ -0,0 +1,87 @@
+package io.github.morichan.fescue.benchmark;
+
+import io.github.morichan.fescue.feature.Attribute;
+import io.github.morichan.fescue.feature.Operation;
+import io.github.morichan.fescue.sculptor.AttributeSculptor;
+import io.github.morichan.fescue.sculptor.OperationSculptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p> 彫刻器のマイクロベンチマーククラス </p>
+ *
+ * <p>
+ *     属性と操作のそれぞれについて、構文解析（{@code parse}）、形成（{@code carve}）、文字列化（{@code render}）の処理量を計測します。
+ *     形成と文字列化は、{@link #setup()}で構文解析または形成した結果を繰返し利用するため、その処理のみを計測します。
+ * </p>
+ *
+ * <p>
+ *     {@code gradle jmhGate}で実行すると、結果を{@code src/jmh/baseline.json}と比べ、処理量の低下または1回あたりの割当てバイト数の増加が閾値を超えた場合は失敗します。
+ *     ベンチマークや入力文字列を変更した場合は{@code gradle jmhBaseline}で基準値を更新してください。
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SculptorBenchmark {
+
+    private static final String ATTRIBUTE_TEXT = "- number : int[0..*] = (1 + 2) * max(a, b) {ordered, subsets total}";
+    private static final String OPERATION_TEXT = "+ set(in a : int = 1, out b : char[*] {ordered}, c : String[0..1] = \"text\") : void {query}";
+
+    private AttributeSculptor parsedAttribute;
+    private OperationSculptor parsedOperation;
+    private Attribute attribute;
+    private Operation operation;
+
+    @Setup
+    public void setup() {
+        parsedAttribute = new AttributeSculptor();
+        parsedAttribute.parse(ATTRIBUTE_TEXT);
+        attribute = parsedAttribute.carve();
+
+        parsedOperation = new OperationSculptor();
+        parsedOperation.parse(OPERATION_TEXT);
+        operation = parsedOperation.carve();
+    }
+
+    @Benchmark
+    public AttributeSculptor parseAttribute() {
+        AttributeSculptor sculptor = new AttributeSculptor();
+        sculptor.parse(ATTRIBUTE_TEXT);
+        return sculptor;
+    }
+
+    @Benchmark
+    public Attribute carveAttribute() {
+        return parsedAttribute.carve();
+    }
+
+    @Benchmark
+    public String renderAttribute() {
+        return attribute.toString();
+    }
+
+    @Benchmark
+    public OperationSculptor parseOperation() {
+        OperationSculptor sculptor = new OperationSculptor();
+        sculptor.parse(OPERATION_TEXT);
+        return sculptor;
+    }
+
+    @Benchmark
+    public Operation carveOperation() {
+        return parsedOperation.carve();
+    }
+
+    @Benchmark
+    public String renderOperation() {
+        return operation.toString();
+    }
+}
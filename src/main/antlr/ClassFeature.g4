@@ -1,14 +1,102 @@
 grammar ClassFeature;
 
-property
-    :   visibility? divided? name propType? multiplicityRange? defaultValue? propModifiers?
-    ;
-
-operation
-    :   visibility? name parameterList returnType? operProperties?
-    ;
-
-visibility
+@parser::header {
+import io.github.morichan.fescue.feature.Attribute;
+import io.github.morichan.fescue.feature.Operation;
+import io.github.morichan.fescue.feature.direction.Direction;
+import io.github.morichan.fescue.feature.direction.In;
+import io.github.morichan.fescue.feature.direction.InOut;
+import io.github.morichan.fescue.feature.direction.Out;
+import io.github.morichan.fescue.feature.direction.Return;
+import io.github.morichan.fescue.feature.multiplicity.Bounder;
+import io.github.morichan.fescue.feature.multiplicity.MultiplicityRange;
+import io.github.morichan.fescue.feature.name.Name;
+import io.github.morichan.fescue.feature.parameter.Parameter;
+import io.github.morichan.fescue.feature.property.*;
+import io.github.morichan.fescue.feature.type.Type;
+import io.github.morichan.fescue.feature.value.DefaultValue;
+import io.github.morichan.fescue.feature.value.expression.*;
+import io.github.morichan.fescue.feature.visibility.Visibility;
+}
+
+@parser::members {
+    private boolean isCarving = false;
+
+    /**
+     * <p> 構文解析しながら属性または操作のインスタンスを形成するかどうかを設定します。 </p>
+     *
+     * <p>
+     *     真を設定すると、各規則の{@code value}に形成したインスタンスを設定します（例、{@link PropertyContext#value}）。
+     *     構文木を利用しない場合は{@link #setBuildParseTree(boolean)}で構文木の構築を止めて1回の構文解析で形成できます。
+     *     ただし、エラー回復した規則の{@code value}は正しくないため、{@link org.antlr.v4.runtime.BailErrorStrategy}などで最初のエラーで構文解析を打切ってください。
+     *     多重度以外に形成できない式（{@code new}による生成式や、括弧で囲んだ式の呼出しなど）を含む場合は{@link IllegalArgumentException}を投げます。
+     * </p>
+     *
+     * @param isCarving 形成する場合は真<br>既定値は偽
+     */
+    public void setCarving(boolean isCarving) {
+        this.isCarving = isCarving;
+    }
+
+    /**
+     * <p> 構文解析しながら形成する場合は真を返す真偽値判定を行います。 </p>
+     *
+     * @return 形成する場合は真を返す真偽値
+     */
+    public boolean isCarving() {
+        return isCarving;
+    }
+
+    /**
+     * 非表示チャネルのトークンを除いた規則の文字列（構文木の{@link ParserRuleContext#getText()}と同じ）
+     */
+    private String textOf(ParserRuleContext ctx) {
+        if (ctx.start == ctx.stop) return ctx.start.getText();
+
+        StringBuilder sb = new StringBuilder();
+        for (int i = ctx.start.getTokenIndex(); i <= ctx.stop.getTokenIndex(); i++) {
+            Token token = _input.get(i);
+            if (token.getChannel() == Token.DEFAULT_CHANNEL) sb.append(token.getText());
+        }
+        return sb.toString();
+    }
+
+    private Bounder boundOf(ParserRuleContext ctx) {
+        return new Bounder(new OneIdentifier(textOf(ctx)));
+    }
+
+    /**
+     * 呼出し式（メソッド名のみ、または{@code .}で修飾したメソッド名のみ形成可能）
+     */
+    private Expression callOf(ExpressionContext callee, List<Expression> arguments) {
+        if (callee.value instanceof OneIdentifier) return new MethodCall(callee.start.getText(), arguments);
+        if (callee.bop != null && callee.bop.getType() == DOT) return new Binomial(".", callee.left.value, new MethodCall(callee.stop.getText(), arguments));
+        throw new IllegalArgumentException("cannot carve call on " + textOf(callee));
+    }
+}
+
+property returns [Attribute value]
+@init { if (isCarving) $value = new Attribute(new Name("attribute")); }
+    :   (visibility { if (isCarving) $value.setVisibility($visibility.value); })?
+        (divided { if (isCarving) $value.setDerived(true); })?
+        name { if (isCarving) $value.setName($name.value); }
+        (propType { if (isCarving) $value.setType($propType.value); })?
+        (multiplicityRange { if (isCarving) $value.setMultiplicityRange($multiplicityRange.value); })?
+        (defaultValue { if (isCarving) $value.setDefaultValue($defaultValue.value); })?
+        (propModifiers { if (isCarving) $value.setProperties($propModifiers.value); })?
+    ;
+
+operation returns [Operation value]
+@init { if (isCarving) $value = new Operation(new Name("operation")); }
+    :   (visibility { if (isCarving) $value.setVisibility($visibility.value); })?
+        name { if (isCarving) $value.setName($name.value); }
+        parameterList { if (isCarving && !$parameterList.value.isEmpty()) $value.setParameters($parameterList.value); }
+        (returnType { if (isCarving) $value.setReturnType($returnType.value); })?
+        (operProperties { if (isCarving) $value.setProperties($operProperties.value); })?
+    ;
+
+visibility returns [Visibility value]
+@after { if (isCarving) $value = Visibility.choose($start.getText()); }
     :   PUBLIC
     |   PRIBATE
     |   PROTECTED
@@ -19,23 +107,30 @@ divided
     :   SLASH
     ;
 
-name
-    :   IDENTIFIER
+name returns [Name value]
+    :   IDENTIFIER { if (isCarving) $value = new Name($IDENTIFIER.text); }
     ;
 
-propType
-    :   type
+propType returns [Type value]
+    :   type { if (isCarving) $value = $type.value; }
     ;
 
-type
+type returns [Type value]
+@after { if (isCarving) $value = new Type($stop.getText()); }
     :   COLON
         (   IDENTIFIER
         |   primitiveType
         )
     ;
 
-multiplicityRange
+multiplicityRange returns [MultiplicityRange value]
     :   LBRACK (lower RANGE)? upper RBRACK
+        {
+            if (isCarving) {
+                $value = $lower.ctx == null ? new MultiplicityRange(boundOf($upper.ctx))
+                                            : new MultiplicityRange(boundOf($lower.ctx), boundOf($upper.ctx));
+            }
+        }
     ;
 
 lower
@@ -49,103 +144,113 @@ upper
     |   valueSpecification
     ;
 
-valueSpecification
+// 多重度は文字列のみを利用するため、式を形成しない
+valueSpecification locals [boolean isCarvingOuter]
+@init { $isCarvingOuter = isCarving; isCarving = false; }
     :   LPAREN expression* (COMMA expression*)* RPAREN
     ;
+    finally { isCarving = $isCarvingOuter; }
 
-defaultValue
-    :   ASSIGN expression
+defaultValue returns [DefaultValue value]
+    :   ASSIGN expression { if (isCarving) $value = new DefaultValue($expression.value); }
     ;
 
-propModifiers
-    :   properties
+propModifiers returns [List<Property> value]
+    :   properties { if (isCarving) $value = $properties.value; }
     ;
 
-properties
-    :   LBRACE propModifier (COMMA propModifier)* RBRACE
+properties returns [List<Property> value]
+@init { if (isCarving) $value = new ArrayList<>(); }
+    :   LBRACE propModifier { if (isCarving) $value.add($propModifier.value); }
+        (COMMA propModifier { if (isCarving) $value.add($propModifier.value); })* RBRACE
     ;
 
-propModifier
-    :   READONLY
-    |   UNION
-    |   SUBSETS propertyName
-    |   REDEFINES propertyName
-    |   ORDERED
-    |   UNIQUE
+propModifier returns [Property value]
+    :   READONLY { if (isCarving) $value = new ReadOnly(); }
+    |   UNION { if (isCarving) $value = new Union(); }
+    |   SUBSETS propertyName { if (isCarving) $value = new Subsets($propertyName.value); }
+    |   REDEFINES propertyName { if (isCarving) $value = new Redefines($propertyName.value); }
+    |   ORDERED { if (isCarving) $value = new Ordered(); }
+    |   UNIQUE { if (isCarving) $value = new Unique(); }
     ;
 
-propertyName
-    :   name
-    |   expression
+propertyName returns [Expression value]
+    :   expression { if (isCarving) $value = $expression.value; }
     ;
 
-parameterList
-    :   LPAREN (parameter (COMMA parameter)*)* RPAREN
+parameterList returns [List<Parameter> value]
+@init { if (isCarving) $value = new ArrayList<>(); }
+    :   LPAREN (parameter { if (isCarving) $value.add($parameter.value); }
+        (COMMA parameter { if (isCarving) $value.add($parameter.value); })*)* RPAREN
     ;
 
-parameter
-    :   direction? parameterName typeExpression multiplicityRange? defaultValue? paramProperties?
+parameter returns [Parameter value]
+@init { if (isCarving) $value = new Parameter(new Name("parameter")); }
+    :   (direction { if (isCarving) $value.setDirection($direction.value); })?
+        parameterName { if (isCarving) $value.setName($parameterName.value); }
+        typeExpression { if (isCarving) $value.setType($typeExpression.value); }
+        (multiplicityRange { if (isCarving) $value.setMultiplicityRange($multiplicityRange.value); })?
+        (defaultValue { if (isCarving) $value.setDefaultValue($defaultValue.value); })?
+        (paramProperties { if (isCarving) $value.setProperties($paramProperties.value); })?
     ;
 
-direction
-    :   IN
-    |   OUT
-    |   INOUT
-    |   RETURN
+direction returns [Direction value]
+    :   IN { if (isCarving) $value = new In(true); }
+    |   OUT { if (isCarving) $value = new Out(); }
+    |   INOUT { if (isCarving) $value = new InOut(); }
+    |   RETURN { if (isCarving) $value = new Return(); }
     ;
 
-parameterName
-    :   name
-    |   expression
+parameterName returns [Name value]
+    :   expression { if (isCarving) $value = new Name(textOf($expression.ctx)); }
     ;
 
-typeExpression
-    :   type
+typeExpression returns [Type value]
+    :   type { if (isCarving) $value = $type.value; }
     ;
 
-paramProperties
-    :   properties
+paramProperties returns [List<Property> value]
+    :   properties { if (isCarving) $value = $properties.value; }
     ;
 
-returnType
+returnType returns [Type value]
+@after { if (isCarving) $value = new Type($stop.getText()); }
     :   type
     |   COLON VOID
     ;
 
-operProperties
-    :   LBRACE operProperty (COMMA operProperty)* RBRACE
+operProperties returns [List<Property> value]
+@init { if (isCarving) $value = new ArrayList<>(); }
+    :   LBRACE operProperty { if (isCarving) $value.add($operProperty.value); }
+        (COMMA operProperty { if (isCarving) $value.add($operProperty.value); })* RBRACE
     ;
 
-operProperty
-    :   REDEFINES operName
-    |   QUERY
-    |   ORDERED
-    |   UNIQUE
+operProperty returns [Property value]
+    :   REDEFINES operName { if (isCarving) $value = new Redefines($operName.value); }
+    |   QUERY { if (isCarving) $value = new Query(); }
+    |   ORDERED { if (isCarving) $value = new Ordered(); }
+    |   UNIQUE { if (isCarving) $value = new Unique(); }
     ;
 
-operName
-    :   name
-    |   expression
+operName returns [Expression value]
+    :   expression { if (isCarving) $value = $expression.value; }
     ;
 
-expression
-    :   LPAREN expression RPAREN
-    |   literal
-    |   IDENTIFIER
-    |   expression bop='.'
-        (   IDENTIFIER
-        |   explicitGenericInvocationSuffix
-        )
-    |   expression arguments
-    |   NEW creator
-    |   bop=('+' | '-') expression
-    |   bop=('!' | 'not' | 'NOT') expression
-    |   expression bop=('*'|'/'|'%') expression
-    |   expression bop=('+'|'-') expression
-    |   expression bop=('<=' | '>=' | '>' | '<') expression
-    |   expression bop=('==' | '!=') expression
-    |   expression bop=('&&' | 'and' | 'AND') expression
-    |   expression bop=('||' | 'or' | 'OR') expression
+expression returns [Expression value]
+    :   LPAREN inner=expression RPAREN { if (isCarving) $value = new ExpressionWithParen($inner.value); }
+    |   literal { if (isCarving) $value = new OneIdentifier($literal.start.getText()); }
+    |   IDENTIFIER { if (isCarving) $value = new OneIdentifier($IDENTIFIER.text); }
+    |   left=expression bop='.' IDENTIFIER { if (isCarving) $value = new Binomial($bop.text, $left.value, new OneIdentifier($IDENTIFIER.text)); }
+    |   left=expression arguments { if (isCarving) $value = callOf($left.ctx, $arguments.value); }
+    |   NEW creator { if (isCarving) throw new IllegalArgumentException("cannot carve creator " + textOf($creator.ctx)); }
+    |   bop=('+' | '-') inner=expression { if (isCarving) $value = new Monomial($bop.text, $inner.value); }
+    |   bop=('!' | 'not' | 'NOT') inner=expression { if (isCarving) $value = new Monomial($bop.text, $inner.value); }
+    |   left=expression bop=('*'|'/'|'%') right=expression { if (isCarving) $value = new Binomial($bop.text, $left.value, $right.value); }
+    |   left=expression bop=('+'|'-') right=expression { if (isCarving) $value = new Binomial($bop.text, $left.value, $right.value); }
+    |   left=expression bop=('<=' | '>=' | '>' | '<') right=expression { if (isCarving) $value = new Binomial($bop.text, $left.value, $right.value); }
+    |   left=expression bop=('==' | '!=') right=expression { if (isCarving) $value = new Binomial($bop.text, $left.value, $right.value); }
+    |   left=expression bop=('&&' | 'and' | 'AND') right=expression { if (isCarving) $value = new Binomial($bop.text, $left.value, $right.value); }
+    |   left=expression bop=('||' | 'or' | 'OR') right=expression { if (isCarving) $value = new Binomial($bop.text, $left.value, $right.value); }
     ;
 
 creator
@@ -160,16 +265,15 @@ classCreatorRest
     :   arguments
     ;
 
-explicitGenericInvocationSuffix
-    :    IDENTIFIER arguments
-    ;
-
-arguments
+arguments returns [List<Expression> value]
     : LPAREN expressionList? RPAREN
+        { if (isCarving) $value = $expressionList.ctx == null ? new ArrayList<>() : $expressionList.value; }
     ;
 
-expressionList
-    : expression (',' expression)*
+expressionList returns [List<Expression> value]
+@init { if (isCarving) $value = new ArrayList<>(); }
+    : expression { if (isCarving) $value.add($expression.value); }
+        (',' expression { if (isCarving) $value.add($expression.value); })*
     ;
 
 primitiveType
@@ -259,7 +363,8 @@ BINARY_LITERAL:     '0' [bB] [01] ([01_]* [01])? [lL]?;
 
 INTEGER_LITERAL:    Digits;
 
-FLOAT_LITERAL:      (Digits '.' Digits? | '.' Digits) ExponentPart? [fFdD]?
+// 範囲演算子の直前のドットは小数点とみなさない（例、"0..1"は"0"と".."と"1"）
+FLOAT_LITERAL:      (Digits '.' {_input.LA(1) != '.'}? Digits? | '.' Digits) ExponentPart? [fFdD]?
              |      Digits (ExponentPart [fFdD]? | [fFdD])
              ;
 
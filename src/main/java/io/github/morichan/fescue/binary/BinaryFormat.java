@@ -0,0 +1,119 @@
+package io.github.morichan.fescue.binary;
+
+/**
+ * <p> バイナリ形式の定数クラス </p>
+ *
+ * <p>
+ *     {@link FeatureWriter}と{@link FeatureReader}で共有するバイナリ形式の定義です。
+ *     形式を変更する場合は{@link #VERSION}を更新してください。
+ * </p>
+ *
+ * <p>
+ *     ストリームは次の構成です。
+ *     整数は全て可変長整数（7ビットごとに区切り、継続する場合は最上位ビットを立てます）で表します。
+ * </p>
+ *
+ * <pre>
+ *     stream    := MAGIC VERSION record* END
+ *     record    := (ATTRIBUTE | OPERATION) flags ...
+ *     string    := 0 length utf8-bytes    （初出の文字列、文字列表に追加します）
+ *                | index + 1              （文字列表の参照）
+ *     expression:= tag ...
+ * </pre>
+ */
+final class BinaryFormat {
+
+    /**
+     * ストリーム先頭の識別子
+     */
+    static final byte[] MAGIC = {'F', 'S', 'C', 'B'};
+
+    /**
+     * 形式の版
+     */
+    static final int VERSION = 1;
+
+    /**
+     * ストリーム終端
+     */
+    static final int END = 0;
+
+    /**
+     * 属性の記録
+     */
+    static final int ATTRIBUTE = 1;
+
+    /**
+     * 操作の記録
+     */
+    static final int OPERATION = 2;
+
+    /**
+     * 可視性を保持
+     */
+    static final int HAS_VISIBILITY = 1;
+
+    /**
+     * 派生属性
+     */
+    static final int IS_DERIVED = 1 << 1;
+
+    /**
+     * 型（操作の場合は戻り値の型）を保持
+     */
+    static final int HAS_TYPE = 1 << 2;
+
+    /**
+     * 多重度を保持
+     */
+    static final int HAS_MULTIPLICITY = 1 << 3;
+
+    /**
+     * 既定値を保持
+     */
+    static final int HAS_DEFAULT_VALUE = 1 << 4;
+
+    /**
+     * パラメータを保持
+     */
+    static final int HAS_PARAMETERS = 1 << 5;
+
+    /**
+     * プロパティを保持
+     */
+    static final int HAS_PROPERTIES = 1 << 6;
+
+    static final int VISIBILITY_PUBLIC = 1;
+    static final int VISIBILITY_PRIVATE = 2;
+    static final int VISIBILITY_PACKAGE = 3;
+    static final int VISIBILITY_PROTECTED = 4;
+    static final int VISIBILITY_UNDEFINED = 5;
+
+    static final int DIRECTION_IN = 1;
+    static final int DIRECTION_IN_OUTED = 2;
+    static final int DIRECTION_OUT = 3;
+    static final int DIRECTION_IN_OUT = 4;
+    static final int DIRECTION_RETURN = 5;
+
+    static final int MULTIPLICITY_UPPER_ONLY = 1;
+    static final int MULTIPLICITY_LOWER_AND_UPPER = 2;
+
+    static final int BOUNDER_TEXT = 1;
+    static final int BOUNDER_EXPRESSION = 2;
+
+    static final int PROPERTY_READ_ONLY = 1;
+    static final int PROPERTY_UNION = 2;
+    static final int PROPERTY_SUBSETS = 3;
+    static final int PROPERTY_REDEFINES = 4;
+    static final int PROPERTY_ORDERED = 5;
+    static final int PROPERTY_UNIQUE = 6;
+    static final int PROPERTY_QUERY = 7;
+
+    static final int EXPRESSION_ONE_IDENTIFIER = 1;
+    static final int EXPRESSION_MONOMIAL = 2;
+    static final int EXPRESSION_BINOMIAL = 3;
+    static final int EXPRESSION_METHOD_CALL = 4;
+    static final int EXPRESSION_WITH_PAREN = 5;
+
+    private BinaryFormat() {}
+}
@@ -0,0 +1,445 @@
+package io.github.morichan.fescue.binary;
+
+import io.github.morichan.fescue.feature.Attribute;
+import io.github.morichan.fescue.feature.Operation;
+import io.github.morichan.fescue.feature.direction.Direction;
+import io.github.morichan.fescue.feature.direction.In;
+import io.github.morichan.fescue.feature.direction.InOut;
+import io.github.morichan.fescue.feature.direction.Out;
+import io.github.morichan.fescue.feature.direction.Return;
+import io.github.morichan.fescue.feature.multiplicity.Bounder;
+import io.github.morichan.fescue.feature.multiplicity.MultiplicityRange;
+import io.github.morichan.fescue.feature.name.Name;
+import io.github.morichan.fescue.feature.parameter.Parameter;
+import io.github.morichan.fescue.feature.property.Ordered;
+import io.github.morichan.fescue.feature.property.Property;
+import io.github.morichan.fescue.feature.property.Query;
+import io.github.morichan.fescue.feature.property.ReadOnly;
+import io.github.morichan.fescue.feature.property.Redefines;
+import io.github.morichan.fescue.feature.property.Subsets;
+import io.github.morichan.fescue.feature.property.Union;
+import io.github.morichan.fescue.feature.property.Unique;
+import io.github.morichan.fescue.feature.type.Type;
+import io.github.morichan.fescue.feature.value.DefaultValue;
+import io.github.morichan.fescue.feature.value.expression.Binomial;
+import io.github.morichan.fescue.feature.value.expression.Expression;
+import io.github.morichan.fescue.feature.value.expression.ExpressionWithParen;
+import io.github.morichan.fescue.feature.value.expression.MethodCall;
+import io.github.morichan.fescue.feature.value.expression.Monomial;
+import io.github.morichan.fescue.feature.value.expression.OneIdentifier;
+import io.github.morichan.fescue.feature.value.expression.symbol.Symbol;
+import io.github.morichan.fescue.feature.visibility.Visibility;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StreamCorruptedException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static io.github.morichan.fescue.binary.BinaryFormat.*;
+
+/**
+ * <p> バイナリ形式の読込みクラス </p>
+ *
+ * <p>
+ *     {@link FeatureWriter}で書込んだストリームから{@link Attribute}および{@link Operation}インスタンスを1つずつ読込みます。
+ *     構文解析を行わずにインスタンスを形成するため、{@code toString()}の文字列を再び構文解析するよりも高速です。
+ * </p>
+ *
+ * <p>
+ *     使い方を次に示します。
+ * </p>
+ *
+ * <pre>
+ *     {@code
+ *     try (FeatureReader reader = new FeatureReader(new FileInputStream("features.bin"))) {
+ *         while (reader.hasNext()) {
+ *             if (reader.isNextAttribute()) System.out.println(reader.readAttribute());
+ *             else System.out.println(reader.readOperation());
+ *         }
+ *     }
+ *     }
+ * </pre>
+ *
+ * <p>
+ *     ストリームが壊れている場合は{@link StreamCorruptedException}を、途中で終わっている場合は{@link EOFException}を投げます。
+ *     存在しない演算子や、上限を超えて入れ子になった式も壊れたストリームとして扱います。
+ *     このクラスはスレッドセーフではありません。
+ * </p>
+ */
+public class FeatureReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * ストリームから読込んだ要素数で確保するリストの初期容量の上限
+     */
+    private static final int MAX_INITIAL_CAPACITY = 16;
+
+    /**
+     * 式の入れ子の深さの上限（構文解析で形成できる式の深さより十分大きく、読込み時にスタックが溢れない値）
+     */
+    private static final int MAX_EXPRESSION_DEPTH = 2048;
+
+    private final InputStream in;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position = 0;
+    private int limit = 0;
+
+    private final List<String> stringTable = new ArrayList<>();
+
+    /**
+     * 次の記録の種類（未読込みの場合は{@code -1}）
+     */
+    private int nextRecord = -1;
+
+    /**
+     * <p> 読込み元を設定するコンストラクタ </p>
+     *
+     * <p>
+     *     ストリームの先頭（識別子と形式の版）を読込みます。
+     *     {@code null}を設定した場合は{@link IllegalArgumentException}を投げます。
+     *     識別子が異なる場合や対応していない形式の版の場合は{@link StreamCorruptedException}を投げます。
+     * </p>
+     *
+     * @param in 読込み元<br>{@code null}不可
+     * @throws IOException 読込みに失敗した場合
+     */
+    public FeatureReader(InputStream in) throws IOException {
+        if (in == null) throw new IllegalArgumentException();
+        this.in = in;
+
+        for (byte b : MAGIC) if (readByte() != b) throw new StreamCorruptedException();
+        if (readVarint() != VERSION) throw new StreamCorruptedException();
+    }
+
+    /**
+     * <p> 次の記録が存在する場合は真を返す真偽値判定を行います。 </p>
+     *
+     * <p>
+     *     ストリームの終端に達した場合は偽を返します。
+     * </p>
+     *
+     * @return 次の記録が存在する場合は真を返す真偽値
+     * @throws IOException 読込みに失敗した場合
+     */
+    public boolean hasNext() throws IOException {
+        return peekRecord() != END;
+    }
+
+    /**
+     * <p> 次の記録が属性の場合は真を返す真偽値判定を行います。 </p>
+     *
+     * @return 次の記録が属性の場合は真を返す真偽値
+     * @throws IOException 読込みに失敗した場合
+     */
+    public boolean isNextAttribute() throws IOException {
+        return peekRecord() == ATTRIBUTE;
+    }
+
+    /**
+     * <p> 次の記録が操作の場合は真を返す真偽値判定を行います。 </p>
+     *
+     * @return 次の記録が操作の場合は真を返す真偽値
+     * @throws IOException 読込みに失敗した場合
+     */
+    public boolean isNextOperation() throws IOException {
+        return peekRecord() == OPERATION;
+    }
+
+    /**
+     * <p> 属性を読込みます。 </p>
+     *
+     * <p>
+     *     次の記録が属性でない場合は{@link IllegalStateException}を投げます（{@link #isNextAttribute()}参照）。
+     * </p>
+     *
+     * @return 属性<br>{@code null}なし
+     * @throws IOException 読込みに失敗した場合
+     */
+    public Attribute readAttribute() throws IOException {
+        if (peekRecord() != ATTRIBUTE) throw new IllegalStateException();
+        nextRecord = -1;
+
+        int flags = readVarint();
+        Attribute attribute = new Attribute(new Name(readString()));
+        if ((flags & HAS_VISIBILITY) != 0) attribute.setVisibility(readVisibility());
+        if ((flags & IS_DERIVED) != 0) attribute.setDerived(true);
+        if ((flags & HAS_TYPE) != 0) attribute.setType(new Type(readString()));
+        if ((flags & HAS_MULTIPLICITY) != 0) attribute.setMultiplicityRange(readMultiplicityRange());
+        if ((flags & HAS_DEFAULT_VALUE) != 0) attribute.setDefaultValue(new DefaultValue(readExpression(0)));
+        if ((flags & HAS_PROPERTIES) != 0) attribute.setProperties(readProperties());
+
+        return attribute;
+    }
+
+    /**
+     * <p> 操作を読込みます。 </p>
+     *
+     * <p>
+     *     次の記録が操作でない場合は{@link IllegalStateException}を投げます（{@link #isNextOperation()}参照）。
+     * </p>
+     *
+     * @return 操作<br>{@code null}なし
+     * @throws IOException 読込みに失敗した場合
+     */
+    public Operation readOperation() throws IOException {
+        if (peekRecord() != OPERATION) throw new IllegalStateException();
+        nextRecord = -1;
+
+        int flags = readVarint();
+        Operation operation = new Operation(new Name(readString()));
+        if ((flags & HAS_VISIBILITY) != 0) operation.setVisibility(readVisibility());
+        if ((flags & HAS_PARAMETERS) != 0) {
+            int size = readVarint();
+            List<Parameter> parameters = new ArrayList<>(Math.min(size, MAX_INITIAL_CAPACITY));
+            for (int i = 0; i < size; i++) parameters.add(readParameter());
+            operation.setParameters(parameters);
+        }
+        if ((flags & HAS_TYPE) != 0) operation.setReturnType(new Type(readString()));
+        if ((flags & HAS_PROPERTIES) != 0) operation.setProperties(readProperties());
+
+        return operation;
+    }
+
+    /**
+     * <p> 読込み元を閉じます。 </p>
+     *
+     * @throws IOException 読込み元を閉じる際に失敗した場合
+     */
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+
+
+    private int peekRecord() throws IOException {
+        if (nextRecord < 0) {
+            nextRecord = fill() ? readVarint() : END;
+            if (nextRecord != END && nextRecord != ATTRIBUTE && nextRecord != OPERATION) throw new StreamCorruptedException();
+        }
+        return nextRecord;
+    }
+
+    private Parameter readParameter() throws IOException {
+        Direction direction = readDirection();
+        int flags = readVarint();
+        Parameter parameter = new Parameter(new Name(readString()));
+        parameter.setDirection(direction);
+        if ((flags & HAS_TYPE) != 0) parameter.setType(new Type(readString()));
+        if ((flags & HAS_MULTIPLICITY) != 0) parameter.setMultiplicityRange(readMultiplicityRange());
+        if ((flags & HAS_DEFAULT_VALUE) != 0) parameter.setDefaultValue(new DefaultValue(readExpression(0)));
+        if ((flags & HAS_PROPERTIES) != 0) parameter.setProperties(readProperties());
+
+        return parameter;
+    }
+
+    private Visibility readVisibility() throws IOException {
+        switch (readVarint()) {
+            case VISIBILITY_PUBLIC:
+                return Visibility.Public;
+            case VISIBILITY_PRIVATE:
+                return Visibility.Private;
+            case VISIBILITY_PACKAGE:
+                return Visibility.Package;
+            case VISIBILITY_PROTECTED:
+                return Visibility.Protected;
+            case VISIBILITY_UNDEFINED:
+                return Visibility.Undefined;
+            default:
+                throw new StreamCorruptedException();
+        }
+    }
+
+    private Direction readDirection() throws IOException {
+        switch (readVarint()) {
+            case DIRECTION_IN:
+                return new In();
+            case DIRECTION_IN_OUTED:
+                return new In(true);
+            case DIRECTION_OUT:
+                return new Out();
+            case DIRECTION_IN_OUT:
+                return new InOut();
+            case DIRECTION_RETURN:
+                return new Return();
+            default:
+                throw new StreamCorruptedException();
+        }
+    }
+
+    private MultiplicityRange readMultiplicityRange() throws IOException {
+        switch (readVarint()) {
+            case MULTIPLICITY_UPPER_ONLY:
+                return new MultiplicityRange(readBounder());
+            case MULTIPLICITY_LOWER_AND_UPPER:
+                Bounder lower = readBounder();
+                return new MultiplicityRange(lower, readBounder());
+            default:
+                throw new StreamCorruptedException();
+        }
+    }
+
+    private Bounder readBounder() throws IOException {
+        switch (readVarint()) {
+            case BOUNDER_TEXT:
+                return new Bounder(readString());
+            case BOUNDER_EXPRESSION:
+                return new Bounder(readExpression(0));
+            default:
+                throw new StreamCorruptedException();
+        }
+    }
+
+    private List<Property> readProperties() throws IOException {
+        int size = readVarint();
+        List<Property> properties = new ArrayList<>(Math.min(size, MAX_INITIAL_CAPACITY));
+        for (int i = 0; i < size; i++) properties.add(readProperty());
+        return properties;
+    }
+
+    private Property readProperty() throws IOException {
+        switch (readVarint()) {
+            case PROPERTY_READ_ONLY:
+                return new ReadOnly();
+            case PROPERTY_UNION:
+                return new Union();
+            case PROPERTY_SUBSETS:
+                return new Subsets(readExpression(0));
+            case PROPERTY_REDEFINES:
+                return new Redefines(readExpression(0));
+            case PROPERTY_ORDERED:
+                return new Ordered();
+            case PROPERTY_UNIQUE:
+                return new Unique();
+            case PROPERTY_QUERY:
+                return new Query();
+            default:
+                throw new StreamCorruptedException();
+        }
+    }
+
+    private Expression readExpression(int depth) throws IOException {
+        if (depth >= MAX_EXPRESSION_DEPTH) throw new StreamCorruptedException();
+
+        switch (readVarint()) {
+            case EXPRESSION_ONE_IDENTIFIER:
+                return new OneIdentifier(readString());
+            case EXPRESSION_MONOMIAL: {
+                String symbol = readSymbol();
+                return new Monomial(symbol, readExpression(depth + 1));
+            }
+            case EXPRESSION_BINOMIAL: {
+                String symbol = readSymbol();
+                Expression first = readExpression(depth + 1);
+                return new Binomial(symbol, first, readExpression(depth + 1));
+            }
+            case EXPRESSION_METHOD_CALL: {
+                String name = readString();
+                int size = readVarint();
+                List<Expression> arguments = new ArrayList<>(Math.min(size, MAX_INITIAL_CAPACITY));
+                for (int i = 0; i < size; i++) arguments.add(readExpression(depth + 1));
+                return new MethodCall(name, arguments);
+            }
+            case EXPRESSION_WITH_PAREN:
+                return new ExpressionWithParen(readExpression(depth + 1));
+            default:
+                throw new StreamCorruptedException();
+        }
+    }
+
+    private String readSymbol() throws IOException {
+        String symbol = readString();
+        if (!Symbol.isIncluded(symbol)) throw new StreamCorruptedException();
+        return symbol;
+    }
+
+    private String readString() throws IOException {
+        int reference = readVarint();
+        if (reference > 0) {
+            if (reference > stringTable.size()) throw new StreamCorruptedException();
+            return stringTable.get(reference - 1);
+        }
+
+        int length = readVarint();
+        String text;
+        if (limit - position >= length) {
+            text = new String(buffer, position, length, StandardCharsets.UTF_8);
+            position += length;
+        } else {
+            text = new String(readBytes(length), StandardCharsets.UTF_8);
+        }
+        stringTable.add(text);
+
+        return text;
+    }
+
+    private int readVarint() throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (value < 0) throw new StreamCorruptedException();
+                return value;
+            }
+        }
+        throw new StreamCorruptedException();
+    }
+
+    private int readByte() throws IOException {
+        if (!fill()) throw new EOFException();
+        return buffer[position++] & 0xFF;
+    }
+
+    /**
+     * <p> 指定したバイト数を読込みます。 </p>
+     *
+     * <p>
+     *     バイト数はストリームから読込んだ値のため、壊れたストリームで巨大な配列を確保しないよう、読込んだ分だけ配列を拡げます。
+     *     指定したバイト数より前にストリームが終わった場合は{@link EOFException}を投げます。
+     * </p>
+     *
+     * @param length バイト数
+     * @return 読込んだバイト列
+     * @throws IOException 読込みに失敗した場合
+     */
+    private byte[] readBytes(int length) throws IOException {
+        byte[] bytes = new byte[Math.min(length, BUFFER_SIZE)];
+        int copied = 0;
+        while (copied < length) {
+            if (!fill()) throw new EOFException();
+            if (copied == bytes.length) bytes = Arrays.copyOf(bytes, (int) Math.min(length, 2L * bytes.length));
+            int n = Math.min(limit - position, bytes.length - copied);
+            System.arraycopy(buffer, position, bytes, copied, n);
+            position += n;
+            copied += n;
+        }
+        return bytes;
+    }
+
+    /**
+     * <p> 未読込みのデータが残っていない場合は読込み元から読込みます。 </p>
+     *
+     * @return 未読込みのデータが存在する場合は真を返す真偽値
+     * @throws IOException 読込みに失敗した場合
+     */
+    private boolean fill() throws IOException {
+        if (position < limit) return true;
+
+        int n;
+        do {
+            n = in.read(buffer, 0, BUFFER_SIZE);
+        } while (n == 0);
+        if (n < 0) return false;
+
+        position = 0;
+        limit = n;
+        return true;
+    }
+}
@@ -0,0 +1,362 @@
+package io.github.morichan.fescue.binary;
+
+import io.github.morichan.fescue.feature.Attribute;
+import io.github.morichan.fescue.feature.Operation;
+import io.github.morichan.fescue.feature.direction.Direction;
+import io.github.morichan.fescue.feature.direction.In;
+import io.github.morichan.fescue.feature.direction.InOut;
+import io.github.morichan.fescue.feature.direction.Out;
+import io.github.morichan.fescue.feature.direction.Return;
+import io.github.morichan.fescue.feature.multiplicity.Bounder;
+import io.github.morichan.fescue.feature.multiplicity.MultiplicityRange;
+import io.github.morichan.fescue.feature.parameter.Parameter;
+import io.github.morichan.fescue.feature.property.Ordered;
+import io.github.morichan.fescue.feature.property.Property;
+import io.github.morichan.fescue.feature.property.Query;
+import io.github.morichan.fescue.feature.property.ReadOnly;
+import io.github.morichan.fescue.feature.property.Redefines;
+import io.github.morichan.fescue.feature.property.Subsets;
+import io.github.morichan.fescue.feature.property.Union;
+import io.github.morichan.fescue.feature.property.Unique;
+import io.github.morichan.fescue.feature.value.expression.Binomial;
+import io.github.morichan.fescue.feature.value.expression.Expression;
+import io.github.morichan.fescue.feature.value.expression.ExpressionWithParen;
+import io.github.morichan.fescue.feature.value.expression.MethodCall;
+import io.github.morichan.fescue.feature.value.expression.Monomial;
+import io.github.morichan.fescue.feature.value.expression.OneIdentifier;
+import io.github.morichan.fescue.feature.visibility.Visibility;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.github.morichan.fescue.binary.BinaryFormat.*;
+
+/**
+ * <p> バイナリ形式の書込みクラス </p>
+ *
+ * <p>
+ *     {@link Attribute}および{@link Operation}インスタンスをバイナリ形式（{@link BinaryFormat}参照）で1つずつ書込みます。
+ *     名前や型などの文字列は、2回目以降の出現では文字列表の番号のみを書込むため、同じ型や名前が多いほど小さくなります。
+ *     書込んだストリームは{@link FeatureReader}で読込みます。
+ * </p>
+ *
+ * <p>
+ *     使い方を次に示します。
+ * </p>
+ *
+ * <pre>
+ *     {@code
+ *     try (FeatureWriter writer = new FeatureWriter(new FileOutputStream("features.bin"))) {
+ *         writer.write(attributeSculptor.carve());
+ *         writer.write(operationSculptor.carve());
+ *     }
+ *     }
+ * </pre>
+ *
+ * <p>
+ *     このクラスはスレッドセーフではありません。
+ * </p>
+ */
+public class FeatureWriter implements Closeable, Flushable {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final OutputStream out;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position = 0;
+
+    private final Map<String, Integer> stringTable = new HashMap<>();
+    private boolean isClosed = false;
+
+    /**
+     * <p> 書込み先を設定するコンストラクタ </p>
+     *
+     * <p>
+     *     ストリームの先頭（識別子と形式の版）を書込みます。
+     *     {@code null}を設定した場合は{@link IllegalArgumentException}を投げます。
+     * </p>
+     *
+     * @param out 書込み先<br>{@code null}不可
+     * @throws IOException 書込みに失敗した場合
+     */
+    public FeatureWriter(OutputStream out) throws IOException {
+        if (out == null) throw new IllegalArgumentException();
+        this.out = out;
+
+        for (byte b : MAGIC) writeByte(b);
+        writeVarint(VERSION);
+    }
+
+    /**
+     * <p> 属性を書込みます。 </p>
+     *
+     * <p>
+     *     {@code null}を設定した場合は{@link IllegalArgumentException}を投げます。
+     *     このパッケージで扱えない{@link Property}や{@link Expression}の実装を含む場合も{@link IllegalArgumentException}を投げます。
+     * </p>
+     *
+     * @param attribute 属性<br>{@code null}不可
+     * @throws IOException 書込みに失敗した場合
+     */
+    public void write(Attribute attribute) throws IOException {
+        if (attribute == null) throw new IllegalArgumentException();
+        checkOpen();
+
+        int flags = 0;
+        if (attribute.hasVisibility()) flags |= HAS_VISIBILITY;
+        if (attribute.isDerived()) flags |= IS_DERIVED;
+        if (attribute.hasType()) flags |= HAS_TYPE;
+        if (attribute.hasMultiplicityRange()) flags |= HAS_MULTIPLICITY;
+        if (attribute.hasDefaultValue()) flags |= HAS_DEFAULT_VALUE;
+        if (attribute.hasProperties()) flags |= HAS_PROPERTIES;
+
+        writeVarint(ATTRIBUTE);
+        writeVarint(flags);
+        writeString(attribute.getName().getNameText());
+        if (attribute.hasVisibility()) writeVisibility(attribute.getVisibility());
+        if (attribute.hasType()) writeString(attribute.getType().toString());
+        if (attribute.hasMultiplicityRange()) writeMultiplicityRange(attribute.getMultiplicityRange());
+        if (attribute.hasDefaultValue()) writeExpression(attribute.getDefaultValue().getExpression());
+        if (attribute.hasProperties()) writeProperties(attribute.getProperties());
+    }
+
+    /**
+     * <p> 操作を書込みます。 </p>
+     *
+     * <p>
+     *     {@code null}を設定した場合は{@link IllegalArgumentException}を投げます。
+     *     このパッケージで扱えない{@link Direction}、{@link Property}や{@link Expression}の実装を含む場合も{@link IllegalArgumentException}を投げます。
+     * </p>
+     *
+     * @param operation 操作<br>{@code null}不可
+     * @throws IOException 書込みに失敗した場合
+     */
+    public void write(Operation operation) throws IOException {
+        if (operation == null) throw new IllegalArgumentException();
+        checkOpen();
+
+        int flags = 0;
+        if (operation.hasVisibility()) flags |= HAS_VISIBILITY;
+        if (operation.hasReturnType()) flags |= HAS_TYPE;
+        if (operation.hasParameters()) flags |= HAS_PARAMETERS;
+        if (operation.hasProperties()) flags |= HAS_PROPERTIES;
+
+        writeVarint(OPERATION);
+        writeVarint(flags);
+        writeString(operation.getName().getNameText());
+        if (operation.hasVisibility()) writeVisibility(operation.getVisibility());
+        if (operation.hasParameters()) {
+            List<Parameter> parameters = operation.getParameters();
+            writeVarint(parameters.size());
+            for (Parameter parameter : parameters) writeParameter(parameter);
+        }
+        if (operation.hasReturnType()) writeString(operation.getReturnType().toString());
+        if (operation.hasProperties()) writeProperties(operation.getProperties());
+    }
+
+    /**
+     * <p> 書込み途中のデータを書込み先に送ります。 </p>
+     *
+     * @throws IOException 書込みに失敗した場合
+     */
+    @Override
+    public void flush() throws IOException {
+        flushBuffer();
+        out.flush();
+    }
+
+    /**
+     * <p> ストリームの終端を書込み、書込み先を閉じます。 </p>
+     *
+     * <p>
+     *     既に閉じている場合は何もしません。
+     * </p>
+     *
+     * @throws IOException 書込みに失敗した場合
+     */
+    @Override
+    public void close() throws IOException {
+        if (isClosed) return;
+        isClosed = true;
+
+        try {
+            writeVarint(END);
+            flushBuffer();
+        } finally {
+            out.close();
+        }
+    }
+
+
+
+    private void checkOpen() {
+        if (isClosed) throw new IllegalStateException();
+    }
+
+    private void writeParameter(Parameter parameter) throws IOException {
+        int flags = 0;
+        if (parameter.hasType()) flags |= HAS_TYPE;
+        if (parameter.hasMultiplicityRange()) flags |= HAS_MULTIPLICITY;
+        if (parameter.hasDefaultValue()) flags |= HAS_DEFAULT_VALUE;
+        if (parameter.hasProperties()) flags |= HAS_PROPERTIES;
+
+        writeDirection(parameter.getDirection());
+        writeVarint(flags);
+        writeString(parameter.getName().getNameText());
+        if (parameter.hasType()) writeString(parameter.getType().toString());
+        if (parameter.hasMultiplicityRange()) writeMultiplicityRange(parameter.getMultiplicityRange());
+        if (parameter.hasDefaultValue()) writeExpression(parameter.getDefaultValue().getExpression());
+        if (parameter.hasProperties()) writeProperties(parameter.getProperties());
+    }
+
+    private void writeVisibility(Visibility visibility) throws IOException {
+        switch (visibility) {
+            case Public:
+                writeVarint(VISIBILITY_PUBLIC);
+                break;
+            case Private:
+                writeVarint(VISIBILITY_PRIVATE);
+                break;
+            case Package:
+                writeVarint(VISIBILITY_PACKAGE);
+                break;
+            case Protected:
+                writeVarint(VISIBILITY_PROTECTED);
+                break;
+            default:
+                writeVarint(VISIBILITY_UNDEFINED);
+                break;
+        }
+    }
+
+    private void writeDirection(Direction direction) throws IOException {
+        if (direction instanceof In) writeVarint(direction.isOuted() ? DIRECTION_IN_OUTED : DIRECTION_IN);
+        else if (direction instanceof Out) writeVarint(DIRECTION_OUT);
+        else if (direction instanceof InOut) writeVarint(DIRECTION_IN_OUT);
+        else if (direction instanceof Return) writeVarint(DIRECTION_RETURN);
+        else throw new IllegalArgumentException();
+    }
+
+    private void writeMultiplicityRange(MultiplicityRange multiplicityRange) throws IOException {
+        if (multiplicityRange.isUpperOnly()) {
+            writeVarint(MULTIPLICITY_UPPER_ONLY);
+        } else {
+            writeVarint(MULTIPLICITY_LOWER_AND_UPPER);
+            writeBounder(multiplicityRange.getLower());
+        }
+        writeBounder(multiplicityRange.getUpper());
+    }
+
+    private void writeBounder(Bounder bounder) throws IOException {
+        if (bounder.hasExpression()) {
+            writeVarint(BOUNDER_EXPRESSION);
+            writeExpression(bounder.getExpression());
+        } else {
+            writeVarint(BOUNDER_TEXT);
+            writeString(bounder.toString());
+        }
+    }
+
+    private void writeProperties(List<Property> properties) throws IOException {
+        writeVarint(properties.size());
+        for (Property property : properties) writeProperty(property);
+    }
+
+    private void writeProperty(Property property) throws IOException {
+        if (property instanceof ReadOnly) writeVarint(PROPERTY_READ_ONLY);
+        else if (property instanceof Union) writeVarint(PROPERTY_UNION);
+        else if (property instanceof Ordered) writeVarint(PROPERTY_ORDERED);
+        else if (property instanceof Unique) writeVarint(PROPERTY_UNIQUE);
+        else if (property instanceof Query) writeVarint(PROPERTY_QUERY);
+        else if (property instanceof Subsets) {
+            writeVarint(PROPERTY_SUBSETS);
+            writeExpression(((Subsets) property).getExpression());
+        } else if (property instanceof Redefines) {
+            writeVarint(PROPERTY_REDEFINES);
+            writeExpression(((Redefines) property).getExpression());
+        } else {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    private void writeExpression(Expression expression) throws IOException {
+        if (expression instanceof OneIdentifier) {
+            writeVarint(EXPRESSION_ONE_IDENTIFIER);
+            writeString(expression.toString());
+        } else if (expression instanceof Monomial) {
+            Monomial monomial = (Monomial) expression;
+            writeVarint(EXPRESSION_MONOMIAL);
+            writeString(monomial.getSymbol().toString());
+            writeExpression(monomial.getExpression());
+        } else if (expression instanceof Binomial) {
+            Binomial binomial = (Binomial) expression;
+            writeVarint(EXPRESSION_BINOMIAL);
+            writeString(binomial.getSymbol().toString());
+            writeExpression(binomial.getFirst());
+            writeExpression(binomial.getSecond());
+        } else if (expression instanceof MethodCall) {
+            MethodCall methodCall = (MethodCall) expression;
+            List<Expression> arguments = methodCall.getArguments();
+            writeVarint(EXPRESSION_METHOD_CALL);
+            writeString(methodCall.getName());
+            writeVarint(arguments.size());
+            for (Expression argument : arguments) writeExpression(argument);
+        } else if (expression instanceof ExpressionWithParen) {
+            writeVarint(EXPRESSION_WITH_PAREN);
+            writeExpression(((ExpressionWithParen) expression).getExpression());
+        } else {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    private void writeString(String text) throws IOException {
+        Integer index = stringTable.get(text);
+        if (index != null) {
+            writeVarint(index + 1);
+            return;
+        }
+
+        stringTable.put(text, stringTable.size());
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        writeVarint(0);
+        writeVarint(bytes.length);
+        writeBytes(bytes);
+    }
+
+    private void writeVarint(int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        writeByte(value);
+    }
+
+    private void writeByte(int b) throws IOException {
+        if (position == BUFFER_SIZE) flushBuffer();
+        buffer[position++] = (byte) b;
+    }
+
+    private void writeBytes(byte[] bytes) throws IOException {
+        if (bytes.length > BUFFER_SIZE - position) {
+            flushBuffer();
+            if (bytes.length > BUFFER_SIZE) {
+                out.write(bytes);
+                return;
+            }
+        }
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    private void flushBuffer() throws IOException {
+        if (position == 0) return;
+        out.write(buffer, 0, position);
+        position = 0;
+    }
+}
@@ -0,0 +1,301 @@
+package io.github.morichan.fescue.cli;
+
+import io.github.morichan.fescue.binary.FeatureWriter;
+import io.github.morichan.fescue.feature.Attribute;
+import io.github.morichan.fescue.feature.Operation;
+import io.github.morichan.fescue.json.JsonFeatureWriter;
+import io.github.morichan.fescue.metrics.BatchEvent;
+import io.github.morichan.fescue.metrics.FeatureKind;
+import io.github.morichan.fescue.metrics.Histogram;
+import io.github.morichan.fescue.sculptor.AttributeSculptor;
+import io.github.morichan.fescue.sculptor.OperationSculptor;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p> 一括変換クラス </p>
+ *
+ * <p>
+ *     1行に1つの属性文または操作文を読込み、複数のスレッドで構文解析と形成を行い、指定した形式（{@link OutputFormat}）で書込みます。
+ *     書込む順序は読込んだ順序と同じです。
+ *     変換後は、処理した要素の数や処理時間の分布を{@link ConversionReport}として返します。
+ * </p>
+ *
+ * <p>
+ *     入力は一定の行数ごとに区切り、区切った行を並列数で等分してスレッドに割当てます。
+ *     空行は読飛ばします。
+ * </p>
+ *
+ * <pre>
+ *     {@code
+ *     BulkConverter converter = new BulkConverter(FeatureKind.Attribute, OutputFormat.Json, 4);
+ *     ConversionReport report = converter.convert(new FileReader("attributes.txt"), new FileOutputStream("attributes.jsonl"), System.err);
+ *     System.err.println(report);
+ *     }
+ * </pre>
+ */
+public class BulkConverter {
+
+    private static final String SOURCE = "cli";
+
+    /**
+     * 一度に読込んで並列に処理する行数
+     */
+    private static final int CHUNK_SIZE = 4096;
+
+    private final FeatureKind kind;
+    private final OutputFormat format;
+    private final int parallelism;
+
+    /**
+     * <p> 一括変換コンストラクタ </p>
+     *
+     * <p>
+     *     {@code null}を設定した場合や並列数が{@code 1}未満の場合は{@link IllegalArgumentException}を投げます。
+     * </p>
+     *
+     * @param kind 要素の種類<br>{@code null}不可
+     * @param format 出力形式<br>{@code null}不可
+     * @param parallelism 並列数<br>{@code 1}以上
+     */
+    public BulkConverter(FeatureKind kind, OutputFormat format, int parallelism) {
+        if (kind == null || format == null || parallelism < 1) throw new IllegalArgumentException();
+
+        this.kind = kind;
+        this.format = format;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * <p> 読込み元の全ての行を変換して書込みます。 </p>
+     *
+     * <p>
+     *     書込み先は変換後に閉じます。
+     *     形成に失敗した行は、{@link StackOverflowError}などのエラーが発生した場合も含めて、{@link OutputFormat#Json}の場合は{@code "kind":"error"}のオブジェクトとして書込み、
+     *     それ以外の場合は書込みません。
+     *     失敗の出力先を設定した場合は、失敗した行を{@code "行番号: 入力文字列 : 例外"}の形式で書込みます。
+     *     読込み元か書込み先に{@code null}を設定した場合は{@link IllegalArgumentException}を投げます。
+     * </p>
+     *
+     * @param in 読込み元<br>{@code null}不可
+     * @param out 書込み先<br>{@code null}不可
+     * @param errors 失敗の出力先<br>{@code null}可
+     * @return 結果報告<br>{@code null}なし
+     * @throws IOException 読込みまたは書込みに失敗した場合
+     */
+    public ConversionReport convert(Reader in, OutputStream out, Appendable errors) throws IOException {
+        if (in == null || out == null) throw new IllegalArgumentException();
+
+        long start = System.nanoTime();
+        BatchEvent event = new BatchEvent();
+        event.begin();
+
+        Histogram latency = new Histogram();
+        long featureCount = 0;
+        long errorCount = 0;
+        long lineNumber = 0;
+
+        ExecutorService workers = createWorkers();
+        try (BufferedReader reader = in instanceof BufferedReader ? (BufferedReader) in : new BufferedReader(in);
+             Output output = createOutput(out)) {
+
+            List<String> texts = new ArrayList<>(CHUNK_SIZE);
+            List<Long> lineNumbers = new ArrayList<>(CHUNK_SIZE);
+            boolean isEnd = false;
+            while (!isEnd) {
+                texts.clear();
+                lineNumbers.clear();
+                String line;
+                while (texts.size() < CHUNK_SIZE && (line = reader.readLine()) != null) {
+                    lineNumber++;
+                    String text = line.trim();
+                    if (text.isEmpty()) continue;
+                    texts.add(text);
+                    lineNumbers.add(lineNumber);
+                }
+                isEnd = texts.size() < CHUNK_SIZE;
+
+                Carving[] carvings = carveAll(workers, texts, latency);
+                for (int i = 0; i < carvings.length; i++) {
+                    Carving carving = carvings[i];
+                    if (carving.error == null) {
+                        output.write(carving.feature);
+                    } else {
+                        errorCount++;
+                        output.writeError(texts.get(i), carving.error);
+                        if (errors != null) errors.append(lineNumbers.get(i) + ": " + texts.get(i) + " : " + carving.error + "\n");
+                    }
+                }
+                featureCount += carvings.length;
+            }
+        } finally {
+            workers.shutdown();
+        }
+
+        event.report(kind, SOURCE, (int) Math.min(featureCount, Integer.MAX_VALUE), (int) Math.min(errorCount, Integer.MAX_VALUE));
+        return new ConversionReport(featureCount, errorCount, System.nanoTime() - start, latency);
+    }
+
+
+
+    /**
+     * <p> 1つの入力文字列に対する形成結果 </p>
+     */
+    private static class Carving {
+        private final Object feature;
+        private final Throwable error;
+
+        private Carving(Object feature, Throwable error) {
+            this.feature = feature;
+            this.error = error;
+        }
+    }
+
+    /**
+     * <p> 書込み先 </p>
+     */
+    private interface Output extends Closeable {
+        void write(Object feature) throws IOException;
+
+        void writeError(String text, Throwable error) throws IOException;
+    }
+
+    private ExecutorService createWorkers() {
+        AtomicInteger threadCount = new AtomicInteger();
+        return Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "fescue-converter-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * <p> 入力文字列を並列数で等分し、それぞれのスレッドで形成します。 </p>
+     *
+     * @param workers スレッドプール
+     * @param texts 入力文字列のリスト
+     * @param latency 要素ごとの処理時間を記録する分布
+     * @return 入力文字列と同じ順序の形成結果
+     * @throws IOException 形成中に割込まれた場合
+     */
+    private Carving[] carveAll(ExecutorService workers, List<String> texts, Histogram latency) throws IOException {
+        Carving[] carvings = new Carving[texts.size()];
+        int sliceSize = (texts.size() + parallelism - 1) / parallelism;
+
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int from = 0; from < texts.size(); from += sliceSize) {
+            int begin = from;
+            int end = Math.min(from + sliceSize, texts.size());
+            tasks.add(() -> {
+                for (int i = begin; i < end; i++) carvings[i] = carve(texts.get(i), latency);
+                return null;
+            });
+        }
+
+        try {
+            for (Future<Void> future : workers.invokeAll(tasks)) future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+        return carvings;
+    }
+
+    private Carving carve(String text, Histogram latency) {
+        long start = System.nanoTime();
+        try {
+            Object feature;
+            if (kind == FeatureKind.Attribute) {
+                AttributeSculptor sculptor = new AttributeSculptor();
+                sculptor.parse(text);
+                feature = sculptor.carve();
+            } else {
+                OperationSculptor sculptor = new OperationSculptor();
+                sculptor.parse(text);
+                feature = sculptor.carve();
+            }
+            return new Carving(feature, null);
+        } catch (Throwable e) {
+            // 深く入れ子になった式の StackOverflowError なども、変換全体を止めずにその行の失敗とします。
+            return new Carving(null, e);
+        } finally {
+            latency.record(System.nanoTime() - start);
+        }
+    }
+
+    private Output createOutput(OutputStream out) throws IOException {
+        switch (format) {
+            case Json:
+                JsonFeatureWriter json = new JsonFeatureWriter(out);
+                return new Output() {
+                    @Override
+                    public void write(Object feature) throws IOException {
+                        if (feature instanceof Attribute) json.write((Attribute) feature);
+                        else json.write((Operation) feature);
+                    }
+
+                    @Override
+                    public void writeError(String text, Throwable error) throws IOException {
+                        json.writeError(text, error.toString());
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        json.close();
+                    }
+                };
+            case Binary:
+                FeatureWriter binary = new FeatureWriter(out);
+                return new Output() {
+                    @Override
+                    public void write(Object feature) throws IOException {
+                        if (feature instanceof Attribute) binary.write((Attribute) feature);
+                        else binary.write((Operation) feature);
+                    }
+
+                    @Override
+                    public void writeError(String text, Throwable error) {}
+
+                    @Override
+                    public void close() throws IOException {
+                        binary.close();
+                    }
+                };
+            default:
+                Writer text = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+                return new Output() {
+                    @Override
+                    public void write(Object feature) throws IOException {
+                        text.write(feature.toString());
+                        text.write('\n');
+                    }
+
+                    @Override
+                    public void writeError(String input, Throwable error) {}
+
+                    @Override
+                    public void close() throws IOException {
+                        text.close();
+                    }
+                };
+        }
+    }
+}
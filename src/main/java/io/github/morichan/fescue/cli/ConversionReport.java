@@ -0,0 +1,92 @@
+package io.github.morichan.fescue.cli;
+
+import io.github.morichan.fescue.metrics.Histogram;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p> 一括変換の結果報告クラス </p>
+ *
+ * <p>
+ *     {@link BulkConverter#convert(java.io.Reader, java.io.OutputStream, Appendable)}で処理した要素の数、失敗した要素の数、
+ *     全体の処理時間、要素ごとの処理時間（構文解析と形成）の分布を保持します。
+ * </p>
+ */
+public class ConversionReport {
+
+    private final long featureCount;
+    private final long errorCount;
+    private final long elapsedNanos;
+    private final Histogram latency;
+
+    ConversionReport(long featureCount, long errorCount, long elapsedNanos, Histogram latency) {
+        this.featureCount = featureCount;
+        this.errorCount = errorCount;
+        this.elapsedNanos = elapsedNanos;
+        this.latency = latency;
+    }
+
+    /**
+     * <p> 処理した要素の数を取得します。 </p>
+     *
+     * @return 処理した要素の数（失敗した要素を含む）
+     */
+    public long getFeatureCount() {
+        return featureCount;
+    }
+
+    /**
+     * <p> 形成に失敗した要素の数を取得します。 </p>
+     *
+     * @return 形成に失敗した要素の数
+     */
+    public long getErrorCount() {
+        return errorCount;
+    }
+
+    /**
+     * <p> 読込みから書込みまでの全体の処理時間を取得します。 </p>
+     *
+     * @return 全体の処理時間（ナノ秒）
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * <p> 要素ごとの処理時間（ナノ秒）の分布を取得します。 </p>
+     *
+     * @return 要素ごとの処理時間の分布<br>{@code null}なし
+     */
+    public Histogram getLatency() {
+        return latency;
+    }
+
+    /**
+     * <p> 1秒あたりに処理した要素の数を取得します。 </p>
+     *
+     * @return 1秒あたりに処理した要素の数
+     */
+    public double getThroughput() {
+        return elapsedNanos <= 0 ? 0.0 : featureCount * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    /**
+     * <p> 結果報告の文字列を取得します。 </p>
+     *
+     * <pre>
+     *     {@code
+     *     features: 100000, errors: 12, elapsed: 1834 ms, features/s: 54525.6, p50: 14 us, p99: 96 us
+     *     }
+     * </pre>
+     *
+     * @return 結果報告の文字列
+     */
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "features: %d, errors: %d, elapsed: %d ms, features/s: %.1f, p50: %d us, p99: %d us",
+                featureCount, errorCount, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), getThroughput(),
+                TimeUnit.NANOSECONDS.toMicros(latency.getPercentile(50.0)), TimeUnit.NANOSECONDS.toMicros(latency.getPercentile(99.0)));
+    }
+}
@@ -0,0 +1,162 @@
+package io.github.morichan.fescue.cli;
+
+import io.github.morichan.fescue.metrics.FeatureKind;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <p> 一括変換の起動クラス </p>
+ *
+ * <p>
+ *     {@link BulkConverter}をコマンドラインから実行します。
+ *     ファイルを指定しない場合、または{@code -}を指定した場合は標準入力から読込みます。
+ *     出力ファイルを指定しない場合は標準出力に書込みます。
+ *     失敗した行と結果報告（{@link ConversionReport}）は標準エラー出力に書込みます。
+ *     オプションの値が不正な場合は、使い方を標準エラー出力に書込んで終了ステータス{@code 1}で終了します。
+ * </p>
+ *
+ * <pre>
+ *     {@code
+ *     $ java -classpath fescue-2.1.1.jar:antlr-4.7.1-complete.jar io.github.morichan.fescue.cli.Main \
+ *           -k attribute -f json -t 8 -o attributes.jsonl attributes1.txt attributes2.txt
+ *     }
+ * </pre>
+ */
+public class Main {
+
+    private static final String USAGE = "usage: Main [-k attribute|operation] [-f text|json|binary] [-t threads] [-o output] [file...]";
+
+    /**
+     * <p> 一括変換を実行します。 </p>
+     *
+     * @param args オプションと入力ファイル
+     * @throws IOException 読込みまたは書込みに失敗した場合
+     */
+    public static void main(String[] args) throws IOException {
+        FeatureKind kind = FeatureKind.Attribute;
+        OutputFormat format = OutputFormat.Text;
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        String output = null;
+        List<String> files = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "-k":
+                        kind = parseKind(args[++i]);
+                        break;
+                    case "-f":
+                        format = parseFormat(args[++i]);
+                        break;
+                    case "-t":
+                        parallelism = parseParallelism(args[++i]);
+                        break;
+                    case "-o":
+                        output = args[++i];
+                        break;
+                    default:
+                        files.add(args[i]);
+                }
+            }
+        } catch (ArrayIndexOutOfBoundsException | IllegalArgumentException e) {
+            System.err.println(USAGE);
+            System.exit(1);
+        }
+
+        OutputStream out = output == null ? System.out : new FileOutputStream(output);
+        ConversionReport report = new BulkConverter(kind, format, parallelism)
+                .convert(new InputStreamReader(open(files), StandardCharsets.UTF_8), out, System.err);
+        System.err.println(report);
+    }
+
+
+
+    /**
+     * <p> 要素の種類を解析します。 </p>
+     *
+     * <p>
+     *     {@code attribute}と{@code operation}以外の場合は{@link IllegalArgumentException}を投げます。
+     * </p>
+     *
+     * @param value {@code -k}の値
+     * @return 要素の種類
+     */
+    static FeatureKind parseKind(String value) {
+        switch (value) {
+            case "attribute":
+                return FeatureKind.Attribute;
+            case "operation":
+                return FeatureKind.Operation;
+            default:
+                throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * <p> 出力形式を解析します。 </p>
+     *
+     * <p>
+     *     {@code text}と{@code json}と{@code binary}以外の場合は{@link IllegalArgumentException}を投げます。
+     * </p>
+     *
+     * @param value {@code -f}の値
+     * @return 出力形式
+     */
+    static OutputFormat parseFormat(String value) {
+        switch (value) {
+            case "text":
+                return OutputFormat.Text;
+            case "json":
+                return OutputFormat.Json;
+            case "binary":
+                return OutputFormat.Binary;
+            default:
+                throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * <p> 並列数を解析します。 </p>
+     *
+     * <p>
+     *     整数でない場合や{@code 1}未満の場合は{@link IllegalArgumentException}を投げます。
+     * </p>
+     *
+     * @param value {@code -t}の値
+     * @return 並列数
+     */
+    static int parseParallelism(String value) {
+        int parallelism = Integer.parseInt(value);
+        if (parallelism < 1) throw new IllegalArgumentException();
+        return parallelism;
+    }
+
+    /**
+     * <p> 入力ファイルを改行で区切って連結したストリームを開きます。 </p>
+     *
+     * @param files 入力ファイルのリスト
+     * @return 連結したストリーム
+     * @throws IOException ファイルを開けなかった場合
+     */
+    private static InputStream open(List<String> files) throws IOException {
+        if (files.isEmpty()) return System.in;
+
+        List<InputStream> streams = new ArrayList<>();
+        for (String file : files) {
+            streams.add(file.equals("-") ? System.in : new FileInputStream(file));
+            streams.add(new ByteArrayInputStream(new byte[] {'\n'}));
+        }
+        return new SequenceInputStream(Collections.enumeration(streams));
+    }
+}
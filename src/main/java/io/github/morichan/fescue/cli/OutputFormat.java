@@ -0,0 +1,26 @@
+package io.github.morichan.fescue.cli;
+
+/**
+ * <p> 出力形式 </p>
+ *
+ * <p>
+ *     {@link BulkConverter}が形成した属性または操作を書込む形式を表します。
+ * </p>
+ */
+public enum OutputFormat {
+
+    /**
+     * 正規化したUML表記の文字列を1行に1つ書込みます。
+     */
+    Text,
+
+    /**
+     * {@link io.github.morichan.fescue.json.JsonFeatureWriter}の形式で1行に1つ書込みます。
+     */
+    Json,
+
+    /**
+     * {@link io.github.morichan.fescue.binary.FeatureWriter}のバイナリ形式で書込みます。
+     */
+    Binary,
+}
@@ -0,0 +1,26 @@
+package io.github.morichan.fescue.diff;
+
+/**
+ * <p> 変更の種類 </p>
+ *
+ * <p>
+ *     {@link FeatureChange}において、属性や操作がどのように変わったかを表します。
+ * </p>
+ */
+public enum ChangeType {
+
+    /**
+     * 追加
+     */
+    Added,
+
+    /**
+     * 削除
+     */
+    Removed,
+
+    /**
+     * 変更
+     */
+    Changed,
+}
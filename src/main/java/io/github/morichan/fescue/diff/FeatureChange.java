@@ -0,0 +1,101 @@
+package io.github.morichan.fescue.diff;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * <p> 属性または操作の変更クラス </p>
+ *
+ * <p>
+ *     {@link FeatureDiffer}が返す、1つの属性または操作の変更です。
+ *     追加の場合は変更後のみ、削除の場合は変更前のみ、変更の場合は両方と変更された要素の種類を保持します。
+ * </p>
+ *
+ * @param <F> {@link io.github.morichan.fescue.feature.Attribute}または{@link io.github.morichan.fescue.feature.Operation}
+ */
+public class FeatureChange<F> {
+
+    private final ChangeType type;
+    private final String key;
+    private final F before;
+    private final F after;
+    private final Set<Field> changedFields;
+
+    FeatureChange(ChangeType type, String key, F before, F after, Set<Field> changedFields) {
+        this.type = type;
+        this.key = key;
+        this.before = before;
+        this.after = after;
+        this.changedFields = Collections.unmodifiableSet(changedFields);
+    }
+
+    /**
+     * <p> 変更の種類を取得します。 </p>
+     *
+     * @return 変更の種類<br>{@code null}なし
+     */
+    public ChangeType getType() {
+        return type;
+    }
+
+    /**
+     * <p> 照合に用いたキーを取得します。 </p>
+     *
+     * <p>
+     *     属性の場合は属性名、操作の場合は操作名とパラメータの型の並び（例、{@code "setNumber(int)"}）です。
+     * </p>
+     *
+     * @return 照合に用いたキー<br>{@code null}および{@code ""}なし
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * <p> 変更前を取得します。 </p>
+     *
+     * <p>
+     *     追加の場合は{@link IllegalStateException}を投げます。
+     * </p>
+     *
+     * @return 変更前<br>{@code null}なし
+     */
+    public F getBefore() {
+        if (before == null) throw new IllegalStateException();
+        return before;
+    }
+
+    /**
+     * <p> 変更後を取得します。 </p>
+     *
+     * <p>
+     *     削除の場合は{@link IllegalStateException}を投げます。
+     * </p>
+     *
+     * @return 変更後<br>{@code null}なし
+     */
+    public F getAfter() {
+        if (after == null) throw new IllegalStateException();
+        return after;
+    }
+
+    /**
+     * <p> 変更された要素の種類を取得します。 </p>
+     *
+     * @return 変更された要素の種類（変更不可）<br>{@code null}なし（追加と削除の場合は空の集合）
+     */
+    public Set<Field> getChangedFields() {
+        return changedFields;
+    }
+
+    /**
+     * <p> 変更の文字列を取得します。 </p>
+     *
+     * @return 変更の文字列（例、{@code "Changed number [Type, DefaultValue]"}）<br>{@code null}および{@code ""}なし
+     */
+    @Override
+    public String toString() {
+        if (type == ChangeType.Changed) return type + " " + key + " " + changedFields;
+        return type + " " + key;
+    }
+}
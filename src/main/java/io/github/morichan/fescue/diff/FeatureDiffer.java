@@ -0,0 +1,260 @@
+package io.github.morichan.fescue.diff;
+
+import io.github.morichan.fescue.feature.Attribute;
+import io.github.morichan.fescue.feature.Operation;
+import io.github.morichan.fescue.feature.direction.Direction;
+import io.github.morichan.fescue.feature.parameter.Parameter;
+import io.github.morichan.fescue.feature.property.Property;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.function.Function;
+
+/**
+ * <p> 属性と操作の差分抽出クラス </p>
+ *
+ * <p>
+ *     変更前と変更後の属性または操作のコレクションを比較し、追加、削除、変更された要素を返します。
+ *     属性は属性名で、操作は操作名とパラメータの型の並び（シグネチャ）で照合します。
+ *     型のないパラメータは{@code ?}として並べるため（例、{@code "set(?,int)"}）、パラメータの数が異なる操作は照合しません。
+ *     照合はハッシュで行うため、要素数に比例した時間で比較します。
+ *     同じキーを持つ要素が複数ある場合は、それぞれ出現順に照合します。
+ * </p>
+ *
+ * <p>
+ *     使い方を次に示します。
+ * </p>
+ *
+ * <pre>
+ *     {@code
+ *     FeatureDiffer differ = new FeatureDiffer();
+ *     for (FeatureChange<Attribute> change : differ.diffAttributes(oldAttributes, newAttributes)) {
+ *         System.out.println(change); // "Changed number [Type]"
+ *     }
+ *     }
+ * </pre>
+ *
+ * <p>
+ *     返すリストは、変更前の順に削除と変更を並べた後に、変更後の順に追加を並べます。
+ *     変更のない要素は含みません。
+ * </p>
+ */
+public class FeatureDiffer {
+
+    /**
+     * <p> 属性の差分を抽出します。 </p>
+     *
+     * <p>
+     *     どちらかに{@code null}を設定した場合は{@link IllegalArgumentException}を投げます。
+     * </p>
+     *
+     * @param before 変更前の属性<br>{@code null}不可
+     * @param after 変更後の属性<br>{@code null}不可
+     * @return 差分のリスト<br>{@code null}なし
+     */
+    public List<FeatureChange<Attribute>> diffAttributes(Collection<Attribute> before, Collection<Attribute> after) {
+        if (before == null || after == null) throw new IllegalArgumentException();
+
+        Map<String, Deque<Attribute>> afterByKey = groupByKey(after, this::keyOf);
+        List<FeatureChange<Attribute>> changes = new ArrayList<>();
+
+        for (Attribute oldAttribute : before) {
+            String key = keyOf(oldAttribute);
+            Attribute newAttribute = poll(afterByKey, key);
+            if (newAttribute == null) {
+                changes.add(new FeatureChange<>(ChangeType.Removed, key, oldAttribute, null, EnumSet.noneOf(Field.class)));
+                continue;
+            }
+
+            Set<Field> fields = compare(oldAttribute, newAttribute);
+            if (!fields.isEmpty()) changes.add(new FeatureChange<>(ChangeType.Changed, key, oldAttribute, newAttribute, fields));
+        }
+
+        for (Attribute newAttribute : after) {
+            String key = keyOf(newAttribute);
+            if (remove(afterByKey, key, newAttribute)) {
+                changes.add(new FeatureChange<>(ChangeType.Added, key, null, newAttribute, EnumSet.noneOf(Field.class)));
+            }
+        }
+
+        return changes;
+    }
+
+    /**
+     * <p> 操作の差分を抽出します。 </p>
+     *
+     * <p>
+     *     パラメータの型が変わった操作は、別の操作の削除と追加として扱います。
+     *     どちらかに{@code null}を設定した場合は{@link IllegalArgumentException}を投げます。
+     * </p>
+     *
+     * @param before 変更前の操作<br>{@code null}不可
+     * @param after 変更後の操作<br>{@code null}不可
+     * @return 差分のリスト<br>{@code null}なし
+     */
+    public List<FeatureChange<Operation>> diffOperations(Collection<Operation> before, Collection<Operation> after) {
+        if (before == null || after == null) throw new IllegalArgumentException();
+
+        Map<String, Deque<Operation>> afterByKey = groupByKey(after, this::keyOf);
+        List<FeatureChange<Operation>> changes = new ArrayList<>();
+
+        for (Operation oldOperation : before) {
+            String key = keyOf(oldOperation);
+            Operation newOperation = poll(afterByKey, key);
+            if (newOperation == null) {
+                changes.add(new FeatureChange<>(ChangeType.Removed, key, oldOperation, null, EnumSet.noneOf(Field.class)));
+                continue;
+            }
+
+            Set<Field> fields = compare(oldOperation, newOperation);
+            if (!fields.isEmpty()) changes.add(new FeatureChange<>(ChangeType.Changed, key, oldOperation, newOperation, fields));
+        }
+
+        for (Operation newOperation : after) {
+            String key = keyOf(newOperation);
+            if (remove(afterByKey, key, newOperation)) {
+                changes.add(new FeatureChange<>(ChangeType.Added, key, null, newOperation, EnumSet.noneOf(Field.class)));
+            }
+        }
+
+        return changes;
+    }
+
+
+
+    private <F> Map<String, Deque<F>> groupByKey(Collection<F> features, Function<F, String> keyOf) {
+        Map<String, Deque<F>> map = new HashMap<>(features.size() * 4 / 3 + 1);
+        for (F feature : features) map.computeIfAbsent(keyOf.apply(feature), k -> new ArrayDeque<>(1)).add(feature);
+        return map;
+    }
+
+    private <F> F poll(Map<String, Deque<F>> map, String key) {
+        Deque<F> features = map.get(key);
+        if (features == null) return null;
+
+        F feature = features.poll();
+        if (features.isEmpty()) map.remove(key);
+        return feature;
+    }
+
+    /**
+     * <p> 照合されずに残っている要素を取除きます。 </p>
+     *
+     * <p>
+     *     照合は同じキーの要素の先頭から行うため、照合されずに残る要素は後ろの要素が出現順に並んでいます。
+     *     そのため、先頭の要素との同一性のみを確認します。
+     * </p>
+     *
+     * @param map キーごとの照合されていない要素
+     * @param key キー
+     * @param feature 要素
+     * @param <F> 要素の型
+     * @return 照合されずに残っていた場合は真を返す真偽値
+     */
+    private <F> boolean remove(Map<String, Deque<F>> map, String key, F feature) {
+        Deque<F> features = map.get(key);
+        if (features == null || features.peek() != feature) return false;
+
+        features.poll();
+        if (features.isEmpty()) map.remove(key);
+        return true;
+    }
+
+    private String keyOf(Attribute attribute) {
+        return attribute.getName().getNameText();
+    }
+
+    private String keyOf(Operation operation) {
+        StringJoiner sj = new StringJoiner(",", operation.getName().getNameText() + "(", ")");
+        if (operation.hasParameters()) {
+            for (Parameter parameter : operation.getParameters()) {
+                sj.add(parameter.hasType() ? parameter.getType().toString() : "?");
+            }
+        }
+        return sj.toString();
+    }
+
+    private Set<Field> compare(Attribute before, Attribute after) {
+        Set<Field> fields = EnumSet.noneOf(Field.class);
+
+        if ((before.hasVisibility() ? before.getVisibility() : null) != (after.hasVisibility() ? after.getVisibility() : null)) fields.add(Field.Visibility);
+        if (before.isDerived() != after.isDerived()) fields.add(Field.Derived);
+        if (!Objects.equals(before.hasType() ? before.getType().toString() : null, after.hasType() ? after.getType().toString() : null)) fields.add(Field.Type);
+        if (!Objects.equals(before.hasMultiplicityRange() ? before.getMultiplicityRange().toString() : null,
+                after.hasMultiplicityRange() ? after.getMultiplicityRange().toString() : null)) fields.add(Field.Multiplicity);
+        if (!Objects.equals(before.hasDefaultValue() ? before.getDefaultValue().toString() : null,
+                after.hasDefaultValue() ? after.getDefaultValue().toString() : null)) fields.add(Field.DefaultValue);
+        if (!isSameProperties(before.hasProperties() ? before.getProperties() : null, after.hasProperties() ? after.getProperties() : null)) fields.add(Field.Properties);
+
+        return fields;
+    }
+
+    private Set<Field> compare(Operation before, Operation after) {
+        Set<Field> fields = EnumSet.noneOf(Field.class);
+
+        if ((before.hasVisibility() ? before.getVisibility() : null) != (after.hasVisibility() ? after.getVisibility() : null)) fields.add(Field.Visibility);
+        if (!Objects.equals(before.hasReturnType() ? before.getReturnType().toString() : null,
+                after.hasReturnType() ? after.getReturnType().toString() : null)) fields.add(Field.Type);
+        if (!isSameProperties(before.hasProperties() ? before.getProperties() : null, after.hasProperties() ? after.getProperties() : null)) fields.add(Field.Properties);
+        if (!isSameParameters(before.hasParameters() ? before.getParameters() : Collections.emptyList(),
+                after.hasParameters() ? after.getParameters() : Collections.emptyList())) fields.add(Field.Parameters);
+
+        return fields;
+    }
+
+    /**
+     * <p> パラメータのリストが同じ場合は真を返す真偽値判定を行います。 </p>
+     *
+     * <p>
+     *     型はシグネチャとして照合済みのため、通常は両方のリストが同じ長さですが、長さが異なる場合は偽を返します。
+     * </p>
+     *
+     * @param before 変更前のパラメータのリスト
+     * @param after 変更後のパラメータのリスト
+     * @return パラメータのリストが同じ場合は真を返す真偽値
+     */
+    private boolean isSameParameters(List<Parameter> before, List<Parameter> after) {
+        if (before.size() != after.size()) return false;
+
+        for (int i = 0; i < before.size(); i++) {
+            Parameter oldParameter = before.get(i);
+            Parameter newParameter = after.get(i);
+
+            if (!oldParameter.getName().getNameText().equals(newParameter.getName().getNameText())) return false;
+            if (!isSameDirection(oldParameter.getDirection(), newParameter.getDirection())) return false;
+            if (!Objects.equals(oldParameter.hasMultiplicityRange() ? oldParameter.getMultiplicityRange().toString() : null,
+                    newParameter.hasMultiplicityRange() ? newParameter.getMultiplicityRange().toString() : null)) return false;
+            if (!Objects.equals(oldParameter.hasDefaultValue() ? oldParameter.getDefaultValue().toString() : null,
+                    newParameter.hasDefaultValue() ? newParameter.getDefaultValue().toString() : null)) return false;
+            if (!isSameProperties(oldParameter.hasProperties() ? oldParameter.getProperties() : null,
+                    newParameter.hasProperties() ? newParameter.getProperties() : null)) return false;
+        }
+        return true;
+    }
+
+    private boolean isSameDirection(Direction before, Direction after) {
+        return before.getClass() == after.getClass() && before.isOuted() == after.isOuted();
+    }
+
+    private boolean isSameProperties(List<Property> before, List<Property> after) {
+        if (before == null || after == null) return before == after;
+        if (before.size() != after.size()) return false;
+
+        for (int i = 0; i < before.size(); i++) {
+            Property oldProperty = before.get(i);
+            Property newProperty = after.get(i);
+            if (oldProperty.getClass() != newProperty.getClass() || !oldProperty.toString().equals(newProperty.toString())) return false;
+        }
+        return true;
+    }
+}
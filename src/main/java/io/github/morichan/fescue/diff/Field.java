@@ -0,0 +1,46 @@
+package io.github.morichan.fescue.diff;
+
+/**
+ * <p> 変更された要素の種類 </p>
+ *
+ * <p>
+ *     {@link FeatureChange#getChangedFields()}において、属性や操作のどの要素が変わったかを表します。
+ * </p>
+ */
+public enum Field {
+
+    /**
+     * 可視性
+     */
+    Visibility,
+
+    /**
+     * 派生
+     */
+    Derived,
+
+    /**
+     * 型（操作の場合は戻り値の型）
+     */
+    Type,
+
+    /**
+     * 多重度
+     */
+    Multiplicity,
+
+    /**
+     * 既定値
+     */
+    DefaultValue,
+
+    /**
+     * プロパティ
+     */
+    Properties,
+
+    /**
+     * パラメータ（型以外の名前、方向、多重度、既定値、プロパティ）
+     */
+    Parameters,
+}
@@ -1,6 +1,13 @@
 package io.github.morichan.fescue.evaluation;
 
+import io.github.morichan.fescue.feature.Attribute;
+import io.github.morichan.fescue.metrics.FeatureKind;
+import io.github.morichan.fescue.metrics.FeatureMetrics;
+import io.github.morichan.fescue.metrics.ParseEvent;
+import io.github.morichan.fescue.metrics.Stage;
 import io.github.morichan.fescue.parser.ClassFeatureParser;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.antlr.v4.runtime.tree.ParseTree;
 
 /**
  * <p> 属性における要素の評価クラス </p>
@@ -30,26 +37,50 @@ public class AttributeEvaluation extends FeatureEvaluation {
      */
     private ClassFeatureParser.PropertyContext context;
 
+    /**
+     * 構文解析しながら形成した属性
+     */
+    private Attribute feature;
+
     /**
      * 属性文
      */
-    private String attribute;
+    private CharSequence attribute;
+
+    /**
+     * 構文木を構築するかどうか
+     */
+    private boolean isParseTreeBuilt = true;
 
     /**
      * <p> 属性文を設定します。 </p>
      *
      * <p>
-     *     {@code "\\.\\."}という文字列（2つ連続したドット）が存在した場合、その両端に半角スペースを挿入します。
-     *     これは、多重度における下限と上限の指定の箇所をパースする際に、ANTLR4の仕様により半角スペースが入っていない場合はうまくパースできないためです。
-     *     詳しくは{@link #insertSpaceBothEndsOfRangeOperator(String)}を参照してください。
+     *     多重度の範囲演算子（{@code ".."}）は字句解析器が区切るため、その両端に半角スペースは必要ありません。
      * </p>
      *
      * @param text 設定する属性文 <br>
-     *     {@code null}不可（{@link #insertSpaceBothEndsOfRangeOperator(String)}で{@link IllegalArgumentException}を投げます。）
+     *     {@code null}不可（{@link #walk()}で{@link IllegalArgumentException}を投げます。）
      */
     @Override
     public void setText(String text) {
-        attribute = insertSpaceBothEndsOfRangeOperator(text);
+        setText((CharSequence) text);
+    }
+
+    /**
+     * <p> 属性文を文字列として設定します。 </p>
+     *
+     * <p>
+     *     {@link #setText(String)}と同じですが、文字列を複製せずに参照します。
+     *     参照している文字列を{@link #walk()}が終わる前に変更した場合の動作は保証しません。
+     *     {@link #walk()}の後は、構文木を構築する場合も入力文字列を切離すため（{@link FeatureEvaluation#detachInput(io.github.morichan.fescue.parser.ClassFeatureParser)}参照）、文字列を変更や再利用しても構いません。
+     *     ただし、{@link #getText()}は参照している文字列をその時点で複製して返します。
+     * </p>
+     *
+     * @param text 設定する属性文 <br> {@code null}不可
+     */
+    public void setText(CharSequence text) {
+        attribute = text;
     }
 
     /**
@@ -64,7 +95,31 @@ public class AttributeEvaluation extends FeatureEvaluation {
     @Override
     public String getText() {
         if (attribute == null) throw new IllegalStateException();
-        return attribute;
+        return attribute.toString();
+    }
+
+    /**
+     * <p> 構文木を構築するかどうかを設定します。 </p>
+     *
+     * <p>
+     *     偽を設定すると、{@link #walk()}は構文木を構築せずに構文解析しながら{@link Attribute}インスタンスを形成します（{@link #getFeature()}参照）。
+     *     その場合は{@link #getContext()}で{@link IllegalStateException}を投げます。
+     *     また、構文エラーがある場合は、エラー回復せずに{@link #walk()}で{@link IllegalArgumentException}を投げます。
+     * </p>
+     *
+     * @param isParseTreeBuilt 構文木を構築する場合は真<br>既定値は真
+     */
+    public void setParseTreeBuilt(boolean isParseTreeBuilt) {
+        this.isParseTreeBuilt = isParseTreeBuilt;
+    }
+
+    /**
+     * <p> 構文木を構築する場合は真を返す真偽値判定を行います。 </p>
+     *
+     * @return 構文木を構築する場合は真を返す真偽値
+     */
+    public boolean isParseTreeBuilt() {
+        return isParseTreeBuilt;
     }
 
 
@@ -73,12 +128,18 @@ public class AttributeEvaluation extends FeatureEvaluation {
      * <p> 字句解析と構文解析を行い、構文解析木を走査します。 </p>
      *
      * <p>
+     *     Java Flight Recorderで記録している場合は{@link ParseEvent}を記録します。
+     * </p>
+     *
+     * <p>
      *     次の場合は例外を投げます。
      * </p>
      *
      * <ul>
      *     <li>属性文を設定していない場合（{@link #setText(String)}参照） : {@link IllegalArgumentException}</li>
      *     <li>設定した属性文が予約語と同じ文字列の場合 : {@link ClassFeatureParser.PropertyContext#exception}</li>
+     *     <li>構文木を構築せず（{@link #setParseTreeBuilt(boolean)}参照）、属性文に構文エラーがある場合 : {@link IllegalArgumentException}</li>
+     *     <li>構文木を構築し、属性文のメンバ参照にドットの後の識別子がない場合（{@code "a."}など） : {@link IllegalArgumentException}</li>
      * </ul>
      */
     @Override
@@ -86,11 +147,38 @@ public class AttributeEvaluation extends FeatureEvaluation {
         initIfIsSameBetweenNameAndKeyword();
         if (attribute == null) throw new IllegalArgumentException();
 
-        ClassFeatureParser parser = generateParser(attribute);
-        FeatureEvalListener listener = walk(parser.property());
-        context = listener.getProperty();
-
-        confirmExtractingName();
+        ParseEvent event = new ParseEvent();
+        event.begin();
+
+        ClassFeatureParser parser = generateParser(attribute, FeatureKind.Attribute);
+        context = null;
+        feature = null;
+        try {
+            if (isParseTreeBuilt) {
+                long start = FeatureMetrics.startTimer();
+                ParseTree tree = parser.property();
+                FeatureMetrics.stopTimer(Stage.Parse, FeatureKind.Attribute, start);
+                detachInput(parser);
+                FeatureEvalListener listener = walk(tree);
+                if (listener.isTokenMissing()) throw new IllegalArgumentException();
+                context = listener.getProperty();
+
+                confirmExtractingName();
+            } else {
+                prepareCarving(parser);
+                long start = FeatureMetrics.startTimer();
+                try {
+                    feature = parser.property().value;
+                } catch (ParseCancellationException e) {
+                    throw new IllegalArgumentException(e.getCause());
+                }
+                FeatureMetrics.stopTimer(Stage.Parse, FeatureKind.Attribute, start);
+            }
+        } catch (RuntimeException e) {
+            event.report(FeatureKind.Attribute, attribute.length(), parser.getInterpreter().getPredictionMode(), e);
+            throw e;
+        }
+        event.report(FeatureKind.Attribute, attribute.length(), parser.getInterpreter().getPredictionMode(), null);
     }
 
     /**
@@ -107,6 +195,21 @@ public class AttributeEvaluation extends FeatureEvaluation {
         return context;
     }
 
+    /**
+     * <p> 構文解析しながら形成した{@link Attribute}インスタンスを取得します。 </p>
+     *
+     * <p>
+     *     構文木を構築しない場合（{@link #setParseTreeBuilt(boolean)}参照）に{@link #walk()}を実行する前にこのメソッドを実行すると{@link IllegalStateException}を投げます。
+     *     構文木を構築する場合も{@link IllegalStateException}を投げます。
+     * </p>
+     *
+     * @return 形成した属性インスタンス<br>{@code null}なし
+     */
+    public Attribute getFeature() {
+        if (feature == null) throw new IllegalStateException();
+        return feature;
+    }
+
 
 
     /**
@@ -22,6 +22,11 @@ public class FeatureEvalListener extends io.github.morichan.fescue.parser.ClassF
      */
     private ClassFeatureParser.OperationContext operation = null;
 
+    /**
+     * メンバ参照の識別子をエラー回復で補った場合は真を持つ真偽値
+     */
+    private boolean isTokenMissing = false;
+
     /**
      * <p> 属性文に入った場合の走査結果を取得します。 </p>
      *
@@ -52,6 +57,22 @@ public class FeatureEvalListener extends io.github.morichan.fescue.parser.ClassF
         operation = ctx;
     }
 
+    /**
+     * <p> 式から出た場合にメンバ参照の識別子をエラー回復で補ったかどうかを判定します。 </p>
+     *
+     * <p>
+     *     構文解析器は{@code "a."}のように識別子が足りないメンバ参照に対して、入力文字列にない識別子を補って構文解析を続けます。
+     *     補った識別子はトークン番号を持たないため、それで判定します。
+     * </p>
+     *
+     * @param ctx 式コンテキスト
+     */
+    @Override
+    public void exitExpression(ClassFeatureParser.ExpressionContext ctx) {
+        if (ctx.bop != null && ctx.bop.getType() == ClassFeatureParser.DOT
+                && (ctx.IDENTIFIER == null || ctx.IDENTIFIER.getTokenIndex() < 0)) isTokenMissing = true;
+    }
+
     /**
      * 属性文コンテキストを取得します。
      * {@link #enterProperty(ClassFeatureParser.PropertyContext)}が実行されなかった場合は{@code null}を返します。
@@ -71,4 +92,13 @@ public class FeatureEvalListener extends io.github.morichan.fescue.parser.ClassF
     public ClassFeatureParser.OperationContext getOperation() {
         return operation;
     }
+
+    /**
+     * <p> メンバ参照の識別子をエラー回復で補った場合は真を返す真偽値判定を行います。 </p>
+     *
+     * @return メンバ参照の識別子をエラー回復で補った場合は真を返す真偽値
+     */
+    public boolean isTokenMissing() {
+        return isTokenMissing;
+    }
 }
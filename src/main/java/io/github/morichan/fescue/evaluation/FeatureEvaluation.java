@@ -1,15 +1,17 @@
 package io.github.morichan.fescue.evaluation;
 
-import org.antlr.v4.runtime.CharStreams;
-import org.antlr.v4.runtime.CommonTokenStream;
+import io.github.morichan.fescue.token.CharSequenceCharStream;
+import io.github.morichan.fescue.token.CompactTokenStream;
+import org.antlr.v4.runtime.BailErrorStrategy;
 import org.antlr.v4.runtime.InputMismatchException;
+import org.antlr.v4.runtime.TokenStream;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.antlr.v4.runtime.tree.ParseTreeWalker;
 import io.github.morichan.fescue.parser.ClassFeatureLexer;
 import io.github.morichan.fescue.parser.ClassFeatureParser;
-
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import io.github.morichan.fescue.metrics.FeatureKind;
+import io.github.morichan.fescue.metrics.FeatureMetrics;
+import io.github.morichan.fescue.metrics.Stage;
 
 /**
  * <p> クラスの属性文または操作文の評価クラス </p>
@@ -69,42 +71,78 @@ abstract public class FeatureEvaluation implements Evaluation {
     }
 
     /**
-     * <p> {@code "\\.\\."}という文字列（2つ連続したドット）が存在した場合、その両端に半角スペースを挿入します。 </p>
+     * <p> 構文解析機を生成します。 </p>
      *
      * <p>
-     *     正確には、文法における多重度の下限と上限の指定（[0..1]のようなもの）内での、真ん中の2つのドット（以降は範囲演算子と呼びます）の両端に半角スペースを挿入します。
-     *     これは、範囲演算子の箇所をパースする際に、半角スペースが入っていない場合はうまくパースできないためです。
-     *     手法としては、単純な置換（{@code matcher("\\.\\.") -> replaceAll(" .. ")}）を用いています。
-     *     既に半角スペースが入っていたとしても、新たに半角スペースを挿入しますが、パースに問題はありません。
+     *     文字列は複製せずに参照し（{@link CharSequenceCharStream}参照）、トークンはインスタンスを生成せずに配列で保持します（{@link CompactTokenStream}参照）。
+     *     字句解析はこのメソッド内で全て行います。
      * </p>
      *
-     * @param text 設定する属性文 {@code null}可だが{@link #walk()}で{@link IllegalArgumentException}を投げる。
-     * @return もし {@code "\\.\\."}が存在する場合はその両端に半角スペースを挿入した文字列、存在しない場合は入力した文字列
+     * @param parsedTarget 構文解析対象の文字列
+     * @return 構文解析結果
      */
-    protected String insertSpaceBothEndsOfRangeOperator(String text) {
-        Pattern p = Pattern.compile("\\.\\.");
-        Matcher m = p.matcher(text);
-        if (m.find()) text = m.replaceAll(" .. ");
-        return text;
+    protected ClassFeatureParser generateParser(CharSequence parsedTarget) {
+        ClassFeatureLexer lexer = new ClassFeatureLexer(new CharSequenceCharStream(parsedTarget));
+        return new ClassFeatureParser(new CompactTokenStream(lexer));
     }
 
     /**
-     * 構文解析機を生成します。
+     * <p> 構文解析機を生成します。 </p>
+     *
+     * <p>
+     *     {@link #generateParser(CharSequence)}と同じですが、計測が有効な場合（{@link FeatureMetrics#isEnabled()}参照）は字句解析の処理時間を記録します。
+     * </p>
      *
      * @param parsedTarget 構文解析対象の文字列
+     * @param kind 構文解析対象の要素の種類
      * @return 構文解析結果
      */
-    protected ClassFeatureParser generateParser(String parsedTarget) {
-        ClassFeatureLexer lexer = new ClassFeatureLexer(CharStreams.fromString(parsedTarget));
-        CommonTokenStream tokens = new CommonTokenStream(lexer);
+    protected ClassFeatureParser generateParser(CharSequence parsedTarget, FeatureKind kind) {
+        long start = FeatureMetrics.startTimer();
+        ClassFeatureLexer lexer = new ClassFeatureLexer(new CharSequenceCharStream(parsedTarget));
+        CompactTokenStream tokens = new CompactTokenStream(lexer);
+        FeatureMetrics.stopTimer(Stage.Lex, kind, start);
+
         return new ClassFeatureParser(tokens);
     }
 
+    /**
+     * <p> 構文解析器の入力文字列を呼出し元の文字列から切離します。 </p>
+     *
+     * <p>
+     *     構文木のトークンは文字列を参照した時点で入力文字列から切出すため（{@link CompactTokenStream}参照）、
+     *     構文木を構築した場合は構文解析の後に実行してください。
+     *     その後は呼出し元が文字列を再利用しても、構文木のトークンの文字列は変わりません（{@link CompactTokenStream#detachInput()}参照）。
+     * </p>
+     *
+     * @param parser {@link #generateParser(CharSequence, FeatureKind)}で取得した構文解析器
+     */
+    protected void detachInput(ClassFeatureParser parser) {
+        TokenStream tokens = parser.getTokenStream();
+        if (tokens instanceof CompactTokenStream) ((CompactTokenStream) tokens).detachInput();
+    }
+
+    /**
+     * <p> 構文木を構築せずに構文解析しながら形成するよう構文解析器を設定します。 </p>
+     *
+     * <p>
+     *     エラー回復した規則からは正しく形成できないため、最初の構文エラーで構文解析を打切ります（{@link BailErrorStrategy}参照）。
+     *     その場合は{@link org.antlr.v4.runtime.misc.ParseCancellationException}を投げます。
+     * </p>
+     *
+     * @param parser {@link #generateParser(CharSequence, FeatureKind)}で取得した構文解析器
+     */
+    protected void prepareCarving(ClassFeatureParser parser) {
+        parser.setBuildParseTree(false);
+        parser.setCarving(true);
+        parser.setErrorHandler(new BailErrorStrategy());
+    }
+
     /**
      * <p> 取得した走査対象の構文木を走査します。 </p>
      *
      * <p>
-     *     走査対象の構文木には、{@link #generateParser(String)}で取得した構文解析結果の任意のトークンを頂点とする構文木を設定してください。
+     *     走査対象の構文木には、{@link #generateParser(CharSequence)}で取得した構文解析結果の任意のトークンを頂点とする構文木を設定してください。
      * </p>
      *
      * @param tree 走査対象の構文木
@@ -1,6 +1,13 @@
 package io.github.morichan.fescue.evaluation;
 
+import io.github.morichan.fescue.feature.Operation;
+import io.github.morichan.fescue.metrics.FeatureKind;
+import io.github.morichan.fescue.metrics.FeatureMetrics;
+import io.github.morichan.fescue.metrics.ParseEvent;
+import io.github.morichan.fescue.metrics.Stage;
 import io.github.morichan.fescue.parser.ClassFeatureParser;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.antlr.v4.runtime.tree.ParseTree;
 
 /**
  * <p> 操作における要素の評価クラス </p>
@@ -30,26 +37,50 @@ public class OperationEvaluation extends FeatureEvaluation {
      */
     private ClassFeatureParser.OperationContext context;
 
+    /**
+     * 構文解析しながら形成した操作
+     */
+    private Operation feature;
+
     /**
      * 操作文
      */
-    private String operation;
+    private CharSequence operation;
+
+    /**
+     * 構文木を構築するかどうか
+     */
+    private boolean isParseTreeBuilt = true;
 
     /**
      * <p> 操作文を設定します。 </p>
      *
      * <p>
-     *     {@code "\\.\\."}という文字列（2つ連続したドット）が存在した場合、その両端に半角スペースを挿入します。
-     *     これは、多重度における下限と上限の指定の箇所をパースする際に、ANTLR4の仕様により半角スペースが入っていない場合はうまくパースできないためです。
-     *     詳しくは{@link #insertSpaceBothEndsOfRangeOperator(String)}を参照してください。
+     *     多重度の範囲演算子（{@code ".."}）は字句解析器が区切るため、その両端に半角スペースは必要ありません。
      * </p>
      *
      * @param text 設定する操作文 <br>
-     *     {@code null}不可（{@link #insertSpaceBothEndsOfRangeOperator(String)}で{@link IllegalArgumentException}を投げます。）
+     *     {@code null}不可（{@link #walk()}で{@link IllegalArgumentException}を投げます。）
      */
     @Override
     public void setText(String text) {
-        operation = insertSpaceBothEndsOfRangeOperator(text);
+        setText((CharSequence) text);
+    }
+
+    /**
+     * <p> 操作文を文字列として設定します。 </p>
+     *
+     * <p>
+     *     {@link #setText(String)}と同じですが、文字列を複製せずに参照します。
+     *     参照している文字列を{@link #walk()}が終わる前に変更した場合の動作は保証しません。
+     *     {@link #walk()}の後は、構文木を構築する場合も入力文字列を切離すため（{@link FeatureEvaluation#detachInput(io.github.morichan.fescue.parser.ClassFeatureParser)}参照）、文字列を変更や再利用しても構いません。
+     *     ただし、{@link #getText()}は参照している文字列をその時点で複製して返します。
+     * </p>
+     *
+     * @param text 設定する操作文 <br> {@code null}不可
+     */
+    public void setText(CharSequence text) {
+        operation = text;
     }
 
     /**
@@ -64,19 +95,49 @@ public class OperationEvaluation extends FeatureEvaluation {
     @Override
     public String getText() {
         if (operation == null) throw new IllegalStateException();
-        return operation;
+        return operation.toString();
+    }
+
+    /**
+     * <p> 構文木を構築するかどうかを設定します。 </p>
+     *
+     * <p>
+     *     偽を設定すると、{@link #walk()}は構文木を構築せずに構文解析しながら{@link Operation}インスタンスを形成します（{@link #getFeature()}参照）。
+     *     その場合は{@link #getContext()}で{@link IllegalStateException}を投げます。
+     *     また、構文エラーがある場合は、エラー回復せずに{@link #walk()}で{@link IllegalArgumentException}を投げます。
+     * </p>
+     *
+     * @param isParseTreeBuilt 構文木を構築する場合は真<br>既定値は真
+     */
+    public void setParseTreeBuilt(boolean isParseTreeBuilt) {
+        this.isParseTreeBuilt = isParseTreeBuilt;
+    }
+
+    /**
+     * <p> 構文木を構築する場合は真を返す真偽値判定を行います。 </p>
+     *
+     * @return 構文木を構築する場合は真を返す真偽値
+     */
+    public boolean isParseTreeBuilt() {
+        return isParseTreeBuilt;
     }
 
     /**
      * <p> 字句解析と構文解析を行い、構文解析木を走査します。 </p>
      *
      * <p>
+     *     Java Flight Recorderで記録している場合は{@link ParseEvent}を記録します。
+     * </p>
+     *
+     * <p>
      *     次の場合は例外を投げます。
      * </p>
      *
      * <ul>
      *     <li>操作文を設定していない場合（{@link #setText(String)}参照） : {@link IllegalArgumentException}</li>
      *     <li>設定した操作文が予約語と同じ文字列の場合 : {@link ClassFeatureParser.OperationContext#exception}</li>
+     *     <li>構文木を構築せず（{@link #setParseTreeBuilt(boolean)}参照）、操作文に構文エラーがある場合 : {@link IllegalArgumentException}</li>
+     *     <li>構文木を構築し、操作文のメンバ参照にドットの後の識別子がない場合（{@code "a."}など） : {@link IllegalArgumentException}</li>
      * </ul>
      */
     @Override
@@ -84,11 +145,38 @@ public class OperationEvaluation extends FeatureEvaluation {
         initIfIsSameBetweenNameAndKeyword();
         if (operation == null) throw new IllegalArgumentException();
 
-        ClassFeatureParser parser = generateParser(operation);
-        FeatureEvalListener listener = walk(parser.operation());
-        context = listener.getOperation();
+        ParseEvent event = new ParseEvent();
+        event.begin();
 
-        //confirmExtractingName();
+        ClassFeatureParser parser = generateParser(operation, FeatureKind.Operation);
+        context = null;
+        feature = null;
+        try {
+            if (isParseTreeBuilt) {
+                long start = FeatureMetrics.startTimer();
+                ParseTree tree = parser.operation();
+                FeatureMetrics.stopTimer(Stage.Parse, FeatureKind.Operation, start);
+                detachInput(parser);
+                FeatureEvalListener listener = walk(tree);
+                if (listener.isTokenMissing()) throw new IllegalArgumentException();
+                context = listener.getOperation();
+
+                //confirmExtractingName();
+            } else {
+                prepareCarving(parser);
+                long start = FeatureMetrics.startTimer();
+                try {
+                    feature = parser.operation().value;
+                } catch (ParseCancellationException e) {
+                    throw new IllegalArgumentException(e.getCause());
+                }
+                FeatureMetrics.stopTimer(Stage.Parse, FeatureKind.Operation, start);
+            }
+        } catch (RuntimeException e) {
+            event.report(FeatureKind.Operation, operation.length(), parser.getInterpreter().getPredictionMode(), e);
+            throw e;
+        }
+        event.report(FeatureKind.Operation, operation.length(), parser.getInterpreter().getPredictionMode(), null);
     }
 
     /**
@@ -104,4 +192,19 @@ public class OperationEvaluation extends FeatureEvaluation {
         if (context == null) throw new IllegalStateException();
         return context;
     }
+
+    /**
+     * <p> 構文解析しながら形成した{@link Operation}インスタンスを取得します。 </p>
+     *
+     * <p>
+     *     構文木を構築しない場合（{@link #setParseTreeBuilt(boolean)}参照）に{@link #walk()}を実行する前にこのメソッドを実行すると{@link IllegalStateException}を投げます。
+     *     構文木を構築する場合も{@link IllegalStateException}を投げます。
+     * </p>
+     *
+     * @return 形成した操作インスタンス<br>{@code null}なし
+     */
+    public Operation getFeature() {
+        if (feature == null) throw new IllegalStateException();
+        return feature;
+    }
 }
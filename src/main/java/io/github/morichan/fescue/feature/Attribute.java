@@ -3,11 +3,14 @@ package io.github.morichan.fescue.feature;
 import io.github.morichan.fescue.feature.multiplicity.MultiplicityRange;
 import io.github.morichan.fescue.feature.name.Name;
 import io.github.morichan.fescue.feature.property.Property;
+import io.github.morichan.fescue.feature.property.PropertySet;
 import io.github.morichan.fescue.feature.type.Type;
 import io.github.morichan.fescue.feature.value.DefaultValue;
 import io.github.morichan.fescue.feature.visibility.Visibility;
+import io.github.morichan.fescue.metrics.FeatureKind;
+import io.github.morichan.fescue.metrics.FeatureMetrics;
+import io.github.morichan.fescue.metrics.Stage;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.StringJoiner;
 
@@ -42,7 +45,7 @@ public class Attribute {
     private boolean isDerived = false;
     private DefaultValue value;
     private MultiplicityRange multiplicityRange;
-    private List<Property> properties = new ArrayList<>();
+    private PropertySet properties = new PropertySet();
 
     /**
      * <p> 名前設定コンストラクタ </p>
@@ -119,6 +122,19 @@ public class Attribute {
         return visibility;
     }
 
+    /**
+     * <p> 可視性を保持している場合は真を返す真偽値判定を行います。 </p>
+     *
+     * <p>
+     *     {@link #getVisibility()}は可視性を保持していない場合に{@link IllegalStateException}を投げるため、取得前の判定に利用してください。
+     * </p>
+     *
+     * @return 可視性を保持している場合は真を返す真偽値
+     */
+    public boolean hasVisibility() {
+        return visibility != null;
+    }
+
     /**
      * <p> 型を設定します。 </p>
      *
@@ -149,6 +165,19 @@ public class Attribute {
         return type;
     }
 
+    /**
+     * <p> 型を保持している場合は真を返す真偽値判定を行います。 </p>
+     *
+     * <p>
+     *     {@link #getType()}は型を保持していない場合に{@link IllegalStateException}を投げるため、取得前の判定に利用してください。
+     * </p>
+     *
+     * @return 型を保持している場合は真を返す真偽値
+     */
+    public boolean hasType() {
+        return type != null;
+    }
+
     /**
      * <p> 派生を真偽値で設定します。 </p>
      *
@@ -220,6 +249,19 @@ public class Attribute {
         return value;
     }
 
+    /**
+     * <p> 既定値を保持している場合は真を返す真偽値判定を行います。 </p>
+     *
+     * <p>
+     *     {@link #getDefaultValue()}は既定値を保持していない場合に{@link IllegalStateException}を投げるため、取得前の判定に利用してください。
+     * </p>
+     *
+     * @return 既定値を保持している場合は真を返す真偽値
+     */
+    public boolean hasDefaultValue() {
+        return value != null;
+    }
+
     /**
      * <p> 多重度を設定します。 </p>
      *
@@ -250,6 +292,19 @@ public class Attribute {
         return multiplicityRange;
     }
 
+    /**
+     * <p> 多重度を保持している場合は真を返す真偽値判定を行います。 </p>
+     *
+     * <p>
+     *     {@link #getMultiplicityRange()}は多重度を保持していない場合に{@link IllegalStateException}を投げるため、取得前の判定に利用してください。
+     * </p>
+     *
+     * @return 多重度を保持している場合は真を返す真偽値
+     */
+    public boolean hasMultiplicityRange() {
+        return multiplicityRange != null;
+    }
+
     /**
      * <p> プロパティを追加します。 </p>
      *
@@ -290,11 +345,16 @@ public class Attribute {
      *     設定する前に{@code null}判定を行い、{@code null}の場合は{@link IllegalArgumentException}を投げます（{@link #checkIllegalArgument(Object)}参照）。
      * </p>
      *
+     * <p>
+     *     リストの要素は順番どおりに{@link PropertySet}へ写すため、設定した後にリストを変更しても反映しません。
+     *     {@code null}の要素を含む場合も{@link IllegalArgumentException}を投げます。
+     * </p>
+     *
      * @param properties プロパティのリスト<br>{@code null}不可
      */
     public void setProperties(List<Property> properties) {
         checkIllegalArgument(properties);
-        this.properties = properties;
+        this.properties = new PropertySet(properties);
     }
 
     /**
@@ -305,6 +365,10 @@ public class Attribute {
      *     保持していない場合は{@link IllegalStateException}を投げます（{@link #checkIllegalState(Object)}参照）。
      * </p>
      *
+     * <p>
+     *     取得するリストは保持している{@link PropertySet}そのものであり、リストを変更すると属性のプロパティも変更します。
+     * </p>
+     *
      * @return プロパティのリスト<br>{@code null}なし
      * @throws IllegalStateException プロパティのリストが存在しないことを示す要素不所持例外
      */
@@ -313,6 +377,71 @@ public class Attribute {
         return properties;
     }
 
+    /**
+     * <p> プロパティを1つ以上保持している場合は真を返す真偽値判定を行います。 </p>
+     *
+     * <p>
+     *     {@link #getProperties()}はプロパティを保持していない場合に{@link IllegalStateException}を投げるため、取得前の判定に利用してください。
+     * </p>
+     *
+     * @return プロパティを1つ以上保持している場合は真を返す真偽値
+     */
+    public boolean hasProperties() {
+        return properties.size() > 0;
+    }
+
+    /**
+     * <p> {@code readOnly}プロパティを保持している場合は真を返す真偽値判定を行います。 </p>
+     *
+     * <p>
+     *     プロパティのリストを走査せずに判定します（{@link PropertySet#isReadOnly()}参照）。
+     * </p>
+     *
+     * @return {@code readOnly}プロパティを保持している場合は真を返す真偽値
+     */
+    public boolean isReadOnly() {
+        return properties.isReadOnly();
+    }
+
+    /**
+     * <p> {@code union}プロパティを保持している場合は真を返す真偽値判定を行います。 </p>
+     *
+     * <p>
+     *     プロパティのリストを走査せずに判定します（{@link PropertySet#isUnion()}参照）。
+     * </p>
+     *
+     * @return {@code union}プロパティを保持している場合は真を返す真偽値
+     */
+    public boolean isUnion() {
+        return properties.isUnion();
+    }
+
+    /**
+     * <p> {@code ordered}プロパティを保持している場合は真を返す真偽値判定を行います。 </p>
+     *
+     * <p>
+     *     プロパティのリストを走査せずに判定します（{@link PropertySet#isOrdered()}参照）。
+     * </p>
+     *
+     * @return {@code ordered}プロパティを保持している場合は真を返す真偽値
+     */
+    public boolean isOrdered() {
+        return properties.isOrdered();
+    }
+
+    /**
+     * <p> {@code unique}プロパティを保持している場合は真を返す真偽値判定を行います。 </p>
+     *
+     * <p>
+     *     プロパティのリストを走査せずに判定します（{@link PropertySet#isUnique()}参照）。
+     * </p>
+     *
+     * @return {@code unique}プロパティを保持している場合は真を返す真偽値
+     */
+    public boolean isUnique() {
+        return properties.isUnique();
+    }
+
     /**
      * <p> 属性の文字列を取得します。 </p>
      *
@@ -324,6 +453,7 @@ public class Attribute {
      */
     @Override
     public String toString() {
+        long start = FeatureMetrics.startTimer();
         StringBuilder sb = new StringBuilder();
 
         if (visibility != null) {
@@ -362,7 +492,10 @@ public class Attribute {
             sb.append("}");
         }
 
-        return sb.toString();
+        String text = sb.toString();
+        FeatureMetrics.stopTimer(Stage.Render, FeatureKind.Attribute, start);
+
+        return text;
     }
 
 
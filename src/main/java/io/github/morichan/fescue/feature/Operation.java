@@ -3,8 +3,12 @@ package io.github.morichan.fescue.feature;
 import io.github.morichan.fescue.feature.name.Name;
 import io.github.morichan.fescue.feature.parameter.Parameter;
 import io.github.morichan.fescue.feature.property.Property;
+import io.github.morichan.fescue.feature.property.PropertySet;
 import io.github.morichan.fescue.feature.type.Type;
 import io.github.morichan.fescue.feature.visibility.Visibility;
+import io.github.morichan.fescue.metrics.FeatureKind;
+import io.github.morichan.fescue.metrics.FeatureMetrics;
+import io.github.morichan.fescue.metrics.Stage;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -40,7 +44,7 @@ public class Operation {
     private Visibility visibility;
     private List<Parameter> parameters = new ArrayList<>();
     private Type returnType;
-    private List<Property> properties = new ArrayList<>();
+    private PropertySet properties = new PropertySet();
 
     /**
      * <p> 名前設定コンストラクタ </p>
@@ -117,6 +121,19 @@ public class Operation {
         return visibility;
     }
 
+    /**
+     * <p> 可視性を保持している場合は真を返す真偽値判定を行います。 </p>
+     *
+     * <p>
+     *     {@link #getVisibility()}は可視性を保持していない場合に{@link IllegalStateException}を投げるため、取得前の判定に利用してください。
+     * </p>
+     *
+     * @return 可視性を保持している場合は真を返す真偽値
+     */
+    public boolean hasVisibility() {
+        return visibility != null;
+    }
+
     /**
      * <p> パラメータを追加します。 </p>
      *
@@ -180,6 +197,19 @@ public class Operation {
         return parameters;
     }
 
+    /**
+     * <p> パラメータを1つ以上保持している場合は真を返す真偽値判定を行います。 </p>
+     *
+     * <p>
+     *     {@link #getParameters()}はパラメータを保持していない場合に{@link IllegalStateException}を投げるため、取得前の判定に利用してください。
+     * </p>
+     *
+     * @return パラメータを1つ以上保持している場合は真を返す真偽値
+     */
+    public boolean hasParameters() {
+        return parameters.size() > 0;
+    }
+
     /**
      * <p> 戻り値の型を設定します。 </p>
      *
@@ -210,6 +240,19 @@ public class Operation {
         return returnType;
     }
 
+    /**
+     * <p> 戻り値の型を保持している場合は真を返す真偽値判定を行います。 </p>
+     *
+     * <p>
+     *     {@link #getReturnType()}は戻り値の型を保持していない場合に{@link IllegalStateException}を投げるため、取得前の判定に利用してください。
+     * </p>
+     *
+     * @return 戻り値の型を保持している場合は真を返す真偽値
+     */
+    public boolean hasReturnType() {
+        return returnType != null;
+    }
+
     /**
      * <p> プロパティを追加します。 </p>
      *
@@ -250,11 +293,16 @@ public class Operation {
      *     設定する前に{@code null}判定を行い、{@code null}の場合は{@link IllegalArgumentException}を投げます（{@link #checkIllegalArgument(Object)}参照）。
      * </p>
      *
+     * <p>
+     *     リストの要素は順番どおりに{@link PropertySet}へ写すため、設定した後にリストを変更しても反映しません。
+     *     {@code null}の要素を含む場合も{@link IllegalArgumentException}を投げます。
+     * </p>
+     *
      * @param properties プロパティのリスト<br>{@code null}不可
      */
     public void setProperties(List<Property> properties) {
         checkIllegalArgument(properties);
-        this.properties = properties;
+        this.properties = new PropertySet(properties);
     }
 
     /**
@@ -265,6 +313,10 @@ public class Operation {
      *     保持していない場合は{@link IllegalStateException}を投げます（{@link #checkIllegalState(Object)}参照）。
      * </p>
      *
+     * <p>
+     *     取得するリストは保持している{@link PropertySet}そのものであり、リストを変更すると操作のプロパティも変更します。
+     * </p>
+     *
      * @return プロパティのリスト<br>{@code null}なし
      * @throws IllegalStateException プロパティのリストが存在しないことを示す要素不所持例外
      */
@@ -273,6 +325,58 @@ public class Operation {
         return properties;
     }
 
+    /**
+     * <p> プロパティを1つ以上保持している場合は真を返す真偽値判定を行います。 </p>
+     *
+     * <p>
+     *     {@link #getProperties()}はプロパティを保持していない場合に{@link IllegalStateException}を投げるため、取得前の判定に利用してください。
+     * </p>
+     *
+     * @return プロパティを1つ以上保持している場合は真を返す真偽値
+     */
+    public boolean hasProperties() {
+        return properties.size() > 0;
+    }
+
+    /**
+     * <p> {@code query}プロパティを保持している場合は真を返す真偽値判定を行います。 </p>
+     *
+     * <p>
+     *     プロパティのリストを走査せずに判定します（{@link PropertySet#isQuery()}参照）。
+     * </p>
+     *
+     * @return {@code query}プロパティを保持している場合は真を返す真偽値
+     */
+    public boolean isQuery() {
+        return properties.isQuery();
+    }
+
+    /**
+     * <p> {@code ordered}プロパティを保持している場合は真を返す真偽値判定を行います。 </p>
+     *
+     * <p>
+     *     プロパティのリストを走査せずに判定します（{@link PropertySet#isOrdered()}参照）。
+     * </p>
+     *
+     * @return {@code ordered}プロパティを保持している場合は真を返す真偽値
+     */
+    public boolean isOrdered() {
+        return properties.isOrdered();
+    }
+
+    /**
+     * <p> {@code unique}プロパティを保持している場合は真を返す真偽値判定を行います。 </p>
+     *
+     * <p>
+     *     プロパティのリストを走査せずに判定します（{@link PropertySet#isUnique()}参照）。
+     * </p>
+     *
+     * @return {@code unique}プロパティを保持している場合は真を返す真偽値
+     */
+    public boolean isUnique() {
+        return properties.isUnique();
+    }
+
     /**
      * <p> 操作の文字列を取得します。 </p>
      *
@@ -284,6 +388,7 @@ public class Operation {
      */
     @Override
     public String toString() {
+        long start = FeatureMetrics.startTimer();
         StringBuilder sb = new StringBuilder();
 
         if (visibility != null) {
@@ -318,7 +423,10 @@ public class Operation {
             sb.append("}");
         }
 
-        return sb.toString();
+        String text = sb.toString();
+        FeatureMetrics.stopTimer(Stage.Render, FeatureKind.Operation, start);
+
+        return text;
     }
 
 
@@ -65,6 +65,19 @@ public class Bounder {
         return expression;
     }
 
+    /**
+     * <p> 式を保持している場合は真を返す真偽値判定を行います。 </p>
+     *
+     * <p>
+     *     {@link #Bounder(Expression)}によるインスタンス生成の場合は真、{@link #Bounder(String)}によるインスタンス生成の場合は偽を返します。
+     * </p>
+     *
+     * @return 式を保持している場合は真を返す真偽値
+     */
+    public boolean hasExpression() {
+        return expression != null;
+    }
+
     /**
      * <p> 上限の文字列を取得します。 </p>
      *
@@ -69,6 +69,29 @@ public class MultiplicityRange {
         return isUpperOnly;
     }
 
+    /**
+     * <p> 下限を取得します。 </p>
+     *
+     * <p>
+     *     上限のみの場合（{@link #isUpperOnly()}参照）は{@link IllegalStateException}を投げます。
+     * </p>
+     *
+     * @return 下限<br>{@code null}なし
+     */
+    public Bounder getLower() {
+        if (isUpperOnly) throw new IllegalStateException();
+        return lower;
+    }
+
+    /**
+     * <p> 上限を取得します。 </p>
+     *
+     * @return 上限<br>{@code null}なし
+     */
+    public Bounder getUpper() {
+        return upper;
+    }
+
     /**
      * <p> 多重度の文字列を取得します。 </p>
      *
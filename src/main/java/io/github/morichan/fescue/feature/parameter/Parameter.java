@@ -5,10 +5,13 @@ import io.github.morichan.fescue.feature.direction.In;
 import io.github.morichan.fescue.feature.multiplicity.MultiplicityRange;
 import io.github.morichan.fescue.feature.name.Name;
 import io.github.morichan.fescue.feature.property.Property;
+import io.github.morichan.fescue.feature.property.PropertySet;
 import io.github.morichan.fescue.feature.type.Type;
 import io.github.morichan.fescue.feature.value.DefaultValue;
+import io.github.morichan.fescue.metrics.FeatureKind;
+import io.github.morichan.fescue.metrics.FeatureMetrics;
+import io.github.morichan.fescue.metrics.Stage;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
 import java.util.StringJoiner;
@@ -43,7 +46,7 @@ public class Parameter {
     private Type parameterType;
     private MultiplicityRange multiplicityRange;
     private DefaultValue value;
-    private List<Property> properties = new ArrayList<>();
+    private PropertySet properties = new PropertySet();
 
     /**
      * <p> プロパティ名設定コンストラクタ </p>
@@ -156,6 +159,19 @@ public class Parameter {
         return parameterType;
     }
 
+    /**
+     * <p> 型を保持している場合は真を返す真偽値判定を行います。 </p>
+     *
+     * <p>
+     *     {@link #getType()}は型を保持していない場合に{@link IllegalStateException}を投げるため、取得前の判定に利用してください。
+     * </p>
+     *
+     * @return 型を保持している場合は真を返す真偽値
+     */
+    public boolean hasType() {
+        return parameterType != null;
+    }
+
     /**
      * <p> 多重度を設定します。 </p>
      *
@@ -186,6 +202,19 @@ public class Parameter {
         return multiplicityRange;
     }
 
+    /**
+     * <p> 多重度を保持している場合は真を返す真偽値判定を行います。 </p>
+     *
+     * <p>
+     *     {@link #getMultiplicityRange()}は多重度を保持していない場合に{@link IllegalStateException}を投げるため、取得前の判定に利用してください。
+     * </p>
+     *
+     * @return 多重度を保持している場合は真を返す真偽値
+     */
+    public boolean hasMultiplicityRange() {
+        return multiplicityRange != null;
+    }
+
     /**
      * <p> 既定値を設定します。 </p>
      *
@@ -216,6 +245,19 @@ public class Parameter {
         return value;
     }
 
+    /**
+     * <p> 既定値を保持している場合は真を返す真偽値判定を行います。 </p>
+     *
+     * <p>
+     *     {@link #getDefaultValue()}は既定値を保持していない場合に{@link IllegalStateException}を投げるため、取得前の判定に利用してください。
+     * </p>
+     *
+     * @return 既定値を保持している場合は真を返す真偽値
+     */
+    public boolean hasDefaultValue() {
+        return value != null;
+    }
+
     /**
      * <p> プロパティを追加します。 </p>
      *
@@ -256,11 +298,16 @@ public class Parameter {
      *     設定する前に{@code null}判定を行い、{@code null}の場合は{@link IllegalArgumentException}を投げます（{@link #checkIllegalArgument(Object)}参照）。
      * </p>
      *
+     * <p>
+     *     リストの要素は順番どおりに{@link PropertySet}へ写すため、設定した後にリストを変更しても反映しません。
+     *     {@code null}の要素を含む場合も{@link IllegalArgumentException}を投げます。
+     * </p>
+     *
      * @param properties プロパティのリスト<br>{@code null}不可
      */
     public void setProperties(List<Property> properties) {
         checkIllegalArgument(properties);
-        this.properties = properties;
+        this.properties = new PropertySet(properties);
     }
 
     /**
@@ -271,6 +318,10 @@ public class Parameter {
      *     保持していない場合は{@link IllegalStateException}を投げます（{@link #checkIllegalState(Object)}参照）。
      * </p>
      *
+     * <p>
+     *     取得するリストは保持している{@link PropertySet}そのものであり、リストを変更するとパラメータのプロパティも変更します。
+     * </p>
+     *
      * @return プロパティのリスト<br>{@code null}なし
      * @throws IllegalStateException プロパティのリストが存在しないことを示す要素不所持例外
      */
@@ -279,6 +330,71 @@ public class Parameter {
         return properties;
     }
 
+    /**
+     * <p> プロパティを1つ以上保持している場合は真を返す真偽値判定を行います。 </p>
+     *
+     * <p>
+     *     {@link #getProperties()}はプロパティを保持していない場合に{@link IllegalStateException}を投げるため、取得前の判定に利用してください。
+     * </p>
+     *
+     * @return プロパティを1つ以上保持している場合は真を返す真偽値
+     */
+    public boolean hasProperties() {
+        return properties.size() > 0;
+    }
+
+    /**
+     * <p> {@code readOnly}プロパティを保持している場合は真を返す真偽値判定を行います。 </p>
+     *
+     * <p>
+     *     プロパティのリストを走査せずに判定します（{@link PropertySet#isReadOnly()}参照）。
+     * </p>
+     *
+     * @return {@code readOnly}プロパティを保持している場合は真を返す真偽値
+     */
+    public boolean isReadOnly() {
+        return properties.isReadOnly();
+    }
+
+    /**
+     * <p> {@code union}プロパティを保持している場合は真を返す真偽値判定を行います。 </p>
+     *
+     * <p>
+     *     プロパティのリストを走査せずに判定します（{@link PropertySet#isUnion()}参照）。
+     * </p>
+     *
+     * @return {@code union}プロパティを保持している場合は真を返す真偽値
+     */
+    public boolean isUnion() {
+        return properties.isUnion();
+    }
+
+    /**
+     * <p> {@code ordered}プロパティを保持している場合は真を返す真偽値判定を行います。 </p>
+     *
+     * <p>
+     *     プロパティのリストを走査せずに判定します（{@link PropertySet#isOrdered()}参照）。
+     * </p>
+     *
+     * @return {@code ordered}プロパティを保持している場合は真を返す真偽値
+     */
+    public boolean isOrdered() {
+        return properties.isOrdered();
+    }
+
+    /**
+     * <p> {@code unique}プロパティを保持している場合は真を返す真偽値判定を行います。 </p>
+     *
+     * <p>
+     *     プロパティのリストを走査せずに判定します（{@link PropertySet#isUnique()}参照）。
+     * </p>
+     *
+     * @return {@code unique}プロパティを保持している場合は真を返す真偽値
+     */
+    public boolean isUnique() {
+        return properties.isUnique();
+    }
+
     /**
      * <p> プロパティの文字列を取得します。 </p>
      *
@@ -290,6 +406,7 @@ public class Parameter {
      */
     @Override
     public String toString() {
+        long start = FeatureMetrics.startTimer();
         StringBuilder sb = new StringBuilder();
 
         if (direction.isOuted()) {
@@ -324,7 +441,10 @@ public class Parameter {
             sb.append("}");
         }
 
-        return sb.toString();
+        String text = sb.toString();
+        FeatureMetrics.stopTimer(Stage.Render, FeatureKind.Parameter, start);
+
+        return text;
     }
 
     /**
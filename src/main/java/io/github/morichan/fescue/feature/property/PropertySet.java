@@ -0,0 +1,218 @@
+package io.github.morichan.fescue.feature.property;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * <p> プロパティ集合クラス </p>
+ *
+ * <p>
+ *     属性、操作およびパラメータのプロパティを保持するリストです。
+ *     追加した順番と追加したインスタンスをそのまま保持しつつ、{@link ReadOnly}、{@link Union}、{@link Ordered}、{@link Unique}および{@link Query}の有無をビットの集合として保持するため、
+ *     {@link #isReadOnly()}などの判定はリストを走査せずに行います。
+ *     式を持つ{@link Subsets}と{@link Redefines}は別のリストとして保持します（{@link #getSubsets()}および{@link #getRedefines()}参照）。
+ * </p>
+ *
+ * <p>
+ *     {@code null}を追加しようとした場合は{@link IllegalArgumentException}を投げます。
+ *     要素を削除または置換した場合はビットの集合を作り直します。
+ * </p>
+ */
+public class PropertySet extends AbstractList<Property> implements RandomAccess {
+
+    private static final int READ_ONLY = 1;
+    private static final int UNION = 1 << 1;
+    private static final int ORDERED = 1 << 2;
+    private static final int UNIQUE = 1 << 3;
+    private static final int QUERY = 1 << 4;
+
+    private static final Property[] EMPTY = {};
+
+    private Property[] elements = EMPTY;
+    private int size;
+    private int flags;
+    private List<Subsets> subsets;
+    private List<Redefines> redefines;
+
+    /**
+     * <p> 空のプロパティ集合を生成するコンストラクタ </p>
+     */
+    public PropertySet() {}
+
+    /**
+     * <p> プロパティのコレクションの要素を順番に追加したプロパティ集合を生成するコンストラクタ </p>
+     *
+     * <p>
+     *     {@code null}を設定した場合、または{@code null}の要素を含む場合は{@link IllegalArgumentException}を投げます。
+     * </p>
+     *
+     * @param properties プロパティのコレクション<br>{@code null}不可
+     */
+    public PropertySet(Collection<? extends Property> properties) {
+        if (properties == null) throw new IllegalArgumentException();
+        elements = new Property[properties.size()];
+        for (Property property : properties) add(property);
+    }
+
+    /**
+     * <p> {@link ReadOnly}を保持している場合は真を返す真偽値判定を行います。 </p>
+     *
+     * @return {@link ReadOnly}を保持している場合は真を返す真偽値
+     */
+    public boolean isReadOnly() {
+        return (flags & READ_ONLY) != 0;
+    }
+
+    /**
+     * <p> {@link Union}を保持している場合は真を返す真偽値判定を行います。 </p>
+     *
+     * @return {@link Union}を保持している場合は真を返す真偽値
+     */
+    public boolean isUnion() {
+        return (flags & UNION) != 0;
+    }
+
+    /**
+     * <p> {@link Ordered}を保持している場合は真を返す真偽値判定を行います。 </p>
+     *
+     * @return {@link Ordered}を保持している場合は真を返す真偽値
+     */
+    public boolean isOrdered() {
+        return (flags & ORDERED) != 0;
+    }
+
+    /**
+     * <p> {@link Unique}を保持している場合は真を返す真偽値判定を行います。 </p>
+     *
+     * @return {@link Unique}を保持している場合は真を返す真偽値
+     */
+    public boolean isUnique() {
+        return (flags & UNIQUE) != 0;
+    }
+
+    /**
+     * <p> {@link Query}を保持している場合は真を返す真偽値判定を行います。 </p>
+     *
+     * @return {@link Query}を保持している場合は真を返す真偽値
+     */
+    public boolean isQuery() {
+        return (flags & QUERY) != 0;
+    }
+
+    /**
+     * <p> 保持している{@link Subsets}のリストを取得します。 </p>
+     *
+     * <p>
+     *     リストは追加した順番で、変更できません。
+     * </p>
+     *
+     * @return {@link Subsets}のリスト<br>{@code null}なし（空のリストの場合あり）
+     */
+    public List<Subsets> getSubsets() {
+        return subsets == null ? Collections.<Subsets>emptyList() : Collections.unmodifiableList(subsets);
+    }
+
+    /**
+     * <p> 保持している{@link Redefines}のリストを取得します。 </p>
+     *
+     * <p>
+     *     リストは追加した順番で、変更できません。
+     * </p>
+     *
+     * @return {@link Redefines}のリスト<br>{@code null}なし（空のリストの場合あり）
+     */
+    public List<Redefines> getRedefines() {
+        return redefines == null ? Collections.<Redefines>emptyList() : Collections.unmodifiableList(redefines);
+    }
+
+    @Override
+    public Property get(int index) {
+        checkIndex(index, size);
+        return elements[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void add(int index, Property property) {
+        checkIndex(index, size + 1);
+        if (property == null) throw new IllegalArgumentException();
+
+        if (size == elements.length) elements = Arrays.copyOf(elements, Math.max(4, size * 2));
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = property;
+        size++;
+        modCount++;
+
+        if (index == size - 1) index(property);
+        else reindex();
+    }
+
+    @Override
+    public Property set(int index, Property property) {
+        checkIndex(index, size);
+        if (property == null) throw new IllegalArgumentException();
+
+        Property previous = elements[index];
+        elements[index] = property;
+        reindex();
+        return previous;
+    }
+
+    @Override
+    public Property remove(int index) {
+        checkIndex(index, size);
+
+        Property previous = elements[index];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        elements[--size] = null;
+        modCount++;
+        reindex();
+        return previous;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        System.arraycopy(elements, toIndex, elements, fromIndex, size - toIndex);
+        Arrays.fill(elements, size - (toIndex - fromIndex), size, null);
+        size -= toIndex - fromIndex;
+        modCount++;
+        reindex();
+    }
+
+
+
+    private void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+
+    private void reindex() {
+        flags = 0;
+        subsets = null;
+        redefines = null;
+        for (int i = 0; i < size; i++) index(elements[i]);
+    }
+
+    private void index(Property property) {
+        if (property instanceof ReadOnly) flags |= READ_ONLY;
+        else if (property instanceof Union) flags |= UNION;
+        else if (property instanceof Ordered) flags |= ORDERED;
+        else if (property instanceof Unique) flags |= UNIQUE;
+        else if (property instanceof Query) flags |= QUERY;
+        else if (property instanceof Subsets) {
+            if (subsets == null) subsets = new ArrayList<>(2);
+            subsets.add((Subsets) property);
+        } else if (property instanceof Redefines) {
+            if (redefines == null) redefines = new ArrayList<>(2);
+            redefines.add((Redefines) property);
+        }
+    }
+}
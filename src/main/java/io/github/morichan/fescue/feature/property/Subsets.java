@@ -2,16 +2,20 @@ package io.github.morichan.fescue.feature.property;
 
 import io.github.morichan.fescue.feature.value.expression.Expression;
 
+import java.util.function.Supplier;
+
 /**
  * <p> Subsetsクラス </p>
  *
  * <p>
  *     プロパティにおけるSubsetsクラスです。
+ *     {@link #lazy(Supplier)}で生成した場合は、式を初めて参照した時点で生成します。
  * </p>
  */
 public class Subsets implements Property {
 
-    private Expression propertyName;
+    private volatile Expression propertyName;
+    private Supplier<Expression> factory;
 
     /**
      * <p> 式コンストラクタ </p>
@@ -27,6 +31,36 @@ public class Subsets implements Property {
         propertyName = expression;
     }
 
+    private Subsets(Supplier<Expression> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * <p> 式を初めて参照した時点で生成するSubsetsプロパティを生成します。 </p>
+     *
+     * <p>
+     *     生成関数は{@link #getExpression()}または{@link #toString()}を初めて呼出した時に1度だけ呼出します。
+     *     生成関数が{@code null}を返した場合は{@link IllegalStateException}を、{@code null}を設定した場合は{@link IllegalArgumentException}を投げます。
+     * </p>
+     *
+     * @param factory プロパティ名の式の生成関数<br>{@code null}不可
+     * @return Subsetsプロパティ
+     */
+    public static Subsets lazy(Supplier<Expression> factory) {
+        if (factory == null) throw new IllegalArgumentException();
+        return new Subsets(factory);
+    }
+
+    /**
+     * <p> プロパティ名の式を取得します。 </p>
+     *
+     * @return プロパティ名の式<br>{@code null}なし
+     */
+    public Expression getExpression() {
+        Expression expression = propertyName;
+        return expression != null ? expression : materialize();
+    }
+
     /**
      * <p> subsetsプロパティの文字列を取得します。 </p>
      *
@@ -34,6 +68,18 @@ public class Subsets implements Property {
      */
     @Override
     public String toString() {
-        return "subsets " + propertyName;
+        return "subsets " + getExpression();
+    }
+
+
+
+    private synchronized Expression materialize() {
+        if (propertyName != null) return propertyName;
+
+        Expression expression = factory.get();
+        if (expression == null) throw new IllegalStateException();
+        propertyName = expression;
+        factory = null;
+        return expression;
     }
 }
@@ -2,6 +2,8 @@ package io.github.morichan.fescue.feature.value;
 
 import io.github.morichan.fescue.feature.value.expression.Expression;
 
+import java.util.function.Supplier;
+
 /**
  * <p> 既定値クラス </p>
  *
@@ -18,10 +20,15 @@ import io.github.morichan.fescue.feature.value.expression.Expression;
  *     System.out.println(valueOfExpression); // "instance + callTwo()"
  *     }
  * </pre>
+ *
+ * <p>
+ *     {@link #lazy(Supplier)}で生成した場合は、式を初めて参照した時点で生成します。
+ * </p>
  */
 public class DefaultValue {
 
-    private Expression value;
+    private volatile Expression value;
+    private Supplier<Expression> factory;
 
     /**
      * <p> 既定値コンストラクタ </p>
@@ -37,13 +44,36 @@ public class DefaultValue {
         value = expression;
     }
 
+    private DefaultValue(Supplier<Expression> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * <p> 式を初めて参照した時点で生成する既定値を生成します。 </p>
+     *
+     * <p>
+     *     生成関数は{@link #getExpression()}または{@link #toString()}を初めて呼出した時に1度だけ呼出します。
+     *     生成関数が例外を投げた場合はその例外をそのまま投げ、次に参照した時に再度呼出します。
+     *     生成関数が{@code null}を返した場合は{@link IllegalStateException}を投げます。
+     *     {@code null}を設定した場合は{@link IllegalArgumentException}を投げます。
+     * </p>
+     *
+     * @param factory 式の生成関数<br>{@code null}不可
+     * @return 既定値
+     */
+    public static DefaultValue lazy(Supplier<Expression> factory) {
+        if (factory == null) throw new IllegalArgumentException();
+        return new DefaultValue(factory);
+    }
+
     /**
      * <p> 式を取得します。 </p>
      *
      * @return 式<br>{@code null}なし
      */
     public Expression getExpression() {
-        return value;
+        Expression expression = value;
+        return expression != null ? expression : materialize();
     }
 
     /**
@@ -53,6 +83,18 @@ public class DefaultValue {
      */
     @Override
     public String toString() {
-        return value.toString();
+        return getExpression().toString();
+    }
+
+
+
+    private synchronized Expression materialize() {
+        if (value != null) return value;
+
+        Expression expression = factory.get();
+        if (expression == null) throw new IllegalStateException();
+        value = expression;
+        factory = null;
+        return expression;
     }
 }
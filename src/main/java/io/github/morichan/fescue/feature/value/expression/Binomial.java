@@ -45,6 +45,33 @@ public class Binomial implements Expression {
         isHadSpaceBothSides = this.symbol.isHadSpaceBothSides();
     }
 
+    /**
+     * <p> 2項式の演算子を取得します。 </p>
+     *
+     * @return 2項式の演算子<br>{@code null}なし
+     */
+    public Symbol getSymbol() {
+        return symbol;
+    }
+
+    /**
+     * <p> 2項式の最初の式を取得します。 </p>
+     *
+     * @return 2項式の最初の式<br>{@code null}なし
+     */
+    public Expression getFirst() {
+        return first;
+    }
+
+    /**
+     * <p> 2項式の次の式を取得します。 </p>
+     *
+     * @return 2項式の次の式<br>{@code null}なし
+     */
+    public Expression getSecond() {
+        return second;
+    }
+
     /**
      * <p> 2項式の文字列を取得します。 </p>
      *
@@ -31,6 +31,15 @@ public class ExpressionWithParen implements Expression {
         expression = exp;
     }
 
+    /**
+     * <p> 括弧で囲んだ式を取得します。 </p>
+     *
+     * @return 括弧で囲んだ式
+     */
+    public Expression getExpression() {
+        return expression;
+    }
+
     /**
      * <p> 式の文字列を取得します。 </p>
      *
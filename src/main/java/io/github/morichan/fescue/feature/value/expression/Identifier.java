@@ -27,9 +27,9 @@ public class Identifier {
     private String identifier;
     private boolean isValue = true;
 
-    private Pattern stringEnclosedBySingleQuotation = Pattern.compile("^'(.)*'$");
-    private Pattern stringEnclosedByDoubleQuotation = Pattern.compile("^\"(.)*\"$");
-    private Pattern decimalLiteralString = Pattern.compile("(0|[1-9](\\.?|_\\.))[lL]?");
+    private static final Pattern stringEnclosedBySingleQuotation = Pattern.compile("^'(.)*'$");
+    private static final Pattern stringEnclosedByDoubleQuotation = Pattern.compile("^\"(.)*\"$");
+    private static final Pattern decimalLiteralString = Pattern.compile("(0|[1-9](\\.?|_\\.))[lL]?");
 
     /**
      * <p> デフォルトコンストラクタ </p>
@@ -2,6 +2,7 @@ package io.github.morichan.fescue.feature.value.expression;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -58,6 +59,28 @@ public class MethodCall implements Expression {
         methodArgs.addAll(Arrays.asList(expressions));
     }
 
+    /**
+     * <p> メソッド名を取得します。 </p>
+     *
+     * @return メソッド名<br>{@code null}および{@code ""}なし
+     */
+    public String getName() {
+        return methodName.toString();
+    }
+
+    /**
+     * <p> メソッド引数のリストを取得します。 </p>
+     *
+     * <p>
+     *     返すリストは変更できません。
+     * </p>
+     *
+     * @return メソッド引数のリスト<br>{@code null}なし（引数がない場合は空のリスト）
+     */
+    public List<Expression> getArguments() {
+        return Collections.unmodifiableList(methodArgs);
+    }
+
     /**
      * <p> メソッド呼出しの文字列を取得します。 </p>
      *
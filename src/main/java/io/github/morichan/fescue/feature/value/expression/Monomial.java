@@ -39,6 +39,24 @@ public class Monomial implements Expression {
         expression = exp;
     }
 
+    /**
+     * <p> 単項式の演算子を取得します。 </p>
+     *
+     * @return 単項式の演算子<br>{@code null}なし
+     */
+    public Symbol getSymbol() {
+        return symbol;
+    }
+
+    /**
+     * <p> 単項式における式を取得します。 </p>
+     *
+     * @return 単項式における式<br>{@code null}なし
+     */
+    public Expression getExpression() {
+        return expression;
+    }
+
     /**
      * <p> 単項式の文字列を取得します。 </p>
      *
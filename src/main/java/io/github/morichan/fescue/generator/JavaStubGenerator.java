@@ -0,0 +1,406 @@
+package io.github.morichan.fescue.generator;
+
+import io.github.morichan.fescue.feature.Attribute;
+import io.github.morichan.fescue.feature.Operation;
+import io.github.morichan.fescue.feature.direction.Direction;
+import io.github.morichan.fescue.feature.direction.In;
+import io.github.morichan.fescue.feature.multiplicity.MultiplicityRange;
+import io.github.morichan.fescue.feature.parameter.Parameter;
+import io.github.morichan.fescue.feature.value.expression.Binomial;
+import io.github.morichan.fescue.feature.value.expression.Expression;
+import io.github.morichan.fescue.feature.value.expression.ExpressionWithParen;
+import io.github.morichan.fescue.feature.value.expression.MethodCall;
+import io.github.morichan.fescue.feature.value.expression.Monomial;
+import io.github.morichan.fescue.feature.value.expression.symbol.And;
+import io.github.morichan.fescue.feature.value.expression.symbol.Not;
+import io.github.morichan.fescue.feature.value.expression.symbol.Or;
+import io.github.morichan.fescue.feature.value.expression.symbol.Symbol;
+import io.github.morichan.fescue.feature.visibility.Visibility;
+import io.github.morichan.fescue.model.ClassModel;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * <p> Javaのスタブ生成クラス </p>
+ *
+ * <p>
+ *     {@link ClassModel}の属性と操作から、Javaのフィールド宣言とメソッド宣言を持つクラスのソースコードを書込み先へ直接書込みます。
+ *     対応は次の通りです。
+ * </p>
+ *
+ * <ul>
+ *     <li>可視性：{@code +}は{@code public}、{@code -}は{@code private}、{@code #}は{@code protected}、それ以外は修飾子なし</li>
+ *     <li>UMLのプリミティブ型：{@code Integer}は{@code int}、{@code Boolean}は{@code boolean}、{@code String}は{@code String}、{@code UnlimitedNatural}は{@code long}</li>
+ *     <li>多重度：上限が{@code 1}以下の場合は単一の値（下限が{@code 0}の場合はプリミティブ型をラッパ型）、それ以外は{@code {unique}}のみの場合は{@code Set}、それ以外は{@code List}</li>
+ *     <li>{@code {readOnly}}：初期化子を書込む場合は{@code final}、それ以外はコメント（未初期化の{@code final}フィールドはコンパイルできないため）</li>
+ *     <li>方向：{@code out}、{@code inout}、{@code return}のパラメータはコメントで方向を示した通常のパラメータ</li>
+ *     <li>既定値：単一の値の属性の初期化子（{@code and}、{@code or}、{@code not}はJavaの演算子に変換）</li>
+ * </ul>
+ *
+ * <p>
+ *     使い方を次に示します。
+ * </p>
+ *
+ * <pre>
+ *     {@code
+ *     JavaStubGenerator generator = new JavaStubGenerator();
+ *     generator.setPackageName("com.example");
+ *
+ *     try (Writer writer = new FileWriter("Sample.java")) {
+ *         generator.generate(model, writer);
+ *     }
+ *
+ *     // 複数のクラスを並列に生成
+ *     generator.generateAll(models, Paths.get("src/main/java"));
+ *     }
+ * </pre>
+ *
+ * <p>
+ *     設定を変更しない限り、複数のスレッドから同時に利用できます。
+ * </p>
+ */
+public class JavaStubGenerator {
+
+    private static final String INDENT = "    ";
+
+    private static final Map<String, String> primitiveTypes = new HashMap<>() {{
+        put("Integer", "int");
+        put("Boolean", "boolean");
+        put("String", "String");
+        put("UnlimitedNatural", "long");
+        put("Real", "double");
+    }};
+
+    private static final Map<String, String> boxedTypes = new HashMap<>() {{
+        put("int", "Integer");
+        put("long", "Long");
+        put("short", "Short");
+        put("byte", "Byte");
+        put("char", "Character");
+        put("boolean", "Boolean");
+        put("float", "Float");
+        put("double", "Double");
+    }};
+
+    private String packageName;
+
+    /**
+     * <p> 生成するクラスのパッケージ名を設定します。 </p>
+     *
+     * <p>
+     *     {@code null}または{@code ""}（空文字）を設定した場合はパッケージ宣言を書込みません。
+     * </p>
+     *
+     * @param packageName パッケージ名（例、{@code "com.example"}）<br>{@code null}可
+     */
+    public void setPackageName(String packageName) {
+        this.packageName = packageName == null || packageName.isEmpty() ? null : packageName;
+    }
+
+    /**
+     * <p> 生成するクラスのパッケージ名を取得します。 </p>
+     *
+     * <p>
+     *     設定していない場合は{@link IllegalStateException}を投げます。
+     * </p>
+     *
+     * @return パッケージ名<br>{@code null}および{@code ""}なし
+     */
+    public String getPackageName() {
+        if (packageName == null) throw new IllegalStateException();
+        return packageName;
+    }
+
+    /**
+     * <p> 1つのクラスのソースコードを書込みます。 </p>
+     *
+     * <p>
+     *     書込み先は閉じません。
+     *     どちらかに{@code null}を設定した場合は{@link IllegalArgumentException}を投げます。
+     * </p>
+     *
+     * @param model クラスモデル<br>{@code null}不可
+     * @param out 書込み先<br>{@code null}不可
+     * @throws IOException 書込みに失敗した場合
+     */
+    public void generate(ClassModel model, Writer out) throws IOException {
+        if (model == null || out == null) throw new IllegalArgumentException();
+
+        if (packageName != null) out.append("package ").append(packageName).append(";\n\n");
+        writeImports(model, out);
+
+        out.append("public class ").append(model.getName().getNameText()).append(" {\n");
+        for (Attribute attribute : model.getAttributes()) writeField(attribute, out);
+        if (!model.getAttributes().isEmpty() && !model.getOperations().isEmpty()) out.append('\n');
+        boolean isFirst = true;
+        for (Operation operation : model.getOperations()) {
+            if (!isFirst) out.append('\n');
+            writeMethod(operation, out);
+            isFirst = false;
+        }
+        out.append("}\n");
+    }
+
+    /**
+     * <p> 複数のクラスのソースコードを並列に書込みます。 </p>
+     *
+     * <p>
+     *     利用可能なプロセッサ数のスレッドで、クラスごとに{@code ディレクトリ/パッケージ/クラス名.java}のファイルへUTF-8で書込みます。
+     *     詳細は{@link #generateAll(Collection, Path, int)}を参照してください。
+     * </p>
+     *
+     * @param models クラスモデルのコレクション<br>{@code null}不可
+     * @param directory 書込み先のディレクトリ<br>{@code null}不可
+     * @return 書込んだファイルのリスト（クラスモデルと同じ順）
+     * @throws IOException 書込みに失敗した場合
+     */
+    public List<Path> generateAll(Collection<ClassModel> models, Path directory) throws IOException {
+        return generateAll(models, directory, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * <p> 複数のクラスのソースコードを並列に書込みます。 </p>
+     *
+     * <p>
+     *     指定した数のスレッドで、クラスごとに{@code ディレクトリ/パッケージ/クラス名.java}のファイルへUTF-8で書込みます。
+     *     1つでも失敗した場合は、全てのクラスの処理が終わった後に最初の失敗を投げます。
+     *     {@code null}を設定した場合や並列数が{@code 1}未満の場合は{@link IllegalArgumentException}を投げます。
+     * </p>
+     *
+     * @param models クラスモデルのコレクション<br>{@code null}不可
+     * @param directory 書込み先のディレクトリ<br>{@code null}不可
+     * @param parallelism 並列数<br>{@code 1}以上
+     * @return 書込んだファイルのリスト（クラスモデルと同じ順）
+     * @throws IOException 書込みに失敗した場合
+     */
+    public List<Path> generateAll(Collection<ClassModel> models, Path directory, int parallelism) throws IOException {
+        if (models == null || directory == null || parallelism < 1) throw new IllegalArgumentException();
+
+        Path packageDirectory = packageName == null ? directory : directory.resolve(packageName.replace('.', '/'));
+        Files.createDirectories(packageDirectory);
+
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            List<Future<Path>> futures = new ArrayList<>(models.size());
+            for (ClassModel model : models) {
+                futures.add(executor.submit(() -> {
+                    Path file = packageDirectory.resolve(model.getName().getNameText() + ".java");
+                    try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                        generate(model, writer);
+                    }
+                    return file;
+                }));
+            }
+            return collect(futures);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+
+
+    private List<Path> collect(List<Future<Path>> futures) throws IOException {
+        List<Path> files = new ArrayList<>(futures.size());
+        IOException failure = null;
+
+        for (Future<Path> future : futures) {
+            try {
+                files.add(future.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                IOException exception = cause instanceof IOException ? (IOException) cause : new IOException(cause);
+                if (failure == null) failure = exception;
+                else failure.addSuppressed(exception);
+            }
+        }
+
+        if (failure != null) throw failure;
+        return files;
+    }
+
+    private void writeImports(ClassModel model, Writer out) throws IOException {
+        boolean isListUsed = false;
+        boolean isSetUsed = false;
+
+        for (Attribute attribute : model.getAttributes()) {
+            String collection = collectionOf(attribute.hasMultiplicityRange() ? attribute.getMultiplicityRange() : null,
+                    attribute.isUnique() && !attribute.isOrdered());
+            if ("List".equals(collection)) isListUsed = true;
+            if ("Set".equals(collection)) isSetUsed = true;
+        }
+        for (Operation operation : model.getOperations()) {
+            if (!operation.hasParameters()) continue;
+            for (Parameter parameter : operation.getParameters()) {
+                String collection = collectionOf(parameter.hasMultiplicityRange() ? parameter.getMultiplicityRange() : null,
+                        parameter.isUnique() && !parameter.isOrdered());
+                if ("List".equals(collection)) isListUsed = true;
+                if ("Set".equals(collection)) isSetUsed = true;
+            }
+        }
+
+        if (isListUsed) out.append("import java.util.List;\n");
+        if (isSetUsed) out.append("import java.util.Set;\n");
+        if (isListUsed || isSetUsed) out.append('\n');
+    }
+
+    private void writeField(Attribute attribute, Writer out) throws IOException {
+        MultiplicityRange multiplicityRange = attribute.hasMultiplicityRange() ? attribute.getMultiplicityRange() : null;
+        boolean isSet = attribute.isUnique() && !attribute.isOrdered();
+
+        boolean hasInitializer = attribute.hasDefaultValue() && collectionOf(multiplicityRange, isSet) == null;
+
+        out.append(INDENT);
+        writeModifier(attribute.hasVisibility() ? attribute.getVisibility() : null, out);
+        if (attribute.isReadOnly() && hasInitializer) out.append("final ");
+        out.append(typeOf(attribute.hasType() ? attribute.getType().toString() : null, multiplicityRange, isSet, "Object"));
+        out.append(' ').append(attribute.getName().getNameText());
+        if (hasInitializer) {
+            out.append(" = ");
+            writeExpression(attribute.getDefaultValue().getExpression(), out);
+        }
+        out.append(';');
+
+        StringJoiner comments = new StringJoiner(", ", " // ", "").setEmptyValue("");
+        if (attribute.isReadOnly() && !hasInitializer) comments.add("readOnly");
+        if (attribute.isDerived()) comments.add("derived");
+        out.append(comments.toString());
+        out.append('\n');
+    }
+
+    private void writeMethod(Operation operation, Writer out) throws IOException {
+        out.append(INDENT);
+        writeModifier(operation.hasVisibility() ? operation.getVisibility() : null, out);
+        out.append(operation.hasReturnType() ? javaTypeOf(operation.getReturnType().toString()) : "void");
+        out.append(' ').append(operation.getName().getNameText()).append('(');
+
+        if (operation.hasParameters()) {
+            boolean isFirst = true;
+            for (Parameter parameter : operation.getParameters()) {
+                if (!isFirst) out.append(", ");
+                writeParameter(parameter, out);
+                isFirst = false;
+            }
+        }
+
+        out.append(") {\n");
+        out.append(INDENT).append(INDENT).append("throw new UnsupportedOperationException();\n");
+        out.append(INDENT).append("}\n");
+    }
+
+    private void writeParameter(Parameter parameter, Writer out) throws IOException {
+        Direction direction = parameter.getDirection();
+        if (!(direction instanceof In)) out.append("/* ").append(direction.toString()).append(" */ ");
+
+        out.append(typeOf(parameter.hasType() ? parameter.getType().toString() : null,
+                parameter.hasMultiplicityRange() ? parameter.getMultiplicityRange() : null,
+                parameter.isUnique() && !parameter.isOrdered(),
+                "Object"));
+        out.append(' ').append(parameter.getName().getNameText());
+    }
+
+    private void writeModifier(Visibility visibility, Writer out) throws IOException {
+        if (visibility == Visibility.Public) out.append("public ");
+        else if (visibility == Visibility.Private) out.append("private ");
+        else if (visibility == Visibility.Protected) out.append("protected ");
+    }
+
+    /**
+     * <p> 式をJavaの式として書込みます。 </p>
+     *
+     * <p>
+     *     {@code and}、{@code or}、{@code not}の演算子のみJavaの演算子（{@code &&}、{@code ||}、{@code !}）に変換します。
+     * </p>
+     *
+     * @param expression 式
+     * @param out 書込み先
+     * @throws IOException 書込みに失敗した場合
+     */
+    private void writeExpression(Expression expression, Writer out) throws IOException {
+        if (expression instanceof Monomial) {
+            Monomial monomial = (Monomial) expression;
+            Symbol symbol = monomial.getSymbol();
+            if (symbol instanceof Not) out.append('!');
+            else out.append(symbol.toString());
+            writeExpression(monomial.getExpression(), out);
+        } else if (expression instanceof Binomial) {
+            Binomial binomial = (Binomial) expression;
+            Symbol symbol = binomial.getSymbol();
+            writeExpression(binomial.getFirst(), out);
+            if (symbol instanceof And) out.append(" && ");
+            else if (symbol instanceof Or) out.append(" || ");
+            else if (symbol.isHadSpaceBothSides()) out.append(' ').append(symbol.toString()).append(' ');
+            else out.append(symbol.toString());
+            writeExpression(binomial.getSecond(), out);
+        } else if (expression instanceof MethodCall) {
+            MethodCall methodCall = (MethodCall) expression;
+            out.append(methodCall.getName()).append('(');
+            boolean isFirst = true;
+            for (Expression argument : methodCall.getArguments()) {
+                if (!isFirst) out.append(", ");
+                writeExpression(argument, out);
+                isFirst = false;
+            }
+            out.append(')');
+        } else if (expression instanceof ExpressionWithParen) {
+            out.append('(');
+            writeExpression(((ExpressionWithParen) expression).getExpression(), out);
+            out.append(')');
+        } else {
+            out.append(expression.toString());
+        }
+    }
+
+    private String typeOf(String typeName, MultiplicityRange multiplicityRange, boolean isSet, String defaultType) {
+        String type = typeName == null ? defaultType : javaTypeOf(typeName);
+        String collection = collectionOf(multiplicityRange, isSet);
+
+        if (collection != null) return collection + "<" + boxedTypes.getOrDefault(type, type) + ">";
+        if (isOptional(multiplicityRange)) return boxedTypes.getOrDefault(type, type);
+        return type;
+    }
+
+    private String javaTypeOf(String typeName) {
+        return primitiveTypes.getOrDefault(typeName, typeName);
+    }
+
+    /**
+     * <p> 多重度とプロパティに対応するコレクションの型名を求めます。 </p>
+     *
+     * @param multiplicityRange 多重度<br>{@code null}可
+     * @param isSet {@code unique}を持ち{@code ordered}を持たない場合は真
+     * @return {@code "List"}または{@code "Set"}<br>単一の値の場合は{@code null}
+     */
+    private String collectionOf(MultiplicityRange multiplicityRange, boolean isSet) {
+        if (multiplicityRange == null || !isMany(multiplicityRange.getUpper().toString())) return null;
+        return isSet ? "Set" : "List";
+    }
+
+    private boolean isMany(String upper) {
+        try {
+            return Long.parseLong(upper) > 1;
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    private boolean isOptional(MultiplicityRange multiplicityRange) {
+        return multiplicityRange != null && !multiplicityRange.isUpperOnly() && "0".equals(multiplicityRange.getLower().toString());
+    }
+}
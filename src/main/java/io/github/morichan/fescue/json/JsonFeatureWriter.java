@@ -0,0 +1,440 @@
+package io.github.morichan.fescue.json;
+
+import io.github.morichan.fescue.feature.Attribute;
+import io.github.morichan.fescue.feature.Operation;
+import io.github.morichan.fescue.feature.direction.Direction;
+import io.github.morichan.fescue.feature.direction.In;
+import io.github.morichan.fescue.feature.direction.InOut;
+import io.github.morichan.fescue.feature.direction.Out;
+import io.github.morichan.fescue.feature.direction.Return;
+import io.github.morichan.fescue.feature.multiplicity.MultiplicityRange;
+import io.github.morichan.fescue.feature.parameter.Parameter;
+import io.github.morichan.fescue.feature.property.Property;
+import io.github.morichan.fescue.feature.property.Redefines;
+import io.github.morichan.fescue.feature.property.Subsets;
+import io.github.morichan.fescue.feature.value.DefaultValue;
+import io.github.morichan.fescue.feature.value.expression.Binomial;
+import io.github.morichan.fescue.feature.value.expression.Expression;
+import io.github.morichan.fescue.feature.value.expression.ExpressionWithParen;
+import io.github.morichan.fescue.feature.value.expression.MethodCall;
+import io.github.morichan.fescue.feature.value.expression.Monomial;
+import io.github.morichan.fescue.feature.value.expression.OneIdentifier;
+import io.github.morichan.fescue.feature.visibility.Visibility;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * <p> JSON形式の書込みクラス </p>
+ *
+ * <p>
+ *     {@link Attribute}および{@link Operation}インスタンスを、中間のオブジェクトを生成せずにJSON形式で書込み先へ直接書込みます。
+ *     通常は1行に1つのオブジェクトを書込みます（JSON Lines形式）。
+ *     {@link #beginArray()}と{@link #endArray()}の間で書込んだ場合は、1つのJSON配列になります。
+ * </p>
+ *
+ * <p>
+ *     要素の種類ごとにキーは固定で、保持していない要素の値は{@code null}（プロパティやパラメータは空の配列）です。
+ *     属性は次のキーを持ちます。
+ * </p>
+ *
+ * <pre>
+ *     {@code
+ *     {"kind":"attribute","name":"number","visibility":"private","derived":false,"type":"int",
+ *      "multiplicityLower":"0","multiplicityUpper":"*","defaultValue":"1 + 2","defaultValueExpression":{...},
+ *      "properties":[{"property":"readOnly","target":null}]}
+ *     }
+ * </pre>
+ *
+ * <p>
+ *     操作は{@code "kind"}、{@code "name"}、{@code "visibility"}、{@code "parameters"}、{@code "returnType"}、{@code "properties"}のキーを持ちます。
+ *     パラメータは{@code "direction"}、{@code "directionOuted"}、{@code "name"}、{@code "type"}、{@code "multiplicityLower"}、{@code "multiplicityUpper"}、{@code "defaultValue"}、{@code "defaultValueExpression"}、{@code "properties"}のキーを持ちます。
+ * </p>
+ *
+ * <p>
+ *     形成に失敗した入力文字列は{@link #writeError(String, String)}で書込みます。
+ *     式は{@code "node"}で種類（{@code "identifier"}、{@code "monomial"}、{@code "binomial"}、{@code "methodCall"}、{@code "paren"}）を表す木構造のオブジェクトです。
+ *     このクラスはスレッドセーフではありません。
+ * </p>
+ */
+public class JsonFeatureWriter implements Closeable, Flushable {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final Appendable out;
+
+    private boolean isInArray = false;
+    private boolean isFirstInArray = true;
+
+    /**
+     * <p> 書込み先を設定するコンストラクタ </p>
+     *
+     * <p>
+     *     {@code null}を設定した場合は{@link IllegalArgumentException}を投げます。
+     * </p>
+     *
+     * @param out 書込み先<br>{@code null}不可
+     */
+    public JsonFeatureWriter(Appendable out) {
+        if (out == null) throw new IllegalArgumentException();
+        this.out = out;
+    }
+
+    /**
+     * <p> 書込み先をバイトストリームで設定するコンストラクタ </p>
+     *
+     * <p>
+     *     UTF-8で書込みます。
+     *     {@code null}を設定した場合は{@link IllegalArgumentException}を投げます。
+     * </p>
+     *
+     * @param out 書込み先<br>{@code null}不可
+     */
+    public JsonFeatureWriter(OutputStream out) {
+        if (out == null) throw new IllegalArgumentException();
+        this.out = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * <p> JSON配列を開始します。 </p>
+     *
+     * <p>
+     *     既に開始している場合は{@link IllegalStateException}を投げます。
+     * </p>
+     *
+     * @throws IOException 書込みに失敗した場合
+     */
+    public void beginArray() throws IOException {
+        if (isInArray) throw new IllegalStateException();
+        isInArray = true;
+        isFirstInArray = true;
+        out.append('[');
+    }
+
+    /**
+     * <p> JSON配列を終了します。 </p>
+     *
+     * <p>
+     *     開始していない場合は{@link IllegalStateException}を投げます。
+     * </p>
+     *
+     * @throws IOException 書込みに失敗した場合
+     */
+    public void endArray() throws IOException {
+        if (!isInArray) throw new IllegalStateException();
+        isInArray = false;
+        out.append("]\n");
+    }
+
+    /**
+     * <p> 属性を書込みます。 </p>
+     *
+     * <p>
+     *     {@code null}を設定した場合は{@link IllegalArgumentException}を投げます。
+     * </p>
+     *
+     * @param attribute 属性<br>{@code null}不可
+     * @throws IOException 書込みに失敗した場合
+     */
+    public void write(Attribute attribute) throws IOException {
+        if (attribute == null) throw new IllegalArgumentException();
+
+        beginFeature();
+        out.append("{\"kind\":\"attribute\",\"name\":");
+        writeString(attribute.getName().getNameText());
+        out.append(",\"visibility\":");
+        writeVisibility(attribute.hasVisibility() ? attribute.getVisibility() : null);
+        out.append(",\"derived\":");
+        out.append(attribute.isDerived() ? "true" : "false");
+        out.append(",\"type\":");
+        writeString(attribute.hasType() ? attribute.getType().toString() : null);
+        writeMultiplicityRange(attribute.hasMultiplicityRange() ? attribute.getMultiplicityRange() : null);
+        writeDefaultValue(attribute.hasDefaultValue() ? attribute.getDefaultValue() : null);
+        out.append(",\"properties\":");
+        writeProperties(attribute.hasProperties() ? attribute.getProperties() : null);
+        out.append('}');
+        endFeature();
+    }
+
+    /**
+     * <p> 操作を書込みます。 </p>
+     *
+     * <p>
+     *     {@code null}を設定した場合は{@link IllegalArgumentException}を投げます。
+     * </p>
+     *
+     * @param operation 操作<br>{@code null}不可
+     * @throws IOException 書込みに失敗した場合
+     */
+    public void write(Operation operation) throws IOException {
+        if (operation == null) throw new IllegalArgumentException();
+
+        beginFeature();
+        out.append("{\"kind\":\"operation\",\"name\":");
+        writeString(operation.getName().getNameText());
+        out.append(",\"visibility\":");
+        writeVisibility(operation.hasVisibility() ? operation.getVisibility() : null);
+        out.append(",\"parameters\":[");
+        if (operation.hasParameters()) {
+            List<Parameter> parameters = operation.getParameters();
+            for (int i = 0; i < parameters.size(); i++) {
+                if (i > 0) out.append(',');
+                writeParameter(parameters.get(i));
+            }
+        }
+        out.append("],\"returnType\":");
+        writeString(operation.hasReturnType() ? operation.getReturnType().toString() : null);
+        out.append(",\"properties\":");
+        writeProperties(operation.hasProperties() ? operation.getProperties() : null);
+        out.append('}');
+        endFeature();
+    }
+
+    /**
+     * <p> 形成に失敗した入力文字列を書込みます。 </p>
+     *
+     * <p>
+     *     {@code "kind"}が{@code "error"}で、{@code "text"}と{@code "message"}のキーを持つオブジェクトを書込みます。
+     *     一括処理の結果に、形成できた要素と並べて書込むことを想定しています。
+     *     入力文字列に{@code null}を設定した場合は{@link IllegalArgumentException}を投げます。
+     * </p>
+     *
+     * @param text 入力文字列<br>{@code null}不可
+     * @param message 失敗の理由<br>{@code null}可
+     * @throws IOException 書込みに失敗した場合
+     */
+    public void writeError(String text, String message) throws IOException {
+        if (text == null) throw new IllegalArgumentException();
+
+        beginFeature();
+        out.append("{\"kind\":\"error\",\"text\":");
+        writeString(text);
+        out.append(",\"message\":");
+        writeString(message);
+        out.append('}');
+        endFeature();
+    }
+
+    /**
+     * <p> 書込み途中のデータを書込み先に送ります。 </p>
+     *
+     * <p>
+     *     書込み先が{@link Flushable}でない場合は何もしません。
+     * </p>
+     *
+     * @throws IOException 書込みに失敗した場合
+     */
+    @Override
+    public void flush() throws IOException {
+        if (out instanceof Flushable) ((Flushable) out).flush();
+    }
+
+    /**
+     * <p> 書込み先を閉じます。 </p>
+     *
+     * <p>
+     *     JSON配列を開始したままの場合は終了してから閉じます。
+     *     書込み先が{@link Closeable}でない場合は{@link #flush()}のみを行います。
+     * </p>
+     *
+     * @throws IOException 書込みに失敗した場合
+     */
+    @Override
+    public void close() throws IOException {
+        if (isInArray) endArray();
+        if (out instanceof Closeable) ((Closeable) out).close();
+        else flush();
+    }
+
+
+
+    private void beginFeature() throws IOException {
+        if (!isInArray) return;
+        if (!isFirstInArray) out.append(',');
+        isFirstInArray = false;
+    }
+
+    private void endFeature() throws IOException {
+        if (!isInArray) out.append('\n');
+    }
+
+    private void writeParameter(Parameter parameter) throws IOException {
+        Direction direction = parameter.getDirection();
+
+        out.append("{\"direction\":");
+        writeString(directionOf(direction));
+        out.append(",\"directionOuted\":");
+        out.append(direction.isOuted() ? "true" : "false");
+        out.append(",\"name\":");
+        writeString(parameter.getName().getNameText());
+        out.append(",\"type\":");
+        writeString(parameter.hasType() ? parameter.getType().toString() : null);
+        writeMultiplicityRange(parameter.hasMultiplicityRange() ? parameter.getMultiplicityRange() : null);
+        writeDefaultValue(parameter.hasDefaultValue() ? parameter.getDefaultValue() : null);
+        out.append(",\"properties\":");
+        writeProperties(parameter.hasProperties() ? parameter.getProperties() : null);
+        out.append('}');
+    }
+
+    private String directionOf(Direction direction) {
+        if (direction instanceof In) return "in";
+        if (direction instanceof Out) return "out";
+        if (direction instanceof InOut) return "inout";
+        if (direction instanceof Return) return "return";
+        return direction.toString();
+    }
+
+    private void writeVisibility(Visibility visibility) throws IOException {
+        writeString(visibility == null ? null : visibility.name().toLowerCase(Locale.ROOT));
+    }
+
+    private void writeMultiplicityRange(MultiplicityRange multiplicityRange) throws IOException {
+        out.append(",\"multiplicityLower\":");
+        writeString(multiplicityRange == null || multiplicityRange.isUpperOnly() ? null : multiplicityRange.getLower().toString());
+        out.append(",\"multiplicityUpper\":");
+        writeString(multiplicityRange == null ? null : multiplicityRange.getUpper().toString());
+    }
+
+    private void writeDefaultValue(DefaultValue defaultValue) throws IOException {
+        out.append(",\"defaultValue\":");
+        writeString(defaultValue == null ? null : defaultValue.toString());
+        out.append(",\"defaultValueExpression\":");
+        writeExpression(defaultValue == null ? null : defaultValue.getExpression());
+    }
+
+    private void writeProperties(List<Property> properties) throws IOException {
+        out.append('[');
+        if (properties != null) {
+            for (int i = 0; i < properties.size(); i++) {
+                if (i > 0) out.append(',');
+                writeProperty(properties.get(i));
+            }
+        }
+        out.append(']');
+    }
+
+    private void writeProperty(Property property) throws IOException {
+        out.append("{\"property\":");
+        if (property instanceof Subsets) {
+            writeString("subsets");
+            out.append(",\"target\":");
+            writeExpression(((Subsets) property).getExpression());
+        } else if (property instanceof Redefines) {
+            writeString("redefines");
+            out.append(",\"target\":");
+            writeExpression(((Redefines) property).getExpression());
+        } else {
+            writeString(property.toString());
+            out.append(",\"target\":null");
+        }
+        out.append('}');
+    }
+
+    private void writeExpression(Expression expression) throws IOException {
+        if (expression == null) {
+            out.append("null");
+        } else if (expression instanceof OneIdentifier) {
+            out.append("{\"node\":\"identifier\",\"text\":");
+            writeString(expression.toString());
+            out.append('}');
+        } else if (expression instanceof Monomial) {
+            Monomial monomial = (Monomial) expression;
+            out.append("{\"node\":\"monomial\",\"symbol\":");
+            writeString(monomial.getSymbol().toString());
+            out.append(",\"operand\":");
+            writeExpression(monomial.getExpression());
+            out.append('}');
+        } else if (expression instanceof Binomial) {
+            Binomial binomial = (Binomial) expression;
+            out.append("{\"node\":\"binomial\",\"symbol\":");
+            writeString(binomial.getSymbol().toString());
+            out.append(",\"first\":");
+            writeExpression(binomial.getFirst());
+            out.append(",\"second\":");
+            writeExpression(binomial.getSecond());
+            out.append('}');
+        } else if (expression instanceof MethodCall) {
+            MethodCall methodCall = (MethodCall) expression;
+            List<Expression> arguments = methodCall.getArguments();
+            out.append("{\"node\":\"methodCall\",\"name\":");
+            writeString(methodCall.getName());
+            out.append(",\"arguments\":[");
+            for (int i = 0; i < arguments.size(); i++) {
+                if (i > 0) out.append(',');
+                writeExpression(arguments.get(i));
+            }
+            out.append("]}");
+        } else if (expression instanceof ExpressionWithParen) {
+            out.append("{\"node\":\"paren\",\"expression\":");
+            writeExpression(((ExpressionWithParen) expression).getExpression());
+            out.append('}');
+        } else {
+            out.append("{\"node\":\"other\",\"text\":");
+            writeString(expression.toString());
+            out.append('}');
+        }
+    }
+
+    /**
+     * <p> 文字列をJSONの文字列として書込みます。 </p>
+     *
+     * <p>
+     *     エスケープが必要な文字の間の文字列はまとめて書込みます。
+     *     {@code null}の場合は{@code null}を書込みます。
+     * </p>
+     *
+     * @param text 文字列<br>{@code null}可
+     * @throws IOException 書込みに失敗した場合
+     */
+    private void writeString(String text) throws IOException {
+        if (text == null) {
+            out.append("null");
+            return;
+        }
+
+        out.append('"');
+        int start = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= 0x20 && c != '"' && c != '\\') continue;
+
+            if (start < i) out.append(text, start, i);
+            start = i + 1;
+            switch (c) {
+                case '"':
+                    out.append("\\\"");
+                    break;
+                case '\\':
+                    out.append("\\\\");
+                    break;
+                case '\n':
+                    out.append("\\n");
+                    break;
+                case '\r':
+                    out.append("\\r");
+                    break;
+                case '\t':
+                    out.append("\\t");
+                    break;
+                case '\b':
+                    out.append("\\b");
+                    break;
+                case '\f':
+                    out.append("\\f");
+                    break;
+                default:
+                    out.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+                    break;
+            }
+        }
+        if (start < text.length()) out.append(text, start, text.length());
+        out.append('"');
+    }
+}
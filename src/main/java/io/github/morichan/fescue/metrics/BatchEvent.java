@@ -0,0 +1,80 @@
+package io.github.morichan.fescue.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * <p> 一括処理のJava Flight Recorderイベント </p>
+ *
+ * <p>
+ *     複数の属性文または操作文をまとめて処理した場合に、その全体を1つのイベント（{@code io.github.morichan.fescue.Batch}）として記録します。
+ *     個々の要素は{@link ParseEvent}と{@link CarveEvent}として別に記録します。
+ * </p>
+ *
+ * <p>
+ *     Java Flight Recorderを利用できない実行環境（例、JDK 9）では何も記録しません。
+ * </p>
+ */
+public class BatchEvent {
+
+    /**
+     * 記録するイベント（{@link Recorded}）
+     *
+     * <p> 利用できない実行環境で{@link Recorded}を読込まないよう、{@link Object}として保持します。 </p>
+     */
+    private final Object event = EventSupport.IS_AVAILABLE ? new Recorded() : null;
+
+    /**
+     * <p> イベントを開始します。 </p>
+     */
+    public void begin() {
+        if (event != null) ((Recorded) event).begin();
+    }
+
+    /**
+     * <p> イベントを終了し、記録対象の場合は記録します。 </p>
+     *
+     * @param kind 要素の種類
+     * @param source 一括処理の呼出し元（例、{@code "http"}）
+     * @param featureCount 処理した要素の数
+     * @param errorCount 例外が発生した要素の数
+     */
+    public void report(FeatureKind kind, String source, int featureCount, int errorCount) {
+        if (event != null) ((Recorded) event).report(kind, source, featureCount, errorCount);
+    }
+
+
+
+    @Name("io.github.morichan.fescue.Batch")
+    @Label("Feature Batch")
+    @Category("fescue")
+    @Description("Completion of a batch of attribute or operation texts")
+    static class Recorded extends Event {
+
+        @Label("Feature Kind")
+        String kind;
+
+        @Label("Source")
+        String source;
+
+        @Label("Feature Count")
+        int featureCount;
+
+        @Label("Error Count")
+        int errorCount;
+
+        void report(FeatureKind kind, String source, int featureCount, int errorCount) {
+            end();
+            if (! shouldCommit()) return;
+
+            this.kind = kind.toString();
+            this.source = source;
+            this.featureCount = featureCount;
+            this.errorCount = errorCount;
+            commit();
+        }
+    }
+}
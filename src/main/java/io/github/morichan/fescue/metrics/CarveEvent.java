@@ -0,0 +1,76 @@
+package io.github.morichan.fescue.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * <p> インスタンス形成のJava Flight Recorderイベント </p>
+ *
+ * <p>
+ *     構文解析結果から{@link io.github.morichan.fescue.feature.Attribute}や{@link io.github.morichan.fescue.feature.Operation}を形成する処理を、
+ *     イベント（{@code io.github.morichan.fescue.Carve}）として記録します。
+ *     記録していない場合の負荷はほぼありません。
+ * </p>
+ *
+ * <p>
+ *     Java Flight Recorderを利用できない実行環境（例、JDK 9）では何も記録しません。
+ * </p>
+ */
+public class CarveEvent {
+
+    /**
+     * 記録するイベント（{@link Recorded}）
+     *
+     * <p> 利用できない実行環境で{@link Recorded}を読込まないよう、{@link Object}として保持します。 </p>
+     */
+    private final Object event = EventSupport.IS_AVAILABLE ? new Recorded() : null;
+
+    /**
+     * <p> イベントを開始します。 </p>
+     */
+    public void begin() {
+        if (event != null) ((Recorded) event).begin();
+    }
+
+    /**
+     * <p> イベントを終了し、記録対象の場合は記録します。 </p>
+     *
+     * @param kind 要素の種類
+     * @param inputLength 構文解析した入力文字列の長さ
+     * @param error 発生した例外<br>成功した場合は{@code null}
+     */
+    public void report(FeatureKind kind, int inputLength, Throwable error) {
+        if (event != null) ((Recorded) event).report(kind, inputLength, error);
+    }
+
+
+
+    @Name("io.github.morichan.fescue.Carve")
+    @Label("Feature Carve")
+    @Category("fescue")
+    @Description("Building an attribute or operation from its parse tree")
+    static class Recorded extends Event {
+
+        @Label("Feature Kind")
+        String kind;
+
+        @Label("Input Length")
+        int inputLength;
+
+        @Label("Outcome")
+        String outcome;
+
+        void report(FeatureKind kind, int inputLength, Throwable error) {
+            end();
+            if (! shouldCommit()) return;
+
+            this.kind = kind.toString();
+            this.inputLength = inputLength;
+            this.outcome = Outcome.of(error);
+            commit();
+        }
+    }
+}
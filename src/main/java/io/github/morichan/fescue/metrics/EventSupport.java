@@ -0,0 +1,19 @@
+package io.github.morichan.fescue.metrics;
+
+/**
+ * <p> Java Flight Recorderの利用可否 </p>
+ *
+ * <p>
+ *     {@code jdk.jfr}モジュールはJDK 11以降にのみ存在するため、JDK 9と10や{@code jdk.jfr}を含まない実行環境では{@code jdk.jfr.Event}を継承したクラスを読込めません。
+ *     {@link ParseEvent}、{@link CarveEvent}および{@link BatchEvent}は、利用できる場合にのみ内部のイベントを生成します。
+ * </p>
+ */
+final class EventSupport {
+
+    /**
+     * 起動時のモジュール層に{@code jdk.jfr}がある場合は真
+     */
+    static final boolean IS_AVAILABLE = ModuleLayer.boot().findModule("jdk.jfr").isPresent();
+
+    private EventSupport() {}
+}
@@ -0,0 +1,43 @@
+package io.github.morichan.fescue.metrics;
+
+import java.util.Locale;
+
+/**
+ * <p> 計測対象の要素の種類 </p>
+ *
+ * <p>
+ *     {@link FeatureMetrics}において、計測値を要素の種類ごとに分けるために利用します。
+ * </p>
+ */
+public enum FeatureKind {
+
+    /**
+     * 属性
+     */
+    Attribute,
+
+    /**
+     * 操作
+     */
+    Operation,
+
+    /**
+     * 操作におけるパラメータ
+     */
+    Parameter,
+    ;
+
+    /**
+     * <p> 要素の種類の文字列を取得します。 </p>
+     *
+     * <p>
+     *     JMXの属性名などで利用するため、小文字で返します（例、{@code "attribute"}）。
+     * </p>
+     *
+     * @return 要素の種類の文字列<br>{@code null}および{@code ""}なし
+     */
+    @Override
+    public String toString() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,379 @@
+package io.github.morichan.fescue.metrics;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * <p> 計測値の記録クラス </p>
+ *
+ * <p>
+ *     字句解析、構文解析、インスタンス形成、文字列生成の処理時間と処理回数を、要素の種類ごとに記録します。
+ *     また、例外発生回数と入力文字列の長さの分布も記録します。
+ *     記録した値はJMX（{@link #OBJECT_NAME}）から参照できます。
+ * </p>
+ *
+ * <p>
+ *     計測はシステムプロパティ{@link #ENABLED_PROPERTY}に{@code true}を設定して起動した場合のみ有効になります。
+ *     設定していない場合は{@link #isEnabled()}が定数として偽を返すため、
+ *     {@link io.github.morichan.fescue.sculptor.AttributeSculptor}や{@link io.github.morichan.fescue.sculptor.OperationSculptor}に計測処理の負荷はかかりません。
+ * </p>
+ *
+ * <pre>
+ *     {@code
+ *     // java -Dio.github.morichan.fescue.metrics=true ...
+ *     long start = FeatureMetrics.startTimer();
+ *     // 計測対象の処理
+ *     FeatureMetrics.stopTimer(Stage.Carve, FeatureKind.Attribute, start);
+ *
+ *     Histogram latency = FeatureMetrics.getInstance().getLatency(Stage.Carve, FeatureKind.Attribute);
+ *     System.out.println(latency.getPercentile(99.0));
+ *     }
+ * </pre>
+ */
+public class FeatureMetrics implements FeatureMetricsMXBean {
+
+    /**
+     * 計測を有効にするシステムプロパティの名前
+     */
+    public static final String ENABLED_PROPERTY = "io.github.morichan.fescue.metrics";
+
+    /**
+     * JMXに登録する際のオブジェクト名
+     */
+    public static final String OBJECT_NAME = "io.github.morichan.fescue:type=FeatureMetrics";
+
+    /**
+     * <p> 計測が有効な場合は真を持つ真偽値 </p>
+     *
+     * <p>
+     *     定数のため、偽の場合はJITコンパイラが計測処理を取除きます。
+     * </p>
+     */
+    private static final boolean isAvailable = Boolean.getBoolean(ENABLED_PROPERTY);
+
+    private static final FeatureMetrics instance = new FeatureMetrics();
+
+    static {
+        if (isAvailable) registerMBean();
+    }
+
+    private volatile boolean isRecording = true;
+    private volatile long startedNanos = System.nanoTime();
+
+    private final Histogram[][] latencies = new Histogram[Stage.values().length][FeatureKind.values().length];
+    private final LongAdder[][] errors = new LongAdder[Stage.values().length][FeatureKind.values().length];
+    private final Histogram[] inputLengths = new Histogram[FeatureKind.values().length];
+
+    /**
+     * <p> デフォルトコンストラクタ </p>
+     *
+     * <p>
+     *     通常は{@link #getInstance()}で取得したインスタンスを利用してください。
+     * </p>
+     */
+    FeatureMetrics() {
+        for (Stage stage : Stage.values()) {
+            for (FeatureKind kind : FeatureKind.values()) {
+                latencies[stage.ordinal()][kind.ordinal()] = new Histogram();
+                errors[stage.ordinal()][kind.ordinal()] = new LongAdder();
+            }
+        }
+        for (FeatureKind kind : FeatureKind.values()) inputLengths[kind.ordinal()] = new Histogram();
+    }
+
+    /**
+     * <p> 計測値の記録インスタンスを取得します。 </p>
+     *
+     * @return 計測値の記録インスタンス<br>{@code null}なし
+     */
+    public static FeatureMetrics getInstance() {
+        return instance;
+    }
+
+    /**
+     * <p> 計測が有効な場合は真を返す真偽値判定を行います。 </p>
+     *
+     * <p>
+     *     {@link #ENABLED_PROPERTY}を設定して起動し、かつJMXから計測を一時停止していない場合に真を返します。
+     * </p>
+     *
+     * @return 計測が有効な場合は真を返す真偽値
+     */
+    public static boolean isEnabled() {
+        return isAvailable && instance.isRecording;
+    }
+
+    /**
+     * <p> 処理時間の計測を開始します。 </p>
+     *
+     * <p>
+     *     計測が無効な場合は{@code 0}を返します。
+     *     戻り値は{@link #stopTimer(Stage, FeatureKind, long)}にそのまま渡してください。
+     * </p>
+     *
+     * @return 計測開始時刻のナノ秒<br>計測が無効な場合は{@code 0}
+     */
+    public static long startTimer() {
+        return isEnabled() ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * <p> 処理時間の計測を終了し、記録します。 </p>
+     *
+     * <p>
+     *     {@link #startTimer()}が{@code 0}を返した場合は何も記録しません。
+     * </p>
+     *
+     * @param stage 処理段階
+     * @param kind 要素の種類
+     * @param startNanos {@link #startTimer()}の戻り値
+     */
+    public static void stopTimer(Stage stage, FeatureKind kind, long startNanos) {
+        if (startNanos != 0L && isEnabled()) instance.recordLatency(stage, kind, System.nanoTime() - startNanos);
+    }
+
+    /**
+     * <p> 計測が有効な場合に例外発生回数を記録します。 </p>
+     *
+     * @param stage 処理段階
+     * @param kind 要素の種類
+     */
+    public static void countError(Stage stage, FeatureKind kind) {
+        if (isEnabled()) instance.recordError(stage, kind);
+    }
+
+    /**
+     * <p> 計測が有効な場合に入力文字列の長さを記録します。 </p>
+     *
+     * @param kind 要素の種類
+     * @param length 入力文字列の長さ
+     */
+    public static void countInputLength(FeatureKind kind, int length) {
+        if (isEnabled()) instance.recordInputLength(kind, length);
+    }
+
+    /**
+     * <p> JMXに登録します。 </p>
+     *
+     * <p>
+     *     既に登録している場合は何もしません。
+     *     {@link #ENABLED_PROPERTY}を設定して起動した場合は自動で登録します。
+     * </p>
+     */
+    public static void registerMBean() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (! server.isRegistered(name)) server.registerMBean(instance, name);
+        } catch (InstanceAlreadyExistsException e) {
+            // 他のスレッドが先に登録した場合
+        } catch (JMException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+
+
+    /**
+     * <p> 処理時間を記録します。 </p>
+     *
+     * @param stage 処理段階
+     * @param kind 要素の種類
+     * @param nanos 処理時間のナノ秒
+     */
+    public void recordLatency(Stage stage, FeatureKind kind, long nanos) {
+        latencies[stage.ordinal()][kind.ordinal()].record(nanos);
+    }
+
+    /**
+     * <p> 例外発生回数を記録します。 </p>
+     *
+     * @param stage 処理段階
+     * @param kind 要素の種類
+     */
+    public void recordError(Stage stage, FeatureKind kind) {
+        errors[stage.ordinal()][kind.ordinal()].increment();
+    }
+
+    /**
+     * <p> 入力文字列の長さを記録します。 </p>
+     *
+     * @param kind 要素の種類
+     * @param length 入力文字列の長さ
+     */
+    public void recordInputLength(FeatureKind kind, int length) {
+        inputLengths[kind.ordinal()].record(length);
+    }
+
+    /**
+     * <p> 処理時間の分布を取得します。 </p>
+     *
+     * <p>
+     *     処理回数は{@link Histogram#getCount()}で取得できます。
+     * </p>
+     *
+     * @param stage 処理段階
+     * @param kind 要素の種類
+     * @return 処理時間の分布<br>{@code null}なし
+     */
+    public Histogram getLatency(Stage stage, FeatureKind kind) {
+        return latencies[stage.ordinal()][kind.ordinal()];
+    }
+
+    /**
+     * <p> 例外発生回数を取得します。 </p>
+     *
+     * @param stage 処理段階
+     * @param kind 要素の種類
+     * @return 例外発生回数
+     */
+    public long getErrorCount(Stage stage, FeatureKind kind) {
+        return errors[stage.ordinal()][kind.ordinal()].sum();
+    }
+
+    /**
+     * <p> 入力文字列の長さの分布を取得します。 </p>
+     *
+     * @param kind 要素の種類
+     * @return 入力文字列の長さの分布<br>{@code null}なし
+     */
+    public Histogram getInputLength(FeatureKind kind) {
+        return inputLengths[kind.ordinal()];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isRecording() {
+        return isRecording;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setRecording(boolean isRecording) {
+        this.isRecording = isRecording;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Long> getCounts() {
+        return collectLatencies(Histogram::getCount);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Long> getErrorCounts() {
+        Map<String, Long> values = new LinkedHashMap<>();
+        for (Stage stage : Stage.values())
+            for (FeatureKind kind : FeatureKind.values())
+                values.put(stage + "." + kind, getErrorCount(stage, kind));
+        return values;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Double> getMeanLatencyNanos() {
+        return collectLatencies(Histogram::getMean);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Long> getMaxLatencyNanos() {
+        return collectLatencies(Histogram::getMax);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Double> getThroughputPerSecond() {
+        double seconds = Math.max(1L, System.nanoTime() - startedNanos) / 1e9;
+        return collectLatencies(histogram -> histogram.getCount() / seconds);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Double> getMeanInputLength() {
+        return collectInputLengths(Histogram::getMean);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Long> getLatencyPercentileNanos(double percentile) {
+        return collectLatencies(histogram -> histogram.getPercentile(percentile));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Long> getInputLengthPercentile(double percentile) {
+        return collectInputLengths(histogram -> histogram.getPercentile(percentile));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void reset() {
+        for (Stage stage : Stage.values()) {
+            for (FeatureKind kind : FeatureKind.values()) {
+                latencies[stage.ordinal()][kind.ordinal()].reset();
+                errors[stage.ordinal()][kind.ordinal()].reset();
+            }
+        }
+        for (FeatureKind kind : FeatureKind.values()) inputLengths[kind.ordinal()].reset();
+        startedNanos = System.nanoTime();
+    }
+
+
+
+    /**
+     * <p> 処理時間の分布から、処理段階と要素の種類ごとの値を集めます。 </p>
+     *
+     * @param extractor 分布から値を取出す関数
+     * @return {@code "処理段階.要素の種類"}をキーとする値
+     */
+    private <T> Map<String, T> collectLatencies(Function<Histogram, T> extractor) {
+        Map<String, T> values = new LinkedHashMap<>();
+        for (Stage stage : Stage.values())
+            for (FeatureKind kind : FeatureKind.values())
+                values.put(stage + "." + kind, extractor.apply(getLatency(stage, kind)));
+        return values;
+    }
+
+    /**
+     * <p> 入力文字列の長さの分布から、要素の種類ごとの値を集めます。 </p>
+     *
+     * @param extractor 分布から値を取出す関数
+     * @return 要素の種類をキーとする値
+     */
+    private <T> Map<String, T> collectInputLengths(Function<Histogram, T> extractor) {
+        Map<String, T> values = new LinkedHashMap<>();
+        for (FeatureKind kind : FeatureKind.values())
+            values.put(kind.toString(), extractor.apply(getInputLength(kind)));
+        return values;
+    }
+}
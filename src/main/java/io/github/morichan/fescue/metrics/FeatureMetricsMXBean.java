@@ -0,0 +1,95 @@
+package io.github.morichan.fescue.metrics;
+
+import java.util.Map;
+
+/**
+ * <p> 計測値のJMXインタフェース </p>
+ *
+ * <p>
+ *     {@link FeatureMetrics#OBJECT_NAME}として登録します。
+ *     計測値のキーは{@code "処理段階.要素の種類"}（例、{@code "carve.attribute"}）の文字列です。
+ * </p>
+ */
+public interface FeatureMetricsMXBean {
+
+    /**
+     * <p> 計測中の場合は真を返す真偽値判定を行います。 </p>
+     *
+     * @return 計測中の場合は真を返す真偽値
+     */
+    boolean isRecording();
+
+    /**
+     * <p> 計測を一時停止または再開します。 </p>
+     *
+     * @param isRecording 計測する場合は真
+     */
+    void setRecording(boolean isRecording);
+
+    /**
+     * <p> 処理段階と要素の種類ごとの処理回数を取得します。 </p>
+     *
+     * @return 処理回数
+     */
+    Map<String, Long> getCounts();
+
+    /**
+     * <p> 処理段階と要素の種類ごとの例外発生回数を取得します。 </p>
+     *
+     * @return 例外発生回数
+     */
+    Map<String, Long> getErrorCounts();
+
+    /**
+     * <p> 処理段階と要素の種類ごとの平均処理時間をナノ秒で取得します。 </p>
+     *
+     * @return 平均処理時間
+     */
+    Map<String, Double> getMeanLatencyNanos();
+
+    /**
+     * <p> 処理段階と要素の種類ごとの最大処理時間をナノ秒で取得します。 </p>
+     *
+     * @return 最大処理時間
+     */
+    Map<String, Long> getMaxLatencyNanos();
+
+    /**
+     * <p> 処理段階と要素の種類ごとの1秒あたりの処理回数を取得します。 </p>
+     *
+     * <p>
+     *     計測開始（または{@link #reset()}）からの経過時間で割った値です。
+     * </p>
+     *
+     * @return 1秒あたりの処理回数
+     */
+    Map<String, Double> getThroughputPerSecond();
+
+    /**
+     * <p> 要素の種類ごとの入力文字列の平均の長さを取得します。 </p>
+     *
+     * @return 入力文字列の平均の長さ
+     */
+    Map<String, Double> getMeanInputLength();
+
+    /**
+     * <p> 処理段階と要素の種類ごとの処理時間のパーセンタイル値をナノ秒で取得します。 </p>
+     *
+     * @param percentile パーセンタイル（例、{@code 99.0}）
+     * @return 処理時間のパーセンタイル値
+     */
+    Map<String, Long> getLatencyPercentileNanos(double percentile);
+
+    /**
+     * <p> 要素の種類ごとの入力文字列の長さのパーセンタイル値を取得します。 </p>
+     *
+     * @param percentile パーセンタイル（例、{@code 99.0}）
+     * @return 入力文字列の長さのパーセンタイル値
+     */
+    Map<String, Long> getInputLengthPercentile(double percentile);
+
+    /**
+     * <p> 全ての計測値を破棄します。 </p>
+     */
+    void reset();
+}
@@ -0,0 +1,173 @@
+package io.github.morichan.fescue.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p> 分布クラス </p>
+ *
+ * <p>
+ *     0以上の整数値（処理時間のナノ秒や入力文字列の長さ）の分布を記録します。
+ *     値は2の累乗ごとの区間をさらに8等分した区間で数えるため、パーセンタイル値の誤差は最大でも12.5%程度です。
+ *     複数スレッドから同時に{@link #record(long)}を実行できます。
+ * </p>
+ *
+ * <pre>
+ *     {@code
+ *     Histogram histogram = new Histogram();
+ *     histogram.record(120);
+ *     histogram.record(80);
+ *
+ *     System.out.println(histogram.getCount()); // 2
+ *     System.out.println(histogram.getPercentile(50.0)); // 80
+ *     }
+ * </pre>
+ */
+public class Histogram {
+
+    /**
+     * 2の累乗ごとの区間を分割する数
+     */
+    private static final int SUB_BUCKET_COUNT = 8;
+
+    /**
+     * 区間を分割する数のビット数
+     */
+    private static final int SUB_BUCKET_BITS = 3;
+
+    /**
+     * 区間の総数（{@link Long#MAX_VALUE}まで扱えます）
+     */
+    private static final int BUCKET_COUNT = (63 - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * <p> 値を記録します。 </p>
+     *
+     * <p>
+     *     負の値を入力した場合は{@code 0}として記録します。
+     * </p>
+     *
+     * @param value 記録する値
+     */
+    public void record(long value) {
+        if (value < 0) value = 0;
+
+        buckets.incrementAndGet(indexOf(value));
+        count.increment();
+        sum.add(value);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * <p> 記録した値の個数を取得します。 </p>
+     *
+     * @return 記録した値の個数
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * <p> 記録した値の合計を取得します。 </p>
+     *
+     * @return 記録した値の合計
+     */
+    public long getSum() {
+        return sum.sum();
+    }
+
+    /**
+     * <p> 記録した値の最大値を取得します。 </p>
+     *
+     * @return 記録した値の最大値<br>何も記録していない場合は{@code 0}
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * <p> 記録した値の平均を取得します。 </p>
+     *
+     * @return 記録した値の平均<br>何も記録していない場合は{@code 0.0}
+     */
+    public double getMean() {
+        long n = getCount();
+        return n == 0 ? 0.0 : (double) getSum() / n;
+    }
+
+    /**
+     * <p> 記録した値のパーセンタイル値を取得します。 </p>
+     *
+     * <p>
+     *     返す値は、該当する区間の下限値です。
+     *     {@code 0}未満または{@code 100}より大きい値を入力した場合は{@link IllegalArgumentException}を投げます。
+     * </p>
+     *
+     * @param percentile パーセンタイル（例、{@code 99.0}）<br>{@code 0}以上{@code 100}以下
+     * @return パーセンタイル値<br>何も記録していない場合は{@code 0}
+     */
+    public long getPercentile(double percentile) {
+        if (percentile < 0.0 || percentile > 100.0) throw new IllegalArgumentException();
+
+        long n = getCount();
+        if (n == 0) return 0;
+
+        long rank = Math.max(1, (long) Math.ceil(n * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) return Math.min(lowerBoundOf(i), getMax());
+        }
+        return getMax();
+    }
+
+    /**
+     * <p> 記録した値を全て破棄します。 </p>
+     *
+     * <p>
+     *     他のスレッドが記録中の値は、破棄されずに残る可能性があります。
+     * </p>
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) buckets.set(i, 0);
+        count.reset();
+        sum.reset();
+        max.set(0);
+    }
+
+
+
+    /**
+     * <p> 値が入る区間の番号を求めます。 </p>
+     *
+     * @param value 0以上の値
+     * @return 区間の番号
+     */
+    static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) return (int) value;
+
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + sub;
+    }
+
+    /**
+     * <p> 区間の下限値を求めます。 </p>
+     *
+     * @param index 区間の番号
+     * @return 区間の下限値
+     */
+    static long lowerBoundOf(int index) {
+        if (index < SUB_BUCKET_COUNT) return index;
+
+        int exponent = index / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+        long sub = index % SUB_BUCKET_COUNT;
+        return (SUB_BUCKET_COUNT + sub) << (exponent - SUB_BUCKET_BITS);
+    }
+}
@@ -0,0 +1,24 @@
+package io.github.morichan.fescue.metrics;
+
+/**
+ * <p> イベントにおける処理結果の文字列 </p>
+ */
+final class Outcome {
+
+    /**
+     * 成功した場合の文字列
+     */
+    static final String SUCCESS = "success";
+
+    private Outcome() {}
+
+    /**
+     * <p> 処理結果の文字列を取得します。 </p>
+     *
+     * @param error 発生した例外<br>成功した場合は{@code null}
+     * @return 成功した場合は{@link #SUCCESS}、失敗した場合は例外のクラス名
+     */
+    static String of(Throwable error) {
+        return error == null ? SUCCESS : error.getClass().getSimpleName();
+    }
+}
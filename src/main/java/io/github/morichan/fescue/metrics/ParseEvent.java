@@ -0,0 +1,95 @@
+package io.github.morichan.fescue.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.antlr.v4.runtime.atn.PredictionMode;
+
+/**
+ * <p> 構文解析のJava Flight Recorderイベント </p>
+ *
+ * <p>
+ *     字句解析と構文解析、構文木の走査までを1つのイベント（{@code io.github.morichan.fescue.Parse}）として記録します。
+ *     JDK Mission Controlなどで、処理時間の長い入力をGCやスレッドの状態と関連付けて調べる際に利用します。
+ *     記録していない場合の負荷はほぼありません。
+ * </p>
+ *
+ * <p>
+ *     Java Flight Recorderを利用できない実行環境（例、JDK 9）では何も記録しません。
+ * </p>
+ *
+ * <pre>
+ *     {@code
+ *     ParseEvent event = new ParseEvent();
+ *     event.begin();
+ *     // 構文解析
+ *     event.report(FeatureKind.Attribute, text.length(), parser.getInterpreter().getPredictionMode(), null);
+ *     }
+ * </pre>
+ */
+public class ParseEvent {
+
+    /**
+     * 記録するイベント（{@link Recorded}）
+     *
+     * <p> 利用できない実行環境で{@link Recorded}を読込まないよう、{@link Object}として保持します。 </p>
+     */
+    private final Object event = EventSupport.IS_AVAILABLE ? new Recorded() : null;
+
+    /**
+     * <p> イベントを開始します。 </p>
+     */
+    public void begin() {
+        if (event != null) ((Recorded) event).begin();
+    }
+
+    /**
+     * <p> イベントを終了し、記録対象の場合は記録します。 </p>
+     *
+     * <p>
+     *     記録対象でない場合は各値を設定しません。
+     * </p>
+     *
+     * @param kind 要素の種類
+     * @param inputLength 入力文字列の長さ
+     * @param mode 構文解析で利用した予測モード<br>{@code null}可
+     * @param error 発生した例外<br>成功した場合は{@code null}
+     */
+    public void report(FeatureKind kind, int inputLength, PredictionMode mode, Throwable error) {
+        if (event != null) ((Recorded) event).report(kind, inputLength, mode, error);
+    }
+
+
+
+    @Name("io.github.morichan.fescue.Parse")
+    @Label("Feature Parse")
+    @Category("fescue")
+    @Description("Lexing and parsing of one attribute or operation text")
+    static class Recorded extends Event {
+
+        @Label("Feature Kind")
+        String kind;
+
+        @Label("Input Length")
+        int inputLength;
+
+        @Label("Prediction Mode")
+        String predictionMode;
+
+        @Label("Outcome")
+        String outcome;
+
+        void report(FeatureKind kind, int inputLength, PredictionMode mode, Throwable error) {
+            end();
+            if (! shouldCommit()) return;
+
+            this.kind = kind.toString();
+            this.inputLength = inputLength;
+            this.predictionMode = mode == null ? null : mode.name();
+            this.outcome = Outcome.of(error);
+            commit();
+        }
+    }
+}
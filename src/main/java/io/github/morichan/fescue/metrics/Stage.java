@@ -0,0 +1,48 @@
+package io.github.morichan.fescue.metrics;
+
+import java.util.Locale;
+
+/**
+ * <p> 計測対象の処理段階 </p>
+ *
+ * <p>
+ *     {@link FeatureMetrics}において、計測値を処理段階ごとに分けるために利用します。
+ * </p>
+ */
+public enum Stage {
+
+    /**
+     * 字句解析
+     */
+    Lex,
+
+    /**
+     * 構文解析
+     */
+    Parse,
+
+    /**
+     * 構文解析結果からのインスタンス形成
+     */
+    Carve,
+
+    /**
+     * インスタンスからの文字列生成
+     */
+    Render,
+    ;
+
+    /**
+     * <p> 処理段階の文字列を取得します。 </p>
+     *
+     * <p>
+     *     JMXの属性名などで利用するため、小文字で返します（例、{@code "parse"}）。
+     * </p>
+     *
+     * @return 処理段階の文字列<br>{@code null}および{@code ""}なし
+     */
+    @Override
+    public String toString() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,374 @@
+package io.github.morichan.fescue.model;
+
+import io.github.morichan.fescue.feature.Attribute;
+import io.github.morichan.fescue.feature.Operation;
+import io.github.morichan.fescue.feature.name.Name;
+import io.github.morichan.fescue.feature.property.Property;
+import io.github.morichan.fescue.feature.visibility.Visibility;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p> クラスモデルクラス </p>
+ *
+ * <p>
+ *     1つのクラスが持つ属性と操作を保持します。
+ *     名前、型（操作の場合は戻り値の型）、可視性、プロパティの種類ごとの索引を追加と削除のたびに更新するため、検索は保持する要素数によらず、該当する要素の数に比例した時間で行います。
+ * </p>
+ *
+ * <p>
+ *     使い方を次に示します。
+ * </p>
+ *
+ * <pre>
+ *     {@code
+ *     ClassModel model = new ClassModel(new Name("Sample"));
+ *     model.addAttribute(attributeSculptor.carve()); // "- number : int"
+ *     model.addOperation(operationSculptor.carve()); // "+ getNumber() : int {query}"
+ *
+ *     System.out.println(model.findAttributesByType("int")); // "[- number : int]"
+ *     System.out.println(model.findOperationsByProperty(Query.class)); // "[+ getNumber() : int {query}]"
+ *     }
+ * </pre>
+ *
+ * <p>
+ *     索引は追加した時点の属性や操作の内容で作成します。
+ *     追加した後に属性や操作の内容を変更した場合は、{@link #reindex(Attribute)}または{@link #reindex(Operation)}を実行してください。
+ *     検索結果は検索した時点の集合の複製のため、その後の追加や削除は反映しません。
+ *     このクラスはスレッドセーフではありません。
+ * </p>
+ */
+public class ClassModel {
+
+    private Name name;
+
+    private final Map<Attribute, Keys> attributes = new LinkedHashMap<>();
+    private final Index<String, Attribute> attributesByName = new Index<>();
+    private final Index<String, Attribute> attributesByType = new Index<>();
+    private final Index<Visibility, Attribute> attributesByVisibility = new Index<>();
+    private final Index<Class<? extends Property>, Attribute> attributesByProperty = new Index<>();
+
+    private final Map<Operation, Keys> operations = new LinkedHashMap<>();
+    private final Index<String, Operation> operationsByName = new Index<>();
+    private final Index<String, Operation> operationsByReturnType = new Index<>();
+    private final Index<Visibility, Operation> operationsByVisibility = new Index<>();
+    private final Index<Class<? extends Property>, Operation> operationsByProperty = new Index<>();
+
+    /**
+     * <p> クラス名設定コンストラクタ </p>
+     *
+     * <p>
+     *     クラス名を最初に設定します。
+     *     {@code null}を設定した場合は{@link IllegalArgumentException}を投げます。
+     * </p>
+     *
+     * @param name クラス名<br>{@code null}不可
+     */
+    public ClassModel(Name name) {
+        setName(name);
+    }
+
+    /**
+     * <p> クラス名を設定します。 </p>
+     *
+     * @param name クラス名<br>{@code null}不可
+     */
+    public void setName(Name name) {
+        if (name == null) throw new IllegalArgumentException();
+        this.name = name;
+    }
+
+    /**
+     * <p> クラス名を取得します。 </p>
+     *
+     * @return クラス名<br>{@code null}なし
+     */
+    public Name getName() {
+        return name;
+    }
+
+    /**
+     * <p> 属性を追加します。 </p>
+     *
+     * <p>
+     *     {@code null}を設定した場合は{@link IllegalArgumentException}を投げます。
+     *     既に追加している属性（同一のインスタンス）を設定した場合は何もしません。
+     * </p>
+     *
+     * @param attribute 属性<br>{@code null}不可
+     */
+    public void addAttribute(Attribute attribute) {
+        if (attribute == null) throw new IllegalArgumentException();
+        if (attributes.containsKey(attribute)) return;
+
+        Keys keys = Keys.of(attribute);
+        attributes.put(attribute, keys);
+        attributesByName.put(keys.name, attribute);
+        attributesByType.put(keys.type, attribute);
+        attributesByVisibility.put(keys.visibility, attribute);
+        for (Class<? extends Property> property : keys.properties) attributesByProperty.put(property, attribute);
+    }
+
+    /**
+     * <p> 属性を削除します。 </p>
+     *
+     * @param attribute 属性
+     * @return 属性を保持していた場合は真を返す真偽値
+     */
+    public boolean removeAttribute(Attribute attribute) {
+        Keys keys = attributes.remove(attribute);
+        if (keys == null) return false;
+
+        attributesByName.remove(keys.name, attribute);
+        attributesByType.remove(keys.type, attribute);
+        attributesByVisibility.remove(keys.visibility, attribute);
+        for (Class<? extends Property> property : keys.properties) attributesByProperty.remove(property, attribute);
+        return true;
+    }
+
+    /**
+     * <p> 属性の索引を更新します。 </p>
+     *
+     * <p>
+     *     追加した後に属性の内容を変更した場合に実行してください。
+     *     保持していない属性を設定した場合は{@link IllegalArgumentException}を投げます。
+     * </p>
+     *
+     * @param attribute 属性<br>保持していない属性は不可
+     */
+    public void reindex(Attribute attribute) {
+        if (!removeAttribute(attribute)) throw new IllegalArgumentException();
+        addAttribute(attribute);
+    }
+
+    /**
+     * <p> 全ての属性を取得します。 </p>
+     *
+     * @return 追加した順の属性の集合（変更不可）<br>{@code null}なし
+     */
+    public Set<Attribute> getAttributes() {
+        return Collections.unmodifiableSet(attributes.keySet());
+    }
+
+    /**
+     * <p> 名前で属性を検索します。 </p>
+     *
+     * @param name 属性名
+     * @return 検索した時点の属性の集合（変更不可）<br>{@code null}なし（存在しない場合は空の集合）
+     */
+    public Set<Attribute> findAttributesByName(String name) {
+        return attributesByName.get(name);
+    }
+
+    /**
+     * <p> 型名で属性を検索します。 </p>
+     *
+     * @param typeName 型名
+     * @return 検索した時点の属性の集合（変更不可）<br>{@code null}なし（存在しない場合は空の集合）
+     */
+    public Set<Attribute> findAttributesByType(String typeName) {
+        return attributesByType.get(typeName);
+    }
+
+    /**
+     * <p> 可視性で属性を検索します。 </p>
+     *
+     * @param visibility 可視性
+     * @return 検索した時点の属性の集合（変更不可）<br>{@code null}なし（存在しない場合は空の集合）
+     */
+    public Set<Attribute> findAttributesByVisibility(Visibility visibility) {
+        return attributesByVisibility.get(visibility);
+    }
+
+    /**
+     * <p> プロパティの種類で属性を検索します。 </p>
+     *
+     * @param property プロパティのクラス（例、{@code ReadOnly.class}）
+     * @return 検索した時点の属性の集合（変更不可）<br>{@code null}なし（存在しない場合は空の集合）
+     */
+    public Set<Attribute> findAttributesByProperty(Class<? extends Property> property) {
+        return attributesByProperty.get(property);
+    }
+
+    /**
+     * <p> 操作を追加します。 </p>
+     *
+     * <p>
+     *     {@code null}を設定した場合は{@link IllegalArgumentException}を投げます。
+     *     既に追加している操作（同一のインスタンス）を設定した場合は何もしません。
+     * </p>
+     *
+     * @param operation 操作<br>{@code null}不可
+     */
+    public void addOperation(Operation operation) {
+        if (operation == null) throw new IllegalArgumentException();
+        if (operations.containsKey(operation)) return;
+
+        Keys keys = Keys.of(operation);
+        operations.put(operation, keys);
+        operationsByName.put(keys.name, operation);
+        operationsByReturnType.put(keys.type, operation);
+        operationsByVisibility.put(keys.visibility, operation);
+        for (Class<? extends Property> property : keys.properties) operationsByProperty.put(property, operation);
+    }
+
+    /**
+     * <p> 操作を削除します。 </p>
+     *
+     * @param operation 操作
+     * @return 操作を保持していた場合は真を返す真偽値
+     */
+    public boolean removeOperation(Operation operation) {
+        Keys keys = operations.remove(operation);
+        if (keys == null) return false;
+
+        operationsByName.remove(keys.name, operation);
+        operationsByReturnType.remove(keys.type, operation);
+        operationsByVisibility.remove(keys.visibility, operation);
+        for (Class<? extends Property> property : keys.properties) operationsByProperty.remove(property, operation);
+        return true;
+    }
+
+    /**
+     * <p> 操作の索引を更新します。 </p>
+     *
+     * <p>
+     *     追加した後に操作の内容を変更した場合に実行してください。
+     *     保持していない操作を設定した場合は{@link IllegalArgumentException}を投げます。
+     * </p>
+     *
+     * @param operation 操作<br>保持していない操作は不可
+     */
+    public void reindex(Operation operation) {
+        if (!removeOperation(operation)) throw new IllegalArgumentException();
+        addOperation(operation);
+    }
+
+    /**
+     * <p> 全ての操作を取得します。 </p>
+     *
+     * @return 追加した順の操作の集合（変更不可）<br>{@code null}なし
+     */
+    public Set<Operation> getOperations() {
+        return Collections.unmodifiableSet(operations.keySet());
+    }
+
+    /**
+     * <p> 名前で操作を検索します。 </p>
+     *
+     * <p>
+     *     オーバーロードしている場合は複数の操作を返します。
+     * </p>
+     *
+     * @param name 操作名
+     * @return 検索した時点の操作の集合（変更不可）<br>{@code null}なし（存在しない場合は空の集合）
+     */
+    public Set<Operation> findOperationsByName(String name) {
+        return operationsByName.get(name);
+    }
+
+    /**
+     * <p> 戻り値の型名で操作を検索します。 </p>
+     *
+     * @param typeName 戻り値の型名
+     * @return 検索した時点の操作の集合（変更不可）<br>{@code null}なし（存在しない場合は空の集合）
+     */
+    public Set<Operation> findOperationsByReturnType(String typeName) {
+        return operationsByReturnType.get(typeName);
+    }
+
+    /**
+     * <p> 可視性で操作を検索します。 </p>
+     *
+     * @param visibility 可視性
+     * @return 検索した時点の操作の集合（変更不可）<br>{@code null}なし（存在しない場合は空の集合）
+     */
+    public Set<Operation> findOperationsByVisibility(Visibility visibility) {
+        return operationsByVisibility.get(visibility);
+    }
+
+    /**
+     * <p> プロパティの種類で操作を検索します。 </p>
+     *
+     * @param property プロパティのクラス（例、{@code Query.class}）
+     * @return 検索した時点の操作の集合（変更不可）<br>{@code null}なし（存在しない場合は空の集合）
+     */
+    public Set<Operation> findOperationsByProperty(Class<? extends Property> property) {
+        return operationsByProperty.get(property);
+    }
+
+    /**
+     * <p> 全ての属性と操作を削除します。 </p>
+     */
+    public void clear() {
+        attributes.clear();
+        attributesByName.clear();
+        attributesByType.clear();
+        attributesByVisibility.clear();
+        attributesByProperty.clear();
+
+        operations.clear();
+        operationsByName.clear();
+        operationsByReturnType.clear();
+        operationsByVisibility.clear();
+        operationsByProperty.clear();
+    }
+
+    /**
+     * <p> クラス名の文字列を取得します。 </p>
+     *
+     * @return クラス名の文字列<br>{@code null}および{@code ""}なし
+     */
+    @Override
+    public String toString() {
+        return name.toString();
+    }
+
+
+
+    /**
+     * <p> 索引のキーの組 </p>
+     *
+     * <p>
+     *     削除時に追加時と同じキーで索引から取除くため、追加時のキーを保持します。
+     * </p>
+     */
+    private static class Keys {
+        private final String name;
+        private final String type;
+        private final Visibility visibility;
+        private final List<Class<? extends Property>> properties;
+
+        private Keys(String name, String type, Visibility visibility, List<Class<? extends Property>> properties) {
+            this.name = name;
+            this.type = type;
+            this.visibility = visibility;
+            this.properties = properties;
+        }
+
+        private static Keys of(Attribute attribute) {
+            return new Keys(attribute.getName().getNameText(),
+                    attribute.hasType() ? attribute.getType().toString() : null,
+                    attribute.hasVisibility() ? attribute.getVisibility() : null,
+                    attribute.hasProperties() ? classesOf(attribute.getProperties()) : Collections.emptyList());
+        }
+
+        private static Keys of(Operation operation) {
+            return new Keys(operation.getName().getNameText(),
+                    operation.hasReturnType() ? operation.getReturnType().toString() : null,
+                    operation.hasVisibility() ? operation.getVisibility() : null,
+                    operation.hasProperties() ? classesOf(operation.getProperties()) : Collections.emptyList());
+        }
+
+        private static List<Class<? extends Property>> classesOf(List<Property> properties) {
+            List<Class<? extends Property>> classes = new ArrayList<>(properties.size());
+            for (Property property : properties) classes.add(property.getClass());
+            return classes;
+        }
+    }
+}
@@ -0,0 +1,522 @@
+package io.github.morichan.fescue.model;
+
+import io.github.morichan.fescue.feature.Attribute;
+import io.github.morichan.fescue.feature.multiplicity.Bounder;
+import io.github.morichan.fescue.feature.multiplicity.MultiplicityRange;
+import io.github.morichan.fescue.feature.name.Name;
+import io.github.morichan.fescue.feature.property.Ordered;
+import io.github.morichan.fescue.feature.property.Property;
+import io.github.morichan.fescue.feature.property.ReadOnly;
+import io.github.morichan.fescue.feature.property.Union;
+import io.github.morichan.fescue.feature.property.Unique;
+import io.github.morichan.fescue.feature.type.Type;
+import io.github.morichan.fescue.feature.value.DefaultValue;
+import io.github.morichan.fescue.feature.value.expression.OneIdentifier;
+import io.github.morichan.fescue.feature.visibility.Visibility;
+import io.github.morichan.fescue.sculptor.AttributeSculptor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p> 属性を列ごとに保持する表クラス </p>
+ *
+ * <p>
+ *     大量の属性を{@link Attribute}のインスタンスのまま保持すると、名前、型、多重度の範囲、プロパティのリストなどのインスタンスで1つあたり数百バイトを要します。
+ *     この表は属性を1行として、各要素を次の列（配列）に分けて保持します。
+ * </p>
+ *
+ * <ul>
+ *     <li> 名前と型名は、文字列の辞書の番号として{@code int}の配列 </li>
+ *     <li> 可視性、派生、多重度の範囲の有無は{@code byte}の配列 </li>
+ *     <li> {@code readOnly}、{@code union}、{@code ordered}、{@code unique}のプロパティはビットの組として{@code short}の配列 </li>
+ *     <li> 多重度の範囲の下限と上限は{@code long}の配列 </li>
+ *     <li> 既定値はインスタンスの参照 </li>
+ * </ul>
+ *
+ * <p>
+ *     整数で表せない多重度の範囲（例、{@code [(n + 1)]}）と、{@code subsets}や{@code redefines}を含むプロパティ、
+ *     および上記の順序と異なるプロパティ（例、{@code {unique, ordered}}）は、元の文字列を変えないためにインスタンスの参照のまま保持します。
+ * </p>
+ *
+ * <p>
+ *     {@link #materialize(int)}は行から{@link Attribute}インスタンスを毎回生成します。
+ *     生成した属性の文字列（{@link Attribute#toString()}）は追加した属性と同じです。
+ *     ただし、既定値と参照のまま保持した要素は、追加した属性と同じインスタンスを共有します。
+ * </p>
+ *
+ * <pre>
+ *     {@code
+ *     FeatureTable table = new FeatureTable();
+ *     table.appendAll(new AttributeSculptor(), Arrays.asList("- number : int [0..1]", "+ names : String[*] {ordered}"));
+ *
+ *     System.out.println(table.getNameText(1));    // "names"
+ *     System.out.println(table.isOrdered(1));      // true
+ *     System.out.println(table.materialize(0));    // "- number : int [0..1]"
+ *     }
+ * </pre>
+ *
+ * <p>
+ *     このクラスはスレッドセーフではありません。
+ * </p>
+ */
+public class FeatureTable {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private static final byte VISIBILITY_MASK = 0b111;
+    private static final byte DERIVED = 0b1000;
+    private static final byte HAS_RANGE = 0b1_0000;
+
+    private static final short READ_ONLY = 0b1;
+    private static final short UNION = 0b10;
+    private static final short ORDERED = 0b100;
+    private static final short UNIQUE = 0b1000;
+
+    /**
+     * プロパティを{@link #referencedProperties}で保持する場合のビット
+     */
+    private static final short REFERENCED = 0b100_0000_0000_0000;
+
+    /**
+     * 多重度の範囲の下限がない場合の値
+     */
+    private static final long NO_LOWER = -1;
+
+    /**
+     * 多重度の範囲の上限が{@code *}の場合の値
+     */
+    private static final long UNLIMITED = -2;
+
+    /**
+     * 多重度の範囲を{@link #referencedRanges}で保持する場合の値
+     */
+    private static final long REFERENCED_BOUND = -3;
+
+    /**
+     * 可視性の番号（{@code 0}は可視性なし）
+     */
+    private static final Visibility[] VISIBILITIES = {null, Visibility.Public, Visibility.Private, Visibility.Protected, Visibility.Package, Visibility.Undefined};
+
+    private final List<String> texts = new ArrayList<>();
+    private final Map<String, Integer> textIds = new HashMap<>();
+
+    private int[] names;
+    private int[] types;
+    private byte[] flags;
+    private short[] properties;
+    private long[] bounds;
+    private DefaultValue[] defaultValues;
+
+    private final Map<Integer, MultiplicityRange> referencedRanges = new HashMap<>();
+    private final Map<Integer, List<Property>> referencedProperties = new HashMap<>();
+
+    private int size = 0;
+
+    /**
+     * <p> 空の表を生成するコンストラクタ </p>
+     */
+    public FeatureTable() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * <p> 行数の初期容量を設定するコンストラクタ </p>
+     *
+     * <p>
+     *     追加する属性の数が分かっている場合は、その数を設定すると配列の拡張を避けられます。
+     *     負の数を設定した場合は{@link IllegalArgumentException}を投げます。
+     * </p>
+     *
+     * @param initialCapacity 初期容量
+     */
+    public FeatureTable(int initialCapacity) {
+        if (initialCapacity < 0) throw new IllegalArgumentException();
+
+        names = new int[initialCapacity];
+        types = new int[initialCapacity];
+        flags = new byte[initialCapacity];
+        properties = new short[initialCapacity];
+        bounds = new long[initialCapacity * 2];
+        defaultValues = new DefaultValue[initialCapacity];
+    }
+
+    /**
+     * <p> 属性を1行追加します。 </p>
+     *
+     * <p>
+     *     追加した後に属性を変更しても表には反映しません（既定値と参照のまま保持した要素を除く）。
+     *     {@code null}を設定した場合は{@link IllegalArgumentException}を投げます。
+     * </p>
+     *
+     * @param attribute 属性<br>{@code null}不可
+     * @return 追加した行の番号
+     */
+    public int append(Attribute attribute) {
+        if (attribute == null) throw new IllegalArgumentException();
+        if (size == names.length) grow();
+
+        int row = size;
+        names[row] = idOf(attribute.getName().getNameText());
+        types[row] = attribute.hasType() ? idOf(attribute.getType().getName().getNameText()) : -1;
+        flags[row] = encodeFlags(attribute);
+        properties[row] = encodeProperties(row, attribute);
+        if (attribute.hasMultiplicityRange()) encodeRange(row, attribute.getMultiplicityRange());
+        defaultValues[row] = attribute.hasDefaultValue() ? attribute.getDefaultValue() : null;
+
+        size++;
+        return row;
+    }
+
+    /**
+     * <p> 属性の文字列を構文解析して形成し、順に追加します。 </p>
+     *
+     * <p>
+     *     彫刻器は1つを使い回します。
+     *     構文解析または形成で例外を投げた場合は、それまでに追加した行を残して例外をそのまま投げます。
+     *     {@code null}を設定した場合は{@link IllegalArgumentException}を投げます。
+     * </p>
+     *
+     * @param sculptor 属性の彫刻器<br>{@code null}不可
+     * @param attributeTexts 属性の文字列<br>{@code null}不可
+     * @return 追加した行数
+     */
+    public int appendAll(AttributeSculptor sculptor, Iterable<? extends CharSequence> attributeTexts) {
+        if (sculptor == null || attributeTexts == null) throw new IllegalArgumentException();
+
+        int count = 0;
+        for (CharSequence text : attributeTexts) {
+            sculptor.parse(text);
+            append(sculptor.carve());
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * <p> 行数を取得します。 </p>
+     *
+     * @return 行数
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * <p> 行から{@link Attribute}インスタンスを生成します。 </p>
+     *
+     * <p>
+     *     呼出すたびに新しいインスタンスを生成します。
+     *     範囲外の行を設定した場合は{@link IndexOutOfBoundsException}を投げます。
+     * </p>
+     *
+     * @param row 行の番号
+     * @return 属性<br>{@code null}なし
+     */
+    public Attribute materialize(int row) {
+        checkRow(row);
+
+        Attribute attribute = new Attribute(new Name(texts.get(names[row])));
+        if (hasVisibility(row)) attribute.setVisibility(getVisibility(row));
+        attribute.setDerived(isDerived(row));
+        if (types[row] >= 0) attribute.setType(new Type(texts.get(types[row])));
+        if (hasMultiplicityRange(row)) attribute.setMultiplicityRange(decodeRange(row));
+        if (defaultValues[row] != null) attribute.setDefaultValue(defaultValues[row]);
+        for (Property property : decodeProperties(row)) attribute.addProperty(property);
+
+        return attribute;
+    }
+
+    /**
+     * <p> 行の名前を取得します。 </p>
+     *
+     * @param row 行の番号
+     * @return 名前<br>{@code null}および{@code ""}なし
+     */
+    public String getNameText(int row) {
+        checkRow(row);
+        return texts.get(names[row]);
+    }
+
+    /**
+     * <p> 行の型名を取得します。 </p>
+     *
+     * <p>
+     *     型がない場合は{@link IllegalStateException}を投げます。
+     * </p>
+     *
+     * @param row 行の番号
+     * @return 型名<br>{@code null}および{@code ""}なし
+     */
+    public String getTypeNameText(int row) {
+        checkRow(row);
+        if (types[row] < 0) throw new IllegalStateException();
+        return texts.get(types[row]);
+    }
+
+    /**
+     * <p> 行に型がある場合は真を返す真偽値判定を行います。 </p>
+     *
+     * @param row 行の番号
+     * @return 型がある場合は真を返す真偽値
+     */
+    public boolean hasType(int row) {
+        checkRow(row);
+        return types[row] >= 0;
+    }
+
+    /**
+     * <p> 行の可視性を取得します。 </p>
+     *
+     * <p>
+     *     可視性がない場合は{@link IllegalStateException}を投げます。
+     * </p>
+     *
+     * @param row 行の番号
+     * @return 可視性<br>{@code null}なし
+     */
+    public Visibility getVisibility(int row) {
+        checkRow(row);
+        Visibility visibility = VISIBILITIES[flags[row] & VISIBILITY_MASK];
+        if (visibility == null) throw new IllegalStateException();
+        return visibility;
+    }
+
+    /**
+     * <p> 行に可視性がある場合は真を返す真偽値判定を行います。 </p>
+     *
+     * @param row 行の番号
+     * @return 可視性がある場合は真を返す真偽値
+     */
+    public boolean hasVisibility(int row) {
+        checkRow(row);
+        return (flags[row] & VISIBILITY_MASK) != 0;
+    }
+
+    /**
+     * <p> 行が派生属性の場合は真を返す真偽値判定を行います。 </p>
+     *
+     * @param row 行の番号
+     * @return 派生属性の場合は真を返す真偽値
+     */
+    public boolean isDerived(int row) {
+        checkRow(row);
+        return (flags[row] & DERIVED) != 0;
+    }
+
+    /**
+     * <p> 行に多重度の範囲がある場合は真を返す真偽値判定を行います。 </p>
+     *
+     * @param row 行の番号
+     * @return 多重度の範囲がある場合は真を返す真偽値
+     */
+    public boolean hasMultiplicityRange(int row) {
+        checkRow(row);
+        return (flags[row] & HAS_RANGE) != 0;
+    }
+
+    /**
+     * <p> 行の既定値を取得します。 </p>
+     *
+     * <p>
+     *     追加した属性と同じインスタンスを返します。
+     *     既定値がない場合は{@link IllegalStateException}を投げます。
+     * </p>
+     *
+     * @param row 行の番号
+     * @return 既定値<br>{@code null}なし
+     */
+    public DefaultValue getDefaultValue(int row) {
+        checkRow(row);
+        if (defaultValues[row] == null) throw new IllegalStateException();
+        return defaultValues[row];
+    }
+
+    /**
+     * <p> 行に既定値がある場合は真を返す真偽値判定を行います。 </p>
+     *
+     * @param row 行の番号
+     * @return 既定値がある場合は真を返す真偽値
+     */
+    public boolean hasDefaultValue(int row) {
+        checkRow(row);
+        return defaultValues[row] != null;
+    }
+
+    /**
+     * <p> 行が{@code readOnly}のプロパティを持つ場合は真を返す真偽値判定を行います。 </p>
+     *
+     * @param row 行の番号
+     * @return {@code readOnly}のプロパティを持つ場合は真を返す真偽値
+     */
+    public boolean isReadOnly(int row) {
+        return hasProperty(row, READ_ONLY, ReadOnly.class);
+    }
+
+    /**
+     * <p> 行が{@code union}のプロパティを持つ場合は真を返す真偽値判定を行います。 </p>
+     *
+     * @param row 行の番号
+     * @return {@code union}のプロパティを持つ場合は真を返す真偽値
+     */
+    public boolean isUnion(int row) {
+        return hasProperty(row, UNION, Union.class);
+    }
+
+    /**
+     * <p> 行が{@code ordered}のプロパティを持つ場合は真を返す真偽値判定を行います。 </p>
+     *
+     * @param row 行の番号
+     * @return {@code ordered}のプロパティを持つ場合は真を返す真偽値
+     */
+    public boolean isOrdered(int row) {
+        return hasProperty(row, ORDERED, Ordered.class);
+    }
+
+    /**
+     * <p> 行が{@code unique}のプロパティを持つ場合は真を返す真偽値判定を行います。 </p>
+     *
+     * @param row 行の番号
+     * @return {@code unique}のプロパティを持つ場合は真を返す真偽値
+     */
+    public boolean isUnique(int row) {
+        return hasProperty(row, UNIQUE, Unique.class);
+    }
+
+
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= size) throw new IndexOutOfBoundsException("row " + row + " out of range 0.." + (size - 1));
+    }
+
+    private void grow() {
+        int capacity = Math.max(DEFAULT_CAPACITY, names.length * 2);
+        names = Arrays.copyOf(names, capacity);
+        types = Arrays.copyOf(types, capacity);
+        flags = Arrays.copyOf(flags, capacity);
+        properties = Arrays.copyOf(properties, capacity);
+        bounds = Arrays.copyOf(bounds, capacity * 2);
+        defaultValues = Arrays.copyOf(defaultValues, capacity);
+    }
+
+    private int idOf(String text) {
+        Integer id = textIds.get(text);
+        if (id == null) {
+            id = texts.size();
+            texts.add(text);
+            textIds.put(text, id);
+        }
+        return id;
+    }
+
+    private byte encodeFlags(Attribute attribute) {
+        int encoded = 0;
+        if (attribute.hasVisibility()) while (VISIBILITIES[encoded] != attribute.getVisibility()) encoded++;
+        if (attribute.isDerived()) encoded |= DERIVED;
+        if (attribute.hasMultiplicityRange()) encoded |= HAS_RANGE;
+        return (byte) encoded;
+    }
+
+    /**
+     * <p> プロパティをビットの組に変換します。 </p>
+     *
+     * <p>
+     *     {@code readOnly}、{@code union}、{@code ordered}、{@code unique}をこの順に重複なく並べたプロパティのみビットの組で表します。
+     *     それ以外は元の順序を保つため、リストの参照を保持して{@link #REFERENCED}を返します。
+     * </p>
+     */
+    private short encodeProperties(int row, Attribute attribute) {
+        if (!attribute.hasProperties()) return 0;
+
+        int encoded = 0;
+        for (Property property : attribute.getProperties()) {
+            int bit = bitOf(property);
+            if (bit == 0 || bit <= encoded) {
+                referencedProperties.put(row, attribute.getProperties());
+                return REFERENCED;
+            }
+            encoded |= bit;
+        }
+        return (short) encoded;
+    }
+
+    private int bitOf(Property property) {
+        if (property instanceof ReadOnly) return READ_ONLY;
+        if (property instanceof Union) return UNION;
+        if (property instanceof Ordered) return ORDERED;
+        if (property instanceof Unique) return UNIQUE;
+        return 0;
+    }
+
+    private List<Property> decodeProperties(int row) {
+        short encoded = properties[row];
+        if (encoded == REFERENCED) return referencedProperties.get(row);
+
+        List<Property> decoded = new ArrayList<>(Integer.bitCount(encoded));
+        if ((encoded & READ_ONLY) != 0) decoded.add(new ReadOnly());
+        if ((encoded & UNION) != 0) decoded.add(new Union());
+        if ((encoded & ORDERED) != 0) decoded.add(new Ordered());
+        if ((encoded & UNIQUE) != 0) decoded.add(new Unique());
+        return decoded;
+    }
+
+    private boolean hasProperty(int row, short bit, Class<? extends Property> propertyClass) {
+        checkRow(row);
+        short encoded = properties[row];
+        if (encoded != REFERENCED) return (encoded & bit) != 0;
+
+        for (Property property : referencedProperties.get(row)) if (propertyClass.isInstance(property)) return true;
+        return false;
+    }
+
+    /**
+     * <p> 多重度の範囲を下限と上限の整数に変換します。 </p>
+     *
+     * <p>
+     *     彫刻器と同じく{@link OneIdentifier}で表した10進数の整数と{@code *}のみ整数で表します。
+     *     それ以外（値指定や16進数など）は元の文字列を保つため、範囲の参照を保持して{@link #REFERENCED_BOUND}とします。
+     * </p>
+     */
+    private void encodeRange(int row, MultiplicityRange range) {
+        long lower = range.isUpperOnly() ? NO_LOWER : encodeBound(range.getLower(), false);
+        long upper = encodeBound(range.getUpper(), true);
+
+        if (lower == REFERENCED_BOUND || upper == REFERENCED_BOUND) {
+            referencedRanges.put(row, range);
+            lower = upper = REFERENCED_BOUND;
+        }
+        bounds[row * 2] = lower;
+        bounds[row * 2 + 1] = upper;
+    }
+
+    private long encodeBound(Bounder bounder, boolean isUpper) {
+        if (!bounder.hasExpression() || !(bounder.getExpression() instanceof OneIdentifier)) return REFERENCED_BOUND;
+
+        String text = bounder.toString();
+        if (isUpper && text.equals("*")) return UNLIMITED;
+        if (!isDecimal(text)) return REFERENCED_BOUND;
+        return Long.parseLong(text);
+    }
+
+    /**
+     * <p> {@link Long#parseLong(String)}で変換して{@link Long#toString(long)}で戻した場合に同じ文字列になる、{@code 0}以上の10進数の場合は真を返します。 </p>
+     */
+    private boolean isDecimal(String text) {
+        if (text.isEmpty() || text.length() > 18 || (text.length() > 1 && text.charAt(0) == '0')) return false;
+        for (int i = 0; i < text.length(); i++) if (text.charAt(i) < '0' || text.charAt(i) > '9') return false;
+        return true;
+    }
+
+    private MultiplicityRange decodeRange(int row) {
+        long lower = bounds[row * 2];
+        long upper = bounds[row * 2 + 1];
+        if (upper == REFERENCED_BOUND) return referencedRanges.get(row);
+
+        Bounder upperBounder = new Bounder(new OneIdentifier(upper == UNLIMITED ? "*" : Long.toString(upper)));
+        if (lower == NO_LOWER) return new MultiplicityRange(upperBounder);
+        return new MultiplicityRange(new Bounder(new OneIdentifier(Long.toString(lower))), upperBounder);
+    }
+}
@@ -0,0 +1,81 @@
+package io.github.morichan.fescue.model;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p> 索引クラス </p>
+ *
+ * <p>
+ *     キーから要素の集合を求めるための索引です。
+ *     要素の集合は追加した順に並びます。
+ *     追加と削除は要素数によらず一定時間で、検索はキーに対応する要素の数に比例した時間で行います。
+ * </p>
+ *
+ * @param <K> キーの型
+ * @param <F> 要素の型
+ */
+class Index<K, F> {
+
+    private final Map<K, Set<F>> map = new HashMap<>();
+
+    /**
+     * <p> 要素を追加します。 </p>
+     *
+     * <p>
+     *     キーが{@code null}の場合は何もしません。
+     * </p>
+     *
+     * @param key キー
+     * @param feature 要素
+     */
+    void put(K key, F feature) {
+        if (key == null) return;
+        map.computeIfAbsent(key, k -> new LinkedHashSet<>()).add(feature);
+    }
+
+    /**
+     * <p> 要素を削除します。 </p>
+     *
+     * <p>
+     *     キーが{@code null}の場合は何もしません。
+     * </p>
+     *
+     * @param key キー
+     * @param feature 要素
+     */
+    void remove(K key, F feature) {
+        if (key == null) return;
+
+        Set<F> features = map.get(key);
+        if (features == null) return;
+        features.remove(feature);
+        if (features.isEmpty()) map.remove(key);
+    }
+
+    /**
+     * <p> キーに対応する要素の集合を取得します。 </p>
+     *
+     * <p>
+     *     取得した時点の集合の複製を返すため、その後の追加や削除は反映しません。
+     *     キーの要素を全て削除すると索引からキーを取除くため、変更を反映する集合を返すとキーを取除いた後の追加が反映されなくなります。
+     * </p>
+     *
+     * @param key キー
+     * @return 取得した時点の要素の集合（変更不可）<br>{@code null}なし（存在しない場合は空の集合）
+     */
+    Set<F> get(K key) {
+        Set<F> features = map.get(key);
+        return features == null ? Collections.emptySet() : Collections.unmodifiableSet(new LinkedHashSet<>(features));
+    }
+
+    /**
+     * <p> 全ての要素を削除します。 </p>
+     */
+    void clear() {
+        map.clear();
+    }
+}
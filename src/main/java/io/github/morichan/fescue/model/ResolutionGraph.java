@@ -0,0 +1,463 @@
+package io.github.morichan.fescue.model;
+
+import io.github.morichan.fescue.feature.Attribute;
+import io.github.morichan.fescue.feature.Operation;
+import io.github.morichan.fescue.feature.parameter.Parameter;
+import io.github.morichan.fescue.feature.property.Property;
+import io.github.morichan.fescue.feature.property.Redefines;
+import io.github.morichan.fescue.feature.property.Subsets;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * <p> {@code subsets}と{@code redefines}の解決グラフクラス </p>
+ *
+ * <p>
+ *     クラスとその汎化（スーパークラス名）を保持し、属性の{@link Subsets}と{@link Redefines}、操作の{@link Redefines}をそれぞれの対象の属性または操作に結びつけます。
+ *     対象は次の順に探し、最初に見つかったものとします。
+ * </p>
+ *
+ * <ul>
+ *     <li> クラス名で修飾した名前（例、{@code "Base.total"}）の場合は、そのクラスとその祖先のクラス </li>
+ *     <li> 修飾していない{@code subsets}の場合は、同じクラスとその祖先のクラス </li>
+ *     <li> 修飾していない{@code redefines}の場合は、祖先のクラスのみ </li>
+ * </ul>
+ *
+ * <p>
+ *     祖先のクラスは近いものから順に（幅優先で）探します。
+ *     操作の{@code redefines}は、同じ名前の操作のうちパラメータの型の並びが同じものを優先します。
+ * </p>
+ *
+ * <p>
+ *     解決した結果と、解決する際に参照したクラス名を保持します。
+ *     クラスを追加、置換または削除した場合は、そのクラスの{@code subsets}と{@code redefines}と、そのクラスを参照して解決した{@code subsets}と{@code redefines}のみを解決し直します。
+ *     そのため、1つのクラスの変更で全てのクラスを解決し直すことはありません。
+ * </p>
+ *
+ * <p>
+ *     使い方を次に示します。
+ * </p>
+ *
+ * <pre>
+ *     {@code
+ *     ResolutionGraph graph = new ResolutionGraph();
+ *     graph.putClass(base, Collections.emptyList());          // "- total : int"
+ *     graph.putClass(sample, Collections.singletonList("Base")); // "- number : int {subsets total}"
+ *
+ *     System.out.println(graph.getAttributeTarget(subsets)); // "- total : int"
+ *     }
+ * </pre>
+ *
+ * <p>
+ *     追加した後にクラスの属性や操作を変更した場合は、再度{@link #putClass(ClassModel, Collection)}を実行してください。
+ *     このクラスはスレッドセーフではありません。
+ * </p>
+ */
+public class ResolutionGraph {
+
+    private final Map<String, ClassNode> classes = new HashMap<>();
+
+    /**
+     * 解決する際に参照したクラス名ごとの{@code subsets}と{@code redefines}
+     */
+    private final Map<String, Set<Link>> dependents = new HashMap<>();
+
+    private final Map<Property, Link> links = new IdentityHashMap<>();
+
+    private long resolutionCount = 0;
+
+    /**
+     * <p> クラスを追加します。 </p>
+     *
+     * <p>
+     *     同じクラス名のクラスを既に追加している場合は置換します。
+     *     どちらかに{@code null}を設定した場合と、スーパークラス名に{@code null}を含む場合は{@link IllegalArgumentException}を投げます。
+     * </p>
+     *
+     * @param model クラス<br>{@code null}不可
+     * @param generalizations スーパークラス名のコレクション（スーパークラスがない場合は空のコレクション）<br>{@code null}および{@code null}の要素不可
+     */
+    public void putClass(ClassModel model, Collection<String> generalizations) {
+        if (model == null || generalizations == null) throw new IllegalArgumentException();
+        for (String generalization : generalizations) if (generalization == null) throw new IllegalArgumentException();
+
+        String className = model.getName().getNameText();
+        ClassNode old = classes.get(className);
+        if (old != null) unregister(old);
+
+        ClassNode node = new ClassNode(model, new ArrayList<>(generalizations));
+        for (Attribute attribute : model.getAttributes()) {
+            if (!attribute.hasProperties()) continue;
+            for (Property property : attribute.getProperties()) {
+                if (property instanceof Subsets) node.links.add(new Link(className, attribute, property, ((Subsets) property).getExpression().toString(), false));
+                else if (property instanceof Redefines) node.links.add(new Link(className, attribute, property, ((Redefines) property).getExpression().toString(), true));
+            }
+        }
+        for (Operation operation : model.getOperations()) {
+            if (!operation.hasProperties()) continue;
+            for (Property property : operation.getProperties()) {
+                if (property instanceof Redefines) node.links.add(new Link(className, operation, property, ((Redefines) property).getExpression().toString(), true));
+            }
+        }
+        classes.put(className, node);
+
+        for (Link link : node.links) links.put(link.property, link);
+        resolveAll(className, node.links);
+    }
+
+    /**
+     * <p> クラスを削除します。 </p>
+     *
+     * @param className クラス名
+     * @return クラスを保持していた場合は真を返す真偽値
+     */
+    public boolean removeClass(String className) {
+        ClassNode node = classes.remove(className);
+        if (node == null) return false;
+
+        unregister(node);
+        resolveAll(className, Collections.emptyList());
+        return true;
+    }
+
+    /**
+     * <p> {@code subsets}または{@code redefines}の対象が見つかった場合は真を返す真偽値判定を行います。 </p>
+     *
+     * @param property 追加したクラスの属性または操作のプロパティ
+     * @return 対象が見つかった場合は真を返す真偽値（保持していないプロパティの場合は偽）
+     */
+    public boolean hasTarget(Property property) {
+        Link link = links.get(property);
+        return link != null && link.target != null;
+    }
+
+    /**
+     * <p> 属性の{@code subsets}または{@code redefines}の対象の属性を取得します。 </p>
+     *
+     * <p>
+     *     対象が見つかっていない場合と、操作のプロパティを設定した場合は{@link IllegalStateException}を投げます。
+     * </p>
+     *
+     * @param property 追加したクラスの属性のプロパティ
+     * @return 対象の属性<br>{@code null}なし
+     */
+    public Attribute getAttributeTarget(Property property) {
+        Link link = links.get(property);
+        if (link == null || !(link.target instanceof Attribute)) throw new IllegalStateException();
+        return (Attribute) link.target;
+    }
+
+    /**
+     * <p> 操作の{@code redefines}の対象の操作を取得します。 </p>
+     *
+     * <p>
+     *     対象が見つかっていない場合と、属性のプロパティを設定した場合は{@link IllegalStateException}を投げます。
+     * </p>
+     *
+     * @param property 追加したクラスの操作のプロパティ
+     * @return 対象の操作<br>{@code null}なし
+     */
+    public Operation getOperationTarget(Property property) {
+        Link link = links.get(property);
+        if (link == null || !(link.target instanceof Operation)) throw new IllegalStateException();
+        return (Operation) link.target;
+    }
+
+    /**
+     * <p> 対象が見つかっていない全ての{@code subsets}と{@code redefines}を取得します。 </p>
+     *
+     * @return 対象が見つかっていないプロパティのリスト<br>{@code null}なし
+     */
+    public List<Property> getUnresolvedProperties() {
+        List<Property> unresolved = new ArrayList<>();
+        for (Link link : links.values()) if (link.target == null) unresolved.add(link.property);
+        return unresolved;
+    }
+
+    /**
+     * <p> {@code subsets}と{@code redefines}の循環を探します。 </p>
+     *
+     * <p>
+     *     属性または操作から対象への辺をたどって元に戻る経路を、クラス名で修飾した名前（例、{@code "Sample.number"}）のリストとして返します。
+     *     自身を対象とする場合は要素数が{@code 1}のリストです。
+     * </p>
+     *
+     * @return 循環のリスト<br>{@code null}なし（循環がない場合は空のリスト）
+     */
+    public List<List<String>> findFeatureCycles() {
+        Map<Object, List<Link>> edges = new IdentityHashMap<>();
+        Map<Object, String> names = new IdentityHashMap<>();
+        for (Link link : links.values()) {
+            if (link.target == null) continue;
+            edges.computeIfAbsent(link.owner, k -> new ArrayList<>()).add(link);
+            names.put(link.owner, link.ownerClass + "." + nameOf(link.owner));
+            names.put(link.target, link.targetClass + "." + nameOf(link.target));
+        }
+
+        return findCycles(edges.keySet(), feature -> {
+            List<Object> targets = new ArrayList<>();
+            for (Link link : edges.getOrDefault(feature, Collections.emptyList())) targets.add(link.target);
+            return targets;
+        }, names::get);
+    }
+
+    /**
+     * <p> 汎化の循環を探します。 </p>
+     *
+     * <p>
+     *     スーパークラスをたどって元に戻る経路を、クラス名のリストとして返します。
+     *     追加していないスーパークラスはたどりません。
+     * </p>
+     *
+     * @return 循環のリスト<br>{@code null}なし（循環がない場合は空のリスト）
+     */
+    public List<List<String>> findGeneralizationCycles() {
+        return findCycles(new ArrayList<Object>(classes.keySet()), className -> {
+            List<Object> supers = new ArrayList<>();
+            for (String generalization : classes.get(className).generalizations) if (classes.containsKey(generalization)) supers.add(generalization);
+            return supers;
+        }, Object::toString);
+    }
+
+    /**
+     * <p> これまでに{@code subsets}または{@code redefines}を解決した回数を取得します。 </p>
+     *
+     * @return 解決した回数
+     */
+    long getResolutionCount() {
+        return resolutionCount;
+    }
+
+
+
+    /**
+     * <p> 追加したクラスの{@code subsets}と{@code redefines}と、変更したクラスを参照して解決していた{@code subsets}と{@code redefines}を解決し直します。 </p>
+     *
+     * @param className 変更したクラスの名前
+     * @param ownLinks 変更したクラスの{@code subsets}と{@code redefines}
+     */
+    private void resolveAll(String className, List<Link> ownLinks) {
+        Set<Link> affected = new LinkedHashSet<>(ownLinks);
+        affected.addAll(dependents.getOrDefault(className, Collections.emptySet()));
+        for (Link link : affected) resolve(link);
+    }
+
+    private void unregister(ClassNode node) {
+        for (Link link : node.links) {
+            links.remove(link.property);
+            release(link);
+        }
+    }
+
+    private void release(Link link) {
+        for (String consulted : link.consulted) {
+            Set<Link> set = dependents.get(consulted);
+            if (set == null) continue;
+            set.remove(link);
+            if (set.isEmpty()) dependents.remove(consulted);
+        }
+        link.consulted.clear();
+    }
+
+    private void resolve(Link link) {
+        resolutionCount++;
+        release(link);
+        link.target = null;
+        link.targetClass = null;
+
+        String text = link.targetText;
+        int dot = text.lastIndexOf('.');
+        if (dot > 0 && dot < text.length() - 1) {
+            search(link, text.substring(0, dot), text.substring(dot + 1), true);
+        } else {
+            search(link, link.ownerClass, text, !link.isRedefines);
+        }
+
+        for (String consulted : link.consulted) dependents.computeIfAbsent(consulted, k -> new HashSet<>()).add(link);
+    }
+
+    /**
+     * <p> クラスとその祖先のクラスから幅優先で対象を探します。 </p>
+     *
+     * @param link {@code subsets}または{@code redefines}
+     * @param start 探し始めるクラスの名前
+     * @param member 対象の名前
+     * @param includesStart 探し始めるクラス自身からも探す場合は真
+     */
+    private void search(Link link, String start, String member, boolean includesStart) {
+        Deque<String> queue = new ArrayDeque<>();
+        Set<String> visited = new HashSet<>();
+        queue.add(start);
+        visited.add(start);
+
+        while (!queue.isEmpty()) {
+            String className = queue.poll();
+            link.consulted.add(className);
+            ClassNode node = classes.get(className);
+            if (node == null) continue;
+
+            if (includesStart || !className.equals(start)) {
+                Object target = find(node.model, member, link);
+                if (target != null) {
+                    link.target = target;
+                    link.targetClass = className;
+                    return;
+                }
+            }
+            for (String generalization : node.generalizations) if (visited.add(generalization)) queue.add(generalization);
+        }
+    }
+
+    private Object find(ClassModel model, String member, Link link) {
+        if (link.owner instanceof Attribute) {
+            for (Attribute attribute : model.findAttributesByName(member)) if (attribute != link.owner || !link.isRedefines) return attribute;
+            return null;
+        }
+
+        Operation first = null;
+        String signature = signatureOf((Operation) link.owner);
+        for (Operation operation : model.findOperationsByName(member)) {
+            if (operation == link.owner) continue;
+            if (signatureOf(operation).equals(signature)) return operation;
+            if (first == null) first = operation;
+        }
+        return first;
+    }
+
+    private String signatureOf(Operation operation) {
+        List<String> types = new ArrayList<>();
+        if (operation.hasParameters()) {
+            for (Parameter parameter : operation.getParameters()) types.add(parameter.hasType() ? parameter.getType().toString() : "");
+        }
+        return types.toString();
+    }
+
+    private String nameOf(Object feature) {
+        if (feature instanceof Attribute) return ((Attribute) feature).getName().getNameText();
+        return ((Operation) feature).getName().getNameText();
+    }
+
+    /**
+     * <p> 有向グラフの循環を深さ優先で探します。 </p>
+     *
+     * @param nodes 探し始める頂点
+     * @param successors 頂点から辺でつながる頂点を求める関数
+     * @param nameOf 頂点の名前を求める関数
+     * @return 頂点の名前のリストで表した循環のリスト
+     */
+    private List<List<String>> findCycles(Collection<Object> nodes, Function<Object, List<Object>> successors, Function<Object, String> nameOf) {
+        List<List<String>> cycles = new ArrayList<>();
+        Map<Object, Boolean> finished = new IdentityHashMap<>();
+
+        for (Object start : nodes) {
+            if (finished.containsKey(start)) continue;
+
+            Map<Object, Integer> onPath = new IdentityHashMap<>();
+            List<Object> path = new ArrayList<>();
+            Deque<Cursor> stack = new ArrayDeque<>();
+            path.add(start);
+            onPath.put(start, 0);
+            stack.push(new Cursor(successors.apply(start)));
+
+            while (!stack.isEmpty()) {
+                Cursor cursor = stack.peek();
+                if (cursor.hasNext()) {
+                    Object next = cursor.next();
+                    Integer index = onPath.get(next);
+                    if (index != null) {
+                        List<String> cycle = new ArrayList<>();
+                        for (Object node : path.subList(index, path.size())) cycle.add(nameOf.apply(node));
+                        cycles.add(cycle);
+                    } else if (!finished.containsKey(next)) {
+                        onPath.put(next, path.size());
+                        path.add(next);
+                        stack.push(new Cursor(successors.apply(next)));
+                    }
+                } else {
+                    stack.pop();
+                    Object done = path.remove(path.size() - 1);
+                    onPath.remove(done);
+                    finished.put(done, Boolean.TRUE);
+                }
+            }
+        }
+
+        return cycles;
+    }
+
+
+
+    private static class ClassNode {
+
+        private final ClassModel model;
+        private final List<String> generalizations;
+        private final List<Link> links = new ArrayList<>();
+
+        private ClassNode(ClassModel model, List<String> generalizations) {
+            this.model = model;
+            this.generalizations = generalizations;
+        }
+    }
+
+    /**
+     * <p> {@code subsets}または{@code redefines}と、その解決結果 </p>
+     *
+     * <p>
+     *     同一性で比較します。
+     * </p>
+     */
+    private static class Link {
+
+        private final String ownerClass;
+        private final Object owner;
+        private final Property property;
+        private final String targetText;
+        private final boolean isRedefines;
+
+        private Object target;
+        private String targetClass;
+
+        /**
+         * 解決する際に参照したクラス名（存在しないクラス名を含む）
+         */
+        private final Set<String> consulted = new HashSet<>();
+
+        private Link(String ownerClass, Object owner, Property property, String targetText, boolean isRedefines) {
+            this.ownerClass = ownerClass;
+            this.owner = owner;
+            this.property = property;
+            this.targetText = targetText;
+            this.isRedefines = isRedefines;
+        }
+    }
+
+    private static class Cursor {
+
+        private final List<Object> items;
+        private int index = 0;
+
+        private Cursor(List<Object> items) {
+            this.items = items;
+        }
+
+        private boolean hasNext() {
+            return index < items.size();
+        }
+
+        private Object next() {
+            return items.get(index++);
+        }
+    }
+}
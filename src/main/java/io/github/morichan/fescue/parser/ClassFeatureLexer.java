@@ -131,8 +131,24 @@ public class ClassFeatureLexer extends Lexer {
 	@Override
 	public ATN getATN() { return _ATN; }
 
+	@Override
+	public boolean sempred(RuleContext _localctx, int ruleIndex, int predIndex) {
+		switch (ruleIndex) {
+		case 57:
+			return FLOAT_LITERAL_sempred((RuleContext)_localctx, predIndex);
+		}
+		return true;
+	}
+	private boolean FLOAT_LITERAL_sempred(RuleContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 0:
+			return _input.LA(1) != '.';
+		}
+		return true;
+	}
+
 	public static final String _serializedATN =
-		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\2J\u02bb\b\1\4\2\t"+
+		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\2J\u02bc\b\1\4\2\t"+
 		"\2\4\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13"+
 		"\t\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
 		"\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31\t\31"+
@@ -160,233 +176,234 @@ public class ClassFeatureLexer extends Lexer {
 		"\67\u018d\13\67\3\67\5\67\u0190\n\67\3\67\5\67\u0193\n\67\38\38\78\u0197"+
 		"\n8\f8\168\u019a\138\38\58\u019d\n8\58\u019f\n8\38\38\78\u01a3\n8\f8\16"+
 		"8\u01a6\138\38\58\u01a9\n8\38\58\u01ac\n8\39\39\39\39\79\u01b2\n9\f9\16"+
-		"9\u01b5\139\39\59\u01b8\n9\39\59\u01bb\n9\3:\3:\3;\3;\3;\5;\u01c2\n;\3"+
-		";\3;\5;\u01c6\n;\3;\5;\u01c9\n;\3;\5;\u01cc\n;\3;\3;\3;\5;\u01d1\n;\3"+
-		";\5;\u01d4\n;\5;\u01d6\n;\3<\3<\3<\3<\5<\u01dc\n<\3<\5<\u01df\n<\3<\3"+
-		"<\5<\u01e3\n<\3<\3<\5<\u01e7\n<\3<\3<\5<\u01eb\n<\3=\3=\5=\u01ef\n=\3"+
-		">\3>\3>\3>\3>\3>\3>\3>\3>\3>\3>\3>\3>\5>\u01fe\n>\3?\3?\3?\3?\3?\3?\3"+
-		"?\3?\3?\3?\3?\3?\3?\3?\3?\3?\5?\u0210\n?\3@\3@\3@\3@\3@\5@\u0217\n@\3"+
-		"A\3A\3A\3A\3A\3A\3A\3A\3A\3A\3A\3A\5A\u0225\nA\3B\3B\3B\3B\3B\3B\3B\3"+
-		"B\3B\5B\u0230\nB\3C\3C\3C\3C\3C\3C\3C\3C\3C\5C\u023b\nC\3D\3D\3D\3D\3"+
-		"D\3D\3D\3D\3D\3D\3D\3D\5D\u0249\nD\3E\3E\3E\3E\3E\3E\3E\3E\3E\3E\3E\3"+
-		"E\3E\3E\3E\5E\u025a\nE\3F\6F\u025d\nF\rF\16F\u025e\3F\3F\3G\3G\3G\7G\u0266"+
-		"\nG\fG\16G\u0269\13G\3G\3G\3H\3H\3H\7H\u0270\nH\fH\16H\u0273\13H\3H\3"+
-		"H\3I\3I\7I\u0279\nI\fI\16I\u027c\13I\3J\3J\5J\u0280\nJ\3J\3J\3K\3K\3K"+
-		"\3K\5K\u0288\nK\3K\5K\u028b\nK\3K\3K\3K\6K\u0290\nK\rK\16K\u0291\3K\3"+
-		"K\3K\3K\3K\5K\u0299\nK\3L\3L\3L\7L\u029e\nL\fL\16L\u02a1\13L\3L\5L\u02a4"+
-		"\nL\3M\3M\3N\3N\7N\u02aa\nN\fN\16N\u02ad\13N\3N\5N\u02b0\nN\3O\3O\5O\u02b4"+
-		"\nO\3P\3P\3P\3P\5P\u02ba\nP\2\2Q\3\3\5\4\7\5\t\6\13\7\r\b\17\t\21\n\23"+
-		"\13\25\f\27\r\31\16\33\17\35\20\37\21!\22#\23%\24\'\25)\26+\27-\30/\31"+
-		"\61\32\63\33\65\34\67\359\36;\37= ?!A\"C#E$G%I&K\'M(O)Q*S+U,W-Y.[/]\60"+
-		"_\61a\62c\63e\64g\65i\66k\67m8o9q:s;u<w=y>{?}@\177A\u0081B\u0083C\u0085"+
-		"D\u0087E\u0089F\u008bG\u008dH\u008fI\u0091J\u0093\2\u0095\2\u0097\2\u0099"+
-		"\2\u009b\2\u009d\2\u009f\2\3\2\33\3\2\63;\4\2NNnn\4\2ZZzz\5\2\62;CHch"+
-		"\6\2\62;CHaach\3\2\629\4\2\629aa\4\2DDdd\3\2\62\63\4\2\62\63aa\6\2FFH"+
-		"Hffhh\4\2RRrr\4\2--//\5\2\13\f\16\17\"\"\6\2\f\f\17\17))^^\6\2\f\f\17"+
-		"\17$$^^\4\2GGgg\13\2$$))\62\62^^cdhhpptvxx\3\2\62\65\3\2\62;\4\2\62;a"+
-		"a\6\2&&C\\aac|\4\2\2\u0081\ud802\udc01\3\2\ud802\udc01\3\2\udc02\ue001"+
-		"\2\u02f9\2\3\3\2\2\2\2\5\3\2\2\2\2\7\3\2\2\2\2\t\3\2\2\2\2\13\3\2\2\2"+
-		"\2\r\3\2\2\2\2\17\3\2\2\2\2\21\3\2\2\2\2\23\3\2\2\2\2\25\3\2\2\2\2\27"+
-		"\3\2\2\2\2\31\3\2\2\2\2\33\3\2\2\2\2\35\3\2\2\2\2\37\3\2\2\2\2!\3\2\2"+
-		"\2\2#\3\2\2\2\2%\3\2\2\2\2\'\3\2\2\2\2)\3\2\2\2\2+\3\2\2\2\2-\3\2\2\2"+
-		"\2/\3\2\2\2\2\61\3\2\2\2\2\63\3\2\2\2\2\65\3\2\2\2\2\67\3\2\2\2\29\3\2"+
-		"\2\2\2;\3\2\2\2\2=\3\2\2\2\2?\3\2\2\2\2A\3\2\2\2\2C\3\2\2\2\2E\3\2\2\2"+
-		"\2G\3\2\2\2\2I\3\2\2\2\2K\3\2\2\2\2M\3\2\2\2\2O\3\2\2\2\2Q\3\2\2\2\2S"+
-		"\3\2\2\2\2U\3\2\2\2\2W\3\2\2\2\2Y\3\2\2\2\2[\3\2\2\2\2]\3\2\2\2\2_\3\2"+
-		"\2\2\2a\3\2\2\2\2c\3\2\2\2\2e\3\2\2\2\2g\3\2\2\2\2i\3\2\2\2\2k\3\2\2\2"+
-		"\2m\3\2\2\2\2o\3\2\2\2\2q\3\2\2\2\2s\3\2\2\2\2u\3\2\2\2\2w\3\2\2\2\2y"+
-		"\3\2\2\2\2{\3\2\2\2\2}\3\2\2\2\2\177\3\2\2\2\2\u0081\3\2\2\2\2\u0083\3"+
-		"\2\2\2\2\u0085\3\2\2\2\2\u0087\3\2\2\2\2\u0089\3\2\2\2\2\u008b\3\2\2\2"+
-		"\2\u008d\3\2\2\2\2\u008f\3\2\2\2\2\u0091\3\2\2\2\3\u00a1\3\2\2\2\5\u00a3"+
-		"\3\2\2\2\7\u00a7\3\2\2\2\t\u00ab\3\2\2\2\13\u00ad\3\2\2\2\r\u00b0\3\2"+
-		"\2\2\17\u00b3\3\2\2\2\21\u00b5\3\2\2\2\23\u00b7\3\2\2\2\25\u00ba\3\2\2"+
-		"\2\27\u00bd\3\2\2\2\31\u00c0\3\2\2\2\33\u00c4\3\2\2\2\35\u00c8\3\2\2\2"+
-		"\37\u00cb\3\2\2\2!\u00ce\3\2\2\2#\u00d1\3\2\2\2%\u00da\3\2\2\2\'\u00e0"+
-		"\3\2\2\2)\u00e8\3\2\2\2+\u00f2\3\2\2\2-\u00fa\3\2\2\2/\u0101\3\2\2\2\61"+
-		"\u0107\3\2\2\2\63\u010a\3\2\2\2\65\u010e\3\2\2\2\67\u0114\3\2\2\29\u011b"+
-		"\3\2\2\2;\u011d\3\2\2\2=\u011f\3\2\2\2?\u0121\3\2\2\2A\u0123\3\2\2\2C"+
-		"\u0125\3\2\2\2E\u0128\3\2\2\2G\u012c\3\2\2\2I\u0134\3\2\2\2K\u013c\3\2"+
-		"\2\2M\u0143\3\2\2\2O\u0154\3\2\2\2Q\u0159\3\2\2\2S\u015b\3\2\2\2U\u015d"+
-		"\3\2\2\2W\u015f\3\2\2\2Y\u0161\3\2\2\2[\u0163\3\2\2\2]\u0165\3\2\2\2_"+
-		"\u0167\3\2\2\2a\u0169\3\2\2\2c\u016b\3\2\2\2e\u016d\3\2\2\2g\u016f\3\2"+
-		"\2\2i\u0171\3\2\2\2k\u0180\3\2\2\2m\u0185\3\2\2\2o\u0194\3\2\2\2q\u01ad"+
-		"\3\2\2\2s\u01bc\3\2\2\2u\u01d5\3\2\2\2w\u01d7\3\2\2\2y\u01ee\3\2\2\2{"+
-		"\u01fd\3\2\2\2}\u020f\3\2\2\2\177\u0216\3\2\2\2\u0081\u0224\3\2\2\2\u0083"+
-		"\u022f\3\2\2\2\u0085\u023a\3\2\2\2\u0087\u0248\3\2\2\2\u0089\u0259\3\2"+
-		"\2\2\u008b\u025c\3\2\2\2\u008d\u0262\3\2\2\2\u008f\u026c\3\2\2\2\u0091"+
-		"\u0276\3\2\2\2\u0093\u027d\3\2\2\2\u0095\u0298\3\2\2\2\u0097\u029a\3\2"+
-		"\2\2\u0099\u02a5\3\2\2\2\u009b\u02a7\3\2\2\2\u009d\u02b3\3\2\2\2\u009f"+
-		"\u02b9\3\2\2\2\u00a1\u00a2\7#\2\2\u00a2\4\3\2\2\2\u00a3\u00a4\7p\2\2\u00a4"+
-		"\u00a5\7q\2\2\u00a5\u00a6\7v\2\2\u00a6\6\3\2\2\2\u00a7\u00a8\7P\2\2\u00a8"+
-		"\u00a9\7Q\2\2\u00a9\u00aa\7V\2\2\u00aa\b\3\2\2\2\u00ab\u00ac\7\'\2\2\u00ac"+
-		"\n\3\2\2\2\u00ad\u00ae\7>\2\2\u00ae\u00af\7?\2\2\u00af\f\3\2\2\2\u00b0"+
-		"\u00b1\7@\2\2\u00b1\u00b2\7?\2\2\u00b2\16\3\2\2\2\u00b3\u00b4\7@\2\2\u00b4"+
-		"\20\3\2\2\2\u00b5\u00b6\7>\2\2\u00b6\22\3\2\2\2\u00b7\u00b8\7?\2\2\u00b8"+
-		"\u00b9\7?\2\2\u00b9\24\3\2\2\2\u00ba\u00bb\7#\2\2\u00bb\u00bc\7?\2\2\u00bc"+
-		"\26\3\2\2\2\u00bd\u00be\7(\2\2\u00be\u00bf\7(\2\2\u00bf\30\3\2\2\2\u00c0"+
-		"\u00c1\7c\2\2\u00c1\u00c2\7p\2\2\u00c2\u00c3\7f\2\2\u00c3\32\3\2\2\2\u00c4"+
-		"\u00c5\7C\2\2\u00c5\u00c6\7P\2\2\u00c6\u00c7\7F\2\2\u00c7\34\3\2\2\2\u00c8"+
-		"\u00c9\7~\2\2\u00c9\u00ca\7~\2\2\u00ca\36\3\2\2\2\u00cb\u00cc\7q\2\2\u00cc"+
-		"\u00cd\7t\2\2\u00cd \3\2\2\2\u00ce\u00cf\7Q\2\2\u00cf\u00d0\7T\2\2\u00d0"+
-		"\"\3\2\2\2\u00d1\u00d2\7t\2\2\u00d2\u00d3\7g\2\2\u00d3\u00d4\7c\2\2\u00d4"+
-		"\u00d5\7f\2\2\u00d5\u00d6\7Q\2\2\u00d6\u00d7\7p\2\2\u00d7\u00d8\7n\2\2"+
-		"\u00d8\u00d9\7{\2\2\u00d9$\3\2\2\2\u00da\u00db\7w\2\2\u00db\u00dc\7p\2"+
-		"\2\u00dc\u00dd\7k\2\2\u00dd\u00de\7q\2\2\u00de\u00df\7p\2\2\u00df&\3\2"+
-		"\2\2\u00e0\u00e1\7u\2\2\u00e1\u00e2\7w\2\2\u00e2\u00e3\7d\2\2\u00e3\u00e4"+
-		"\7u\2\2\u00e4\u00e5\7g\2\2\u00e5\u00e6\7v\2\2\u00e6\u00e7\7u\2\2\u00e7"+
-		"(\3\2\2\2\u00e8\u00e9\7t\2\2\u00e9\u00ea\7g\2\2\u00ea\u00eb\7f\2\2\u00eb"+
-		"\u00ec\7g\2\2\u00ec\u00ed\7h\2\2\u00ed\u00ee\7k\2\2\u00ee\u00ef\7p\2\2"+
-		"\u00ef\u00f0\7g\2\2\u00f0\u00f1\7u\2\2\u00f1*\3\2\2\2\u00f2\u00f3\7q\2"+
-		"\2\u00f3\u00f4\7t\2\2\u00f4\u00f5\7f\2\2\u00f5\u00f6\7g\2\2\u00f6\u00f7"+
-		"\7t\2\2\u00f7\u00f8\7g\2\2\u00f8\u00f9\7f\2\2\u00f9,\3\2\2\2\u00fa\u00fb"+
-		"\7w\2\2\u00fb\u00fc\7p\2\2\u00fc\u00fd\7k\2\2\u00fd\u00fe\7s\2\2\u00fe"+
-		"\u00ff\7w\2\2\u00ff\u0100\7g\2\2\u0100.\3\2\2\2\u0101\u0102\7s\2\2\u0102"+
-		"\u0103\7w\2\2\u0103\u0104\7g\2\2\u0104\u0105\7t\2\2\u0105\u0106\7{\2\2"+
-		"\u0106\60\3\2\2\2\u0107\u0108\7k\2\2\u0108\u0109\7p\2\2\u0109\62\3\2\2"+
-		"\2\u010a\u010b\7q\2\2\u010b\u010c\7w\2\2\u010c\u010d\7v\2\2\u010d\64\3"+
-		"\2\2\2\u010e\u010f\7k\2\2\u010f\u0110\7p\2\2\u0110\u0111\7q\2\2\u0111"+
-		"\u0112\7w\2\2\u0112\u0113\7v\2\2\u0113\66\3\2\2\2\u0114\u0115\7t\2\2\u0115"+
-		"\u0116\7g\2\2\u0116\u0117\7v\2\2\u0117\u0118\7w\2\2\u0118\u0119\7t\2\2"+
-		"\u0119\u011a\7p\2\2\u011a8\3\2\2\2\u011b\u011c\7-\2\2\u011c:\3\2\2\2\u011d"+
-		"\u011e\7/\2\2\u011e<\3\2\2\2\u011f\u0120\7%\2\2\u0120>\3\2\2\2\u0121\u0122"+
-		"\7\u0080\2\2\u0122@\3\2\2\2\u0123\u0124\7,\2\2\u0124B\3\2\2\2\u0125\u0126"+
-		"\7\60\2\2\u0126\u0127\7\60\2\2\u0127D\3\2\2\2\u0128\u0129\7p\2\2\u0129"+
-		"\u012a\7g\2\2\u012a\u012b\7y\2\2\u012bF\3\2\2\2\u012c\u012d\7D\2\2\u012d"+
-		"\u012e\7q\2\2\u012e\u012f\7q\2\2\u012f\u0130\7n\2\2\u0130\u0131\7g\2\2"+
-		"\u0131\u0132\7c\2\2\u0132\u0133\7p\2\2\u0133H\3\2\2\2\u0134\u0135\7K\2"+
-		"\2\u0135\u0136\7p\2\2\u0136\u0137\7v\2\2\u0137\u0138\7g\2\2\u0138\u0139"+
-		"\7i\2\2\u0139\u013a\7g\2\2\u013a\u013b\7t\2\2\u013bJ\3\2\2\2\u013c\u013d"+
-		"\7U\2\2\u013d\u013e\7v\2\2\u013e\u013f\7t\2\2\u013f\u0140\7k\2\2\u0140"+
-		"\u0141\7p\2\2\u0141\u0142\7i\2\2\u0142L\3\2\2\2\u0143\u0144\7W\2\2\u0144"+
-		"\u0145\7p\2\2\u0145\u0146\7n\2\2\u0146\u0147\7k\2\2\u0147\u0148\7o\2\2"+
-		"\u0148\u0149\7k\2\2\u0149\u014a\7v\2\2\u014a\u014b\7g\2\2\u014b\u014c"+
-		"\7f\2\2\u014c\u014d\7P\2\2\u014d\u014e\7c\2\2\u014e\u014f\7v\2\2\u014f"+
-		"\u0150\7w\2\2\u0150\u0151\7t\2\2\u0151\u0152\7c\2\2\u0152\u0153\7n\2\2"+
-		"\u0153N\3\2\2\2\u0154\u0155\7x\2\2\u0155\u0156\7q\2\2\u0156\u0157\7k\2"+
-		"\2\u0157\u0158\7f\2\2\u0158P\3\2\2\2\u0159\u015a\7*\2\2\u015aR\3\2\2\2"+
-		"\u015b\u015c\7+\2\2\u015cT\3\2\2\2\u015d\u015e\7}\2\2\u015eV\3\2\2\2\u015f"+
-		"\u0160\7\177\2\2\u0160X\3\2\2\2\u0161\u0162\7]\2\2\u0162Z\3\2\2\2\u0163"+
-		"\u0164\7_\2\2\u0164\\\3\2\2\2\u0165\u0166\7)\2\2\u0166^\3\2\2\2\u0167"+
-		"\u0168\7$\2\2\u0168`\3\2\2\2\u0169\u016a\7.\2\2\u016ab\3\2\2\2\u016b\u016c"+
-		"\7\60\2\2\u016cd\3\2\2\2\u016d\u016e\7?\2\2\u016ef\3\2\2\2\u016f\u0170"+
-		"\7<\2\2\u0170h\3\2\2\2\u0171\u0172\7\61\2\2\u0172j\3\2\2\2\u0173\u0181"+
-		"\7\62\2\2\u0174\u017e\t\2\2\2\u0175\u0177\5\u009bN\2\u0176\u0175\3\2\2"+
-		"\2\u0176\u0177\3\2\2\2\u0177\u017f\3\2\2\2\u0178\u017a\7a\2\2\u0179\u0178"+
-		"\3\2\2\2\u017a\u017b\3\2\2\2\u017b\u0179\3\2\2\2\u017b\u017c\3\2\2\2\u017c"+
-		"\u017d\3\2\2\2\u017d\u017f\5\u009bN\2\u017e\u0176\3\2\2\2\u017e\u0179"+
-		"\3\2\2\2\u017f\u0181\3\2\2\2\u0180\u0173\3\2\2\2\u0180\u0174\3\2\2\2\u0181"+
-		"\u0183\3\2\2\2\u0182\u0184\t\3\2\2\u0183\u0182\3\2\2\2\u0183\u0184\3\2"+
-		"\2\2\u0184l\3\2\2\2\u0185\u0186\7\62\2\2\u0186\u0187\t\4\2\2\u0187\u018f"+
-		"\t\5\2\2\u0188\u018a\t\6\2\2\u0189\u0188\3\2\2\2\u018a\u018d\3\2\2\2\u018b"+
-		"\u0189\3\2\2\2\u018b\u018c\3\2\2\2\u018c\u018e\3\2\2\2\u018d\u018b\3\2"+
-		"\2\2\u018e\u0190\t\5\2\2\u018f\u018b\3\2\2\2\u018f\u0190\3\2\2\2\u0190"+
-		"\u0192\3\2\2\2\u0191\u0193\t\3\2\2\u0192\u0191\3\2\2\2\u0192\u0193\3\2"+
-		"\2\2\u0193n\3\2\2\2\u0194\u019e\7\62\2\2\u0195\u0197\7a\2\2\u0196\u0195"+
-		"\3\2\2\2\u0197\u019a\3\2\2\2\u0198\u0196\3\2\2\2\u0198\u0199\3\2\2\2\u0199"+
-		"\u019f\3\2\2\2\u019a\u0198\3\2\2\2\u019b\u019d\7q\2\2\u019c\u019b\3\2"+
-		"\2\2\u019c\u019d\3\2\2\2\u019d\u019f\3\2\2\2\u019e\u0198\3\2\2\2\u019e"+
-		"\u019c\3\2\2\2\u019f\u01a0\3\2\2\2\u01a0\u01a8\t\7\2\2\u01a1\u01a3\t\b"+
-		"\2\2\u01a2\u01a1\3\2\2\2\u01a3\u01a6\3\2\2\2\u01a4\u01a2\3\2\2\2\u01a4"+
-		"\u01a5\3\2\2\2\u01a5\u01a7\3\2\2\2\u01a6\u01a4\3\2\2\2\u01a7\u01a9\t\7"+
-		"\2\2\u01a8\u01a4\3\2\2\2\u01a8\u01a9\3\2\2\2\u01a9\u01ab\3\2\2\2\u01aa"+
-		"\u01ac\t\3\2\2\u01ab\u01aa\3\2\2\2\u01ab\u01ac\3\2\2\2\u01acp\3\2\2\2"+
-		"\u01ad\u01ae\7\62\2\2\u01ae\u01af\t\t\2\2\u01af\u01b7\t\n\2\2\u01b0\u01b2"+
-		"\t\13\2\2\u01b1\u01b0\3\2\2\2\u01b2\u01b5\3\2\2\2\u01b3\u01b1\3\2\2\2"+
-		"\u01b3\u01b4\3\2\2\2\u01b4\u01b6\3\2\2\2\u01b5\u01b3\3\2\2\2\u01b6\u01b8"+
-		"\t\n\2\2\u01b7\u01b3\3\2\2\2\u01b7\u01b8\3\2\2\2\u01b8\u01ba\3\2\2\2\u01b9"+
-		"\u01bb\t\3\2\2\u01ba\u01b9\3\2\2\2\u01ba\u01bb\3\2\2\2\u01bbr\3\2\2\2"+
-		"\u01bc\u01bd\5\u009bN\2\u01bdt\3\2\2\2\u01be\u01bf\5\u009bN\2\u01bf\u01c1"+
-		"\7\60\2\2\u01c0\u01c2\5\u009bN\2\u01c1\u01c0\3\2\2\2\u01c1\u01c2\3\2\2"+
-		"\2\u01c2\u01c6\3\2\2\2\u01c3\u01c4\7\60\2\2\u01c4\u01c6\5\u009bN\2\u01c5"+
-		"\u01be\3\2\2\2\u01c5\u01c3\3\2\2\2\u01c6\u01c8\3\2\2\2\u01c7\u01c9\5\u0093"+
-		"J\2\u01c8\u01c7\3\2\2\2\u01c8\u01c9\3\2\2\2\u01c9\u01cb\3\2\2\2\u01ca"+
-		"\u01cc\t\f\2\2\u01cb\u01ca\3\2\2\2\u01cb\u01cc\3\2\2\2\u01cc\u01d6\3\2"+
-		"\2\2\u01cd\u01d3\5\u009bN\2\u01ce\u01d0\5\u0093J\2\u01cf\u01d1\t\f\2\2"+
-		"\u01d0\u01cf\3\2\2\2\u01d0\u01d1\3\2\2\2\u01d1\u01d4\3\2\2\2\u01d2\u01d4"+
-		"\t\f\2\2\u01d3\u01ce\3\2\2\2\u01d3\u01d2\3\2\2\2\u01d4\u01d6\3\2\2\2\u01d5"+
-		"\u01c5\3\2\2\2\u01d5\u01cd\3\2\2\2\u01d6v\3\2\2\2\u01d7\u01d8\7\62\2\2"+
-		"\u01d8\u01e2\t\4\2\2\u01d9\u01db\5\u0097L\2\u01da\u01dc\7\60\2\2\u01db"+
-		"\u01da\3\2\2\2\u01db\u01dc\3\2\2\2\u01dc\u01e3\3\2\2\2\u01dd\u01df\5\u0097"+
-		"L\2\u01de\u01dd\3\2\2\2\u01de\u01df\3\2\2\2\u01df\u01e0\3\2\2\2\u01e0"+
-		"\u01e1\7\60\2\2\u01e1\u01e3\5\u0097L\2\u01e2\u01d9\3\2\2\2\u01e2\u01de"+
-		"\3\2\2\2\u01e3\u01e4\3\2\2\2\u01e4\u01e6\t\r\2\2\u01e5\u01e7\t\16\2\2"+
-		"\u01e6\u01e5\3\2\2\2\u01e6\u01e7\3\2\2\2\u01e7\u01e8\3\2\2\2\u01e8\u01ea"+
-		"\5\u009bN\2\u01e9\u01eb\t\f\2\2\u01ea\u01e9\3\2\2\2\u01ea\u01eb\3\2\2"+
-		"\2\u01ebx\3\2\2\2\u01ec\u01ef\5{>\2\u01ed\u01ef\5}?\2\u01ee\u01ec\3\2"+
-		"\2\2\u01ee\u01ed\3\2\2\2\u01efz\3\2\2\2\u01f0\u01f1\7v\2\2\u01f1\u01f2"+
-		"\7t\2\2\u01f2\u01f3\7w\2\2\u01f3\u01fe\7g\2\2\u01f4\u01f5\7V\2\2\u01f5"+
-		"\u01f6\7T\2\2\u01f6\u01f7\7W\2\2\u01f7\u01fe\7G\2\2\u01f8\u01f9\7V\2\2"+
-		"\u01f9\u01fa\7t\2\2\u01fa\u01fb\7w\2\2\u01fb\u01fe\7g\2\2\u01fc\u01fe"+
-		"\7\63\2\2\u01fd\u01f0\3\2\2\2\u01fd\u01f4\3\2\2\2\u01fd\u01f8\3\2\2\2"+
-		"\u01fd\u01fc\3\2\2\2\u01fe|\3\2\2\2\u01ff\u0200\7h\2\2\u0200\u0201\7c"+
-		"\2\2\u0201\u0202\7n\2\2\u0202\u0203\7u\2\2\u0203\u0210\7g\2\2\u0204\u0205"+
-		"\7H\2\2\u0205\u0206\7C\2\2\u0206\u0207\7N\2\2\u0207\u0208\7U\2\2\u0208"+
-		"\u0210\7G\2\2\u0209\u020a\7H\2\2\u020a\u020b\7c\2\2\u020b\u020c\7n\2\2"+
-		"\u020c\u020d\7u\2\2\u020d\u0210\7g\2\2\u020e\u0210\7\62\2\2\u020f\u01ff"+
-		"\3\2\2\2\u020f\u0204\3\2\2\2\u020f\u0209\3\2\2\2\u020f\u020e\3\2\2\2\u0210"+
-		"~\3\2\2\2\u0211\u0217\5\u0081A\2\u0212\u0217\5\u0083B\2\u0213\u0217\5"+
-		"\u0085C\2\u0214\u0217\5\u0087D\2\u0215\u0217\5\u0089E\2\u0216\u0211\3"+
-		"\2\2\2\u0216\u0212\3\2\2\2\u0216\u0213\3\2\2\2\u0216\u0214\3\2\2\2\u0216"+
-		"\u0215\3\2\2\2\u0217\u0080\3\2\2\2\u0218\u0219\7p\2\2\u0219\u021a\7w\2"+
-		"\2\u021a\u021b\7n\2\2\u021b\u0225\7n\2\2\u021c\u021d\7P\2\2\u021d\u021e"+
-		"\7W\2\2\u021e\u021f\7N\2\2\u021f\u0225\7N\2\2\u0220\u0221\7P\2\2\u0221"+
-		"\u0222\7w\2\2\u0222\u0223\7n\2\2\u0223\u0225\7n\2\2\u0224\u0218\3\2\2"+
-		"\2\u0224\u021c\3\2\2\2\u0224\u0220\3\2\2\2\u0225\u0082\3\2\2\2\u0226\u0227"+
-		"\7p\2\2\u0227\u0228\7w\2\2\u0228\u0230\7n\2\2\u0229\u022a\7P\2\2\u022a"+
-		"\u022b\7W\2\2\u022b\u0230\7N\2\2\u022c\u022d\7P\2\2\u022d\u022e\7w\2\2"+
-		"\u022e\u0230\7n\2\2\u022f\u0226\3\2\2\2\u022f\u0229\3\2\2\2\u022f\u022c"+
-		"\3\2\2\2\u0230\u0084\3\2\2\2\u0231\u0232\7p\2\2\u0232\u0233\7k\2\2\u0233"+
-		"\u023b\7n\2\2\u0234\u0235\7P\2\2\u0235\u0236\7K\2\2\u0236\u023b\7N\2\2"+
-		"\u0237\u0238\7P\2\2\u0238\u0239\7k\2\2\u0239\u023b\7n\2\2\u023a\u0231"+
-		"\3\2\2\2\u023a\u0234\3\2\2\2\u023a\u0237\3\2\2\2\u023b\u0086\3\2\2\2\u023c"+
-		"\u023d\7p\2\2\u023d\u023e\7q\2\2\u023e\u023f\7p\2\2\u023f\u0249\7g\2\2"+
-		"\u0240\u0241\7P\2\2\u0241\u0242\7Q\2\2\u0242\u0243\7P\2\2\u0243\u0249"+
-		"\7G\2\2\u0244\u0245\7P\2\2\u0245\u0246\7q\2\2\u0246\u0247\7p\2\2\u0247"+
-		"\u0249\7g\2\2\u0248\u023c\3\2\2\2\u0248\u0240\3\2\2\2\u0248\u0244\3\2"+
-		"\2\2\u0249\u0088\3\2\2\2\u024a\u024b\7w\2\2\u024b\u024c\7p\2\2\u024c\u024d"+
-		"\7f\2\2\u024d\u024e\7g\2\2\u024e\u025a\7h\2\2\u024f\u0250\7W\2\2\u0250"+
-		"\u0251\7P\2\2\u0251\u0252\7F\2\2\u0252\u0253\7G\2\2\u0253\u025a\7H\2\2"+
-		"\u0254\u0255\7W\2\2\u0255\u0256\7p\2\2\u0256\u0257\7f\2\2\u0257\u0258"+
-		"\7g\2\2\u0258\u025a\7h\2\2\u0259\u024a\3\2\2\2\u0259\u024f\3\2\2\2\u0259"+
-		"\u0254\3\2\2\2\u025a\u008a\3\2\2\2\u025b\u025d\t\17\2\2\u025c\u025b\3"+
-		"\2\2\2\u025d\u025e\3\2\2\2\u025e\u025c\3\2\2\2\u025e\u025f\3\2\2\2\u025f"+
-		"\u0260\3\2\2\2\u0260\u0261\bF\2\2\u0261\u008c\3\2\2\2\u0262\u0267\5]/"+
-		"\2\u0263\u0266\n\20\2\2\u0264\u0266\5\u0095K\2\u0265\u0263\3\2\2\2\u0265"+
-		"\u0264\3\2\2\2\u0266\u0269\3\2\2\2\u0267\u0265\3\2\2\2\u0267\u0268\3\2"+
-		"\2\2\u0268\u026a\3\2\2\2\u0269\u0267\3\2\2\2\u026a\u026b\5]/\2\u026b\u008e"+
-		"\3\2\2\2\u026c\u0271\5_\60\2\u026d\u0270\n\21\2\2\u026e\u0270\5\u0095"+
-		"K\2\u026f\u026d\3\2\2\2\u026f\u026e\3\2\2\2\u0270\u0273\3\2\2\2\u0271"+
-		"\u026f\3\2\2\2\u0271\u0272\3\2\2\2\u0272\u0274\3\2\2\2\u0273\u0271\3\2"+
-		"\2\2\u0274\u0275\5_\60\2\u0275\u0090\3\2\2\2\u0276\u027a\5\u009fP\2\u0277"+
-		"\u0279\5\u009dO\2\u0278\u0277\3\2\2\2\u0279\u027c\3\2\2\2\u027a\u0278"+
-		"\3\2\2\2\u027a\u027b\3\2\2\2\u027b\u0092\3\2\2\2\u027c\u027a\3\2\2\2\u027d"+
-		"\u027f\t\22\2\2\u027e\u0280\t\16\2\2\u027f\u027e\3\2\2\2\u027f\u0280\3"+
-		"\2\2\2\u0280\u0281\3\2\2\2\u0281\u0282\5\u009bN\2\u0282\u0094\3\2\2\2"+
-		"\u0283\u0284\7^\2\2\u0284\u0299\t\23\2\2\u0285\u028a\7^\2\2\u0286\u0288"+
-		"\t\24\2\2\u0287\u0286\3\2\2\2\u0287\u0288\3\2\2\2\u0288\u0289\3\2\2\2"+
-		"\u0289\u028b\t\7\2\2\u028a\u0287\3\2\2\2\u028a\u028b\3\2\2\2\u028b\u028c"+
-		"\3\2\2\2\u028c\u0299\t\7\2\2\u028d\u028f\7^\2\2\u028e\u0290\7w\2\2\u028f"+
-		"\u028e\3\2\2\2\u0290\u0291\3\2\2\2\u0291\u028f\3\2\2\2\u0291\u0292\3\2"+
-		"\2\2\u0292\u0293\3\2\2\2\u0293\u0294\5\u0099M\2\u0294\u0295\5\u0099M\2"+
-		"\u0295\u0296\5\u0099M\2\u0296\u0297\5\u0099M\2\u0297\u0299\3\2\2\2\u0298"+
-		"\u0283\3\2\2\2\u0298\u0285\3\2\2\2\u0298\u028d\3\2\2\2\u0299\u0096\3\2"+
-		"\2\2\u029a\u02a3\5\u0099M\2\u029b\u029e\5\u0099M\2\u029c\u029e\7a\2\2"+
-		"\u029d\u029b\3\2\2\2\u029d\u029c\3\2\2\2\u029e\u02a1\3\2\2\2\u029f\u029d"+
-		"\3\2\2\2\u029f\u02a0\3\2\2\2\u02a0\u02a2\3\2\2\2\u02a1\u029f\3\2\2\2\u02a2"+
-		"\u02a4\5\u0099M\2\u02a3\u029f\3\2\2\2\u02a3\u02a4\3\2\2\2\u02a4\u0098"+
-		"\3\2\2\2\u02a5\u02a6\t\5\2\2\u02a6\u009a\3\2\2\2\u02a7\u02af\t\25\2\2"+
-		"\u02a8\u02aa\t\26\2\2\u02a9\u02a8\3\2\2\2\u02aa\u02ad\3\2\2\2\u02ab\u02a9"+
-		"\3\2\2\2\u02ab\u02ac\3\2\2\2\u02ac\u02ae\3\2\2\2\u02ad\u02ab\3\2\2\2\u02ae"+
-		"\u02b0\t\25\2\2\u02af\u02ab\3\2\2\2\u02af\u02b0\3\2\2\2\u02b0\u009c\3"+
-		"\2\2\2\u02b1\u02b4\5\u009fP\2\u02b2\u02b4\t\25\2\2\u02b3\u02b1\3\2\2\2"+
-		"\u02b3\u02b2\3\2\2\2\u02b4\u009e\3\2\2\2\u02b5\u02ba\t\27\2\2\u02b6\u02ba"+
-		"\n\30\2\2\u02b7\u02b8\t\31\2\2\u02b8\u02ba\t\32\2\2\u02b9\u02b5\3\2\2"+
-		"\2\u02b9\u02b6\3\2\2\2\u02b9\u02b7\3\2\2\2\u02ba\u00a0\3\2\2\2;\2\u0176"+
-		"\u017b\u017e\u0180\u0183\u018b\u018f\u0192\u0198\u019c\u019e\u01a4\u01a8"+
-		"\u01ab\u01b3\u01b7\u01ba\u01c1\u01c5\u01c8\u01cb\u01d0\u01d3\u01d5\u01db"+
-		"\u01de\u01e2\u01e6\u01ea\u01ee\u01fd\u020f\u0216\u0224\u022f\u023a\u0248"+
-		"\u0259\u025e\u0265\u0267\u026f\u0271\u027a\u027f\u0287\u028a\u0291\u0298"+
-		"\u029d\u029f\u02a3\u02ab\u02af\u02b3\u02b9\3\2\3\2";
+		"9\u01b5\139\39\59\u01b8\n9\39\59\u01bb\n9\3:\3:\3;\3;\3;\3;\5;\u01c3\n"+
+		";\3;\3;\5;\u01c7\n;\3;\5;\u01ca\n;\3;\5;\u01cd\n;\3;\3;\3;\5;\u01d2\n"+
+		";\3;\5;\u01d5\n;\5;\u01d7\n;\3<\3<\3<\3<\5<\u01dd\n<\3<\5<\u01e0\n<\3"+
+		"<\3<\5<\u01e4\n<\3<\3<\5<\u01e8\n<\3<\3<\5<\u01ec\n<\3=\3=\5=\u01f0\n"+
+		"=\3>\3>\3>\3>\3>\3>\3>\3>\3>\3>\3>\3>\3>\5>\u01ff\n>\3?\3?\3?\3?\3?\3"+
+		"?\3?\3?\3?\3?\3?\3?\3?\3?\3?\3?\5?\u0211\n?\3@\3@\3@\3@\3@\5@\u0218\n"+
+		"@\3A\3A\3A\3A\3A\3A\3A\3A\3A\3A\3A\3A\5A\u0226\nA\3B\3B\3B\3B\3B\3B\3"+
+		"B\3B\3B\5B\u0231\nB\3C\3C\3C\3C\3C\3C\3C\3C\3C\5C\u023c\nC\3D\3D\3D\3"+
+		"D\3D\3D\3D\3D\3D\3D\3D\3D\5D\u024a\nD\3E\3E\3E\3E\3E\3E\3E\3E\3E\3E\3"+
+		"E\3E\3E\3E\3E\5E\u025b\nE\3F\6F\u025e\nF\rF\16F\u025f\3F\3F\3G\3G\3G\7"+
+		"G\u0267\nG\fG\16G\u026a\13G\3G\3G\3H\3H\3H\7H\u0271\nH\fH\16H\u0274\13"+
+		"H\3H\3H\3I\3I\7I\u027a\nI\fI\16I\u027d\13I\3J\3J\5J\u0281\nJ\3J\3J\3K"+
+		"\3K\3K\3K\5K\u0289\nK\3K\5K\u028c\nK\3K\3K\3K\6K\u0291\nK\rK\16K\u0292"+
+		"\3K\3K\3K\3K\3K\5K\u029a\nK\3L\3L\3L\7L\u029f\nL\fL\16L\u02a2\13L\3L\5"+
+		"L\u02a5\nL\3M\3M\3N\3N\7N\u02ab\nN\fN\16N\u02ae\13N\3N\5N\u02b1\nN\3O"+
+		"\3O\5O\u02b5\nO\3P\3P\3P\3P\5P\u02bb\nP\2\2Q\3\3\5\4\7\5\t\6\13\7\r\b"+
+		"\17\t\21\n\23\13\25\f\27\r\31\16\33\17\35\20\37\21!\22#\23%\24\'\25)\26"+
+		"+\27-\30/\31\61\32\63\33\65\34\67\359\36;\37= ?!A\"C#E$G%I&K\'M(O)Q*S"+
+		"+U,W-Y.[/]\60_\61a\62c\63e\64g\65i\66k\67m8o9q:s;u<w=y>{?}@\177A\u0081"+
+		"B\u0083C\u0085D\u0087E\u0089F\u008bG\u008dH\u008fI\u0091J\u0093\2\u0095"+
+		"\2\u0097\2\u0099\2\u009b\2\u009d\2\u009f\2\3\2\33\3\2\63;\4\2NNnn\4\2"+
+		"ZZzz\5\2\62;CHch\6\2\62;CHaach\3\2\629\4\2\629aa\4\2DDdd\3\2\62\63\4\2"+
+		"\62\63aa\6\2FFHHffhh\4\2RRrr\4\2--//\5\2\13\f\16\17\"\"\6\2\f\f\17\17"+
+		"))^^\6\2\f\f\17\17$$^^\4\2GGgg\13\2$$))\62\62^^cdhhpptvxx\3\2\62\65\3"+
+		"\2\62;\4\2\62;aa\6\2&&C\\aac|\4\2\2\u0081\ud802\udc01\3\2\ud802\udc01"+
+		"\3\2\udc02\ue001\2\u02fa\2\3\3\2\2\2\2\5\3\2\2\2\2\7\3\2\2\2\2\t\3\2\2"+
+		"\2\2\13\3\2\2\2\2\r\3\2\2\2\2\17\3\2\2\2\2\21\3\2\2\2\2\23\3\2\2\2\2\25"+
+		"\3\2\2\2\2\27\3\2\2\2\2\31\3\2\2\2\2\33\3\2\2\2\2\35\3\2\2\2\2\37\3\2"+
+		"\2\2\2!\3\2\2\2\2#\3\2\2\2\2%\3\2\2\2\2\'\3\2\2\2\2)\3\2\2\2\2+\3\2\2"+
+		"\2\2-\3\2\2\2\2/\3\2\2\2\2\61\3\2\2\2\2\63\3\2\2\2\2\65\3\2\2\2\2\67\3"+
+		"\2\2\2\29\3\2\2\2\2;\3\2\2\2\2=\3\2\2\2\2?\3\2\2\2\2A\3\2\2\2\2C\3\2\2"+
+		"\2\2E\3\2\2\2\2G\3\2\2\2\2I\3\2\2\2\2K\3\2\2\2\2M\3\2\2\2\2O\3\2\2\2\2"+
+		"Q\3\2\2\2\2S\3\2\2\2\2U\3\2\2\2\2W\3\2\2\2\2Y\3\2\2\2\2[\3\2\2\2\2]\3"+
+		"\2\2\2\2_\3\2\2\2\2a\3\2\2\2\2c\3\2\2\2\2e\3\2\2\2\2g\3\2\2\2\2i\3\2\2"+
+		"\2\2k\3\2\2\2\2m\3\2\2\2\2o\3\2\2\2\2q\3\2\2\2\2s\3\2\2\2\2u\3\2\2\2\2"+
+		"w\3\2\2\2\2y\3\2\2\2\2{\3\2\2\2\2}\3\2\2\2\2\177\3\2\2\2\2\u0081\3\2\2"+
+		"\2\2\u0083\3\2\2\2\2\u0085\3\2\2\2\2\u0087\3\2\2\2\2\u0089\3\2\2\2\2\u008b"+
+		"\3\2\2\2\2\u008d\3\2\2\2\2\u008f\3\2\2\2\2\u0091\3\2\2\2\3\u00a1\3\2\2"+
+		"\2\5\u00a3\3\2\2\2\7\u00a7\3\2\2\2\t\u00ab\3\2\2\2\13\u00ad\3\2\2\2\r"+
+		"\u00b0\3\2\2\2\17\u00b3\3\2\2\2\21\u00b5\3\2\2\2\23\u00b7\3\2\2\2\25\u00ba"+
+		"\3\2\2\2\27\u00bd\3\2\2\2\31\u00c0\3\2\2\2\33\u00c4\3\2\2\2\35\u00c8\3"+
+		"\2\2\2\37\u00cb\3\2\2\2!\u00ce\3\2\2\2#\u00d1\3\2\2\2%\u00da\3\2\2\2\'"+
+		"\u00e0\3\2\2\2)\u00e8\3\2\2\2+\u00f2\3\2\2\2-\u00fa\3\2\2\2/\u0101\3\2"+
+		"\2\2\61\u0107\3\2\2\2\63\u010a\3\2\2\2\65\u010e\3\2\2\2\67\u0114\3\2\2"+
+		"\29\u011b\3\2\2\2;\u011d\3\2\2\2=\u011f\3\2\2\2?\u0121\3\2\2\2A\u0123"+
+		"\3\2\2\2C\u0125\3\2\2\2E\u0128\3\2\2\2G\u012c\3\2\2\2I\u0134\3\2\2\2K"+
+		"\u013c\3\2\2\2M\u0143\3\2\2\2O\u0154\3\2\2\2Q\u0159\3\2\2\2S\u015b\3\2"+
+		"\2\2U\u015d\3\2\2\2W\u015f\3\2\2\2Y\u0161\3\2\2\2[\u0163\3\2\2\2]\u0165"+
+		"\3\2\2\2_\u0167\3\2\2\2a\u0169\3\2\2\2c\u016b\3\2\2\2e\u016d\3\2\2\2g"+
+		"\u016f\3\2\2\2i\u0171\3\2\2\2k\u0180\3\2\2\2m\u0185\3\2\2\2o\u0194\3\2"+
+		"\2\2q\u01ad\3\2\2\2s\u01bc\3\2\2\2u\u01d6\3\2\2\2w\u01d8\3\2\2\2y\u01ef"+
+		"\3\2\2\2{\u01fe\3\2\2\2}\u0210\3\2\2\2\177\u0217\3\2\2\2\u0081\u0225\3"+
+		"\2\2\2\u0083\u0230\3\2\2\2\u0085\u023b\3\2\2\2\u0087\u0249\3\2\2\2\u0089"+
+		"\u025a\3\2\2\2\u008b\u025d\3\2\2\2\u008d\u0263\3\2\2\2\u008f\u026d\3\2"+
+		"\2\2\u0091\u0277\3\2\2\2\u0093\u027e\3\2\2\2\u0095\u0299\3\2\2\2\u0097"+
+		"\u029b\3\2\2\2\u0099\u02a6\3\2\2\2\u009b\u02a8\3\2\2\2\u009d\u02b4\3\2"+
+		"\2\2\u009f\u02ba\3\2\2\2\u00a1\u00a2\7#\2\2\u00a2\4\3\2\2\2\u00a3\u00a4"+
+		"\7p\2\2\u00a4\u00a5\7q\2\2\u00a5\u00a6\7v\2\2\u00a6\6\3\2\2\2\u00a7\u00a8"+
+		"\7P\2\2\u00a8\u00a9\7Q\2\2\u00a9\u00aa\7V\2\2\u00aa\b\3\2\2\2\u00ab\u00ac"+
+		"\7\'\2\2\u00ac\n\3\2\2\2\u00ad\u00ae\7>\2\2\u00ae\u00af\7?\2\2\u00af\f"+
+		"\3\2\2\2\u00b0\u00b1\7@\2\2\u00b1\u00b2\7?\2\2\u00b2\16\3\2\2\2\u00b3"+
+		"\u00b4\7@\2\2\u00b4\20\3\2\2\2\u00b5\u00b6\7>\2\2\u00b6\22\3\2\2\2\u00b7"+
+		"\u00b8\7?\2\2\u00b8\u00b9\7?\2\2\u00b9\24\3\2\2\2\u00ba\u00bb\7#\2\2\u00bb"+
+		"\u00bc\7?\2\2\u00bc\26\3\2\2\2\u00bd\u00be\7(\2\2\u00be\u00bf\7(\2\2\u00bf"+
+		"\30\3\2\2\2\u00c0\u00c1\7c\2\2\u00c1\u00c2\7p\2\2\u00c2\u00c3\7f\2\2\u00c3"+
+		"\32\3\2\2\2\u00c4\u00c5\7C\2\2\u00c5\u00c6\7P\2\2\u00c6\u00c7\7F\2\2\u00c7"+
+		"\34\3\2\2\2\u00c8\u00c9\7~\2\2\u00c9\u00ca\7~\2\2\u00ca\36\3\2\2\2\u00cb"+
+		"\u00cc\7q\2\2\u00cc\u00cd\7t\2\2\u00cd \3\2\2\2\u00ce\u00cf\7Q\2\2\u00cf"+
+		"\u00d0\7T\2\2\u00d0\"\3\2\2\2\u00d1\u00d2\7t\2\2\u00d2\u00d3\7g\2\2\u00d3"+
+		"\u00d4\7c\2\2\u00d4\u00d5\7f\2\2\u00d5\u00d6\7Q\2\2\u00d6\u00d7\7p\2\2"+
+		"\u00d7\u00d8\7n\2\2\u00d8\u00d9\7{\2\2\u00d9$\3\2\2\2\u00da\u00db\7w\2"+
+		"\2\u00db\u00dc\7p\2\2\u00dc\u00dd\7k\2\2\u00dd\u00de\7q\2\2\u00de\u00df"+
+		"\7p\2\2\u00df&\3\2\2\2\u00e0\u00e1\7u\2\2\u00e1\u00e2\7w\2\2\u00e2\u00e3"+
+		"\7d\2\2\u00e3\u00e4\7u\2\2\u00e4\u00e5\7g\2\2\u00e5\u00e6\7v\2\2\u00e6"+
+		"\u00e7\7u\2\2\u00e7(\3\2\2\2\u00e8\u00e9\7t\2\2\u00e9\u00ea\7g\2\2\u00ea"+
+		"\u00eb\7f\2\2\u00eb\u00ec\7g\2\2\u00ec\u00ed\7h\2\2\u00ed\u00ee\7k\2\2"+
+		"\u00ee\u00ef\7p\2\2\u00ef\u00f0\7g\2\2\u00f0\u00f1\7u\2\2\u00f1*\3\2\2"+
+		"\2\u00f2\u00f3\7q\2\2\u00f3\u00f4\7t\2\2\u00f4\u00f5\7f\2\2\u00f5\u00f6"+
+		"\7g\2\2\u00f6\u00f7\7t\2\2\u00f7\u00f8\7g\2\2\u00f8\u00f9\7f\2\2\u00f9"+
+		",\3\2\2\2\u00fa\u00fb\7w\2\2\u00fb\u00fc\7p\2\2\u00fc\u00fd\7k\2\2\u00fd"+
+		"\u00fe\7s\2\2\u00fe\u00ff\7w\2\2\u00ff\u0100\7g\2\2\u0100.\3\2\2\2\u0101"+
+		"\u0102\7s\2\2\u0102\u0103\7w\2\2\u0103\u0104\7g\2\2\u0104\u0105\7t\2\2"+
+		"\u0105\u0106\7{\2\2\u0106\60\3\2\2\2\u0107\u0108\7k\2\2\u0108\u0109\7"+
+		"p\2\2\u0109\62\3\2\2\2\u010a\u010b\7q\2\2\u010b\u010c\7w\2\2\u010c\u010d"+
+		"\7v\2\2\u010d\64\3\2\2\2\u010e\u010f\7k\2\2\u010f\u0110\7p\2\2\u0110\u0111"+
+		"\7q\2\2\u0111\u0112\7w\2\2\u0112\u0113\7v\2\2\u0113\66\3\2\2\2\u0114\u0115"+
+		"\7t\2\2\u0115\u0116\7g\2\2\u0116\u0117\7v\2\2\u0117\u0118\7w\2\2\u0118"+
+		"\u0119\7t\2\2\u0119\u011a\7p\2\2\u011a8\3\2\2\2\u011b\u011c\7-\2\2\u011c"+
+		":\3\2\2\2\u011d\u011e\7/\2\2\u011e<\3\2\2\2\u011f\u0120\7%\2\2\u0120>"+
+		"\3\2\2\2\u0121\u0122\7\u0080\2\2\u0122@\3\2\2\2\u0123\u0124\7,\2\2\u0124"+
+		"B\3\2\2\2\u0125\u0126\7\60\2\2\u0126\u0127\7\60\2\2\u0127D\3\2\2\2\u0128"+
+		"\u0129\7p\2\2\u0129\u012a\7g\2\2\u012a\u012b\7y\2\2\u012bF\3\2\2\2\u012c"+
+		"\u012d\7D\2\2\u012d\u012e\7q\2\2\u012e\u012f\7q\2\2\u012f\u0130\7n\2\2"+
+		"\u0130\u0131\7g\2\2\u0131\u0132\7c\2\2\u0132\u0133\7p\2\2\u0133H\3\2\2"+
+		"\2\u0134\u0135\7K\2\2\u0135\u0136\7p\2\2\u0136\u0137\7v\2\2\u0137\u0138"+
+		"\7g\2\2\u0138\u0139\7i\2\2\u0139\u013a\7g\2\2\u013a\u013b\7t\2\2\u013b"+
+		"J\3\2\2\2\u013c\u013d\7U\2\2\u013d\u013e\7v\2\2\u013e\u013f\7t\2\2\u013f"+
+		"\u0140\7k\2\2\u0140\u0141\7p\2\2\u0141\u0142\7i\2\2\u0142L\3\2\2\2\u0143"+
+		"\u0144\7W\2\2\u0144\u0145\7p\2\2\u0145\u0146\7n\2\2\u0146\u0147\7k\2\2"+
+		"\u0147\u0148\7o\2\2\u0148\u0149\7k\2\2\u0149\u014a\7v\2\2\u014a\u014b"+
+		"\7g\2\2\u014b\u014c\7f\2\2\u014c\u014d\7P\2\2\u014d\u014e\7c\2\2\u014e"+
+		"\u014f\7v\2\2\u014f\u0150\7w\2\2\u0150\u0151\7t\2\2\u0151\u0152\7c\2\2"+
+		"\u0152\u0153\7n\2\2\u0153N\3\2\2\2\u0154\u0155\7x\2\2\u0155\u0156\7q\2"+
+		"\2\u0156\u0157\7k\2\2\u0157\u0158\7f\2\2\u0158P\3\2\2\2\u0159\u015a\7"+
+		"*\2\2\u015aR\3\2\2\2\u015b\u015c\7+\2\2\u015cT\3\2\2\2\u015d\u015e\7}"+
+		"\2\2\u015eV\3\2\2\2\u015f\u0160\7\177\2\2\u0160X\3\2\2\2\u0161\u0162\7"+
+		"]\2\2\u0162Z\3\2\2\2\u0163\u0164\7_\2\2\u0164\\\3\2\2\2\u0165\u0166\7"+
+		")\2\2\u0166^\3\2\2\2\u0167\u0168\7$\2\2\u0168`\3\2\2\2\u0169\u016a\7."+
+		"\2\2\u016ab\3\2\2\2\u016b\u016c\7\60\2\2\u016cd\3\2\2\2\u016d\u016e\7"+
+		"?\2\2\u016ef\3\2\2\2\u016f\u0170\7<\2\2\u0170h\3\2\2\2\u0171\u0172\7\61"+
+		"\2\2\u0172j\3\2\2\2\u0173\u0181\7\62\2\2\u0174\u017e\t\2\2\2\u0175\u0177"+
+		"\5\u009bN\2\u0176\u0175\3\2\2\2\u0176\u0177\3\2\2\2\u0177\u017f\3\2\2"+
+		"\2\u0178\u017a\7a\2\2\u0179\u0178\3\2\2\2\u017a\u017b\3\2\2\2\u017b\u0179"+
+		"\3\2\2\2\u017b\u017c\3\2\2\2\u017c\u017d\3\2\2\2\u017d\u017f\5\u009bN"+
+		"\2\u017e\u0176\3\2\2\2\u017e\u0179\3\2\2\2\u017f\u0181\3\2\2\2\u0180\u0173"+
+		"\3\2\2\2\u0180\u0174\3\2\2\2\u0181\u0183\3\2\2\2\u0182\u0184\t\3\2\2\u0183"+
+		"\u0182\3\2\2\2\u0183\u0184\3\2\2\2\u0184l\3\2\2\2\u0185\u0186\7\62\2\2"+
+		"\u0186\u0187\t\4\2\2\u0187\u018f\t\5\2\2\u0188\u018a\t\6\2\2\u0189\u0188"+
+		"\3\2\2\2\u018a\u018d\3\2\2\2\u018b\u0189\3\2\2\2\u018b\u018c\3\2\2\2\u018c"+
+		"\u018e\3\2\2\2\u018d\u018b\3\2\2\2\u018e\u0190\t\5\2\2\u018f\u018b\3\2"+
+		"\2\2\u018f\u0190\3\2\2\2\u0190\u0192\3\2\2\2\u0191\u0193\t\3\2\2\u0192"+
+		"\u0191\3\2\2\2\u0192\u0193\3\2\2\2\u0193n\3\2\2\2\u0194\u019e\7\62\2\2"+
+		"\u0195\u0197\7a\2\2\u0196\u0195\3\2\2\2\u0197\u019a\3\2\2\2\u0198\u0196"+
+		"\3\2\2\2\u0198\u0199\3\2\2\2\u0199\u019f\3\2\2\2\u019a\u0198\3\2\2\2\u019b"+
+		"\u019d\7q\2\2\u019c\u019b\3\2\2\2\u019c\u019d\3\2\2\2\u019d\u019f\3\2"+
+		"\2\2\u019e\u0198\3\2\2\2\u019e\u019c\3\2\2\2\u019f\u01a0\3\2\2\2\u01a0"+
+		"\u01a8\t\7\2\2\u01a1\u01a3\t\b\2\2\u01a2\u01a1\3\2\2\2\u01a3\u01a6\3\2"+
+		"\2\2\u01a4\u01a2\3\2\2\2\u01a4\u01a5\3\2\2\2\u01a5\u01a7\3\2\2\2\u01a6"+
+		"\u01a4\3\2\2\2\u01a7\u01a9\t\7\2\2\u01a8\u01a4\3\2\2\2\u01a8\u01a9\3\2"+
+		"\2\2\u01a9\u01ab\3\2\2\2\u01aa\u01ac\t\3\2\2\u01ab\u01aa\3\2\2\2\u01ab"+
+		"\u01ac\3\2\2\2\u01acp\3\2\2\2\u01ad\u01ae\7\62\2\2\u01ae\u01af\t\t\2\2"+
+		"\u01af\u01b7\t\n\2\2\u01b0\u01b2\t\13\2\2\u01b1\u01b0\3\2\2\2\u01b2\u01b5"+
+		"\3\2\2\2\u01b3\u01b1\3\2\2\2\u01b3\u01b4\3\2\2\2\u01b4\u01b6\3\2\2\2\u01b5"+
+		"\u01b3\3\2\2\2\u01b6\u01b8\t\n\2\2\u01b7\u01b3\3\2\2\2\u01b7\u01b8\3\2"+
+		"\2\2\u01b8\u01ba\3\2\2\2\u01b9\u01bb\t\3\2\2\u01ba\u01b9\3\2\2\2\u01ba"+
+		"\u01bb\3\2\2\2\u01bbr\3\2\2\2\u01bc\u01bd\5\u009bN\2\u01bdt\3\2\2\2\u01be"+
+		"\u01bf\5\u009bN\2\u01bf\u01c0\7\60\2\2\u01c0\u01c2\6;\2\2\u01c1\u01c3"+
+		"\5\u009bN\2\u01c2\u01c1\3\2\2\2\u01c2\u01c3\3\2\2\2\u01c3\u01c7\3\2\2"+
+		"\2\u01c4\u01c5\7\60\2\2\u01c5\u01c7\5\u009bN\2\u01c6\u01be\3\2\2\2\u01c6"+
+		"\u01c4\3\2\2\2\u01c7\u01c9\3\2\2\2\u01c8\u01ca\5\u0093J\2\u01c9\u01c8"+
+		"\3\2\2\2\u01c9\u01ca\3\2\2\2\u01ca\u01cc\3\2\2\2\u01cb\u01cd\t\f\2\2\u01cc"+
+		"\u01cb\3\2\2\2\u01cc\u01cd\3\2\2\2\u01cd\u01d7\3\2\2\2\u01ce\u01d4\5\u009b"+
+		"N\2\u01cf\u01d1\5\u0093J\2\u01d0\u01d2\t\f\2\2\u01d1\u01d0\3\2\2\2\u01d1"+
+		"\u01d2\3\2\2\2\u01d2\u01d5\3\2\2\2\u01d3\u01d5\t\f\2\2\u01d4\u01cf\3\2"+
+		"\2\2\u01d4\u01d3\3\2\2\2\u01d5\u01d7\3\2\2\2\u01d6\u01c6\3\2\2\2\u01d6"+
+		"\u01ce\3\2\2\2\u01d7v\3\2\2\2\u01d8\u01d9\7\62\2\2\u01d9\u01e3\t\4\2\2"+
+		"\u01da\u01dc\5\u0097L\2\u01db\u01dd\7\60\2\2\u01dc\u01db\3\2\2\2\u01dc"+
+		"\u01dd\3\2\2\2\u01dd\u01e4\3\2\2\2\u01de\u01e0\5\u0097L\2\u01df\u01de"+
+		"\3\2\2\2\u01df\u01e0\3\2\2\2\u01e0\u01e1\3\2\2\2\u01e1\u01e2\7\60\2\2"+
+		"\u01e2\u01e4\5\u0097L\2\u01e3\u01da\3\2\2\2\u01e3\u01df\3\2\2\2\u01e4"+
+		"\u01e5\3\2\2\2\u01e5\u01e7\t\r\2\2\u01e6\u01e8\t\16\2\2\u01e7\u01e6\3"+
+		"\2\2\2\u01e7\u01e8\3\2\2\2\u01e8\u01e9\3\2\2\2\u01e9\u01eb\5\u009bN\2"+
+		"\u01ea\u01ec\t\f\2\2\u01eb\u01ea\3\2\2\2\u01eb\u01ec\3\2\2\2\u01ecx\3"+
+		"\2\2\2\u01ed\u01f0\5{>\2\u01ee\u01f0\5}?\2\u01ef\u01ed\3\2\2\2\u01ef\u01ee"+
+		"\3\2\2\2\u01f0z\3\2\2\2\u01f1\u01f2\7v\2\2\u01f2\u01f3\7t\2\2\u01f3\u01f4"+
+		"\7w\2\2\u01f4\u01ff\7g\2\2\u01f5\u01f6\7V\2\2\u01f6\u01f7\7T\2\2\u01f7"+
+		"\u01f8\7W\2\2\u01f8\u01ff\7G\2\2\u01f9\u01fa\7V\2\2\u01fa\u01fb\7t\2\2"+
+		"\u01fb\u01fc\7w\2\2\u01fc\u01ff\7g\2\2\u01fd\u01ff\7\63\2\2\u01fe\u01f1"+
+		"\3\2\2\2\u01fe\u01f5\3\2\2\2\u01fe\u01f9\3\2\2\2\u01fe\u01fd\3\2\2\2\u01ff"+
+		"|\3\2\2\2\u0200\u0201\7h\2\2\u0201\u0202\7c\2\2\u0202\u0203\7n\2\2\u0203"+
+		"\u0204\7u\2\2\u0204\u0211\7g\2\2\u0205\u0206\7H\2\2\u0206\u0207\7C\2\2"+
+		"\u0207\u0208\7N\2\2\u0208\u0209\7U\2\2\u0209\u0211\7G\2\2\u020a\u020b"+
+		"\7H\2\2\u020b\u020c\7c\2\2\u020c\u020d\7n\2\2\u020d\u020e\7u\2\2\u020e"+
+		"\u0211\7g\2\2\u020f\u0211\7\62\2\2\u0210\u0200\3\2\2\2\u0210\u0205\3\2"+
+		"\2\2\u0210\u020a\3\2\2\2\u0210\u020f\3\2\2\2\u0211~\3\2\2\2\u0212\u0218"+
+		"\5\u0081A\2\u0213\u0218\5\u0083B\2\u0214\u0218\5\u0085C\2\u0215\u0218"+
+		"\5\u0087D\2\u0216\u0218\5\u0089E\2\u0217\u0212\3\2\2\2\u0217\u0213\3\2"+
+		"\2\2\u0217\u0214\3\2\2\2\u0217\u0215\3\2\2\2\u0217\u0216\3\2\2\2\u0218"+
+		"\u0080\3\2\2\2\u0219\u021a\7p\2\2\u021a\u021b\7w\2\2\u021b\u021c\7n\2"+
+		"\2\u021c\u0226\7n\2\2\u021d\u021e\7P\2\2\u021e\u021f\7W\2\2\u021f\u0220"+
+		"\7N\2\2\u0220\u0226\7N\2\2\u0221\u0222\7P\2\2\u0222\u0223\7w\2\2\u0223"+
+		"\u0224\7n\2\2\u0224\u0226\7n\2\2\u0225\u0219\3\2\2\2\u0225\u021d\3\2\2"+
+		"\2\u0225\u0221\3\2\2\2\u0226\u0082\3\2\2\2\u0227\u0228\7p\2\2\u0228\u0229"+
+		"\7w\2\2\u0229\u0231\7n\2\2\u022a\u022b\7P\2\2\u022b\u022c\7W\2\2\u022c"+
+		"\u0231\7N\2\2\u022d\u022e\7P\2\2\u022e\u022f\7w\2\2\u022f\u0231\7n\2\2"+
+		"\u0230\u0227\3\2\2\2\u0230\u022a\3\2\2\2\u0230\u022d\3\2\2\2\u0231\u0084"+
+		"\3\2\2\2\u0232\u0233\7p\2\2\u0233\u0234\7k\2\2\u0234\u023c\7n\2\2\u0235"+
+		"\u0236\7P\2\2\u0236\u0237\7K\2\2\u0237\u023c\7N\2\2\u0238\u0239\7P\2\2"+
+		"\u0239\u023a\7k\2\2\u023a\u023c\7n\2\2\u023b\u0232\3\2\2\2\u023b\u0235"+
+		"\3\2\2\2\u023b\u0238\3\2\2\2\u023c\u0086\3\2\2\2\u023d\u023e\7p\2\2\u023e"+
+		"\u023f\7q\2\2\u023f\u0240\7p\2\2\u0240\u024a\7g\2\2\u0241\u0242\7P\2\2"+
+		"\u0242\u0243\7Q\2\2\u0243\u0244\7P\2\2\u0244\u024a\7G\2\2\u0245\u0246"+
+		"\7P\2\2\u0246\u0247\7q\2\2\u0247\u0248\7p\2\2\u0248\u024a\7g\2\2\u0249"+
+		"\u023d\3\2\2\2\u0249\u0241\3\2\2\2\u0249\u0245\3\2\2\2\u024a\u0088\3\2"+
+		"\2\2\u024b\u024c\7w\2\2\u024c\u024d\7p\2\2\u024d\u024e\7f\2\2\u024e\u024f"+
+		"\7g\2\2\u024f\u025b\7h\2\2\u0250\u0251\7W\2\2\u0251\u0252\7P\2\2\u0252"+
+		"\u0253\7F\2\2\u0253\u0254\7G\2\2\u0254\u025b\7H\2\2\u0255\u0256\7W\2\2"+
+		"\u0256\u0257\7p\2\2\u0257\u0258\7f\2\2\u0258\u0259\7g\2\2\u0259\u025b"+
+		"\7h\2\2\u025a\u024b\3\2\2\2\u025a\u0250\3\2\2\2\u025a\u0255\3\2\2\2\u025b"+
+		"\u008a\3\2\2\2\u025c\u025e\t\17\2\2\u025d\u025c\3\2\2\2\u025e\u025f\3"+
+		"\2\2\2\u025f\u025d\3\2\2\2\u025f\u0260\3\2\2\2\u0260\u0261\3\2\2\2\u0261"+
+		"\u0262\bF\2\2\u0262\u008c\3\2\2\2\u0263\u0268\5]/\2\u0264\u0267\n\20\2"+
+		"\2\u0265\u0267\5\u0095K\2\u0266\u0264\3\2\2\2\u0266\u0265\3\2\2\2\u0267"+
+		"\u026a\3\2\2\2\u0268\u0266\3\2\2\2\u0268\u0269\3\2\2\2\u0269\u026b\3\2"+
+		"\2\2\u026a\u0268\3\2\2\2\u026b\u026c\5]/\2\u026c\u008e\3\2\2\2\u026d\u0272"+
+		"\5_\60\2\u026e\u0271\n\21\2\2\u026f\u0271\5\u0095K\2\u0270\u026e\3\2\2"+
+		"\2\u0270\u026f\3\2\2\2\u0271\u0274\3\2\2\2\u0272\u0270\3\2\2\2\u0272\u0273"+
+		"\3\2\2\2\u0273\u0275\3\2\2\2\u0274\u0272\3\2\2\2\u0275\u0276\5_\60\2\u0276"+
+		"\u0090\3\2\2\2\u0277\u027b\5\u009fP\2\u0278\u027a\5\u009dO\2\u0279\u0278"+
+		"\3\2\2\2\u027a\u027d\3\2\2\2\u027b\u0279\3\2\2\2\u027b\u027c\3\2\2\2\u027c"+
+		"\u0092\3\2\2\2\u027d\u027b\3\2\2\2\u027e\u0280\t\22\2\2\u027f\u0281\t"+
+		"\16\2\2\u0280\u027f\3\2\2\2\u0280\u0281\3\2\2\2\u0281\u0282\3\2\2\2\u0282"+
+		"\u0283\5\u009bN\2\u0283\u0094\3\2\2\2\u0284\u0285\7^\2\2\u0285\u029a\t"+
+		"\23\2\2\u0286\u028b\7^\2\2\u0287\u0289\t\24\2\2\u0288\u0287\3\2\2\2\u0288"+
+		"\u0289\3\2\2\2\u0289\u028a\3\2\2\2\u028a\u028c\t\7\2\2\u028b\u0288\3\2"+
+		"\2\2\u028b\u028c\3\2\2\2\u028c\u028d\3\2\2\2\u028d\u029a\t\7\2\2\u028e"+
+		"\u0290\7^\2\2\u028f\u0291\7w\2\2\u0290\u028f\3\2\2\2\u0291\u0292\3\2\2"+
+		"\2\u0292\u0290\3\2\2\2\u0292\u0293\3\2\2\2\u0293\u0294\3\2\2\2\u0294\u0295"+
+		"\5\u0099M\2\u0295\u0296\5\u0099M\2\u0296\u0297\5\u0099M\2\u0297\u0298"+
+		"\5\u0099M\2\u0298\u029a\3\2\2\2\u0299\u0284\3\2\2\2\u0299\u0286\3\2\2"+
+		"\2\u0299\u028e\3\2\2\2\u029a\u0096\3\2\2\2\u029b\u02a4\5\u0099M\2\u029c"+
+		"\u029f\5\u0099M\2\u029d\u029f\7a\2\2\u029e\u029c\3\2\2\2\u029e\u029d\3"+
+		"\2\2\2\u029f\u02a2\3\2\2\2\u02a0\u029e\3\2\2\2\u02a0\u02a1\3\2\2\2\u02a1"+
+		"\u02a3\3\2\2\2\u02a2\u02a0\3\2\2\2\u02a3\u02a5\5\u0099M\2\u02a4\u02a0"+
+		"\3\2\2\2\u02a4\u02a5\3\2\2\2\u02a5\u0098\3\2\2\2\u02a6\u02a7\t\5\2\2\u02a7"+
+		"\u009a\3\2\2\2\u02a8\u02b0\t\25\2\2\u02a9\u02ab\t\26\2\2\u02aa\u02a9\3"+
+		"\2\2\2\u02ab\u02ae\3\2\2\2\u02ac\u02aa\3\2\2\2\u02ac\u02ad\3\2\2\2\u02ad"+
+		"\u02af\3\2\2\2\u02ae\u02ac\3\2\2\2\u02af\u02b1\t\25\2\2\u02b0\u02ac\3"+
+		"\2\2\2\u02b0\u02b1\3\2\2\2\u02b1\u009c\3\2\2\2\u02b2\u02b5\5\u009fP\2"+
+		"\u02b3\u02b5\t\25\2\2\u02b4\u02b2\3\2\2\2\u02b4\u02b3\3\2\2\2\u02b5\u009e"+
+		"\3\2\2\2\u02b6\u02bb\t\27\2\2\u02b7\u02bb\n\30\2\2\u02b8\u02b9\t\31\2"+
+		"\2\u02b9\u02bb\t\32\2\2\u02ba\u02b6\3\2\2\2\u02ba\u02b7\3\2\2\2\u02ba"+
+		"\u02b8\3\2\2\2\u02bb\u00a0\3\2\2\2;\2\u0176\u017b\u017e\u0180\u0183\u018b"+
+		"\u018f\u0192\u0198\u019c\u019e\u01a4\u01a8\u01ab\u01b3\u01b7\u01ba\u01c2"+
+		"\u01c6\u01c9\u01cc\u01d1\u01d4\u01d6\u01dc\u01df\u01e3\u01e7\u01eb\u01ef"+
+		"\u01fe\u0210\u0217\u0225\u0230\u023b\u0249\u025a\u025f\u0266\u0268\u0270"+
+		"\u0272\u027b\u0280\u0288\u028b\u0292\u0299\u029e\u02a0\u02a4\u02ac\u02b0"+
+		"\u02b4\u02ba\3\2\3\2";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
@@ -1,5 +1,23 @@
 // Generated from ClassFeature.g4 by ANTLR 4.7.1
 package io.github.morichan.fescue.parser;
+
+import io.github.morichan.fescue.feature.Attribute;
+import io.github.morichan.fescue.feature.Operation;
+import io.github.morichan.fescue.feature.direction.Direction;
+import io.github.morichan.fescue.feature.direction.In;
+import io.github.morichan.fescue.feature.direction.InOut;
+import io.github.morichan.fescue.feature.direction.Out;
+import io.github.morichan.fescue.feature.direction.Return;
+import io.github.morichan.fescue.feature.multiplicity.Bounder;
+import io.github.morichan.fescue.feature.multiplicity.MultiplicityRange;
+import io.github.morichan.fescue.feature.name.Name;
+import io.github.morichan.fescue.feature.parameter.Parameter;
+import io.github.morichan.fescue.feature.property.*;
+import io.github.morichan.fescue.feature.type.Type;
+import io.github.morichan.fescue.feature.value.DefaultValue;
+import io.github.morichan.fescue.feature.value.expression.*;
+import io.github.morichan.fescue.feature.visibility.Visibility;
+
 import org.antlr.v4.runtime.tree.ParseTreeListener;
 
 /**
@@ -307,16 +325,6 @@ public interface ClassFeatureListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitClassCreatorRest(ClassFeatureParser.ClassCreatorRestContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link ClassFeatureParser#explicitGenericInvocationSuffix}.
-	 * @param ctx the parse tree
-	 */
-	void enterExplicitGenericInvocationSuffix(ClassFeatureParser.ExplicitGenericInvocationSuffixContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link ClassFeatureParser#explicitGenericInvocationSuffix}.
-	 * @param ctx the parse tree
-	 */
-	void exitExplicitGenericInvocationSuffix(ClassFeatureParser.ExplicitGenericInvocationSuffixContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link ClassFeatureParser#arguments}.
 	 * @param ctx the parse tree
@@ -1,5 +1,23 @@
 // Generated from ClassFeature.g4 by ANTLR 4.7.1
 package io.github.morichan.fescue.parser;
+
+import io.github.morichan.fescue.feature.Attribute;
+import io.github.morichan.fescue.feature.Operation;
+import io.github.morichan.fescue.feature.direction.Direction;
+import io.github.morichan.fescue.feature.direction.In;
+import io.github.morichan.fescue.feature.direction.InOut;
+import io.github.morichan.fescue.feature.direction.Out;
+import io.github.morichan.fescue.feature.direction.Return;
+import io.github.morichan.fescue.feature.multiplicity.Bounder;
+import io.github.morichan.fescue.feature.multiplicity.MultiplicityRange;
+import io.github.morichan.fescue.feature.name.Name;
+import io.github.morichan.fescue.feature.parameter.Parameter;
+import io.github.morichan.fescue.feature.property.*;
+import io.github.morichan.fescue.feature.type.Type;
+import io.github.morichan.fescue.feature.value.DefaultValue;
+import io.github.morichan.fescue.feature.value.expression.*;
+import io.github.morichan.fescue.feature.visibility.Visibility;
+
 import org.antlr.v4.runtime.atn.*;
 import org.antlr.v4.runtime.dfa.DFA;
 import org.antlr.v4.runtime.*;
@@ -38,18 +56,17 @@ public class ClassFeatureParser extends Parser {
 		RULE_direction = 18, RULE_parameterName = 19, RULE_typeExpression = 20, 
 		RULE_paramProperties = 21, RULE_returnType = 22, RULE_operProperties = 23, 
 		RULE_operProperty = 24, RULE_operName = 25, RULE_expression = 26, RULE_creator = 27, 
-		RULE_createdName = 28, RULE_classCreatorRest = 29, RULE_explicitGenericInvocationSuffix = 30, 
-		RULE_arguments = 31, RULE_expressionList = 32, RULE_primitiveType = 33, 
-		RULE_literal = 34, RULE_integerLiteral = 35, RULE_floatLiteral = 36;
+		RULE_createdName = 28, RULE_classCreatorRest = 29, RULE_arguments = 30, 
+		RULE_expressionList = 31, RULE_primitiveType = 32, RULE_literal = 33, 
+		RULE_integerLiteral = 34, RULE_floatLiteral = 35;
 	public static final String[] ruleNames = {
 		"property", "operation", "visibility", "divided", "name", "propType", 
 		"type", "multiplicityRange", "lower", "upper", "valueSpecification", "defaultValue", 
 		"propModifiers", "properties", "propModifier", "propertyName", "parameterList", 
 		"parameter", "direction", "parameterName", "typeExpression", "paramProperties", 
 		"returnType", "operProperties", "operProperty", "operName", "expression", 
-		"creator", "createdName", "classCreatorRest", "explicitGenericInvocationSuffix", 
-		"arguments", "expressionList", "primitiveType", "literal", "integerLiteral", 
-		"floatLiteral"
+		"creator", "createdName", "classCreatorRest", "arguments", "expressionList", 
+		"primitiveType", "literal", "integerLiteral", "floatLiteral"
 	};
 
 	private static final String[] _LITERAL_NAMES = {
@@ -119,11 +136,73 @@ public class ClassFeatureParser extends Parser {
 	@Override
 	public ATN getATN() { return _ATN; }
 
+
+	    private boolean isCarving = false;
+
+	    /**
+	     * <p> ?????????????????????????????????????????????????????????????????????????????????????????????????????????????????? </p>
+	     *
+	     * <p>
+	     *     ????????????????????????????????????{@code value}????????????????????????????????????????????????????????????{@link PropertyContext#value}??????
+	     *     ????????????????????????????????????{@link #setBuildParseTree(boolean)}?????????????????????????????????1??????????????????????????????????????????
+	     *     ??????????????????????????????????????????{@code value}???????????????????????????{@link org.antlr.v4.runtime.BailErrorStrategy}????????????????????????????????????????????????????????????????????????
+	     *     ??????????????????????????????????????????{@code new}????????????????????????????????????????????????????????????????????????????????????{@link IllegalArgumentException}??????????????????
+	     * </p>
+	     *
+	     * @param isCarving ????????????????????????<br>???????????????
+	     */
+	    public void setCarving(boolean isCarving) {
+	        this.isCarving = isCarving;
+	    }
+
+	    /**
+	     * <p> ?????????????????????????????????????????????????????????????????????????????????????????? </p>
+	     *
+	     * @return ??????????????????????????????????????????
+	     */
+	    public boolean isCarving() {
+	        return isCarving;
+	    }
+
+	    /**
+	     * ?????????????????????????????????????????????????????????????????????????????????{@link ParserRuleContext#getText()}????????????
+	     */
+	    private String textOf(ParserRuleContext ctx) {
+	        if (ctx.start == ctx.stop) return ctx.start.getText();
+
+	        StringBuilder sb = new StringBuilder();
+	        for (int i = ctx.start.getTokenIndex(); i <= ctx.stop.getTokenIndex(); i++) {
+	            Token token = _input.get(i);
+	            if (token.getChannel() == Token.DEFAULT_CHANNEL) sb.append(token.getText());
+	        }
+	        return sb.toString();
+	    }
+
+	    private Bounder boundOf(ParserRuleContext ctx) {
+	        return new Bounder(new OneIdentifier(textOf(ctx)));
+	    }
+
+	    /**
+	     * ????????????????????????????????????????????????{@code .}???????????????????????????????????????????????????
+	     */
+	    private Expression callOf(ExpressionContext callee, List<Expression> arguments) {
+	        if (callee.value instanceof OneIdentifier) return new MethodCall(callee.start.getText(), arguments);
+	        if (callee.bop != null && callee.bop.getType() == DOT) return new Binomial(".", callee.left.value, new MethodCall(callee.stop.getText(), arguments));
+	        throw new IllegalArgumentException("cannot carve call on " + textOf(callee));
+	    }
+
 	public ClassFeatureParser(TokenStream input) {
 		super(input);
 		_interp = new ParserATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
 	}
 	public static class PropertyContext extends ParserRuleContext {
+		public Attribute value;
+		public VisibilityContext visibility;
+		public NameContext name;
+		public PropTypeContext propType;
+		public MultiplicityRangeContext multiplicityRange;
+		public DefaultValueContext defaultValue;
+		public PropModifiersContext propModifiers;
 		public NameContext name() {
 			return getRuleContext(NameContext.class,0);
 		}
@@ -162,6 +241,7 @@ public class ClassFeatureParser extends Parser {
 	public final PropertyContext property() throws RecognitionException {
 		PropertyContext _localctx = new PropertyContext(_ctx, getState());
 		enterRule(_localctx, 0, RULE_property);
+		 if (isCarving) ((PropertyContext)_localctx).value =  new Attribute(new Name("attribute")); 
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
@@ -171,60 +251,67 @@ public class ClassFeatureParser extends Parser {
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << PUBLIC) | (1L << PRIBATE) | (1L << PROTECTED) | (1L << PACKAGE))) != 0)) {
 				{
-				setState(74);
-				visibility();
+				setState(72);
+				((PropertyContext)_localctx).visibility = visibility();
+				 if (isCarving) _localctx.value.setVisibility(((PropertyContext)_localctx).visibility.value); 
 				}
 			}
 
-			setState(78);
+			setState(80);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==SLASH) {
 				{
 				setState(77);
 				divided();
+				 if (isCarving) _localctx.value.setDerived(true); 
 				}
 			}
 
-			setState(80);
-			name();
 			setState(82);
+			((PropertyContext)_localctx).name = name();
+			 if (isCarving) _localctx.value.setName(((PropertyContext)_localctx).name.value); 
+			setState(87);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==COLON) {
 				{
-				setState(81);
-				propType();
+				setState(84);
+				((PropertyContext)_localctx).propType = propType();
+				 if (isCarving) _localctx.value.setType(((PropertyContext)_localctx).propType.value); 
 				}
 			}
 
-			setState(85);
+			setState(92);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==LBRACK) {
 				{
-				setState(84);
-				multiplicityRange();
+				setState(89);
+				((PropertyContext)_localctx).multiplicityRange = multiplicityRange();
+				 if (isCarving) _localctx.value.setMultiplicityRange(((PropertyContext)_localctx).multiplicityRange.value); 
 				}
 			}
 
-			setState(88);
+			setState(97);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==ASSIGN) {
 				{
-				setState(87);
-				defaultValue();
+				setState(94);
+				((PropertyContext)_localctx).defaultValue = defaultValue();
+				 if (isCarving) _localctx.value.setDefaultValue(((PropertyContext)_localctx).defaultValue.value); 
 				}
 			}
 
-			setState(91);
+			setState(102);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==LBRACE) {
 				{
-				setState(90);
-				propModifiers();
+				setState(99);
+				((PropertyContext)_localctx).propModifiers = propModifiers();
+				 if (isCarving) _localctx.value.setProperties(((PropertyContext)_localctx).propModifiers.value); 
 				}
 			}
 
@@ -242,6 +329,12 @@ public class ClassFeatureParser extends Parser {
 	}
 
 	public static class OperationContext extends ParserRuleContext {
+		public Operation value;
+		public VisibilityContext visibility;
+		public NameContext name;
+		public ParameterListContext parameterList;
+		public ReturnTypeContext returnType;
+		public OperPropertiesContext operProperties;
 		public NameContext name() {
 			return getRuleContext(NameContext.class,0);
 		}
@@ -274,41 +367,47 @@ public class ClassFeatureParser extends Parser {
 	public final OperationContext operation() throws RecognitionException {
 		OperationContext _localctx = new OperationContext(_ctx, getState());
 		enterRule(_localctx, 2, RULE_operation);
+		 if (isCarving) ((OperationContext)_localctx).value =  new Operation(new Name("operation")); 
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(94);
+			setState(107);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << PUBLIC) | (1L << PRIBATE) | (1L << PROTECTED) | (1L << PACKAGE))) != 0)) {
 				{
-				setState(93);
-				visibility();
+				setState(104);
+				((OperationContext)_localctx).visibility = visibility();
+				 if (isCarving) _localctx.value.setVisibility(((OperationContext)_localctx).visibility.value); 
 				}
 			}
 
-			setState(96);
-			name();
-			setState(97);
-			parameterList();
-			setState(99);
+			setState(109);
+			((OperationContext)_localctx).name = name();
+			 if (isCarving) _localctx.value.setName(((OperationContext)_localctx).name.value); 
+			setState(111);
+			((OperationContext)_localctx).parameterList = parameterList();
+			 if (isCarving && !((OperationContext)_localctx).parameterList.value.isEmpty()) _localctx.value.setParameters(((OperationContext)_localctx).parameterList.value); 
+			setState(116);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==COLON) {
 				{
-				setState(98);
-				returnType();
+				setState(113);
+				((OperationContext)_localctx).returnType = returnType();
+				 if (isCarving) _localctx.value.setReturnType(((OperationContext)_localctx).returnType.value); 
 				}
 			}
 
-			setState(102);
+			setState(121);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==LBRACE) {
 				{
-				setState(101);
-				operProperties();
+				setState(118);
+				((OperationContext)_localctx).operProperties = operProperties();
+				 if (isCarving) _localctx.value.setProperties(((OperationContext)_localctx).operProperties.value); 
 				}
 			}
 
@@ -326,6 +425,7 @@ public class ClassFeatureParser extends Parser {
 	}
 
 	public static class VisibilityContext extends ParserRuleContext {
+		public Visibility value;
 		public TerminalNode PUBLIC() { return getToken(ClassFeatureParser.PUBLIC, 0); }
 		public TerminalNode PRIBATE() { return getToken(ClassFeatureParser.PRIBATE, 0); }
 		public TerminalNode PROTECTED() { return getToken(ClassFeatureParser.PROTECTED, 0); }
@@ -351,7 +451,7 @@ public class ClassFeatureParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(104);
+			setState(123);
 			_la = _input.LA(1);
 			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << PUBLIC) | (1L << PRIBATE) | (1L << PROTECTED) | (1L << PACKAGE))) != 0)) ) {
 			_errHandler.recoverInline(this);
@@ -362,6 +462,8 @@ public class ClassFeatureParser extends Parser {
 				consume();
 			}
 			}
+			_ctx.stop = _input.LT(-1);
+			 if (isCarving) ((VisibilityContext)_localctx).value =  Visibility.choose(_localctx.start.getText()); 
 		}
 		catch (RecognitionException re) {
 			_localctx.exception = re;
@@ -396,7 +498,7 @@ public class ClassFeatureParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(106);
+			setState(125);
 			match(SLASH);
 			}
 		}
@@ -412,6 +514,8 @@ public class ClassFeatureParser extends Parser {
 	}
 
 	public static class NameContext extends ParserRuleContext {
+		public Name value;
+		public Token IDENTIFIER;
 		public TerminalNode IDENTIFIER() { return getToken(ClassFeatureParser.IDENTIFIER, 0); }
 		public NameContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
@@ -433,8 +537,9 @@ public class ClassFeatureParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(108);
-			match(IDENTIFIER);
+			setState(127);
+			((NameContext)_localctx).IDENTIFIER = match(IDENTIFIER);
+			 if (isCarving) ((NameContext)_localctx).value =  new Name((((NameContext)_localctx).IDENTIFIER!=null?((NameContext)_localctx).IDENTIFIER.getText():null)); 
 			}
 		}
 		catch (RecognitionException re) {
@@ -449,6 +554,8 @@ public class ClassFeatureParser extends Parser {
 	}
 
 	public static class PropTypeContext extends ParserRuleContext {
+		public Type value;
+		public TypeContext type;
 		public TypeContext type() {
 			return getRuleContext(TypeContext.class,0);
 		}
@@ -472,8 +579,9 @@ public class ClassFeatureParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(110);
-			type();
+			setState(130);
+			((PropTypeContext)_localctx).type = type();
+			 if (isCarving) ((PropTypeContext)_localctx).value =  ((PropTypeContext)_localctx).type.value; 
 			}
 		}
 		catch (RecognitionException re) {
@@ -488,6 +596,7 @@ public class ClassFeatureParser extends Parser {
 	}
 
 	public static class TypeContext extends ParserRuleContext {
+		public Type value;
 		public TerminalNode COLON() { return getToken(ClassFeatureParser.COLON, 0); }
 		public TerminalNode IDENTIFIER() { return getToken(ClassFeatureParser.IDENTIFIER, 0); }
 		public PrimitiveTypeContext primitiveType() {
@@ -513,14 +622,14 @@ public class ClassFeatureParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(112);
+			setState(133);
 			match(COLON);
-			setState(115);
+			setState(136);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case IDENTIFIER:
 				{
-				setState(113);
+				setState(134);
 				match(IDENTIFIER);
 				}
 				break;
@@ -529,7 +638,7 @@ public class ClassFeatureParser extends Parser {
 			case STRING:
 			case UNLIMITED_NATURAL:
 				{
-				setState(114);
+				setState(135);
 				primitiveType();
 				}
 				break;
@@ -537,6 +646,8 @@ public class ClassFeatureParser extends Parser {
 				throw new NoViableAltException(this);
 			}
 			}
+			_ctx.stop = _input.LT(-1);
+			 if (isCarving) ((TypeContext)_localctx).value =  new Type(_localctx.stop.getText()); 
 		}
 		catch (RecognitionException re) {
 			_localctx.exception = re;
@@ -550,6 +661,9 @@ public class ClassFeatureParser extends Parser {
 	}
 
 	public static class MultiplicityRangeContext extends ParserRuleContext {
+		public MultiplicityRange value;
+		public LowerContext lower;
+		public UpperContext upper;
 		public TerminalNode LBRACK() { return getToken(ClassFeatureParser.LBRACK, 0); }
 		public UpperContext upper() {
 			return getRuleContext(UpperContext.class,0);
@@ -579,24 +693,30 @@ public class ClassFeatureParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(117);
+			setState(138);
 			match(LBRACK);
-			setState(121);
+			setState(142);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,10,_ctx) ) {
 			case 1:
 				{
-				setState(118);
-				lower();
-				setState(119);
+				setState(139);
+				((MultiplicityRangeContext)_localctx).lower = lower();
+				setState(140);
 				match(RANGE);
 				}
 				break;
 			}
-			setState(123);
-			upper();
-			setState(124);
+			setState(144);
+			((MultiplicityRangeContext)_localctx).upper = upper();
+			setState(145);
 			match(RBRACK);
+
+			            if (isCarving) {
+			                ((MultiplicityRangeContext)_localctx).value =  ((MultiplicityRangeContext)_localctx).lower == null ? new MultiplicityRange(boundOf(((MultiplicityRangeContext)_localctx).upper))
+			                                            : new MultiplicityRange(boundOf(((MultiplicityRangeContext)_localctx).lower), boundOf(((MultiplicityRangeContext)_localctx).upper));
+			            }
+			        
 			}
 		}
 		catch (RecognitionException re) {
@@ -635,7 +755,7 @@ public class ClassFeatureParser extends Parser {
 		LowerContext _localctx = new LowerContext(_ctx, getState());
 		enterRule(_localctx, 16, RULE_lower);
 		try {
-			setState(128);
+			setState(150);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case DECIMAL_LITERAL:
@@ -644,14 +764,14 @@ public class ClassFeatureParser extends Parser {
 			case BINARY_LITERAL:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(126);
+				setState(148);
 				integerLiteral();
 				}
 				break;
 			case LPAREN:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(127);
+				setState(149);
 				valueSpecification();
 				}
 				break;
@@ -696,13 +816,13 @@ public class ClassFeatureParser extends Parser {
 		UpperContext _localctx = new UpperContext(_ctx, getState());
 		enterRule(_localctx, 18, RULE_upper);
 		try {
-			setState(133);
+			setState(155);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case UNLIMITATION:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(130);
+				setState(152);
 				match(UNLIMITATION);
 				}
 				break;
@@ -712,14 +832,14 @@ public class ClassFeatureParser extends Parser {
 			case BINARY_LITERAL:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(131);
+				setState(153);
 				integerLiteral();
 				}
 				break;
 			case LPAREN:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(132);
+				setState(154);
 				valueSpecification();
 				}
 				break;
@@ -739,6 +859,7 @@ public class ClassFeatureParser extends Parser {
 	}
 
 	public static class ValueSpecificationContext extends ParserRuleContext {
+		public boolean isCarvingOuter;
 		public TerminalNode LPAREN() { return getToken(ClassFeatureParser.LPAREN, 0); }
 		public TerminalNode RPAREN() { return getToken(ClassFeatureParser.RPAREN, 0); }
 		public List<ExpressionContext> expression() {
@@ -768,55 +889,56 @@ public class ClassFeatureParser extends Parser {
 	public final ValueSpecificationContext valueSpecification() throws RecognitionException {
 		ValueSpecificationContext _localctx = new ValueSpecificationContext(_ctx, getState());
 		enterRule(_localctx, 20, RULE_valueSpecification);
+		 ((ValueSpecificationContext)_localctx).isCarvingOuter =  isCarving; isCarving = false; 
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(135);
+			setState(157);
 			match(LPAREN);
-			setState(139);
+			setState(161);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__0) | (1L << T__1) | (1L << T__2) | (1L << PUBLIC) | (1L << PRIBATE) | (1L << NEW) | (1L << LPAREN) | (1L << DECIMAL_LITERAL) | (1L << HEX_LITERAL) | (1L << OCT_LITERAL) | (1L << BINARY_LITERAL) | (1L << FLOAT_LITERAL) | (1L << HEX_FLOAT_LITERAL) | (1L << BOOL_LITERAL) | (1L << NULL_LITERAL))) != 0) || ((((_la - 70)) & ~0x3f) == 0 && ((1L << (_la - 70)) & ((1L << (SQUOT_LITERAL - 70)) | (1L << (DQUOT_LITERAL - 70)) | (1L << (IDENTIFIER - 70)))) != 0)) {
 				{
 				{
-				setState(136);
+				setState(158);
 				expression(0);
 				}
 				}
-				setState(141);
+				setState(163);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(151);
+			setState(173);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==COMMA) {
 				{
 				{
-				setState(142);
+				setState(164);
 				match(COMMA);
-				setState(146);
+				setState(168);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__0) | (1L << T__1) | (1L << T__2) | (1L << PUBLIC) | (1L << PRIBATE) | (1L << NEW) | (1L << LPAREN) | (1L << DECIMAL_LITERAL) | (1L << HEX_LITERAL) | (1L << OCT_LITERAL) | (1L << BINARY_LITERAL) | (1L << FLOAT_LITERAL) | (1L << HEX_FLOAT_LITERAL) | (1L << BOOL_LITERAL) | (1L << NULL_LITERAL))) != 0) || ((((_la - 70)) & ~0x3f) == 0 && ((1L << (_la - 70)) & ((1L << (SQUOT_LITERAL - 70)) | (1L << (DQUOT_LITERAL - 70)) | (1L << (IDENTIFIER - 70)))) != 0)) {
 					{
 					{
-					setState(143);
+					setState(165);
 					expression(0);
 					}
 					}
-					setState(148);
+					setState(170);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
 				}
 				}
-				setState(153);
+				setState(175);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(154);
+			setState(176);
 			match(RPAREN);
 			}
 		}
@@ -826,12 +948,15 @@ public class ClassFeatureParser extends Parser {
 			_errHandler.recover(this, re);
 		}
 		finally {
+			 isCarving = _localctx.isCarvingOuter; 
 			exitRule();
 		}
 		return _localctx;
 	}
 
 	public static class DefaultValueContext extends ParserRuleContext {
+		public DefaultValue value;
+		public ExpressionContext expression;
 		public TerminalNode ASSIGN() { return getToken(ClassFeatureParser.ASSIGN, 0); }
 		public ExpressionContext expression() {
 			return getRuleContext(ExpressionContext.class,0);
@@ -856,10 +981,11 @@ public class ClassFeatureParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(156);
+			setState(178);
 			match(ASSIGN);
-			setState(157);
-			expression(0);
+			setState(179);
+			((DefaultValueContext)_localctx).expression = expression(0);
+			 if (isCarving) ((DefaultValueContext)_localctx).value =  new DefaultValue(((DefaultValueContext)_localctx).expression.value); 
 			}
 		}
 		catch (RecognitionException re) {
@@ -874,6 +1000,8 @@ public class ClassFeatureParser extends Parser {
 	}
 
 	public static class PropModifiersContext extends ParserRuleContext {
+		public List<Property> value;
+		public PropertiesContext properties;
 		public PropertiesContext properties() {
 			return getRuleContext(PropertiesContext.class,0);
 		}
@@ -897,8 +1025,9 @@ public class ClassFeatureParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(159);
-			properties();
+			setState(182);
+			((PropModifiersContext)_localctx).properties = properties();
+			 if (isCarving) ((PropModifiersContext)_localctx).value =  ((PropModifiersContext)_localctx).properties.value; 
 			}
 		}
 		catch (RecognitionException re) {
@@ -913,6 +1042,8 @@ public class ClassFeatureParser extends Parser {
 	}
 
 	public static class PropertiesContext extends ParserRuleContext {
+		public List<Property> value;
+		public PropModifierContext propModifier;
 		public TerminalNode LBRACE() { return getToken(ClassFeatureParser.LBRACE, 0); }
 		public List<PropModifierContext> propModifier() {
 			return getRuleContexts(PropModifierContext.class);
@@ -942,31 +1073,34 @@ public class ClassFeatureParser extends Parser {
 	public final PropertiesContext properties() throws RecognitionException {
 		PropertiesContext _localctx = new PropertiesContext(_ctx, getState());
 		enterRule(_localctx, 26, RULE_properties);
+		 if (isCarving) ((PropertiesContext)_localctx).value =  new ArrayList<>(); 
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(161);
+			setState(185);
 			match(LBRACE);
-			setState(162);
-			propModifier();
-			setState(167);
+			setState(186);
+			((PropertiesContext)_localctx).propModifier = propModifier();
+			 if (isCarving) _localctx.value.add(((PropertiesContext)_localctx).propModifier.value); 
+			setState(194);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==COMMA) {
 				{
 				{
-				setState(163);
+				setState(188);
 				match(COMMA);
-				setState(164);
-				propModifier();
+				setState(189);
+				((PropertiesContext)_localctx).propModifier = propModifier();
+				 if (isCarving) _localctx.value.add(((PropertiesContext)_localctx).propModifier.value); 
 				}
 				}
-				setState(169);
+				setState(196);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(170);
+			setState(197);
 			match(RBRACE);
 			}
 		}
@@ -982,6 +1116,8 @@ public class ClassFeatureParser extends Parser {
 	}
 
 	public static class PropModifierContext extends ParserRuleContext {
+		public Property value;
+		public PropertyNameContext propertyName;
 		public TerminalNode READONLY() { return getToken(ClassFeatureParser.READONLY, 0); }
 		public TerminalNode UNION() { return getToken(ClassFeatureParser.UNION, 0); }
 		public TerminalNode SUBSETS() { return getToken(ClassFeatureParser.SUBSETS, 0); }
@@ -1009,53 +1145,59 @@ public class ClassFeatureParser extends Parser {
 		PropModifierContext _localctx = new PropModifierContext(_ctx, getState());
 		enterRule(_localctx, 28, RULE_propModifier);
 		try {
-			setState(180);
+			setState(215);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case READONLY:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(172);
+				setState(199);
 				match(READONLY);
+				 if (isCarving) ((PropModifierContext)_localctx).value =  new ReadOnly(); 
 				}
 				break;
 			case UNION:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(173);
+				setState(201);
 				match(UNION);
+				 if (isCarving) ((PropModifierContext)_localctx).value =  new Union(); 
 				}
 				break;
 			case SUBSETS:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(174);
+				setState(203);
 				match(SUBSETS);
-				setState(175);
-				propertyName();
+				setState(204);
+				((PropModifierContext)_localctx).propertyName = propertyName();
+				 if (isCarving) ((PropModifierContext)_localctx).value =  new Subsets(((PropModifierContext)_localctx).propertyName.value); 
 				}
 				break;
 			case REDEFINES:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(176);
+				setState(207);
 				match(REDEFINES);
-				setState(177);
-				propertyName();
+				setState(208);
+				((PropModifierContext)_localctx).propertyName = propertyName();
+				 if (isCarving) ((PropModifierContext)_localctx).value =  new Redefines(((PropModifierContext)_localctx).propertyName.value); 
 				}
 				break;
 			case ORDERED:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(178);
+				setState(211);
 				match(ORDERED);
+				 if (isCarving) ((PropModifierContext)_localctx).value =  new Ordered(); 
 				}
 				break;
 			case UNIQUE:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(179);
+				setState(213);
 				match(UNIQUE);
+				 if (isCarving) ((PropModifierContext)_localctx).value =  new Unique(); 
 				}
 				break;
 			default:
@@ -1074,9 +1216,8 @@ public class ClassFeatureParser extends Parser {
 	}
 
 	public static class PropertyNameContext extends ParserRuleContext {
-		public NameContext name() {
-			return getRuleContext(NameContext.class,0);
-		}
+		public Expression value;
+		public ExpressionContext expression;
 		public ExpressionContext expression() {
 			return getRuleContext(ExpressionContext.class,0);
 		}
@@ -1098,23 +1239,11 @@ public class ClassFeatureParser extends Parser {
 		PropertyNameContext _localctx = new PropertyNameContext(_ctx, getState());
 		enterRule(_localctx, 30, RULE_propertyName);
 		try {
-			setState(184);
-			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,18,_ctx) ) {
-			case 1:
-				enterOuterAlt(_localctx, 1);
-				{
-				setState(182);
-				name();
-				}
-				break;
-			case 2:
-				enterOuterAlt(_localctx, 2);
-				{
-				setState(183);
-				expression(0);
-				}
-				break;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(217);
+			((PropertyNameContext)_localctx).expression = expression(0);
+			 if (isCarving) ((PropertyNameContext)_localctx).value =  ((PropertyNameContext)_localctx).expression.value; 
 			}
 		}
 		catch (RecognitionException re) {
@@ -1129,6 +1258,8 @@ public class ClassFeatureParser extends Parser {
 	}
 
 	public static class ParameterListContext extends ParserRuleContext {
+		public List<Parameter> value;
+		public ParameterContext parameter;
 		public TerminalNode LPAREN() { return getToken(ClassFeatureParser.LPAREN, 0); }
 		public TerminalNode RPAREN() { return getToken(ClassFeatureParser.RPAREN, 0); }
 		public List<ParameterContext> parameter() {
@@ -1158,43 +1289,46 @@ public class ClassFeatureParser extends Parser {
 	public final ParameterListContext parameterList() throws RecognitionException {
 		ParameterListContext _localctx = new ParameterListContext(_ctx, getState());
 		enterRule(_localctx, 32, RULE_parameterList);
+		 if (isCarving) ((ParameterListContext)_localctx).value =  new ArrayList<>(); 
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(186);
+			setState(220);
 			match(LPAREN);
-			setState(197);
+			setState(234);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__0) | (1L << T__1) | (1L << T__2) | (1L << IN) | (1L << OUT) | (1L << INOUT) | (1L << RETURN) | (1L << PUBLIC) | (1L << PRIBATE) | (1L << NEW) | (1L << LPAREN) | (1L << DECIMAL_LITERAL) | (1L << HEX_LITERAL) | (1L << OCT_LITERAL) | (1L << BINARY_LITERAL) | (1L << FLOAT_LITERAL) | (1L << HEX_FLOAT_LITERAL) | (1L << BOOL_LITERAL) | (1L << NULL_LITERAL))) != 0) || ((((_la - 70)) & ~0x3f) == 0 && ((1L << (_la - 70)) & ((1L << (SQUOT_LITERAL - 70)) | (1L << (DQUOT_LITERAL - 70)) | (1L << (IDENTIFIER - 70)))) != 0)) {
 				{
 				{
-				setState(187);
-				parameter();
-				setState(192);
+				setState(221);
+				((ParameterListContext)_localctx).parameter = parameter();
+				 if (isCarving) _localctx.value.add(((ParameterListContext)_localctx).parameter.value); 
+				setState(229);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==COMMA) {
 					{
 					{
-					setState(188);
+					setState(223);
 					match(COMMA);
-					setState(189);
-					parameter();
+					setState(224);
+					((ParameterListContext)_localctx).parameter = parameter();
+					 if (isCarving) _localctx.value.add(((ParameterListContext)_localctx).parameter.value); 
 					}
 					}
-					setState(194);
+					setState(231);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
 				}
 				}
-				setState(199);
+				setState(236);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(200);
+			setState(237);
 			match(RPAREN);
 			}
 		}
@@ -1210,6 +1344,13 @@ public class ClassFeatureParser extends Parser {
 	}
 
 	public static class ParameterContext extends ParserRuleContext {
+		public Parameter value;
+		public DirectionContext direction;
+		public ParameterNameContext parameterName;
+		public TypeExpressionContext typeExpression;
+		public MultiplicityRangeContext multiplicityRange;
+		public DefaultValueContext defaultValue;
+		public ParamPropertiesContext paramProperties;
 		public ParameterNameContext parameterName() {
 			return getRuleContext(ParameterNameContext.class,0);
 		}
@@ -1245,51 +1386,58 @@ public class ClassFeatureParser extends Parser {
 	public final ParameterContext parameter() throws RecognitionException {
 		ParameterContext _localctx = new ParameterContext(_ctx, getState());
 		enterRule(_localctx, 34, RULE_parameter);
+		 if (isCarving) ((ParameterContext)_localctx).value =  new Parameter(new Name("parameter")); 
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(203);
+			setState(242);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << IN) | (1L << OUT) | (1L << INOUT) | (1L << RETURN))) != 0)) {
 				{
-				setState(202);
-				direction();
+				setState(239);
+				((ParameterContext)_localctx).direction = direction();
+				 if (isCarving) _localctx.value.setDirection(((ParameterContext)_localctx).direction.value); 
 				}
 			}
 
-			setState(205);
-			parameterName();
-			setState(206);
-			typeExpression();
-			setState(208);
+			setState(244);
+			((ParameterContext)_localctx).parameterName = parameterName();
+			 if (isCarving) _localctx.value.setName(((ParameterContext)_localctx).parameterName.value); 
+			setState(246);
+			((ParameterContext)_localctx).typeExpression = typeExpression();
+			 if (isCarving) _localctx.value.setType(((ParameterContext)_localctx).typeExpression.value); 
+			setState(251);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==LBRACK) {
 				{
-				setState(207);
-				multiplicityRange();
+				setState(248);
+				((ParameterContext)_localctx).multiplicityRange = multiplicityRange();
+				 if (isCarving) _localctx.value.setMultiplicityRange(((ParameterContext)_localctx).multiplicityRange.value); 
 				}
 			}
 
-			setState(211);
+			setState(256);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==ASSIGN) {
 				{
-				setState(210);
-				defaultValue();
+				setState(253);
+				((ParameterContext)_localctx).defaultValue = defaultValue();
+				 if (isCarving) _localctx.value.setDefaultValue(((ParameterContext)_localctx).defaultValue.value); 
 				}
 			}
 
-			setState(214);
+			setState(261);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==LBRACE) {
 				{
-				setState(213);
-				paramProperties();
+				setState(258);
+				((ParameterContext)_localctx).paramProperties = paramProperties();
+				 if (isCarving) _localctx.value.setProperties(((ParameterContext)_localctx).paramProperties.value); 
 				}
 			}
 
@@ -1307,6 +1455,7 @@ public class ClassFeatureParser extends Parser {
 	}
 
 	public static class DirectionContext extends ParserRuleContext {
+		public Direction value;
 		public TerminalNode IN() { return getToken(ClassFeatureParser.IN, 0); }
 		public TerminalNode OUT() { return getToken(ClassFeatureParser.OUT, 0); }
 		public TerminalNode INOUT() { return getToken(ClassFeatureParser.INOUT, 0); }
@@ -1328,20 +1477,44 @@ public class ClassFeatureParser extends Parser {
 	public final DirectionContext direction() throws RecognitionException {
 		DirectionContext _localctx = new DirectionContext(_ctx, getState());
 		enterRule(_localctx, 36, RULE_direction);
-		int _la;
 		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(216);
-			_la = _input.LA(1);
-			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << IN) | (1L << OUT) | (1L << INOUT) | (1L << RETURN))) != 0)) ) {
-			_errHandler.recoverInline(this);
-			}
-			else {
-				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-				_errHandler.reportMatch(this);
-				consume();
-			}
+			setState(271);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case IN:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(263);
+				match(IN);
+				 if (isCarving) ((DirectionContext)_localctx).value =  new In(true); 
+				}
+				break;
+			case OUT:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(265);
+				match(OUT);
+				 if (isCarving) ((DirectionContext)_localctx).value =  new Out(); 
+				}
+				break;
+			case INOUT:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(267);
+				match(INOUT);
+				 if (isCarving) ((DirectionContext)_localctx).value =  new InOut(); 
+				}
+				break;
+			case RETURN:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(269);
+				match(RETURN);
+				 if (isCarving) ((DirectionContext)_localctx).value =  new Return(); 
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
 			}
 		}
 		catch (RecognitionException re) {
@@ -1356,9 +1529,8 @@ public class ClassFeatureParser extends Parser {
 	}
 
 	public static class ParameterNameContext extends ParserRuleContext {
-		public NameContext name() {
-			return getRuleContext(NameContext.class,0);
-		}
+		public Name value;
+		public ExpressionContext expression;
 		public ExpressionContext expression() {
 			return getRuleContext(ExpressionContext.class,0);
 		}
@@ -1380,23 +1552,11 @@ public class ClassFeatureParser extends Parser {
 		ParameterNameContext _localctx = new ParameterNameContext(_ctx, getState());
 		enterRule(_localctx, 38, RULE_parameterName);
 		try {
-			setState(220);
-			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,25,_ctx) ) {
-			case 1:
-				enterOuterAlt(_localctx, 1);
-				{
-				setState(218);
-				name();
-				}
-				break;
-			case 2:
-				enterOuterAlt(_localctx, 2);
-				{
-				setState(219);
-				expression(0);
-				}
-				break;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(273);
+			((ParameterNameContext)_localctx).expression = expression(0);
+			 if (isCarving) ((ParameterNameContext)_localctx).value =  new Name(textOf(((ParameterNameContext)_localctx).expression)); 
 			}
 		}
 		catch (RecognitionException re) {
@@ -1411,6 +1571,8 @@ public class ClassFeatureParser extends Parser {
 	}
 
 	public static class TypeExpressionContext extends ParserRuleContext {
+		public Type value;
+		public TypeContext type;
 		public TypeContext type() {
 			return getRuleContext(TypeContext.class,0);
 		}
@@ -1434,8 +1596,9 @@ public class ClassFeatureParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(222);
-			type();
+			setState(276);
+			((TypeExpressionContext)_localctx).type = type();
+			 if (isCarving) ((TypeExpressionContext)_localctx).value =  ((TypeExpressionContext)_localctx).type.value; 
 			}
 		}
 		catch (RecognitionException re) {
@@ -1450,6 +1613,8 @@ public class ClassFeatureParser extends Parser {
 	}
 
 	public static class ParamPropertiesContext extends ParserRuleContext {
+		public List<Property> value;
+		public PropertiesContext properties;
 		public PropertiesContext properties() {
 			return getRuleContext(PropertiesContext.class,0);
 		}
@@ -1473,8 +1638,9 @@ public class ClassFeatureParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(224);
-			properties();
+			setState(279);
+			((ParamPropertiesContext)_localctx).properties = properties();
+			 if (isCarving) ((ParamPropertiesContext)_localctx).value =  ((ParamPropertiesContext)_localctx).properties.value; 
 			}
 		}
 		catch (RecognitionException re) {
@@ -1489,6 +1655,7 @@ public class ClassFeatureParser extends Parser {
 	}
 
 	public static class ReturnTypeContext extends ParserRuleContext {
+		public Type value;
 		public TypeContext type() {
 			return getRuleContext(TypeContext.class,0);
 		}
@@ -1512,26 +1679,28 @@ public class ClassFeatureParser extends Parser {
 		ReturnTypeContext _localctx = new ReturnTypeContext(_ctx, getState());
 		enterRule(_localctx, 44, RULE_returnType);
 		try {
-			setState(229);
+			setState(285);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,26,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,25,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(226);
+				setState(282);
 				type();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(227);
+				setState(283);
 				match(COLON);
-				setState(228);
+				setState(284);
 				match(VOID);
 				}
 				break;
 			}
+			_ctx.stop = _input.LT(-1);
+			 if (isCarving) ((ReturnTypeContext)_localctx).value =  new Type(_localctx.stop.getText()); 
 		}
 		catch (RecognitionException re) {
 			_localctx.exception = re;
@@ -1545,6 +1714,8 @@ public class ClassFeatureParser extends Parser {
 	}
 
 	public static class OperPropertiesContext extends ParserRuleContext {
+		public List<Property> value;
+		public OperPropertyContext operProperty;
 		public TerminalNode LBRACE() { return getToken(ClassFeatureParser.LBRACE, 0); }
 		public List<OperPropertyContext> operProperty() {
 			return getRuleContexts(OperPropertyContext.class);
@@ -1574,31 +1745,34 @@ public class ClassFeatureParser extends Parser {
 	public final OperPropertiesContext operProperties() throws RecognitionException {
 		OperPropertiesContext _localctx = new OperPropertiesContext(_ctx, getState());
 		enterRule(_localctx, 46, RULE_operProperties);
+		 if (isCarving) ((OperPropertiesContext)_localctx).value =  new ArrayList<>(); 
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(231);
+			setState(287);
 			match(LBRACE);
-			setState(232);
-			operProperty();
-			setState(237);
+			setState(288);
+			((OperPropertiesContext)_localctx).operProperty = operProperty();
+			 if (isCarving) _localctx.value.add(((OperPropertiesContext)_localctx).operProperty.value); 
+			setState(296);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==COMMA) {
 				{
 				{
-				setState(233);
+				setState(290);
 				match(COMMA);
-				setState(234);
-				operProperty();
+				setState(291);
+				((OperPropertiesContext)_localctx).operProperty = operProperty();
+				 if (isCarving) _localctx.value.add(((OperPropertiesContext)_localctx).operProperty.value); 
 				}
 				}
-				setState(239);
+				setState(298);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(240);
+			setState(299);
 			match(RBRACE);
 			}
 		}
@@ -1614,6 +1788,8 @@ public class ClassFeatureParser extends Parser {
 	}
 
 	public static class OperPropertyContext extends ParserRuleContext {
+		public Property value;
+		public OperNameContext operName;
 		public TerminalNode REDEFINES() { return getToken(ClassFeatureParser.REDEFINES, 0); }
 		public OperNameContext operName() {
 			return getRuleContext(OperNameContext.class,0);
@@ -1639,37 +1815,41 @@ public class ClassFeatureParser extends Parser {
 		OperPropertyContext _localctx = new OperPropertyContext(_ctx, getState());
 		enterRule(_localctx, 48, RULE_operProperty);
 		try {
-			setState(247);
+			setState(311);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case REDEFINES:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(242);
+				setState(301);
 				match(REDEFINES);
-				setState(243);
-				operName();
+				setState(302);
+				((OperPropertyContext)_localctx).operName = operName();
+				 if (isCarving) ((OperPropertyContext)_localctx).value =  new Redefines(((OperPropertyContext)_localctx).operName.value); 
 				}
 				break;
 			case QUERY:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(244);
+				setState(305);
 				match(QUERY);
+				 if (isCarving) ((OperPropertyContext)_localctx).value =  new Query(); 
 				}
 				break;
 			case ORDERED:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(245);
+				setState(307);
 				match(ORDERED);
+				 if (isCarving) ((OperPropertyContext)_localctx).value =  new Ordered(); 
 				}
 				break;
 			case UNIQUE:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(246);
+				setState(309);
 				match(UNIQUE);
+				 if (isCarving) ((OperPropertyContext)_localctx).value =  new Unique(); 
 				}
 				break;
 			default:
@@ -1688,9 +1868,8 @@ public class ClassFeatureParser extends Parser {
 	}
 
 	public static class OperNameContext extends ParserRuleContext {
-		public NameContext name() {
-			return getRuleContext(NameContext.class,0);
-		}
+		public Expression value;
+		public ExpressionContext expression;
 		public ExpressionContext expression() {
 			return getRuleContext(ExpressionContext.class,0);
 		}
@@ -1712,23 +1891,11 @@ public class ClassFeatureParser extends Parser {
 		OperNameContext _localctx = new OperNameContext(_ctx, getState());
 		enterRule(_localctx, 50, RULE_operName);
 		try {
-			setState(251);
-			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,29,_ctx) ) {
-			case 1:
-				enterOuterAlt(_localctx, 1);
-				{
-				setState(249);
-				name();
-				}
-				break;
-			case 2:
-				enterOuterAlt(_localctx, 2);
-				{
-				setState(250);
-				expression(0);
-				}
-				break;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(313);
+			((OperNameContext)_localctx).expression = expression(0);
+			 if (isCarving) ((OperNameContext)_localctx).value =  ((OperNameContext)_localctx).expression.value; 
 			}
 		}
 		catch (RecognitionException re) {
@@ -1743,15 +1910,23 @@ public class ClassFeatureParser extends Parser {
 	}
 
 	public static class ExpressionContext extends ParserRuleContext {
+		public Expression value;
+		public ExpressionContext left;
+		public ExpressionContext inner;
+		public LiteralContext literal;
+		public Token IDENTIFIER;
+		public CreatorContext creator;
 		public Token bop;
+		public ExpressionContext right;
+		public ArgumentsContext arguments;
 		public TerminalNode LPAREN() { return getToken(ClassFeatureParser.LPAREN, 0); }
+		public TerminalNode RPAREN() { return getToken(ClassFeatureParser.RPAREN, 0); }
 		public List<ExpressionContext> expression() {
 			return getRuleContexts(ExpressionContext.class);
 		}
 		public ExpressionContext expression(int i) {
 			return getRuleContext(ExpressionContext.class,i);
 		}
-		public TerminalNode RPAREN() { return getToken(ClassFeatureParser.RPAREN, 0); }
 		public LiteralContext literal() {
 			return getRuleContext(LiteralContext.class,0);
 		}
@@ -1760,9 +1935,6 @@ public class ClassFeatureParser extends Parser {
 		public CreatorContext creator() {
 			return getRuleContext(CreatorContext.class,0);
 		}
-		public ExplicitGenericInvocationSuffixContext explicitGenericInvocationSuffix() {
-			return getRuleContext(ExplicitGenericInvocationSuffixContext.class,0);
-		}
 		public ArgumentsContext arguments() {
 			return getRuleContext(ArgumentsContext.class,0);
 		}
@@ -1796,17 +1968,18 @@ public class ClassFeatureParser extends Parser {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(266);
+			setState(339);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case LPAREN:
 				{
-				setState(254);
+				setState(317);
 				match(LPAREN);
-				setState(255);
-				expression(0);
-				setState(256);
+				setState(318);
+				((ExpressionContext)_localctx).inner = expression(0);
+				setState(319);
 				match(RPAREN);
+				 if (isCarving) ((ExpressionContext)_localctx).value =  new ExpressionWithParen(((ExpressionContext)_localctx).inner.value); 
 				}
 				break;
 			case DECIMAL_LITERAL:
@@ -1820,28 +1993,31 @@ public class ClassFeatureParser extends Parser {
 			case SQUOT_LITERAL:
 			case DQUOT_LITERAL:
 				{
-				setState(258);
-				literal();
+				setState(322);
+				((ExpressionContext)_localctx).literal = literal();
+				 if (isCarving) ((ExpressionContext)_localctx).value =  new OneIdentifier((((ExpressionContext)_localctx).literal!=null?(((ExpressionContext)_localctx).literal.start):null).getText()); 
 				}
 				break;
 			case IDENTIFIER:
 				{
-				setState(259);
-				match(IDENTIFIER);
+				setState(325);
+				((ExpressionContext)_localctx).IDENTIFIER = match(IDENTIFIER);
+				 if (isCarving) ((ExpressionContext)_localctx).value =  new OneIdentifier((((ExpressionContext)_localctx).IDENTIFIER!=null?((ExpressionContext)_localctx).IDENTIFIER.getText():null)); 
 				}
 				break;
 			case NEW:
 				{
-				setState(260);
+				setState(327);
 				match(NEW);
-				setState(261);
-				creator();
+				setState(328);
+				((ExpressionContext)_localctx).creator = creator();
+				 if (isCarving) throw new IllegalArgumentException("cannot carve creator " + textOf(((ExpressionContext)_localctx).creator)); 
 				}
 				break;
 			case PUBLIC:
 			case PRIBATE:
 				{
-				setState(262);
+				setState(331);
 				((ExpressionContext)_localctx).bop = _input.LT(1);
 				_la = _input.LA(1);
 				if ( !(_la==PUBLIC || _la==PRIBATE) ) {
@@ -1852,15 +2028,16 @@ public class ClassFeatureParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(263);
-				expression(8);
+				setState(332);
+				((ExpressionContext)_localctx).inner = expression(8);
+				 if (isCarving) ((ExpressionContext)_localctx).value =  new Monomial((((ExpressionContext)_localctx).bop!=null?((ExpressionContext)_localctx).bop.getText():null), ((ExpressionContext)_localctx).inner.value); 
 				}
 				break;
 			case T__0:
 			case T__1:
 			case T__2:
 				{
-				setState(264);
+				setState(335);
 				((ExpressionContext)_localctx).bop = _input.LT(1);
 				_la = _input.LA(1);
 				if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__0) | (1L << T__1) | (1L << T__2))) != 0)) ) {
@@ -1871,32 +2048,35 @@ public class ClassFeatureParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(265);
-				expression(7);
+				setState(336);
+				((ExpressionContext)_localctx).inner = expression(7);
+				 if (isCarving) ((ExpressionContext)_localctx).value =  new Monomial((((ExpressionContext)_localctx).bop!=null?((ExpressionContext)_localctx).bop.getText():null), ((ExpressionContext)_localctx).inner.value); 
 				}
 				break;
 			default:
 				throw new NoViableAltException(this);
 			}
 			_ctx.stop = _input.LT(-1);
-			setState(296);
+			setState(381);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,33,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,30,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					if ( _parseListeners!=null ) triggerExitRuleEvent();
 					_prevctx = _localctx;
 					{
-					setState(294);
+					setState(379);
 					_errHandler.sync(this);
-					switch ( getInterpreter().adaptivePredict(_input,32,_ctx) ) {
+					switch ( getInterpreter().adaptivePredict(_input,29,_ctx) ) {
 					case 1:
 						{
 						_localctx = new ExpressionContext(_parentctx, _parentState);
+						_localctx.left = _prevctx;
+						_localctx.left = _prevctx;
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(268);
+						setState(341);
 						if (!(precpred(_ctx, 6))) throw new FailedPredicateException(this, "precpred(_ctx, 6)");
-						setState(269);
+						setState(342);
 						((ExpressionContext)_localctx).bop = _input.LT(1);
 						_la = _input.LA(1);
 						if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__3) | (1L << UNLIMITATION) | (1L << SLASH))) != 0)) ) {
@@ -1907,17 +2087,20 @@ public class ClassFeatureParser extends Parser {
 							_errHandler.reportMatch(this);
 							consume();
 						}
-						setState(270);
-						expression(7);
+						setState(343);
+						((ExpressionContext)_localctx).right = expression(7);
+						 if (isCarving) ((ExpressionContext)_localctx).value =  new Binomial((((ExpressionContext)_localctx).bop!=null?((ExpressionContext)_localctx).bop.getText():null), ((ExpressionContext)_localctx).left.value, ((ExpressionContext)_localctx).right.value); 
 						}
 						break;
 					case 2:
 						{
 						_localctx = new ExpressionContext(_parentctx, _parentState);
+						_localctx.left = _prevctx;
+						_localctx.left = _prevctx;
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(271);
+						setState(346);
 						if (!(precpred(_ctx, 5))) throw new FailedPredicateException(this, "precpred(_ctx, 5)");
-						setState(272);
+						setState(347);
 						((ExpressionContext)_localctx).bop = _input.LT(1);
 						_la = _input.LA(1);
 						if ( !(_la==PUBLIC || _la==PRIBATE) ) {
@@ -1928,17 +2111,20 @@ public class ClassFeatureParser extends Parser {
 							_errHandler.reportMatch(this);
 							consume();
 						}
-						setState(273);
-						expression(6);
+						setState(348);
+						((ExpressionContext)_localctx).right = expression(6);
+						 if (isCarving) ((ExpressionContext)_localctx).value =  new Binomial((((ExpressionContext)_localctx).bop!=null?((ExpressionContext)_localctx).bop.getText():null), ((ExpressionContext)_localctx).left.value, ((ExpressionContext)_localctx).right.value); 
 						}
 						break;
 					case 3:
 						{
 						_localctx = new ExpressionContext(_parentctx, _parentState);
+						_localctx.left = _prevctx;
+						_localctx.left = _prevctx;
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(274);
+						setState(351);
 						if (!(precpred(_ctx, 4))) throw new FailedPredicateException(this, "precpred(_ctx, 4)");
-						setState(275);
+						setState(352);
 						((ExpressionContext)_localctx).bop = _input.LT(1);
 						_la = _input.LA(1);
 						if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__4) | (1L << T__5) | (1L << T__6) | (1L << T__7))) != 0)) ) {
@@ -1949,17 +2135,20 @@ public class ClassFeatureParser extends Parser {
 							_errHandler.reportMatch(this);
 							consume();
 						}
-						setState(276);
-						expression(5);
+						setState(353);
+						((ExpressionContext)_localctx).right = expression(5);
+						 if (isCarving) ((ExpressionContext)_localctx).value =  new Binomial((((ExpressionContext)_localctx).bop!=null?((ExpressionContext)_localctx).bop.getText():null), ((ExpressionContext)_localctx).left.value, ((ExpressionContext)_localctx).right.value); 
 						}
 						break;
 					case 4:
 						{
 						_localctx = new ExpressionContext(_parentctx, _parentState);
+						_localctx.left = _prevctx;
+						_localctx.left = _prevctx;
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(277);
+						setState(356);
 						if (!(precpred(_ctx, 3))) throw new FailedPredicateException(this, "precpred(_ctx, 3)");
-						setState(278);
+						setState(357);
 						((ExpressionContext)_localctx).bop = _input.LT(1);
 						_la = _input.LA(1);
 						if ( !(_la==T__8 || _la==T__9) ) {
@@ -1970,17 +2159,20 @@ public class ClassFeatureParser extends Parser {
 							_errHandler.reportMatch(this);
 							consume();
 						}
-						setState(279);
-						expression(4);
+						setState(358);
+						((ExpressionContext)_localctx).right = expression(4);
+						 if (isCarving) ((ExpressionContext)_localctx).value =  new Binomial((((ExpressionContext)_localctx).bop!=null?((ExpressionContext)_localctx).bop.getText():null), ((ExpressionContext)_localctx).left.value, ((ExpressionContext)_localctx).right.value); 
 						}
 						break;
 					case 5:
 						{
 						_localctx = new ExpressionContext(_parentctx, _parentState);
+						_localctx.left = _prevctx;
+						_localctx.left = _prevctx;
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(280);
+						setState(361);
 						if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
-						setState(281);
+						setState(362);
 						((ExpressionContext)_localctx).bop = _input.LT(1);
 						_la = _input.LA(1);
 						if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__10) | (1L << T__11) | (1L << T__12))) != 0)) ) {
@@ -1991,17 +2183,20 @@ public class ClassFeatureParser extends Parser {
 							_errHandler.reportMatch(this);
 							consume();
 						}
-						setState(282);
-						expression(3);
+						setState(363);
+						((ExpressionContext)_localctx).right = expression(3);
+						 if (isCarving) ((ExpressionContext)_localctx).value =  new Binomial((((ExpressionContext)_localctx).bop!=null?((ExpressionContext)_localctx).bop.getText():null), ((ExpressionContext)_localctx).left.value, ((ExpressionContext)_localctx).right.value); 
 						}
 						break;
 					case 6:
 						{
 						_localctx = new ExpressionContext(_parentctx, _parentState);
+						_localctx.left = _prevctx;
+						_localctx.left = _prevctx;
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(283);
+						setState(366);
 						if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
-						setState(284);
+						setState(367);
 						((ExpressionContext)_localctx).bop = _input.LT(1);
 						_la = _input.LA(1);
 						if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__13) | (1L << T__14) | (1L << T__15))) != 0)) ) {
@@ -2012,52 +2207,45 @@ public class ClassFeatureParser extends Parser {
 							_errHandler.reportMatch(this);
 							consume();
 						}
-						setState(285);
-						expression(2);
+						setState(368);
+						((ExpressionContext)_localctx).right = expression(2);
+						 if (isCarving) ((ExpressionContext)_localctx).value =  new Binomial((((ExpressionContext)_localctx).bop!=null?((ExpressionContext)_localctx).bop.getText():null), ((ExpressionContext)_localctx).left.value, ((ExpressionContext)_localctx).right.value); 
 						}
 						break;
 					case 7:
 						{
 						_localctx = new ExpressionContext(_parentctx, _parentState);
+						_localctx.left = _prevctx;
+						_localctx.left = _prevctx;
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(286);
+						setState(371);
 						if (!(precpred(_ctx, 11))) throw new FailedPredicateException(this, "precpred(_ctx, 11)");
-						setState(287);
+						setState(372);
 						((ExpressionContext)_localctx).bop = match(DOT);
-						setState(290);
-						_errHandler.sync(this);
-						switch ( getInterpreter().adaptivePredict(_input,31,_ctx) ) {
-						case 1:
-							{
-							setState(288);
-							match(IDENTIFIER);
-							}
-							break;
-						case 2:
-							{
-							setState(289);
-							explicitGenericInvocationSuffix();
-							}
-							break;
-						}
+						setState(373);
+						((ExpressionContext)_localctx).IDENTIFIER = match(IDENTIFIER);
+						 if (isCarving) ((ExpressionContext)_localctx).value =  new Binomial((((ExpressionContext)_localctx).bop!=null?((ExpressionContext)_localctx).bop.getText():null), ((ExpressionContext)_localctx).left.value, new OneIdentifier((((ExpressionContext)_localctx).IDENTIFIER!=null?((ExpressionContext)_localctx).IDENTIFIER.getText():null))); 
 						}
 						break;
 					case 8:
 						{
 						_localctx = new ExpressionContext(_parentctx, _parentState);
+						_localctx.left = _prevctx;
+						_localctx.left = _prevctx;
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(292);
+						setState(375);
 						if (!(precpred(_ctx, 10))) throw new FailedPredicateException(this, "precpred(_ctx, 10)");
-						setState(293);
-						arguments();
+						setState(376);
+						((ExpressionContext)_localctx).arguments = arguments();
+						 if (isCarving) ((ExpressionContext)_localctx).value =  callOf(((ExpressionContext)_localctx).left, ((ExpressionContext)_localctx).arguments.value); 
 						}
 						break;
 					}
 					} 
 				}
-				setState(298);
+				setState(383);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,33,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,30,_ctx);
 			}
 			}
 		}
@@ -2099,9 +2287,9 @@ public class ClassFeatureParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(299);
+			setState(384);
 			createdName();
-			setState(300);
+			setState(385);
 			classCreatorRest();
 			}
 		}
@@ -2142,21 +2330,21 @@ public class ClassFeatureParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(302);
+			setState(387);
 			match(IDENTIFIER);
-			setState(307);
+			setState(392);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==DOT) {
 				{
 				{
-				setState(303);
+				setState(388);
 				match(DOT);
-				setState(304);
+				setState(389);
 				match(IDENTIFIER);
 				}
 				}
-				setState(309);
+				setState(394);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -2197,49 +2385,7 @@ public class ClassFeatureParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(310);
-			arguments();
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	public static class ExplicitGenericInvocationSuffixContext extends ParserRuleContext {
-		public TerminalNode IDENTIFIER() { return getToken(ClassFeatureParser.IDENTIFIER, 0); }
-		public ArgumentsContext arguments() {
-			return getRuleContext(ArgumentsContext.class,0);
-		}
-		public ExplicitGenericInvocationSuffixContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_explicitGenericInvocationSuffix; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof ClassFeatureListener ) ((ClassFeatureListener)listener).enterExplicitGenericInvocationSuffix(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof ClassFeatureListener ) ((ClassFeatureListener)listener).exitExplicitGenericInvocationSuffix(this);
-		}
-	}
-
-	public final ExplicitGenericInvocationSuffixContext explicitGenericInvocationSuffix() throws RecognitionException {
-		ExplicitGenericInvocationSuffixContext _localctx = new ExplicitGenericInvocationSuffixContext(_ctx, getState());
-		enterRule(_localctx, 60, RULE_explicitGenericInvocationSuffix);
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(312);
-			match(IDENTIFIER);
-			setState(313);
+			setState(395);
 			arguments();
 			}
 		}
@@ -2255,6 +2401,8 @@ public class ClassFeatureParser extends Parser {
 	}
 
 	public static class ArgumentsContext extends ParserRuleContext {
+		public List<Expression> value;
+		public ExpressionListContext expressionList;
 		public TerminalNode LPAREN() { return getToken(ClassFeatureParser.LPAREN, 0); }
 		public TerminalNode RPAREN() { return getToken(ClassFeatureParser.RPAREN, 0); }
 		public ExpressionListContext expressionList() {
@@ -2276,25 +2424,26 @@ public class ClassFeatureParser extends Parser {
 
 	public final ArgumentsContext arguments() throws RecognitionException {
 		ArgumentsContext _localctx = new ArgumentsContext(_ctx, getState());
-		enterRule(_localctx, 62, RULE_arguments);
+		enterRule(_localctx, 60, RULE_arguments);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(315);
+			setState(397);
 			match(LPAREN);
-			setState(317);
+			setState(399);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__0) | (1L << T__1) | (1L << T__2) | (1L << PUBLIC) | (1L << PRIBATE) | (1L << NEW) | (1L << LPAREN) | (1L << DECIMAL_LITERAL) | (1L << HEX_LITERAL) | (1L << OCT_LITERAL) | (1L << BINARY_LITERAL) | (1L << FLOAT_LITERAL) | (1L << HEX_FLOAT_LITERAL) | (1L << BOOL_LITERAL) | (1L << NULL_LITERAL))) != 0) || ((((_la - 70)) & ~0x3f) == 0 && ((1L << (_la - 70)) & ((1L << (SQUOT_LITERAL - 70)) | (1L << (DQUOT_LITERAL - 70)) | (1L << (IDENTIFIER - 70)))) != 0)) {
 				{
-				setState(316);
-				expressionList();
+				setState(398);
+				((ArgumentsContext)_localctx).expressionList = expressionList();
 				}
 			}
 
-			setState(319);
+			setState(401);
 			match(RPAREN);
+			 if (isCarving) ((ArgumentsContext)_localctx).value =  ((ArgumentsContext)_localctx).expressionList == null ? new ArrayList<>() : ((ArgumentsContext)_localctx).expressionList.value; 
 			}
 		}
 		catch (RecognitionException re) {
@@ -2309,6 +2458,8 @@ public class ClassFeatureParser extends Parser {
 	}
 
 	public static class ExpressionListContext extends ParserRuleContext {
+		public List<Expression> value;
+		public ExpressionContext expression;
 		public List<ExpressionContext> expression() {
 			return getRuleContexts(ExpressionContext.class);
 		}
@@ -2331,26 +2482,29 @@ public class ClassFeatureParser extends Parser {
 
 	public final ExpressionListContext expressionList() throws RecognitionException {
 		ExpressionListContext _localctx = new ExpressionListContext(_ctx, getState());
-		enterRule(_localctx, 64, RULE_expressionList);
+		enterRule(_localctx, 62, RULE_expressionList);
+		 if (isCarving) ((ExpressionListContext)_localctx).value =  new ArrayList<>(); 
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(321);
-			expression(0);
-			setState(326);
+			setState(404);
+			((ExpressionListContext)_localctx).expression = expression(0);
+			 if (isCarving) _localctx.value.add(((ExpressionListContext)_localctx).expression.value); 
+			setState(412);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==COMMA) {
 				{
 				{
-				setState(322);
+				setState(406);
 				match(COMMA);
-				setState(323);
-				expression(0);
+				setState(407);
+				((ExpressionListContext)_localctx).expression = expression(0);
+				 if (isCarving) _localctx.value.add(((ExpressionListContext)_localctx).expression.value); 
 				}
 				}
-				setState(328);
+				setState(414);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -2388,12 +2542,12 @@ public class ClassFeatureParser extends Parser {
 
 	public final PrimitiveTypeContext primitiveType() throws RecognitionException {
 		PrimitiveTypeContext _localctx = new PrimitiveTypeContext(_ctx, getState());
-		enterRule(_localctx, 66, RULE_primitiveType);
+		enterRule(_localctx, 64, RULE_primitiveType);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(329);
+			setState(415);
 			_la = _input.LA(1);
 			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << INTEGER) | (1L << STRING) | (1L << UNLIMITED_NATURAL))) != 0)) ) {
 			_errHandler.recoverInline(this);
@@ -2443,9 +2597,9 @@ public class ClassFeatureParser extends Parser {
 
 	public final LiteralContext literal() throws RecognitionException {
 		LiteralContext _localctx = new LiteralContext(_ctx, getState());
-		enterRule(_localctx, 68, RULE_literal);
+		enterRule(_localctx, 66, RULE_literal);
 		try {
-			setState(337);
+			setState(423);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case DECIMAL_LITERAL:
@@ -2454,7 +2608,7 @@ public class ClassFeatureParser extends Parser {
 			case BINARY_LITERAL:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(331);
+				setState(417);
 				integerLiteral();
 				}
 				break;
@@ -2462,35 +2616,35 @@ public class ClassFeatureParser extends Parser {
 			case HEX_FLOAT_LITERAL:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(332);
+				setState(418);
 				floatLiteral();
 				}
 				break;
 			case SQUOT_LITERAL:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(333);
+				setState(419);
 				match(SQUOT_LITERAL);
 				}
 				break;
 			case DQUOT_LITERAL:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(334);
+				setState(420);
 				match(DQUOT_LITERAL);
 				}
 				break;
 			case BOOL_LITERAL:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(335);
+				setState(421);
 				match(BOOL_LITERAL);
 				}
 				break;
 			case NULL_LITERAL:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(336);
+				setState(422);
 				match(NULL_LITERAL);
 				}
 				break;
@@ -2530,12 +2684,12 @@ public class ClassFeatureParser extends Parser {
 
 	public final IntegerLiteralContext integerLiteral() throws RecognitionException {
 		IntegerLiteralContext _localctx = new IntegerLiteralContext(_ctx, getState());
-		enterRule(_localctx, 70, RULE_integerLiteral);
+		enterRule(_localctx, 68, RULE_integerLiteral);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(339);
+			setState(425);
 			_la = _input.LA(1);
 			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << DECIMAL_LITERAL) | (1L << HEX_LITERAL) | (1L << OCT_LITERAL) | (1L << BINARY_LITERAL))) != 0)) ) {
 			_errHandler.recoverInline(this);
@@ -2577,12 +2731,12 @@ public class ClassFeatureParser extends Parser {
 
 	public final FloatLiteralContext floatLiteral() throws RecognitionException {
 		FloatLiteralContext _localctx = new FloatLiteralContext(_ctx, getState());
-		enterRule(_localctx, 72, RULE_floatLiteral);
+		enterRule(_localctx, 70, RULE_floatLiteral);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(341);
+			setState(427);
 			_la = _input.LA(1);
 			if ( !(_la==FLOAT_LITERAL || _la==HEX_FLOAT_LITERAL) ) {
 			_errHandler.recoverInline(this);
@@ -2635,129 +2789,159 @@ public class ClassFeatureParser extends Parser {
 	}
 
 	public static final String _serializedATN =
-		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\3J\u015a\4\2\t\2\4"+
+		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\3J\u01b0\4\2\t\2\4"+
 		"\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13\t"+
 		"\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
 		"\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31\t\31"+
 		"\4\32\t\32\4\33\t\33\4\34\t\34\4\35\t\35\4\36\t\36\4\37\t\37\4 \t \4!"+
-		"\t!\4\"\t\"\4#\t#\4$\t$\4%\t%\4&\t&\3\2\5\2N\n\2\3\2\5\2Q\n\2\3\2\3\2"+
-		"\5\2U\n\2\3\2\5\2X\n\2\3\2\5\2[\n\2\3\2\5\2^\n\2\3\3\5\3a\n\3\3\3\3\3"+
-		"\3\3\5\3f\n\3\3\3\5\3i\n\3\3\4\3\4\3\5\3\5\3\6\3\6\3\7\3\7\3\b\3\b\3\b"+
-		"\5\bv\n\b\3\t\3\t\3\t\3\t\5\t|\n\t\3\t\3\t\3\t\3\n\3\n\5\n\u0083\n\n\3"+
-		"\13\3\13\3\13\5\13\u0088\n\13\3\f\3\f\7\f\u008c\n\f\f\f\16\f\u008f\13"+
-		"\f\3\f\3\f\7\f\u0093\n\f\f\f\16\f\u0096\13\f\7\f\u0098\n\f\f\f\16\f\u009b"+
-		"\13\f\3\f\3\f\3\r\3\r\3\r\3\16\3\16\3\17\3\17\3\17\3\17\7\17\u00a8\n\17"+
-		"\f\17\16\17\u00ab\13\17\3\17\3\17\3\20\3\20\3\20\3\20\3\20\3\20\3\20\3"+
-		"\20\5\20\u00b7\n\20\3\21\3\21\5\21\u00bb\n\21\3\22\3\22\3\22\3\22\7\22"+
-		"\u00c1\n\22\f\22\16\22\u00c4\13\22\7\22\u00c6\n\22\f\22\16\22\u00c9\13"+
-		"\22\3\22\3\22\3\23\5\23\u00ce\n\23\3\23\3\23\3\23\5\23\u00d3\n\23\3\23"+
-		"\5\23\u00d6\n\23\3\23\5\23\u00d9\n\23\3\24\3\24\3\25\3\25\5\25\u00df\n"+
-		"\25\3\26\3\26\3\27\3\27\3\30\3\30\3\30\5\30\u00e8\n\30\3\31\3\31\3\31"+
-		"\3\31\7\31\u00ee\n\31\f\31\16\31\u00f1\13\31\3\31\3\31\3\32\3\32\3\32"+
-		"\3\32\3\32\5\32\u00fa\n\32\3\33\3\33\5\33\u00fe\n\33\3\34\3\34\3\34\3"+
-		"\34\3\34\3\34\3\34\3\34\3\34\3\34\3\34\3\34\3\34\5\34\u010d\n\34\3\34"+
+		"\t!\4\"\t\"\4#\t#\4$\t$\4%\t%\3\2\3\2\3\2\5\2N\n\2\3\2\3\2\3\2\5\2S\n"+
+		"\2\3\2\3\2\3\2\3\2\3\2\5\2Z\n\2\3\2\3\2\3\2\5\2_\n\2\3\2\3\2\3\2\5\2d"+
+		"\n\2\3\2\3\2\3\2\5\2i\n\2\3\3\3\3\3\3\5\3n\n\3\3\3\3\3\3\3\3\3\3\3\3\3"+
+		"\3\3\5\3w\n\3\3\3\3\3\3\3\5\3|\n\3\3\4\3\4\3\5\3\5\3\6\3\6\3\6\3\7\3\7"+
+		"\3\7\3\b\3\b\3\b\5\b\u008b\n\b\3\t\3\t\3\t\3\t\5\t\u0091\n\t\3\t\3\t\3"+
+		"\t\3\t\3\n\3\n\5\n\u0099\n\n\3\13\3\13\3\13\5\13\u009e\n\13\3\f\3\f\7"+
+		"\f\u00a2\n\f\f\f\16\f\u00a5\13\f\3\f\3\f\7\f\u00a9\n\f\f\f\16\f\u00ac"+
+		"\13\f\7\f\u00ae\n\f\f\f\16\f\u00b1\13\f\3\f\3\f\3\r\3\r\3\r\3\r\3\16\3"+
+		"\16\3\16\3\17\3\17\3\17\3\17\3\17\3\17\3\17\7\17\u00c3\n\17\f\17\16\17"+
+		"\u00c6\13\17\3\17\3\17\3\20\3\20\3\20\3\20\3\20\3\20\3\20\3\20\3\20\3"+
+		"\20\3\20\3\20\3\20\3\20\3\20\3\20\5\20\u00da\n\20\3\21\3\21\3\21\3\22"+
+		"\3\22\3\22\3\22\3\22\3\22\3\22\7\22\u00e6\n\22\f\22\16\22\u00e9\13\22"+
+		"\7\22\u00eb\n\22\f\22\16\22\u00ee\13\22\3\22\3\22\3\23\3\23\3\23\5\23"+
+		"\u00f5\n\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\5\23\u00fe\n\23\3\23\3"+
+		"\23\3\23\5\23\u0103\n\23\3\23\3\23\3\23\5\23\u0108\n\23\3\24\3\24\3\24"+
+		"\3\24\3\24\3\24\3\24\3\24\5\24\u0112\n\24\3\25\3\25\3\25\3\26\3\26\3\26"+
+		"\3\27\3\27\3\27\3\30\3\30\3\30\5\30\u0120\n\30\3\31\3\31\3\31\3\31\3\31"+
+		"\3\31\3\31\7\31\u0129\n\31\f\31\16\31\u012c\13\31\3\31\3\31\3\32\3\32"+
+		"\3\32\3\32\3\32\3\32\3\32\3\32\3\32\3\32\5\32\u013a\n\32\3\33\3\33\3\33"+
+		"\3\34\3\34\3\34\3\34\3\34\3\34\3\34\3\34\3\34\3\34\3\34\3\34\3\34\3\34"+
+		"\3\34\3\34\3\34\3\34\3\34\3\34\3\34\3\34\3\34\5\34\u0156\n\34\3\34\3\34"+
+		"\3\34\3\34\3\34\3\34\3\34\3\34\3\34\3\34\3\34\3\34\3\34\3\34\3\34\3\34"+
 		"\3\34\3\34\3\34\3\34\3\34\3\34\3\34\3\34\3\34\3\34\3\34\3\34\3\34\3\34"+
-		"\3\34\3\34\3\34\3\34\3\34\3\34\3\34\5\34\u0125\n\34\3\34\3\34\7\34\u0129"+
-		"\n\34\f\34\16\34\u012c\13\34\3\35\3\35\3\35\3\36\3\36\3\36\7\36\u0134"+
-		"\n\36\f\36\16\36\u0137\13\36\3\37\3\37\3 \3 \3 \3!\3!\5!\u0140\n!\3!\3"+
-		"!\3\"\3\"\3\"\7\"\u0147\n\"\f\"\16\"\u014a\13\"\3#\3#\3$\3$\3$\3$\3$\3"+
-		"$\5$\u0154\n$\3%\3%\3&\3&\3&\2\3\66\'\2\4\6\b\n\f\16\20\22\24\26\30\32"+
-		"\34\36 \"$&(*,.\60\62\64\668:<>@BDFHJ\2\16\3\2\36!\3\2\32\35\3\2\36\37"+
-		"\3\2\3\5\5\2\6\6\"\"\66\66\3\2\7\n\3\2\13\f\3\2\r\17\3\2\20\22\3\2%(\3"+
-		"\2\67:\3\2<=\2\u016f\2M\3\2\2\2\4`\3\2\2\2\6j\3\2\2\2\bl\3\2\2\2\nn\3"+
-		"\2\2\2\fp\3\2\2\2\16r\3\2\2\2\20w\3\2\2\2\22\u0082\3\2\2\2\24\u0087\3"+
-		"\2\2\2\26\u0089\3\2\2\2\30\u009e\3\2\2\2\32\u00a1\3\2\2\2\34\u00a3\3\2"+
-		"\2\2\36\u00b6\3\2\2\2 \u00ba\3\2\2\2\"\u00bc\3\2\2\2$\u00cd\3\2\2\2&\u00da"+
-		"\3\2\2\2(\u00de\3\2\2\2*\u00e0\3\2\2\2,\u00e2\3\2\2\2.\u00e7\3\2\2\2\60"+
-		"\u00e9\3\2\2\2\62\u00f9\3\2\2\2\64\u00fd\3\2\2\2\66\u010c\3\2\2\28\u012d"+
-		"\3\2\2\2:\u0130\3\2\2\2<\u0138\3\2\2\2>\u013a\3\2\2\2@\u013d\3\2\2\2B"+
-		"\u0143\3\2\2\2D\u014b\3\2\2\2F\u0153\3\2\2\2H\u0155\3\2\2\2J\u0157\3\2"+
-		"\2\2LN\5\6\4\2ML\3\2\2\2MN\3\2\2\2NP\3\2\2\2OQ\5\b\5\2PO\3\2\2\2PQ\3\2"+
-		"\2\2QR\3\2\2\2RT\5\n\6\2SU\5\f\7\2TS\3\2\2\2TU\3\2\2\2UW\3\2\2\2VX\5\20"+
-		"\t\2WV\3\2\2\2WX\3\2\2\2XZ\3\2\2\2Y[\5\30\r\2ZY\3\2\2\2Z[\3\2\2\2[]\3"+
-		"\2\2\2\\^\5\32\16\2]\\\3\2\2\2]^\3\2\2\2^\3\3\2\2\2_a\5\6\4\2`_\3\2\2"+
-		"\2`a\3\2\2\2ab\3\2\2\2bc\5\n\6\2ce\5\"\22\2df\5.\30\2ed\3\2\2\2ef\3\2"+
-		"\2\2fh\3\2\2\2gi\5\60\31\2hg\3\2\2\2hi\3\2\2\2i\5\3\2\2\2jk\t\2\2\2k\7"+
-		"\3\2\2\2lm\7\66\2\2m\t\3\2\2\2no\7J\2\2o\13\3\2\2\2pq\5\16\b\2q\r\3\2"+
-		"\2\2ru\7\65\2\2sv\7J\2\2tv\5D#\2us\3\2\2\2ut\3\2\2\2v\17\3\2\2\2w{\7."+
-		"\2\2xy\5\22\n\2yz\7#\2\2z|\3\2\2\2{x\3\2\2\2{|\3\2\2\2|}\3\2\2\2}~\5\24"+
-		"\13\2~\177\7/\2\2\177\21\3\2\2\2\u0080\u0083\5H%\2\u0081\u0083\5\26\f"+
-		"\2\u0082\u0080\3\2\2\2\u0082\u0081\3\2\2\2\u0083\23\3\2\2\2\u0084\u0088"+
-		"\7\"\2\2\u0085\u0088\5H%\2\u0086\u0088\5\26\f\2\u0087\u0084\3\2\2\2\u0087"+
-		"\u0085\3\2\2\2\u0087\u0086\3\2\2\2\u0088\25\3\2\2\2\u0089\u008d\7*\2\2"+
-		"\u008a\u008c\5\66\34\2\u008b\u008a\3\2\2\2\u008c\u008f\3\2\2\2\u008d\u008b"+
-		"\3\2\2\2\u008d\u008e\3\2\2\2\u008e\u0099\3\2\2\2\u008f\u008d\3\2\2\2\u0090"+
-		"\u0094\7\62\2\2\u0091\u0093\5\66\34\2\u0092\u0091\3\2\2\2\u0093\u0096"+
-		"\3\2\2\2\u0094\u0092\3\2\2\2\u0094\u0095\3\2\2\2\u0095\u0098\3\2\2\2\u0096"+
-		"\u0094\3\2\2\2\u0097\u0090\3\2\2\2\u0098\u009b\3\2\2\2\u0099\u0097\3\2"+
-		"\2\2\u0099\u009a\3\2\2\2\u009a\u009c\3\2\2\2\u009b\u0099\3\2\2\2\u009c"+
-		"\u009d\7+\2\2\u009d\27\3\2\2\2\u009e\u009f\7\64\2\2\u009f\u00a0\5\66\34"+
-		"\2\u00a0\31\3\2\2\2\u00a1\u00a2\5\34\17\2\u00a2\33\3\2\2\2\u00a3\u00a4"+
-		"\7,\2\2\u00a4\u00a9\5\36\20\2\u00a5\u00a6\7\62\2\2\u00a6\u00a8\5\36\20"+
-		"\2\u00a7\u00a5\3\2\2\2\u00a8\u00ab\3\2\2\2\u00a9\u00a7\3\2\2\2\u00a9\u00aa"+
-		"\3\2\2\2\u00aa\u00ac\3\2\2\2\u00ab\u00a9\3\2\2\2\u00ac\u00ad\7-\2\2\u00ad"+
-		"\35\3\2\2\2\u00ae\u00b7\7\23\2\2\u00af\u00b7\7\24\2\2\u00b0\u00b1\7\25"+
-		"\2\2\u00b1\u00b7\5 \21\2\u00b2\u00b3\7\26\2\2\u00b3\u00b7\5 \21\2\u00b4"+
-		"\u00b7\7\27\2\2\u00b5\u00b7\7\30\2\2\u00b6\u00ae\3\2\2\2\u00b6\u00af\3"+
-		"\2\2\2\u00b6\u00b0\3\2\2\2\u00b6\u00b2\3\2\2\2\u00b6\u00b4\3\2\2\2\u00b6"+
-		"\u00b5\3\2\2\2\u00b7\37\3\2\2\2\u00b8\u00bb\5\n\6\2\u00b9\u00bb\5\66\34"+
-		"\2\u00ba\u00b8\3\2\2\2\u00ba\u00b9\3\2\2\2\u00bb!\3\2\2\2\u00bc\u00c7"+
-		"\7*\2\2\u00bd\u00c2\5$\23\2\u00be\u00bf\7\62\2\2\u00bf\u00c1\5$\23\2\u00c0"+
-		"\u00be\3\2\2\2\u00c1\u00c4\3\2\2\2\u00c2\u00c0\3\2\2\2\u00c2\u00c3\3\2"+
-		"\2\2\u00c3\u00c6\3\2\2\2\u00c4\u00c2\3\2\2\2\u00c5\u00bd\3\2\2\2\u00c6"+
-		"\u00c9\3\2\2\2\u00c7\u00c5\3\2\2\2\u00c7\u00c8\3\2\2\2\u00c8\u00ca\3\2"+
-		"\2\2\u00c9\u00c7\3\2\2\2\u00ca\u00cb\7+\2\2\u00cb#\3\2\2\2\u00cc\u00ce"+
-		"\5&\24\2\u00cd\u00cc\3\2\2\2\u00cd\u00ce\3\2\2\2\u00ce\u00cf\3\2\2\2\u00cf"+
-		"\u00d0\5(\25\2\u00d0\u00d2\5*\26\2\u00d1\u00d3\5\20\t\2\u00d2\u00d1\3"+
-		"\2\2\2\u00d2\u00d3\3\2\2\2\u00d3\u00d5\3\2\2\2\u00d4\u00d6\5\30\r\2\u00d5"+
-		"\u00d4\3\2\2\2\u00d5\u00d6\3\2\2\2\u00d6\u00d8\3\2\2\2\u00d7\u00d9\5,"+
-		"\27\2\u00d8\u00d7\3\2\2\2\u00d8\u00d9\3\2\2\2\u00d9%\3\2\2\2\u00da\u00db"+
-		"\t\3\2\2\u00db\'\3\2\2\2\u00dc\u00df\5\n\6\2\u00dd\u00df\5\66\34\2\u00de"+
-		"\u00dc\3\2\2\2\u00de\u00dd\3\2\2\2\u00df)\3\2\2\2\u00e0\u00e1\5\16\b\2"+
-		"\u00e1+\3\2\2\2\u00e2\u00e3\5\34\17\2\u00e3-\3\2\2\2\u00e4\u00e8\5\16"+
-		"\b\2\u00e5\u00e6\7\65\2\2\u00e6\u00e8\7)\2\2\u00e7\u00e4\3\2\2\2\u00e7"+
-		"\u00e5\3\2\2\2\u00e8/\3\2\2\2\u00e9\u00ea\7,\2\2\u00ea\u00ef\5\62\32\2"+
-		"\u00eb\u00ec\7\62\2\2\u00ec\u00ee\5\62\32\2\u00ed\u00eb\3\2\2\2\u00ee"+
-		"\u00f1\3\2\2\2\u00ef\u00ed\3\2\2\2\u00ef\u00f0\3\2\2\2\u00f0\u00f2\3\2"+
-		"\2\2\u00f1\u00ef\3\2\2\2\u00f2\u00f3\7-\2\2\u00f3\61\3\2\2\2\u00f4\u00f5"+
-		"\7\26\2\2\u00f5\u00fa\5\64\33\2\u00f6\u00fa\7\31\2\2\u00f7\u00fa\7\27"+
-		"\2\2\u00f8\u00fa\7\30\2\2\u00f9\u00f4\3\2\2\2\u00f9\u00f6\3\2\2\2\u00f9"+
-		"\u00f7\3\2\2\2\u00f9\u00f8\3\2\2\2\u00fa\63\3\2\2\2\u00fb\u00fe\5\n\6"+
-		"\2\u00fc\u00fe\5\66\34\2\u00fd\u00fb\3\2\2\2\u00fd\u00fc\3\2\2\2\u00fe"+
-		"\65\3\2\2\2\u00ff\u0100\b\34\1\2\u0100\u0101\7*\2\2\u0101\u0102\5\66\34"+
-		"\2\u0102\u0103\7+\2\2\u0103\u010d\3\2\2\2\u0104\u010d\5F$\2\u0105\u010d"+
-		"\7J\2\2\u0106\u0107\7$\2\2\u0107\u010d\58\35\2\u0108\u0109\t\4\2\2\u0109"+
-		"\u010d\5\66\34\n\u010a\u010b\t\5\2\2\u010b\u010d\5\66\34\t\u010c\u00ff"+
-		"\3\2\2\2\u010c\u0104\3\2\2\2\u010c\u0105\3\2\2\2\u010c\u0106\3\2\2\2\u010c"+
-		"\u0108\3\2\2\2\u010c\u010a\3\2\2\2\u010d\u012a\3\2\2\2\u010e\u010f\f\b"+
-		"\2\2\u010f\u0110\t\6\2\2\u0110\u0129\5\66\34\t\u0111\u0112\f\7\2\2\u0112"+
-		"\u0113\t\4\2\2\u0113\u0129\5\66\34\b\u0114\u0115\f\6\2\2\u0115\u0116\t"+
-		"\7\2\2\u0116\u0129\5\66\34\7\u0117\u0118\f\5\2\2\u0118\u0119\t\b\2\2\u0119"+
-		"\u0129\5\66\34\6\u011a\u011b\f\4\2\2\u011b\u011c\t\t\2\2\u011c\u0129\5"+
-		"\66\34\5\u011d\u011e\f\3\2\2\u011e\u011f\t\n\2\2\u011f\u0129\5\66\34\4"+
-		"\u0120\u0121\f\r\2\2\u0121\u0124\7\63\2\2\u0122\u0125\7J\2\2\u0123\u0125"+
-		"\5> \2\u0124\u0122\3\2\2\2\u0124\u0123\3\2\2\2\u0125\u0129\3\2\2\2\u0126"+
-		"\u0127\f\f\2\2\u0127\u0129\5@!\2\u0128\u010e\3\2\2\2\u0128\u0111\3\2\2"+
-		"\2\u0128\u0114\3\2\2\2\u0128\u0117\3\2\2\2\u0128\u011a\3\2\2\2\u0128\u011d"+
-		"\3\2\2\2\u0128\u0120\3\2\2\2\u0128\u0126\3\2\2\2\u0129\u012c\3\2\2\2\u012a"+
-		"\u0128\3\2\2\2\u012a\u012b\3\2\2\2\u012b\67\3\2\2\2\u012c\u012a\3\2\2"+
-		"\2\u012d\u012e\5:\36\2\u012e\u012f\5<\37\2\u012f9\3\2\2\2\u0130\u0135"+
-		"\7J\2\2\u0131\u0132\7\63\2\2\u0132\u0134\7J\2\2\u0133\u0131\3\2\2\2\u0134"+
-		"\u0137\3\2\2\2\u0135\u0133\3\2\2\2\u0135\u0136\3\2\2\2\u0136;\3\2\2\2"+
-		"\u0137\u0135\3\2\2\2\u0138\u0139\5@!\2\u0139=\3\2\2\2\u013a\u013b\7J\2"+
-		"\2\u013b\u013c\5@!\2\u013c?\3\2\2\2\u013d\u013f\7*\2\2\u013e\u0140\5B"+
-		"\"\2\u013f\u013e\3\2\2\2\u013f\u0140\3\2\2\2\u0140\u0141\3\2\2\2\u0141"+
-		"\u0142\7+\2\2\u0142A\3\2\2\2\u0143\u0148\5\66\34\2\u0144\u0145\7\62\2"+
-		"\2\u0145\u0147\5\66\34\2\u0146\u0144\3\2\2\2\u0147\u014a\3\2\2\2\u0148"+
-		"\u0146\3\2\2\2\u0148\u0149\3\2\2\2\u0149C\3\2\2\2\u014a\u0148\3\2\2\2"+
-		"\u014b\u014c\t\13\2\2\u014cE\3\2\2\2\u014d\u0154\5H%\2\u014e\u0154\5J"+
-		"&\2\u014f\u0154\7H\2\2\u0150\u0154\7I\2\2\u0151\u0154\7>\2\2\u0152\u0154"+
-		"\7A\2\2\u0153\u014d\3\2\2\2\u0153\u014e\3\2\2\2\u0153\u014f\3\2\2\2\u0153"+
-		"\u0150\3\2\2\2\u0153\u0151\3\2\2\2\u0153\u0152\3\2\2\2\u0154G\3\2\2\2"+
-		"\u0155\u0156\t\f\2\2\u0156I\3\2\2\2\u0157\u0158\t\r\2\2\u0158K\3\2\2\2"+
-		"(MPTWZ]`ehu{\u0082\u0087\u008d\u0094\u0099\u00a9\u00b6\u00ba\u00c2\u00c7"+
-		"\u00cd\u00d2\u00d5\u00d8\u00de\u00e7\u00ef\u00f9\u00fd\u010c\u0124\u0128"+
-		"\u012a\u0135\u013f\u0148\u0153";
+		"\3\34\3\34\3\34\3\34\3\34\3\34\3\34\3\34\7\34\u017e\n\34\f\34\16\34\u0181"+
+		"\13\34\3\35\3\35\3\35\3\36\3\36\3\36\7\36\u0189\n\36\f\36\16\36\u018c"+
+		"\13\36\3\37\3\37\3 \3 \5 \u0192\n \3 \3 \3 \3!\3!\3!\3!\3!\3!\7!\u019d"+
+		"\n!\f!\16!\u01a0\13!\3\"\3\"\3#\3#\3#\3#\3#\3#\5#\u01aa\n#\3$\3$\3%\3"+
+		"%\3%\2\3\66&\2\4\6\b\n\f\16\20\22\24\26\30\32\34\36 \"$&(*,.\60\62\64"+
+		"\668:<>@BDFH\2\r\3\2\36!\3\2\36\37\3\2\3\5\5\2\6\6\"\"\66\66\3\2\7\n\3"+
+		"\2\13\f\3\2\r\17\3\2\20\22\3\2%(\3\2\67:\3\2<=\2\u01c5\2M\3\2\2\2\4m\3"+
+		"\2\2\2\6}\3\2\2\2\b\177\3\2\2\2\n\u0081\3\2\2\2\f\u0084\3\2\2\2\16\u0087"+
+		"\3\2\2\2\20\u008c\3\2\2\2\22\u0098\3\2\2\2\24\u009d\3\2\2\2\26\u009f\3"+
+		"\2\2\2\30\u00b4\3\2\2\2\32\u00b8\3\2\2\2\34\u00bb\3\2\2\2\36\u00d9\3\2"+
+		"\2\2 \u00db\3\2\2\2\"\u00de\3\2\2\2$\u00f4\3\2\2\2&\u0111\3\2\2\2(\u0113"+
+		"\3\2\2\2*\u0116\3\2\2\2,\u0119\3\2\2\2.\u011f\3\2\2\2\60\u0121\3\2\2\2"+
+		"\62\u0139\3\2\2\2\64\u013b\3\2\2\2\66\u0155\3\2\2\28\u0182\3\2\2\2:\u0185"+
+		"\3\2\2\2<\u018d\3\2\2\2>\u018f\3\2\2\2@\u0196\3\2\2\2B\u01a1\3\2\2\2D"+
+		"\u01a9\3\2\2\2F\u01ab\3\2\2\2H\u01ad\3\2\2\2JK\5\6\4\2KL\b\2\1\2LN\3\2"+
+		"\2\2MJ\3\2\2\2MN\3\2\2\2NR\3\2\2\2OP\5\b\5\2PQ\b\2\1\2QS\3\2\2\2RO\3\2"+
+		"\2\2RS\3\2\2\2ST\3\2\2\2TU\5\n\6\2UY\b\2\1\2VW\5\f\7\2WX\b\2\1\2XZ\3\2"+
+		"\2\2YV\3\2\2\2YZ\3\2\2\2Z^\3\2\2\2[\\\5\20\t\2\\]\b\2\1\2]_\3\2\2\2^["+
+		"\3\2\2\2^_\3\2\2\2_c\3\2\2\2`a\5\30\r\2ab\b\2\1\2bd\3\2\2\2c`\3\2\2\2"+
+		"cd\3\2\2\2dh\3\2\2\2ef\5\32\16\2fg\b\2\1\2gi\3\2\2\2he\3\2\2\2hi\3\2\2"+
+		"\2i\3\3\2\2\2jk\5\6\4\2kl\b\3\1\2ln\3\2\2\2mj\3\2\2\2mn\3\2\2\2no\3\2"+
+		"\2\2op\5\n\6\2pq\b\3\1\2qr\5\"\22\2rv\b\3\1\2st\5.\30\2tu\b\3\1\2uw\3"+
+		"\2\2\2vs\3\2\2\2vw\3\2\2\2w{\3\2\2\2xy\5\60\31\2yz\b\3\1\2z|\3\2\2\2{"+
+		"x\3\2\2\2{|\3\2\2\2|\5\3\2\2\2}~\t\2\2\2~\7\3\2\2\2\177\u0080\7\66\2\2"+
+		"\u0080\t\3\2\2\2\u0081\u0082\7J\2\2\u0082\u0083\b\6\1\2\u0083\13\3\2\2"+
+		"\2\u0084\u0085\5\16\b\2\u0085\u0086\b\7\1\2\u0086\r\3\2\2\2\u0087\u008a"+
+		"\7\65\2\2\u0088\u008b\7J\2\2\u0089\u008b\5B\"\2\u008a\u0088\3\2\2\2\u008a"+
+		"\u0089\3\2\2\2\u008b\17\3\2\2\2\u008c\u0090\7.\2\2\u008d\u008e\5\22\n"+
+		"\2\u008e\u008f\7#\2\2\u008f\u0091\3\2\2\2\u0090\u008d\3\2\2\2\u0090\u0091"+
+		"\3\2\2\2\u0091\u0092\3\2\2\2\u0092\u0093\5\24\13\2\u0093\u0094\7/\2\2"+
+		"\u0094\u0095\b\t\1\2\u0095\21\3\2\2\2\u0096\u0099\5F$\2\u0097\u0099\5"+
+		"\26\f\2\u0098\u0096\3\2\2\2\u0098\u0097\3\2\2\2\u0099\23\3\2\2\2\u009a"+
+		"\u009e\7\"\2\2\u009b\u009e\5F$\2\u009c\u009e\5\26\f\2\u009d\u009a\3\2"+
+		"\2\2\u009d\u009b\3\2\2\2\u009d\u009c\3\2\2\2\u009e\25\3\2\2\2\u009f\u00a3"+
+		"\7*\2\2\u00a0\u00a2\5\66\34\2\u00a1\u00a0\3\2\2\2\u00a2\u00a5\3\2\2\2"+
+		"\u00a3\u00a1\3\2\2\2\u00a3\u00a4\3\2\2\2\u00a4\u00af\3\2\2\2\u00a5\u00a3"+
+		"\3\2\2\2\u00a6\u00aa\7\62\2\2\u00a7\u00a9\5\66\34\2\u00a8\u00a7\3\2\2"+
+		"\2\u00a9\u00ac\3\2\2\2\u00aa\u00a8\3\2\2\2\u00aa\u00ab\3\2\2\2\u00ab\u00ae"+
+		"\3\2\2\2\u00ac\u00aa\3\2\2\2\u00ad\u00a6\3\2\2\2\u00ae\u00b1\3\2\2\2\u00af"+
+		"\u00ad\3\2\2\2\u00af\u00b0\3\2\2\2\u00b0\u00b2\3\2\2\2\u00b1\u00af\3\2"+
+		"\2\2\u00b2\u00b3\7+\2\2\u00b3\27\3\2\2\2\u00b4\u00b5\7\64\2\2\u00b5\u00b6"+
+		"\5\66\34\2\u00b6\u00b7\b\r\1\2\u00b7\31\3\2\2\2\u00b8\u00b9\5\34\17\2"+
+		"\u00b9\u00ba\b\16\1\2\u00ba\33\3\2\2\2\u00bb\u00bc\7,\2\2\u00bc\u00bd"+
+		"\5\36\20\2\u00bd\u00c4\b\17\1\2\u00be\u00bf\7\62\2\2\u00bf\u00c0\5\36"+
+		"\20\2\u00c0\u00c1\b\17\1\2\u00c1\u00c3\3\2\2\2\u00c2\u00be\3\2\2\2\u00c3"+
+		"\u00c6\3\2\2\2\u00c4\u00c2\3\2\2\2\u00c4\u00c5\3\2\2\2\u00c5\u00c7\3\2"+
+		"\2\2\u00c6\u00c4\3\2\2\2\u00c7\u00c8\7-\2\2\u00c8\35\3\2\2\2\u00c9\u00ca"+
+		"\7\23\2\2\u00ca\u00da\b\20\1\2\u00cb\u00cc\7\24\2\2\u00cc\u00da\b\20\1"+
+		"\2\u00cd\u00ce\7\25\2\2\u00ce\u00cf\5 \21\2\u00cf\u00d0\b\20\1\2\u00d0"+
+		"\u00da\3\2\2\2\u00d1\u00d2\7\26\2\2\u00d2\u00d3\5 \21\2\u00d3\u00d4\b"+
+		"\20\1\2\u00d4\u00da\3\2\2\2\u00d5\u00d6\7\27\2\2\u00d6\u00da\b\20\1\2"+
+		"\u00d7\u00d8\7\30\2\2\u00d8\u00da\b\20\1\2\u00d9\u00c9\3\2\2\2\u00d9\u00cb"+
+		"\3\2\2\2\u00d9\u00cd\3\2\2\2\u00d9\u00d1\3\2\2\2\u00d9\u00d5\3\2\2\2\u00d9"+
+		"\u00d7\3\2\2\2\u00da\37\3\2\2\2\u00db\u00dc\5\66\34\2\u00dc\u00dd\b\21"+
+		"\1\2\u00dd!\3\2\2\2\u00de\u00ec\7*\2\2\u00df\u00e0\5$\23\2\u00e0\u00e7"+
+		"\b\22\1\2\u00e1\u00e2\7\62\2\2\u00e2\u00e3\5$\23\2\u00e3\u00e4\b\22\1"+
+		"\2\u00e4\u00e6\3\2\2\2\u00e5\u00e1\3\2\2\2\u00e6\u00e9\3\2\2\2\u00e7\u00e5"+
+		"\3\2\2\2\u00e7\u00e8\3\2\2\2\u00e8\u00eb\3\2\2\2\u00e9\u00e7\3\2\2\2\u00ea"+
+		"\u00df\3\2\2\2\u00eb\u00ee\3\2\2\2\u00ec\u00ea\3\2\2\2\u00ec\u00ed\3\2"+
+		"\2\2\u00ed\u00ef\3\2\2\2\u00ee\u00ec\3\2\2\2\u00ef\u00f0\7+\2\2\u00f0"+
+		"#\3\2\2\2\u00f1\u00f2\5&\24\2\u00f2\u00f3\b\23\1\2\u00f3\u00f5\3\2\2\2"+
+		"\u00f4\u00f1\3\2\2\2\u00f4\u00f5\3\2\2\2\u00f5\u00f6\3\2\2\2\u00f6\u00f7"+
+		"\5(\25\2\u00f7\u00f8\b\23\1\2\u00f8\u00f9\5*\26\2\u00f9\u00fd\b\23\1\2"+
+		"\u00fa\u00fb\5\20\t\2\u00fb\u00fc\b\23\1\2\u00fc\u00fe\3\2\2\2\u00fd\u00fa"+
+		"\3\2\2\2\u00fd\u00fe\3\2\2\2\u00fe\u0102\3\2\2\2\u00ff\u0100\5\30\r\2"+
+		"\u0100\u0101\b\23\1\2\u0101\u0103\3\2\2\2\u0102\u00ff\3\2\2\2\u0102\u0103"+
+		"\3\2\2\2\u0103\u0107\3\2\2\2\u0104\u0105\5,\27\2\u0105\u0106\b\23\1\2"+
+		"\u0106\u0108\3\2\2\2\u0107\u0104\3\2\2\2\u0107\u0108\3\2\2\2\u0108%\3"+
+		"\2\2\2\u0109\u010a\7\32\2\2\u010a\u0112\b\24\1\2\u010b\u010c\7\33\2\2"+
+		"\u010c\u0112\b\24\1\2\u010d\u010e\7\34\2\2\u010e\u0112\b\24\1\2\u010f"+
+		"\u0110\7\35\2\2\u0110\u0112\b\24\1\2\u0111\u0109\3\2\2\2\u0111\u010b\3"+
+		"\2\2\2\u0111\u010d\3\2\2\2\u0111\u010f\3\2\2\2\u0112\'\3\2\2\2\u0113\u0114"+
+		"\5\66\34\2\u0114\u0115\b\25\1\2\u0115)\3\2\2\2\u0116\u0117\5\16\b\2\u0117"+
+		"\u0118\b\26\1\2\u0118+\3\2\2\2\u0119\u011a\5\34\17\2\u011a\u011b\b\27"+
+		"\1\2\u011b-\3\2\2\2\u011c\u0120\5\16\b\2\u011d\u011e\7\65\2\2\u011e\u0120"+
+		"\7)\2\2\u011f\u011c\3\2\2\2\u011f\u011d\3\2\2\2\u0120/\3\2\2\2\u0121\u0122"+
+		"\7,\2\2\u0122\u0123\5\62\32\2\u0123\u012a\b\31\1\2\u0124\u0125\7\62\2"+
+		"\2\u0125\u0126\5\62\32\2\u0126\u0127\b\31\1\2\u0127\u0129\3\2\2\2\u0128"+
+		"\u0124\3\2\2\2\u0129\u012c\3\2\2\2\u012a\u0128\3\2\2\2\u012a\u012b\3\2"+
+		"\2\2\u012b\u012d\3\2\2\2\u012c\u012a\3\2\2\2\u012d\u012e\7-\2\2\u012e"+
+		"\61\3\2\2\2\u012f\u0130\7\26\2\2\u0130\u0131\5\64\33\2\u0131\u0132\b\32"+
+		"\1\2\u0132\u013a\3\2\2\2\u0133\u0134\7\31\2\2\u0134\u013a\b\32\1\2\u0135"+
+		"\u0136\7\27\2\2\u0136\u013a\b\32\1\2\u0137\u0138\7\30\2\2\u0138\u013a"+
+		"\b\32\1\2\u0139\u012f\3\2\2\2\u0139\u0133\3\2\2\2\u0139\u0135\3\2\2\2"+
+		"\u0139\u0137\3\2\2\2\u013a\63\3\2\2\2\u013b\u013c\5\66\34\2\u013c\u013d"+
+		"\b\33\1\2\u013d\65\3\2\2\2\u013e\u013f\b\34\1\2\u013f\u0140\7*\2\2\u0140"+
+		"\u0141\5\66\34\2\u0141\u0142\7+\2\2\u0142\u0143\b\34\1\2\u0143\u0156\3"+
+		"\2\2\2\u0144\u0145\5D#\2\u0145\u0146\b\34\1\2\u0146\u0156\3\2\2\2\u0147"+
+		"\u0148\7J\2\2\u0148\u0156\b\34\1\2\u0149\u014a\7$\2\2\u014a\u014b\58\35"+
+		"\2\u014b\u014c\b\34\1\2\u014c\u0156\3\2\2\2\u014d\u014e\t\3\2\2\u014e"+
+		"\u014f\5\66\34\n\u014f\u0150\b\34\1\2\u0150\u0156\3\2\2\2\u0151\u0152"+
+		"\t\4\2\2\u0152\u0153\5\66\34\t\u0153\u0154\b\34\1\2\u0154\u0156\3\2\2"+
+		"\2\u0155\u013e\3\2\2\2\u0155\u0144\3\2\2\2\u0155\u0147\3\2\2\2\u0155\u0149"+
+		"\3\2\2\2\u0155\u014d\3\2\2\2\u0155\u0151\3\2\2\2\u0156\u017f\3\2\2\2\u0157"+
+		"\u0158\f\b\2\2\u0158\u0159\t\5\2\2\u0159\u015a\5\66\34\t\u015a\u015b\b"+
+		"\34\1\2\u015b\u017e\3\2\2\2\u015c\u015d\f\7\2\2\u015d\u015e\t\3\2\2\u015e"+
+		"\u015f\5\66\34\b\u015f\u0160\b\34\1\2\u0160\u017e\3\2\2\2\u0161\u0162"+
+		"\f\6\2\2\u0162\u0163\t\6\2\2\u0163\u0164\5\66\34\7\u0164\u0165\b\34\1"+
+		"\2\u0165\u017e\3\2\2\2\u0166\u0167\f\5\2\2\u0167\u0168\t\7\2\2\u0168\u0169"+
+		"\5\66\34\6\u0169\u016a\b\34\1\2\u016a\u017e\3\2\2\2\u016b\u016c\f\4\2"+
+		"\2\u016c\u016d\t\b\2\2\u016d\u016e\5\66\34\5\u016e\u016f\b\34\1\2\u016f"+
+		"\u017e\3\2\2\2\u0170\u0171\f\3\2\2\u0171\u0172\t\t\2\2\u0172\u0173\5\66"+
+		"\34\4\u0173\u0174\b\34\1\2\u0174\u017e\3\2\2\2\u0175\u0176\f\r\2\2\u0176"+
+		"\u0177\7\63\2\2\u0177\u0178\7J\2\2\u0178\u017e\b\34\1\2\u0179\u017a\f"+
+		"\f\2\2\u017a\u017b\5> \2\u017b\u017c\b\34\1\2\u017c\u017e\3\2\2\2\u017d"+
+		"\u0157\3\2\2\2\u017d\u015c\3\2\2\2\u017d\u0161\3\2\2\2\u017d\u0166\3\2"+
+		"\2\2\u017d\u016b\3\2\2\2\u017d\u0170\3\2\2\2\u017d\u0175\3\2\2\2\u017d"+
+		"\u0179\3\2\2\2\u017e\u0181\3\2\2\2\u017f\u017d\3\2\2\2\u017f\u0180\3\2"+
+		"\2\2\u0180\67\3\2\2\2\u0181\u017f\3\2\2\2\u0182\u0183\5:\36\2\u0183\u0184"+
+		"\5<\37\2\u01849\3\2\2\2\u0185\u018a\7J\2\2\u0186\u0187\7\63\2\2\u0187"+
+		"\u0189\7J\2\2\u0188\u0186\3\2\2\2\u0189\u018c\3\2\2\2\u018a\u0188\3\2"+
+		"\2\2\u018a\u018b\3\2\2\2\u018b;\3\2\2\2\u018c\u018a\3\2\2\2\u018d\u018e"+
+		"\5> \2\u018e=\3\2\2\2\u018f\u0191\7*\2\2\u0190\u0192\5@!\2\u0191\u0190"+
+		"\3\2\2\2\u0191\u0192\3\2\2\2\u0192\u0193\3\2\2\2\u0193\u0194\7+\2\2\u0194"+
+		"\u0195\b \1\2\u0195?\3\2\2\2\u0196\u0197\5\66\34\2\u0197\u019e\b!\1\2"+
+		"\u0198\u0199\7\62\2\2\u0199\u019a\5\66\34\2\u019a\u019b\b!\1\2\u019b\u019d"+
+		"\3\2\2\2\u019c\u0198\3\2\2\2\u019d\u01a0\3\2\2\2\u019e\u019c\3\2\2\2\u019e"+
+		"\u019f\3\2\2\2\u019fA\3\2\2\2\u01a0\u019e\3\2\2\2\u01a1\u01a2\t\n\2\2"+
+		"\u01a2C\3\2\2\2\u01a3\u01aa\5F$\2\u01a4\u01aa\5H%\2\u01a5\u01aa\7H\2\2"+
+		"\u01a6\u01aa\7I\2\2\u01a7\u01aa\7>\2\2\u01a8\u01aa\7A\2\2\u01a9\u01a3"+
+		"\3\2\2\2\u01a9\u01a4\3\2\2\2\u01a9\u01a5\3\2\2\2\u01a9\u01a6\3\2\2\2\u01a9"+
+		"\u01a7\3\2\2\2\u01a9\u01a8\3\2\2\2\u01aaE\3\2\2\2\u01ab\u01ac\t\13\2\2"+
+		"\u01acG\3\2\2\2\u01ad\u01ae\t\f\2\2\u01aeI\3\2\2\2%MRY^chmv{\u008a\u0090"+
+		"\u0098\u009d\u00a3\u00aa\u00af\u00c4\u00d9\u00e7\u00ec\u00f4\u00fd\u0102"+
+		"\u0107\u0111\u011f\u012a\u0139\u0155\u017d\u017f\u018a\u0191\u019e\u01a9";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
@@ -0,0 +1,93 @@
+package io.github.morichan.fescue.reactive;
+
+/**
+ * <p> 形成結果クラス </p>
+ *
+ * <p>
+ *     {@link FeatureProcessor}が発行する、1つの入力文字列に対する形成結果です。
+ *     形成に成功した場合は属性または操作を、失敗した場合は例外を保持します。
+ * </p>
+ *
+ * @param <F> {@link io.github.morichan.fescue.feature.Attribute}または{@link io.github.morichan.fescue.feature.Operation}
+ */
+public class Carved<F> {
+
+    private final long index;
+    private final String text;
+    private final F feature;
+    private final Throwable error;
+
+    Carved(long index, String text, F feature, Throwable error) {
+        this.index = index;
+        this.text = text;
+        this.feature = feature;
+        this.error = error;
+    }
+
+    /**
+     * <p> 入力順の番号を取得します。 </p>
+     *
+     * @return {@code 0}から始まる入力順の番号
+     */
+    public long getIndex() {
+        return index;
+    }
+
+    /**
+     * <p> 入力文字列を取得します。 </p>
+     *
+     * @return 入力文字列
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * <p> 形成に成功した場合は真を返す真偽値判定を行います。 </p>
+     *
+     * @return 形成に成功した場合は真を返す真偽値
+     */
+    public boolean isSucceeded() {
+        return error == null;
+    }
+
+    /**
+     * <p> 形成した属性または操作を取得します。 </p>
+     *
+     * <p>
+     *     形成に失敗した場合は{@link IllegalStateException}を投げます。
+     * </p>
+     *
+     * @return 属性または操作<br>{@code null}なし
+     */
+    public F getFeature() {
+        if (error != null) throw new IllegalStateException();
+        return feature;
+    }
+
+    /**
+     * <p> 形成時の例外を取得します。 </p>
+     *
+     * <p>
+     *     形成に成功した場合は{@link IllegalStateException}を投げます。
+     *     深く入れ子になった式で発生する{@link StackOverflowError}のように、非検査例外以外のエラーも保持します。
+     * </p>
+     *
+     * @return 形成時の例外またはエラー<br>{@code null}なし
+     */
+    public Throwable getError() {
+        if (error == null) throw new IllegalStateException();
+        return error;
+    }
+
+    /**
+     * <p> 形成結果の文字列を取得します。 </p>
+     *
+     * @return 成功した場合は属性または操作の文字列、失敗した場合は入力文字列と例外の文字列
+     */
+    @Override
+    public String toString() {
+        if (error == null) return feature.toString();
+        return text + " : " + error;
+    }
+}
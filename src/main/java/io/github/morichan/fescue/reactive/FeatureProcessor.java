@@ -0,0 +1,316 @@
+package io.github.morichan.fescue.reactive;
+
+import io.github.morichan.fescue.feature.Attribute;
+import io.github.morichan.fescue.feature.Operation;
+import io.github.morichan.fescue.metrics.BatchEvent;
+import io.github.morichan.fescue.metrics.FeatureKind;
+import io.github.morichan.fescue.sculptor.AttributeSculptor;
+import io.github.morichan.fescue.sculptor.OperationSculptor;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * <p> 属性文または操作文の形成処理クラス </p>
+ *
+ * <p>
+ *     {@link Flow}に基づき、上流から受取った属性文または操作文を並列に構文解析して形成し、形成結果（{@link Carved}）を下流へ発行します。
+ *     構文解析に失敗した場合も、例外を保持した形成結果として発行します。
+ *     {@link StackOverflowError}などのエラーも同様に形成結果として発行するため、下流の完了通知は止まりません。
+ * </p>
+ *
+ * <p>
+ *     上流へは最初にバッファサイズ分だけ要求し、以降は形成結果を1つ発行するたびに1つ要求します。
+ *     下流への発行は、下流の要求がない場合はバッファサイズ分まで溜め、それを超えると待ちます。
+ *     そのため、処理中と発行待ちの入力はそれぞれバッファサイズ以下に収まり、下流が遅い場合は上流への要求が止まります。
+ * </p>
+ *
+ * <p>
+ *     使い方を次に示します。
+ * </p>
+ *
+ * <pre>
+ *     {@code
+ *     FeatureProcessor<Attribute> processor = FeatureProcessor.ofAttributes(4, 256, OutputMode.Ordered);
+ *     processor.subscribe(sink);
+ *     source.subscribe(processor);
+ *     }
+ * </pre>
+ *
+ * <p>
+ *     1つのインスタンスは1つの上流にのみ購読できます。
+ *     下流は複数購読できますが、形成を始める前（上流から受取る前）に購読してください。
+ * </p>
+ *
+ * @param <F> {@link Attribute}または{@link Operation}
+ */
+public class FeatureProcessor<F> implements Flow.Processor<String, Carved<F>> {
+
+    private static final String SOURCE = "reactive";
+
+    private final Function<String, F> carver;
+    private final FeatureKind kind;
+    private final OutputMode mode;
+    private final int bufferSize;
+    private final ExecutorService workers;
+    private final SubmissionPublisher<Carved<F>> publisher;
+
+    private final AtomicLong received = new AtomicLong();
+    private final AtomicInteger errorCount = new AtomicInteger();
+    private final BatchEvent event = new BatchEvent();
+
+    private final Object lock = new Object();
+    private Flow.Subscription upstream;
+    private boolean hasSubscriber = false;
+    private boolean isStarted = false;
+    private boolean isEmitting = false;
+    private boolean isUpstreamDone = false;
+    private boolean isTerminated = false;
+    private Throwable upstreamError;
+    private long emitted = 0;
+    private final Map<Long, Carved<F>> completed = new HashMap<>();
+    private long unorderedIndex = 0;
+
+    /**
+     * <p> 属性文の形成処理を生成します。 </p>
+     *
+     * @param parallelism 並列数<br>{@code 1}以上
+     * @param bufferSize バッファサイズ<br>{@code 1}以上
+     * @param mode 出力順序<br>{@code null}不可
+     * @return 属性文の形成処理
+     */
+    public static FeatureProcessor<Attribute> ofAttributes(int parallelism, int bufferSize, OutputMode mode) {
+        return new FeatureProcessor<>(text -> {
+            AttributeSculptor sculptor = new AttributeSculptor();
+            sculptor.parse(text);
+            return sculptor.carve();
+        }, FeatureKind.Attribute, parallelism, bufferSize, mode);
+    }
+
+    /**
+     * <p> 操作文の形成処理を生成します。 </p>
+     *
+     * @param parallelism 並列数<br>{@code 1}以上
+     * @param bufferSize バッファサイズ<br>{@code 1}以上
+     * @param mode 出力順序<br>{@code null}不可
+     * @return 操作文の形成処理
+     */
+    public static FeatureProcessor<Operation> ofOperations(int parallelism, int bufferSize, OutputMode mode) {
+        return new FeatureProcessor<>(text -> {
+            OperationSculptor sculptor = new OperationSculptor();
+            sculptor.parse(text);
+            return sculptor.carve();
+        }, FeatureKind.Operation, parallelism, bufferSize, mode);
+    }
+
+    /**
+     * <p> 形成処理コンストラクタ </p>
+     *
+     * <p>
+     *     形成関数は複数のスレッドから同時に呼出します。
+     *     並列数やバッファサイズが{@code 1}未満の場合、{@code null}を設定した場合は{@link IllegalArgumentException}を投げます。
+     * </p>
+     *
+     * @param carver 文字列から属性または操作を形成する関数<br>{@code null}不可
+     * @param kind 要素の種類<br>{@code null}不可
+     * @param parallelism 並列数<br>{@code 1}以上
+     * @param bufferSize バッファサイズ<br>{@code 1}以上
+     * @param mode 出力順序<br>{@code null}不可
+     */
+    FeatureProcessor(Function<String, F> carver, FeatureKind kind, int parallelism, int bufferSize, OutputMode mode) {
+        if (carver == null || kind == null || mode == null || parallelism < 1 || bufferSize < 1) throw new IllegalArgumentException();
+
+        this.carver = carver;
+        this.kind = kind;
+        this.mode = mode;
+        this.bufferSize = bufferSize;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "fescue-carver-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Executor delivery = ForkJoinPool.getCommonPoolParallelism() > 1 ? ForkJoinPool.commonPool() : runnable -> new Thread(runnable).start();
+        publisher = new SubmissionPublisher<>(delivery, bufferSize);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super Carved<F>> subscriber) {
+        publisher.subscribe(subscriber);
+
+        synchronized (lock) {
+            hasSubscriber = true;
+            start();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        Objects.requireNonNull(subscription);
+
+        synchronized (lock) {
+            if (upstream != null) {
+                subscription.cancel();
+                return;
+            }
+            upstream = subscription;
+            start();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onNext(String text) {
+        Objects.requireNonNull(text);
+
+        long index = received.getAndIncrement();
+        try {
+            workers.execute(() -> carve(index, text));
+        } catch (RejectedExecutionException e) {
+            // 既に終了している場合は破棄します。
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onError(Throwable throwable) {
+        Objects.requireNonNull(throwable);
+
+        synchronized (lock) {
+            upstreamError = throwable;
+            isUpstreamDone = true;
+        }
+        emit();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onComplete() {
+        synchronized (lock) {
+            isUpstreamDone = true;
+        }
+        emit();
+    }
+
+    /**
+     * <p> 処理中の入力の数を取得します。 </p>
+     *
+     * @return 上流から受取り、まだ発行していない入力の数
+     */
+    public long getPendingCount() {
+        synchronized (lock) {
+            return received.get() - emitted;
+        }
+    }
+
+
+
+    private void start() {
+        if (isStarted || upstream == null || !hasSubscriber) return;
+
+        isStarted = true;
+        event.begin();
+        upstream.request(bufferSize);
+    }
+
+    private void carve(long index, String text) {
+        Carved<F> result;
+        try {
+            result = new Carved<>(index, text, carver.apply(text), null);
+        } catch (Throwable e) {
+            // エラーでも形成結果を保持しないと、入力順の発行と終了が止まります。
+            errorCount.incrementAndGet();
+            result = new Carved<>(index, text, null, e);
+        }
+
+        synchronized (lock) {
+            completed.put(mode == OutputMode.Ordered ? index : unorderedIndex++, result);
+        }
+        emit();
+    }
+
+    /**
+     * <p> 発行できる形成結果を全て発行します。 </p>
+     *
+     * <p>
+     *     同時に発行するスレッドは1つのみです。
+     *     他のスレッドが発行中の場合は、そのスレッドが続けて発行するため何もしません。
+     *     発行は下流のバッファが空くまで待つ場合があるため、ロックの外で行います。
+     * </p>
+     */
+    private void emit() {
+        synchronized (lock) {
+            if (isEmitting) return;
+            isEmitting = true;
+        }
+
+        while (true) {
+            Carved<F> result;
+            boolean isUpstreamActive;
+
+            synchronized (lock) {
+                result = completed.remove(emitted);
+                if (result == null || isTerminated) {
+                    isEmitting = false;
+                    if (isUpstreamDone && received.get() == emitted) terminate();
+                    return;
+                }
+                emitted++;
+                isUpstreamActive = !isUpstreamDone;
+            }
+
+            if (!publisher.hasSubscribers()) {
+                cancel();
+                return;
+            }
+            publisher.submit(result);
+            if (isUpstreamActive) upstream.request(1);
+        }
+    }
+
+    private void cancel() {
+        synchronized (lock) {
+            isEmitting = false;
+            if (isTerminated) return;
+            if (!isUpstreamDone) upstream.cancel();
+            isUpstreamDone = true;
+            completed.clear();
+            terminate();
+        }
+    }
+
+    private void terminate() {
+        if (isTerminated) return;
+        isTerminated = true;
+
+        workers.shutdown();
+        if (upstreamError != null) publisher.closeExceptionally(upstreamError);
+        else publisher.close();
+        event.report(kind, SOURCE, (int) emitted, errorCount.get());
+    }
+}
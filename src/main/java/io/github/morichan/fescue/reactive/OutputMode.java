@@ -0,0 +1,21 @@
+package io.github.morichan.fescue.reactive;
+
+/**
+ * <p> 出力順序 </p>
+ *
+ * <p>
+ *     {@link FeatureProcessor}において、形成結果を発行する順序を表します。
+ * </p>
+ */
+public enum OutputMode {
+
+    /**
+     * 入力順に発行します。
+     */
+    Ordered,
+
+    /**
+     * 形成が終わった順に発行します。
+     */
+    Unordered,
+}
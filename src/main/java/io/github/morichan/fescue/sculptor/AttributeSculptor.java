@@ -11,6 +11,10 @@ import io.github.morichan.fescue.feature.value.DefaultValue;
 import io.github.morichan.fescue.feature.value.expression.*;
 import io.github.morichan.fescue.feature.value.expression.symbol.Symbol;
 import io.github.morichan.fescue.feature.visibility.Visibility;
+import io.github.morichan.fescue.metrics.CarveEvent;
+import io.github.morichan.fescue.metrics.FeatureKind;
+import io.github.morichan.fescue.metrics.FeatureMetrics;
+import io.github.morichan.fescue.metrics.Stage;
 import org.antlr.v4.runtime.ParserRuleContext;
 import io.github.morichan.fescue.parser.ClassFeatureParser;
 
@@ -54,6 +58,10 @@ public class AttributeSculptor {
 
     private AttributeEvaluation evaluation;
     private ClassFeatureParser.PropertyContext attribute;
+    private int textLength;
+    private boolean isLazy = false;
+    private boolean isParseTreeBuilt = true;
+    private Attribute carved;
 
     /**
      * <p> 構文解析を行う。 </p>
@@ -66,13 +74,104 @@ public class AttributeSculptor {
      * @param attributeText 属性文 <br> {@code null}不可
      */
     public void parse(String attributeText) {
+        parse((CharSequence) attributeText);
+    }
+
+    /**
+     * <p> 文字列を複製せずに構文解析を行う。 </p>
+     *
+     * <p>
+     *     {@link #parse(String)}と同じですが、{@link StringBuilder}や{@link java.nio.CharBuffer}などの文字列を複製せずに字句解析します。
+     *     {@code char}の配列やバイトバッファの一部を構文解析する場合は、
+     *     {@link java.nio.CharBuffer#wrap(char[], int, int)}や{@link io.github.morichan.fescue.token.CharSequenceCharStream#asCharSequence(java.nio.ByteBuffer)}の結果を文字列として渡せます。
+     *     字句解析と構文解析は文字列を複製せずに行い、構文木を構築する場合（{@link #setParseTreeBuilt(boolean)}参照）は終わりに文字列を1回だけ複製して切離します。
+     *     そのため、このメソッドの後は{@link #carve()}の前でも、遅延形成する式（{@link #setLazy(boolean)}参照）を参照する前でも、文字列を変更や再利用して構いません。
+     * </p>
+     *
+     * @param attributeText 属性文 <br> {@code null}不可
+     */
+    public void parse(CharSequence attributeText) {
         if (attributeText == null) throw new IllegalArgumentException();
 
+        textLength = attributeText.length();
+        FeatureMetrics.countInputLength(FeatureKind.Attribute, textLength);
+
         evaluation = new AttributeEvaluation();
         evaluation.setText(attributeText);
-        evaluation.walk();
+        evaluation.setParseTreeBuilt(isParseTreeBuilt);
+        try {
+            evaluation.walk();
+        } catch (RuntimeException e) {
+            FeatureMetrics.countError(Stage.Parse, FeatureKind.Attribute);
+            throw e;
+        }
+
+        attribute = isParseTreeBuilt ? evaluation.getContext() : null;
+        carved = isParseTreeBuilt ? null : evaluation.getFeature();
+    }
+
+    /**
+     * <p> 遅延形成の設定を行います。 </p>
+     *
+     * <p>
+     *     真を設定すると、{@link #carve()}は既定値の式と{@code subsets}および{@code redefines}の式を生成せず、
+     *     それぞれを初めて参照した時点で構文解析結果から生成します（{@link DefaultValue#lazy(java.util.function.Supplier)}参照）。
+     *     名前、可視性、型のみを参照する場合は形成の処理時間とメモリを減らせます。
+     *     ただし、式を参照するまでは構文解析結果を保持し続けます。
+     *     式は構文解析結果のトークンの文字列から生成しますが、その文字列は{@link #parse(CharSequence)}で呼出し元の文字列から切離しているため、
+     *     式を参照する前に呼出し元が文字列を変更や再利用しても、生成する式は変わりません。
+     *     また、式の生成に失敗した場合の例外は{@link #carve()}ではなく式の参照時に投げます。
+     *     構文木を構築しない場合（{@link #setParseTreeBuilt(boolean)}参照）は遅延させる構文解析結果がないため、この設定を無視します。
+     * </p>
+     *
+     * @param isLazy 遅延形成する場合は真
+     */
+    public void setLazy(boolean isLazy) {
+        this.isLazy = isLazy;
+    }
 
-        attribute = evaluation.getContext();
+    /**
+     * <p> 遅延形成する場合は真を返す真偽値判定を行います。 </p>
+     *
+     * @return 遅延形成する場合は真を返す真偽値<br>既定値は偽
+     */
+    public boolean isLazy() {
+        return isLazy;
+    }
+
+    /**
+     * <p> 構文木を構築するかどうかの設定を行います。 </p>
+     *
+     * <p>
+     *     偽を設定すると、{@link #parse(CharSequence)}は構文木を構築せず、構文解析しながら{@link Attribute}インスタンスを形成します。
+     *     構文木の構築と、形成時の構文木の走査および文字列の連結を行わないため、1回の構文解析と形成あたりの割当てと処理時間を減らせます。
+     *     {@link #carve()}は構文解析で形成したインスタンスを返すため、何度実行しても同じインスタンスを返します。
+     * </p>
+     *
+     * <p>
+     *     ただし、次の点が構文木を構築する場合と異なります。
+     * </p>
+     *
+     * <ul>
+     *     <li>{@link #getContext()}は{@link IllegalStateException}を投げます。</li>
+     *     <li>構文エラーがある場合はエラー回復せず、{@link #parse(CharSequence)}で{@link IllegalArgumentException}を投げます。</li>
+     *     <li>形成できない式（{@code new}による生成式など）を含む場合は、{@link #carve()}ではなく{@link #parse(CharSequence)}で{@link IllegalArgumentException}を投げます。</li>
+     *     <li>遅延形成の設定（{@link #setLazy(boolean)}参照）を無視します。</li>
+     * </ul>
+     *
+     * @param isParseTreeBuilt 構文木を構築する場合は真
+     */
+    public void setParseTreeBuilt(boolean isParseTreeBuilt) {
+        this.isParseTreeBuilt = isParseTreeBuilt;
+    }
+
+    /**
+     * <p> 構文木を構築する場合は真を返す真偽値判定を行います。 </p>
+     *
+     * @return 構文木を構築する場合は真を返す真偽値<br>既定値は真
+     */
+    public boolean isParseTreeBuilt() {
+        return isParseTreeBuilt;
     }
 
     /**
@@ -81,6 +180,7 @@ public class AttributeSculptor {
      * <p>
      *     コンテキストを取得したい場合はこのメソッドを利用してください。
      *     テストコード以外ではあまり使わないと思います。
+     *     構文木を構築しない場合（{@link #setParseTreeBuilt(boolean)}参照）は{@link IllegalStateException}を投げます。
      * </p>
      *
      * @return 属性文コンテキスト
@@ -93,9 +193,41 @@ public class AttributeSculptor {
     /**
      * <p> 属性文コンテキストから{@link Attribute}インスタンスを形成します。 </p>
      *
+     * <p>
+     *     計測が有効な場合（{@link FeatureMetrics#isEnabled()}参照）は、処理時間と例外発生回数を記録します。
+     *     また、Java Flight Recorderで記録している場合は{@link CarveEvent}を記録します。
+     * </p>
+     *
      * @return 属性文コンテキストから生成した {@link Attribute}インスタンス
      */
     public Attribute carve() {
+        CarveEvent event = new CarveEvent();
+        event.begin();
+
+        long start = FeatureMetrics.startTimer();
+        try {
+            Attribute feature = carveAttribute();
+            event.report(FeatureKind.Attribute, textLength, null);
+            return feature;
+        } catch (RuntimeException e) {
+            FeatureMetrics.countError(Stage.Carve, FeatureKind.Attribute);
+            event.report(FeatureKind.Attribute, textLength, e);
+            throw e;
+        } finally {
+            FeatureMetrics.stopTimer(Stage.Carve, FeatureKind.Attribute, start);
+        }
+    }
+
+
+
+    /**
+     * <p> 属性文コンテキストから{@link Attribute}インスタンスを形成します。 </p>
+     *
+     * @return 属性文コンテキストから生成した {@link Attribute}インスタンス
+     */
+    private Attribute carveAttribute() {
+        if (carved != null) return carved;
+
         Attribute feature = new Attribute(new Name("attribute"));
 
         for (int i = 0; i < attribute.getChildCount(); i++) {
@@ -122,8 +254,7 @@ public class AttributeSculptor {
                 }
 
             } else if (ctx instanceof ClassFeatureParser.DefaultValueContext) {
-                feature.setDefaultValue(new DefaultValue(
-                        createExpression((ClassFeatureParser.ExpressionContext) ctx.getChild(1))));
+                feature.setDefaultValue(createDefaultValue((ClassFeatureParser.ExpressionContext) ctx.getChild(1)));
 
             } else { // if (ctx instanceof ClassFeatureParser.PropModifiersContext) {
                 feature.setProperties(extractProperties((ClassFeatureParser.PropertiesContext) ctx.getChild(0)));
@@ -133,7 +264,20 @@ public class AttributeSculptor {
         return feature;
     }
 
-
+    /**
+     * <p> 既定値インスタンスを生成します。 </p>
+     *
+     * <p>
+     *     遅延形成する場合は、式を初めて参照した時点で生成する既定値を返します。
+     * </p>
+     *
+     * @param ctx 式コンテキスト
+     * @return 既定値インスタンス
+     */
+    private DefaultValue createDefaultValue(ClassFeatureParser.ExpressionContext ctx) {
+        if (isLazy) return DefaultValue.lazy(() -> createExpression(ctx));
+        return new DefaultValue(createExpression(ctx));
+    }
 
     /**
      * <p> 式インスタンスを生成します。 </p>
@@ -182,17 +326,9 @@ public class AttributeSculptor {
             if (ctx.getChild(1).getClass() == ClassFeatureParser.ExpressionContext.class) {
                 expression = new ExpressionWithParen(createExpression((ClassFeatureParser.ExpressionContext) ctx.getChild(1)));
             } else if (ctx.getChild(1).getText().equals(".")) {
-                // ANTLR文法ファイル上ではここに入るはずだが決して入ることはない
-                // if (ctx.getChild(2).getClass() == ClassFeatureParser.ExplicitGenericInvocationSuffixContext.class) {
-                //     expression = new Binomial(ctx.getChild(1).getText(),
-                //             createExpression((ClassFeatureParser.ExpressionContext) ctx.getChild(0)),
-                //             new MethodCall(ctx.getChild(2).getChild(0).getText(),
-                //                     extractExpressionsFromArguments((ClassFeatureParser.ArgumentsContext) ctx.getChild(2).getChild(1))));
-                // } else {
-                    expression = new Binomial(ctx.getChild(1).getText(),
-                            createExpression((ClassFeatureParser.ExpressionContext) ctx.getChild(0)),
-                            new OneIdentifier(ctx.getChild(2).getText()));
-                // }
+                expression = new Binomial(ctx.getChild(1).getText(),
+                        createExpression((ClassFeatureParser.ExpressionContext) ctx.getChild(0)),
+                        new OneIdentifier(ctx.getChild(2).getText()));
             } else {
                 expression = new Binomial(ctx.getChild(1).getText(),
                         createExpression((ClassFeatureParser.ExpressionContext) ctx.getChild(0)),
@@ -256,11 +392,11 @@ public class AttributeSculptor {
             } else if (propertyString.equals("union")) {
                 properties.add(new Union());
             } else if (propertyString.equals("subsets")) {
-                properties.add(new Subsets(
-                        extractExpressionFromProperty((ClassFeatureParser.PropertyNameContext) ctx.getChild(i).getChild(1))));
+                ClassFeatureParser.PropertyNameContext nameCtx = (ClassFeatureParser.PropertyNameContext) ctx.getChild(i).getChild(1);
+                properties.add(isLazy ? Subsets.lazy(() -> extractExpressionFromProperty(nameCtx)) : new Subsets(extractExpressionFromProperty(nameCtx)));
             } else if (propertyString.equals("redefines")) {
-                properties.add(new Redefines(
-                        extractExpressionFromProperty((ClassFeatureParser.PropertyNameContext) ctx.getChild(i).getChild(1))));
+                ClassFeatureParser.PropertyNameContext nameCtx = (ClassFeatureParser.PropertyNameContext) ctx.getChild(i).getChild(1);
+                properties.add(isLazy ? Redefines.lazy(() -> extractExpressionFromProperty(nameCtx)) : new Redefines(extractExpressionFromProperty(nameCtx)));
             } else if (propertyString.equals("ordered")) {
                 properties.add(new Ordered());
             } else { // if (propertyString.equals("unique")) {
@@ -286,10 +422,6 @@ public class AttributeSculptor {
      * @return 式インスタンス <br> {@code null}の可能性なし
      */
     private Expression extractExpressionFromProperty(ClassFeatureParser.PropertyNameContext ctx) {
-        if (ctx.getChild(0) instanceof ClassFeatureParser.ExpressionContext) {
-            return createExpression((ClassFeatureParser.ExpressionContext) ctx.getChild(0));
-        } else {
-            return new OneIdentifier(ctx.getChild(0).getChild(0).getText());
-        }
+        return createExpression((ClassFeatureParser.ExpressionContext) ctx.getChild(0));
     }
 }
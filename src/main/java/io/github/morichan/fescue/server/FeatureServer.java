@@ -0,0 +1,407 @@
+package io.github.morichan.fescue.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.morichan.fescue.json.JsonFeatureWriter;
+import io.github.morichan.fescue.metrics.BatchEvent;
+import io.github.morichan.fescue.metrics.FeatureKind;
+import io.github.morichan.fescue.sculptor.AttributeSculptor;
+import io.github.morichan.fescue.sculptor.OperationSculptor;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p> 属性文と操作文の解析サービスクラス </p>
+ *
+ * <p>
+ *     {@link HttpServer}を用いて、ループバックアドレス（{@code 127.0.0.1}など）でのみ待受けるHTTPサービスです。
+ *     Java以外の言語で書かれたツールから、呼出しのたびにJVMを起動せずに属性文や操作文を解析するために利用します。
+ *     応答は{@link JsonFeatureWriter}の形式のJSONです。
+ * </p>
+ *
+ * <p>
+ *     次のエンドポイントを持ちます。
+ * </p>
+ *
+ * <ul>
+ *     <li>{@code POST /attribute} : 本文の属性文を1つ解析します。失敗した場合は{@code 400}で{@code "kind":"error"}のオブジェクトを返します。</li>
+ *     <li>{@code POST /operation} : 本文の操作文を1つ解析します。</li>
+ *     <li>{@code POST /attributes} : 本文の1行ごとの属性文をまとめて解析し、JSON配列で返します。失敗した行は配列内の{@code "kind":"error"}のオブジェクトになります。</li>
+ *     <li>{@code POST /operations} : 本文の1行ごとの操作文をまとめて解析し、JSON配列で返します。</li>
+ *     <li>{@code GET /stats} : {@link ServerStatistics#writeJson(Appendable)}の形式で統計を返します。</li>
+ * </ul>
+ *
+ * <p>
+ *     リクエストは仮想スレッドが利用できる場合は仮想スレッドで、利用できない場合はスレッドプールで処理します。
+ *     同時に処理するリクエストの数が{@link #setMaxConcurrency(int)}を超えた場合は、待たずに{@code 503}を返します。
+ *     本文の大きさが{@link #setMaxBodySize(int)}を、一括解析の行数が{@link #setMaxBatchSize(int)}を超えた場合は{@code 413}を返します。
+ * </p>
+ *
+ * <pre>
+ *     {@code
+ *     FeatureServer server = new FeatureServer(8080);
+ *     server.start();
+ *     // curl --data '- number : int' http://127.0.0.1:8080/attribute
+ *     server.stop();
+ *     }
+ * </pre>
+ */
+public class FeatureServer {
+
+    private static final String SOURCE = "http";
+    private static final String JSON = "application/json; charset=utf-8";
+
+    private final int port;
+    private int maxConcurrency = Runtime.getRuntime().availableProcessors() * 4;
+    private int maxBodySize = 1024 * 1024;
+    private int maxBatchSize = 10000;
+
+    private final ServerStatistics statistics = new ServerStatistics();
+
+    private HttpServer server;
+    private ExecutorService executor;
+    private Semaphore permits;
+
+    /**
+     * <p> 待受けるポート番号を設定するコンストラクタ </p>
+     *
+     * <p>
+     *     {@code 0}を設定した場合は、起動時に空いているポート番号を割当てます。
+     *     {@code 0}未満または{@code 65535}より大きい値を設定した場合は{@link IllegalArgumentException}を投げます。
+     * </p>
+     *
+     * @param port ポート番号<br>{@code 0}以上{@code 65535}以下
+     */
+    public FeatureServer(int port) {
+        if (port < 0 || port > 65535) throw new IllegalArgumentException();
+        this.port = port;
+    }
+
+    /**
+     * <p> 同時に処理するリクエストの数の上限を設定します。 </p>
+     *
+     * <p>
+     *     起動後に設定した場合は{@link IllegalStateException}を、{@code 1}未満を設定した場合は{@link IllegalArgumentException}を投げます。
+     * </p>
+     *
+     * @param maxConcurrency 同時に処理するリクエストの数の上限<br>{@code 1}以上
+     */
+    public void setMaxConcurrency(int maxConcurrency) {
+        if (server != null) throw new IllegalStateException();
+        if (maxConcurrency < 1) throw new IllegalArgumentException();
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * <p> 同時に処理するリクエストの数の上限を取得します。 </p>
+     *
+     * @return 同時に処理するリクエストの数の上限
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * <p> リクエスト本文の大きさの上限を設定します。 </p>
+     *
+     * <p>
+     *     起動後に設定した場合は{@link IllegalStateException}を、{@code 1}未満を設定した場合は{@link IllegalArgumentException}を投げます。
+     * </p>
+     *
+     * @param maxBodySize リクエスト本文の大きさの上限（バイト）<br>{@code 1}以上
+     */
+    public void setMaxBodySize(int maxBodySize) {
+        if (server != null) throw new IllegalStateException();
+        if (maxBodySize < 1) throw new IllegalArgumentException();
+        this.maxBodySize = maxBodySize;
+    }
+
+    /**
+     * <p> リクエスト本文の大きさの上限を取得します。 </p>
+     *
+     * @return リクエスト本文の大きさの上限（バイト）
+     */
+    public int getMaxBodySize() {
+        return maxBodySize;
+    }
+
+    /**
+     * <p> 一括解析する行数の上限を設定します。 </p>
+     *
+     * <p>
+     *     起動後に設定した場合は{@link IllegalStateException}を、{@code 1}未満を設定した場合は{@link IllegalArgumentException}を投げます。
+     * </p>
+     *
+     * @param maxBatchSize 一括解析する行数の上限<br>{@code 1}以上
+     */
+    public void setMaxBatchSize(int maxBatchSize) {
+        if (server != null) throw new IllegalStateException();
+        if (maxBatchSize < 1) throw new IllegalArgumentException();
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * <p> 一括解析する行数の上限を取得します。 </p>
+     *
+     * @return 一括解析する行数の上限
+     */
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * <p> サービスを起動します。 </p>
+     *
+     * <p>
+     *     既に起動している場合は{@link IllegalStateException}を投げます。
+     * </p>
+     *
+     * @throws IOException ポートを確保できなかった場合
+     */
+    public void start() throws IOException {
+        if (server != null) throw new IllegalStateException();
+
+        HttpServer created = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        created.createContext("/attribute", exchange -> handle(exchange, FeatureKind.Attribute, false));
+        created.createContext("/operation", exchange -> handle(exchange, FeatureKind.Operation, false));
+        created.createContext("/attributes", exchange -> handle(exchange, FeatureKind.Attribute, true));
+        created.createContext("/operations", exchange -> handle(exchange, FeatureKind.Operation, true));
+        created.createContext("/stats", this::handleStatistics);
+
+        permits = new Semaphore(maxConcurrency);
+        executor = createExecutor();
+        created.setExecutor(executor);
+        created.start();
+        server = created;
+    }
+
+    /**
+     * <p> サービスを停止します。 </p>
+     *
+     * <p>
+     *     処理中のリクエストは最大で1秒待ちます。
+     *     起動していない場合は{@link IllegalStateException}を投げます。
+     * </p>
+     */
+    public void stop() {
+        if (server == null) throw new IllegalStateException();
+
+        server.stop(1);
+        executor.shutdown();
+        server = null;
+    }
+
+    /**
+     * <p> 起動している場合は真を返す真偽値判定を行います。 </p>
+     *
+     * @return 起動している場合は真を返す真偽値
+     */
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * <p> 待受けているポート番号を取得します。 </p>
+     *
+     * <p>
+     *     起動していない場合は{@link IllegalStateException}を投げます。
+     * </p>
+     *
+     * @return 待受けているポート番号
+     */
+    public int getPort() {
+        if (server == null) throw new IllegalStateException();
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * <p> 統計を取得します。 </p>
+     *
+     * @return 統計<br>{@code null}なし
+     */
+    public ServerStatistics getStatistics() {
+        return statistics;
+    }
+
+
+
+    /**
+     * <p> リクエストを処理するスレッドの実行者を生成します。 </p>
+     *
+     * <p>
+     *     ソースの互換性を保つため、仮想スレッドの実行者はリフレクションで取得します。
+     *     取得できない実行環境では、デーモンスレッドのキャッシュ付きスレッドプールを返します。
+     * </p>
+     *
+     * @return 実行者
+     */
+    private static ExecutorService createExecutor() {
+        try {
+            Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) method.invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            AtomicInteger threadCount = new AtomicInteger();
+            return Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "fescue-http-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    private void handle(HttpExchange exchange, FeatureKind kind, boolean isBatch) throws IOException {
+        try {
+            if (!isExactPath(exchange)) {
+                sendEmpty(exchange, 404);
+            } else if (!exchange.getRequestMethod().equals("POST")) {
+                exchange.getResponseHeaders().set("Allow", "POST");
+                sendEmpty(exchange, 405);
+            } else if (!permits.tryAcquire()) {
+                statistics.reject();
+                exchange.getResponseHeaders().set("Retry-After", "1");
+                sendEmpty(exchange, 503);
+            } else {
+                try {
+                    long start = System.nanoTime();
+                    String body = readBody(exchange.getRequestBody());
+                    if (body == null) sendEmpty(exchange, 413);
+                    else if (isBatch) handleBatch(exchange, kind, body, start);
+                    else handleSingle(exchange, kind, body, start);
+                } finally {
+                    permits.release();
+                }
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void handleSingle(HttpExchange exchange, FeatureKind kind, String body, long start) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        boolean isSucceeded = write(new JsonFeatureWriter(sb), kind, body.trim());
+
+        statistics.record(1, isSucceeded ? 0 : 1, System.nanoTime() - start);
+        send(exchange, isSucceeded ? 200 : 400, sb.toString());
+    }
+
+    private void handleBatch(HttpExchange exchange, FeatureKind kind, String body, long start) throws IOException {
+        List<String> texts = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            String text = line.trim();
+            if (!text.isEmpty()) texts.add(text);
+        }
+        if (texts.size() > maxBatchSize) {
+            sendEmpty(exchange, 413);
+            return;
+        }
+
+        BatchEvent event = new BatchEvent();
+        event.begin();
+
+        exchange.getResponseHeaders().set("Content-Type", JSON);
+        exchange.sendResponseHeaders(200, 0);
+        int errorCount = 0;
+        try (JsonFeatureWriter writer = new JsonFeatureWriter(exchange.getResponseBody())) {
+            writer.beginArray();
+            for (String text : texts) if (!write(writer, kind, text)) errorCount++;
+            writer.endArray();
+            writer.flush();
+
+            // 応答を閉じた直後に統計を参照しても反映されているように、閉じる前に記録します。
+            event.report(kind, SOURCE, texts.size(), errorCount);
+            statistics.record(texts.size(), errorCount, System.nanoTime() - start);
+        }
+    }
+
+    private void handleStatistics(HttpExchange exchange) throws IOException {
+        try {
+            if (!exchange.getRequestURI().getPath().equals("/stats")) {
+                sendEmpty(exchange, 404);
+            } else if (!exchange.getRequestMethod().equals("GET")) {
+                exchange.getResponseHeaders().set("Allow", "GET");
+                sendEmpty(exchange, 405);
+            } else {
+                StringBuilder sb = new StringBuilder();
+                statistics.writeJson(sb);
+                send(exchange, 200, sb.toString());
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * <p> 文字列を解析して形成し、結果を書込みます。 </p>
+     *
+     * @param writer 書込み先
+     * @param kind 要素の種類
+     * @param text 属性文または操作文
+     * @return 形成に成功した場合は真
+     * @throws IOException 書込みに失敗した場合
+     */
+    private boolean write(JsonFeatureWriter writer, FeatureKind kind, String text) throws IOException {
+        try {
+            if (kind == FeatureKind.Attribute) {
+                AttributeSculptor sculptor = new AttributeSculptor();
+                sculptor.parse(text);
+                writer.write(sculptor.carve());
+            } else {
+                OperationSculptor sculptor = new OperationSculptor();
+                sculptor.parse(text);
+                writer.write(sculptor.carve());
+            }
+            return true;
+        } catch (RuntimeException e) {
+            writer.writeError(text, e.toString());
+            return false;
+        }
+    }
+
+    /**
+     * <p> リクエスト本文をUTF-8の文字列として読込みます。 </p>
+     *
+     * @param in リクエスト本文
+     * @return リクエスト本文の文字列<br>大きさの上限を超えた場合は{@code null}
+     * @throws IOException 読込みに失敗した場合
+     */
+    private String readBody(InputStream in) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int n;
+        while ((n = in.read(buffer)) != -1) {
+            if (bytes.size() + n > maxBodySize) return null;
+            bytes.write(buffer, 0, n);
+        }
+        return new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private boolean isExactPath(HttpExchange exchange) {
+        return exchange.getRequestURI().getPath().equals(exchange.getHttpContext().getPath());
+    }
+
+    private void send(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", JSON);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private void sendEmpty(HttpExchange exchange, int status) throws IOException {
+        exchange.sendResponseHeaders(status, -1);
+    }
+}
@@ -0,0 +1,36 @@
+package io.github.morichan.fescue.server;
+
+import java.io.IOException;
+
+/**
+ * <p> 解析サービスの起動クラス </p>
+ *
+ * <p>
+ *     {@link FeatureServer}をコマンドラインから起動します。
+ *     第1引数にポート番号（省略時は{@code 8080}）、第2引数に同時に処理するリクエストの数の上限を指定できます。
+ *     JVMを終了すると停止します。
+ * </p>
+ *
+ * <pre>
+ *     {@code
+ *     $ java -classpath fescue-2.1.1.jar:antlr-4.7.1-complete.jar io.github.morichan.fescue.server.Main 8080
+ *     }
+ * </pre>
+ */
+public class Main {
+
+    /**
+     * <p> 解析サービスを起動します。 </p>
+     *
+     * @param args ポート番号と同時に処理するリクエストの数の上限
+     * @throws IOException ポートを確保できなかった場合
+     */
+    public static void main(String[] args) throws IOException {
+        FeatureServer server = new FeatureServer(args.length > 0 ? Integer.parseInt(args[0]) : 8080);
+        if (args.length > 1) server.setMaxConcurrency(Integer.parseInt(args[1]));
+
+        server.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(server::stop));
+        System.out.println("fescue server listening on http://127.0.0.1:" + server.getPort());
+    }
+}
@@ -0,0 +1,141 @@
+package io.github.morichan.fescue.server;
+
+import io.github.morichan.fescue.metrics.Histogram;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p> 解析サービスの統計クラス </p>
+ *
+ * <p>
+ *     {@link FeatureServer}が処理したリクエストの数、要素の数、応答時間の分布を記録します。
+ *     複数スレッドから同時に記録できます。
+ * </p>
+ */
+public class ServerStatistics {
+
+    private final long startedNanos = System.nanoTime();
+
+    private final LongAdder requestCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder featureCount = new LongAdder();
+    private final LongAdder errorCount = new LongAdder();
+    private final Histogram latency = new Histogram();
+
+    /**
+     * <p> 処理したリクエストを記録します。 </p>
+     *
+     * @param features リクエストに含まれていた要素の数
+     * @param errors 形成に失敗した要素の数
+     * @param elapsedNanos リクエストの処理時間（ナノ秒）
+     */
+    void record(int features, int errors, long elapsedNanos) {
+        requestCount.increment();
+        featureCount.add(features);
+        errorCount.add(errors);
+        latency.record(elapsedNanos);
+    }
+
+    /**
+     * <p> 同時実行数の上限を超えたため断ったリクエストを記録します。 </p>
+     */
+    void reject() {
+        rejectedCount.increment();
+    }
+
+    /**
+     * <p> 処理したリクエストの数を取得します。 </p>
+     *
+     * @return 処理したリクエストの数
+     */
+    public long getRequestCount() {
+        return requestCount.sum();
+    }
+
+    /**
+     * <p> 同時実行数の上限を超えたため断ったリクエストの数を取得します。 </p>
+     *
+     * @return 断ったリクエストの数
+     */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    /**
+     * <p> 処理した要素の数を取得します。 </p>
+     *
+     * @return 処理した要素の数
+     */
+    public long getFeatureCount() {
+        return featureCount.sum();
+    }
+
+    /**
+     * <p> 形成に失敗した要素の数を取得します。 </p>
+     *
+     * @return 形成に失敗した要素の数
+     */
+    public long getErrorCount() {
+        return errorCount.sum();
+    }
+
+    /**
+     * <p> リクエストの処理時間（ナノ秒）の分布を取得します。 </p>
+     *
+     * @return 処理時間の分布<br>{@code null}なし
+     */
+    public Histogram getLatency() {
+        return latency;
+    }
+
+    /**
+     * <p> 起動してから1秒あたりに処理した要素の数を取得します。 </p>
+     *
+     * @return 1秒あたりに処理した要素の数
+     */
+    public double getThroughput() {
+        long elapsed = System.nanoTime() - startedNanos;
+        return elapsed <= 0 ? 0.0 : getFeatureCount() * (double) TimeUnit.SECONDS.toNanos(1) / elapsed;
+    }
+
+    /**
+     * <p> 統計をJSON形式で書込みます。 </p>
+     *
+     * <p>
+     *     処理時間はマイクロ秒単位で書込みます。
+     * </p>
+     *
+     * <pre>
+     *     {@code
+     *     {"requests":10,"rejected":0,"features":120,"errors":1,"featuresPerSecond":35.2,
+     *      "latencyMicros":{"mean":812.5,"p50":640,"p90":1536,"p99":2048,"max":2210}}
+     *     }
+     * </pre>
+     *
+     * @param out 書込み先<br>{@code null}不可
+     * @throws IOException 書込みに失敗した場合
+     */
+    public void writeJson(Appendable out) throws IOException {
+        if (out == null) throw new IllegalArgumentException();
+
+        out.append("{\"requests\":").append(Long.toString(getRequestCount()));
+        out.append(",\"rejected\":").append(Long.toString(getRejectedCount()));
+        out.append(",\"features\":").append(Long.toString(getFeatureCount()));
+        out.append(",\"errors\":").append(Long.toString(getErrorCount()));
+        out.append(",\"featuresPerSecond\":").append(Double.toString(getThroughput()));
+        out.append(",\"latencyMicros\":{\"mean\":").append(Double.toString(latency.getMean() / 1000.0));
+        out.append(",\"p50\":").append(Long.toString(toMicros(latency.getPercentile(50.0))));
+        out.append(",\"p90\":").append(Long.toString(toMicros(latency.getPercentile(90.0))));
+        out.append(",\"p99\":").append(Long.toString(toMicros(latency.getPercentile(99.0))));
+        out.append(",\"max\":").append(Long.toString(toMicros(latency.getMax())));
+        out.append("}}\n");
+    }
+
+
+
+    private long toMicros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+}
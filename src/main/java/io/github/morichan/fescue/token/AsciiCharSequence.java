@@ -0,0 +1,64 @@
+package io.github.morichan.fescue.token;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * <p> ASCII文字のバイトバッファを参照する文字列クラス </p>
+ *
+ * <p>
+ *     1バイトを1文字として、バッファを複製せずに参照します。
+ *     バッファの内容がASCII文字のみであることは{@link #isAscii(ByteBuffer)}で事前に確認してください。
+ * </p>
+ */
+class AsciiCharSequence implements CharSequence {
+
+    private final ByteBuffer bytes;
+
+    /**
+     * <p> バイトバッファを参照するコンストラクタ </p>
+     *
+     * @param bytes 位置が{@code 0}で、上限までASCII文字のみのバイトバッファ
+     */
+    AsciiCharSequence(ByteBuffer bytes) {
+        this.bytes = bytes;
+    }
+
+    /**
+     * <p> バイトバッファの位置から上限までがASCII文字のみの場合は真を返す真偽値判定を行います。 </p>
+     *
+     * @param bytes バイトバッファ
+     * @return ASCII文字のみの場合は真を返す真偽値
+     */
+    static boolean isAscii(ByteBuffer bytes) {
+        for (int i = bytes.position(); i < bytes.limit(); i++) if (bytes.get(i) < 0) return false;
+        return true;
+    }
+
+    @Override
+    public int length() {
+        return bytes.limit();
+    }
+
+    @Override
+    public char charAt(int index) {
+        return (char) bytes.get(index);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || end > length() || start > end) throw new IndexOutOfBoundsException();
+
+        ByteBuffer duplicate = bytes.duplicate();
+        duplicate.position(start);
+        duplicate.limit(end);
+        return new AsciiCharSequence(duplicate.slice());
+    }
+
+    @Override
+    public String toString() {
+        byte[] copy = new byte[length()];
+        bytes.duplicate().get(copy);
+        return new String(copy, StandardCharsets.US_ASCII);
+    }
+}
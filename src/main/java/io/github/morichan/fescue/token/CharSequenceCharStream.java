@@ -0,0 +1,249 @@
+package io.github.morichan.fescue.token;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.IntStream;
+import org.antlr.v4.runtime.misc.Interval;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * <p> 文字列を複製せずに参照する文字ストリームクラス </p>
+ *
+ * <p>
+ *     {@link org.antlr.v4.runtime.CharStreams#fromString(String)}は入力文字列をコードポイントの配列に複製しますが、
+ *     このクラスは{@link CharSequence}（{@link String}、{@link StringBuilder}、{@link CharBuffer}など）をそのまま参照します。
+ *     文字列を複製するのは、字句解析器がトークンの文字列を切出す場合（{@link #getText(Interval)}）のみです。
+ * </p>
+ *
+ * <p>
+ *     {@code char}の配列の一部は{@link #of(char[], int, int)}で、バイトバッファの一部は{@link #of(ByteBuffer)}で参照できます。
+ *     ただし、サロゲートペア（補助文字）を含む文字列と、ASCII以外の文字を含むバイトバッファは、
+ *     コードポイント単位で参照するために{@code CharStreams}と同じく複製します。
+ * </p>
+ *
+ * <p>
+ *     参照している文字列を変更した場合の動作は保証しません。
+ *     字句解析器が切出すトークンの文字列は、字句解析の後も参照した時点で入力文字列から切出す場合があります（{@link CompactTokenStream}参照）。
+ *     字句解析の後に呼出し元が文字列を再利用する場合は、{@link #detach()}で複製した文字ストリームに差替えてください。
+ * </p>
+ */
+public class CharSequenceCharStream implements CharStream {
+
+    private final CharSequence text;
+
+    /**
+     * サロゲートペアを含む場合のコードポイントの配列（含まない場合は{@code null}）
+     */
+    private final int[] codePoints;
+
+    private final int size;
+    private final String name;
+    private int index = 0;
+
+    /**
+     * <p> 文字列を参照するコンストラクタ </p>
+     *
+     * <p>
+     *     {@code null}を設定した場合は{@link IllegalArgumentException}を投げます。
+     * </p>
+     *
+     * @param text 文字列<br>{@code null}不可
+     */
+    public CharSequenceCharStream(CharSequence text) {
+        this(text, IntStream.UNKNOWN_SOURCE_NAME);
+    }
+
+    /**
+     * <p> 文字列と入力元の名前を設定するコンストラクタ </p>
+     *
+     * <p>
+     *     {@code null}を設定した場合は{@link IllegalArgumentException}を投げます。
+     * </p>
+     *
+     * @param text 文字列<br>{@code null}不可
+     * @param name 入力元の名前（例、ファイル名）<br>{@code null}不可
+     */
+    public CharSequenceCharStream(CharSequence text, String name) {
+        if (text == null || name == null) throw new IllegalArgumentException();
+
+        this.text = text;
+        this.name = name;
+        codePoints = hasSurrogate(text) ? text.codePoints().toArray() : null;
+        size = codePoints == null ? text.length() : codePoints.length;
+    }
+
+    /**
+     * <p> {@code char}の配列の一部を参照する文字ストリームを生成します。 </p>
+     *
+     * <p>
+     *     配列は{@link CharBuffer#wrap(char[], int, int)}で参照するため、複製しません。
+     *     範囲が配列の外の場合は{@link IndexOutOfBoundsException}を、{@code null}を設定した場合は{@link IllegalArgumentException}を投げます。
+     * </p>
+     *
+     * @param chars 文字の配列<br>{@code null}不可
+     * @param offset 参照を始める位置
+     * @param length 参照する文字数
+     * @return 文字ストリーム
+     */
+    public static CharSequenceCharStream of(char[] chars, int offset, int length) {
+        if (chars == null) throw new IllegalArgumentException();
+        return new CharSequenceCharStream(CharBuffer.wrap(chars, offset, length));
+    }
+
+    /**
+     * <p> バイトバッファの位置から上限までをUTF-8の文字列として参照する文字ストリームを生成します。 </p>
+     *
+     * <p>
+     *     全てのバイトがASCII文字の場合はバッファを複製せずに参照します。
+     *     ASCII以外の文字を含む場合はUTF-8として復号した文字列を参照します。
+     *     どちらの場合もバッファの位置は変更しません。
+     *     {@code null}を設定した場合は{@link IllegalArgumentException}を投げます。
+     * </p>
+     *
+     * @param bytes バイトバッファ<br>{@code null}不可
+     * @return 文字ストリーム
+     */
+    public static CharSequenceCharStream of(ByteBuffer bytes) {
+        return new CharSequenceCharStream(asCharSequence(bytes));
+    }
+
+    /**
+     * <p> バイトバッファの位置から上限までをUTF-8の文字列として参照します。 </p>
+     *
+     * <p>
+     *     {@link #of(ByteBuffer)}と同じく、全てのバイトがASCII文字の場合はバッファを複製せずに参照します。
+     *     {@link io.github.morichan.fescue.sculptor.AttributeSculptor#parse(CharSequence)}などに渡す場合に用います。
+     *     {@code null}を設定した場合は{@link IllegalArgumentException}を投げます。
+     * </p>
+     *
+     * @param bytes バイトバッファ<br>{@code null}不可
+     * @return 文字列
+     */
+    public static CharSequence asCharSequence(ByteBuffer bytes) {
+        if (bytes == null) throw new IllegalArgumentException();
+
+        ByteBuffer slice = bytes.slice();
+        if (AsciiCharSequence.isAscii(slice)) return new AsciiCharSequence(slice);
+        return StandardCharsets.UTF_8.decode(slice);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getText(Interval interval) {
+        int start = Math.min(interval.a, size);
+        int length = Math.min(interval.b - interval.a + 1, size - start);
+        if (length <= 0) return "";
+
+        if (codePoints != null) return new String(codePoints, start, length);
+        return text.subSequence(start, start + length).toString();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void consume() {
+        if (index >= size) throw new IllegalStateException("cannot consume EOF");
+        index++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int LA(int i) {
+        int position;
+        if (i > 0) position = index + i - 1;
+        else if (i < 0) position = index + i;
+        else return 0;
+
+        if (position < 0 || position >= size) return IntStream.EOF;
+        return codePoints != null ? codePoints[position] : text.charAt(position);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int mark() {
+        return -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void release(int marker) {}
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int index() {
+        return index;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void seek(int index) {
+        this.index = index;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getSourceName() {
+        return name;
+    }
+
+    /**
+     * <p> 呼出し元の文字列の変更に影響されない文字ストリームを取得します。 </p>
+     *
+     * <p>
+     *     参照している文字列を{@link String}に複製し、それを参照する文字ストリームを返します。
+     *     現在位置も引継ぎます。
+     *     参照している文字列が{@link String}の場合と、コードポイントの配列に複製済みの場合は変更されないため、複製せずにこのインスタンスを返します。
+     * </p>
+     *
+     * @return 呼出し元の文字列を参照しない文字ストリーム
+     */
+    public CharSequenceCharStream detach() {
+        if (text instanceof String || codePoints != null) return this;
+
+        CharSequenceCharStream detached = new CharSequenceCharStream(text.toString(), name);
+        detached.index = index;
+        return detached;
+    }
+
+    /**
+     * <p> 参照している文字列全体を取得します。 </p>
+     *
+     * @return 文字列全体
+     */
+    @Override
+    public String toString() {
+        return getText(Interval.of(0, size - 1));
+    }
+
+
+
+    private static boolean hasSurrogate(CharSequence text) {
+        for (int i = 0; i < text.length(); i++) if (Character.isSurrogate(text.charAt(i))) return true;
+        return false;
+    }
+}
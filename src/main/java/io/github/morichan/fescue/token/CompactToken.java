@@ -0,0 +1,103 @@
+package io.github.morichan.fescue.token;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenSource;
+
+/**
+ * <p> 配列に格納したトークンの参照クラス </p>
+ *
+ * <p>
+ *     {@link CompactTokenStream}が持つ配列の1要素を{@link Token}として参照します。
+ *     種類や位置は配列から読出し、文字列は参照した時点で入力文字列から切出します。
+ * </p>
+ */
+class CompactToken implements Token {
+
+    private final CompactTokenStream stream;
+    private int index;
+
+    CompactToken(CompactTokenStream stream, int index) {
+        this.stream = stream;
+        this.index = index;
+    }
+
+    /**
+     * <p> 参照する要素を変更します。 </p>
+     *
+     * <p>
+     *     字句解析中に1つのインスタンスを使い回すためのメソッドです。
+     * </p>
+     *
+     * @param index 参照するトークンの番号
+     */
+    void setTokenIndex(int index) {
+        this.index = index;
+    }
+
+    @Override
+    public String getText() {
+        return stream.getTokenText(index);
+    }
+
+    @Override
+    public int getType() {
+        return stream.getType(index);
+    }
+
+    @Override
+    public int getLine() {
+        return stream.getLine(index);
+    }
+
+    @Override
+    public int getCharPositionInLine() {
+        return stream.getCharPositionInLine(index);
+    }
+
+    @Override
+    public int getChannel() {
+        return stream.getChannel(index);
+    }
+
+    @Override
+    public int getTokenIndex() {
+        return index;
+    }
+
+    @Override
+    public int getStartIndex() {
+        return stream.getStartIndex(index);
+    }
+
+    @Override
+    public int getStopIndex() {
+        return stream.getStopIndex(index);
+    }
+
+    @Override
+    public TokenSource getTokenSource() {
+        return stream.getTokenSource();
+    }
+
+    @Override
+    public CharStream getInputStream() {
+        return stream.getInputStream();
+    }
+
+    /**
+     * <p> トークンの文字列を取得します。 </p>
+     *
+     * <p>
+     *     {@link org.antlr.v4.runtime.CommonToken#toString()}と同じ形式です。
+     * </p>
+     *
+     * @return トークンの文字列
+     */
+    @Override
+    public String toString() {
+        String text = getText().replace("\n", "\\n").replace("\r", "\\r").replace("\t", "\\t");
+        String channel = getChannel() > 0 ? ",channel=" + getChannel() : "";
+        return "[@" + index + "," + getStartIndex() + ":" + getStopIndex() + "='" + text + "',<" + getType() + ">" + channel + "," + getLine() + ":" + getCharPositionInLine() + "]";
+    }
+}
@@ -0,0 +1,401 @@
+package io.github.morichan.fescue.token;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonTokenFactory;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.RuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenFactory;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.misc.Interval;
+import org.antlr.v4.runtime.misc.Pair;
+
+import java.util.Arrays;
+
+/**
+ * <p> 配列でトークンを保持するトークンストリームクラス </p>
+ *
+ * <p>
+ *     {@link org.antlr.v4.runtime.CommonTokenStream}と同じく、既定のチャネルのトークンのみを構文解析機に渡すトークンストリームです。
+ *     ただし、トークンごとにインスタンスを生成せず、種類、開始位置、終了位置、チャネルを1つの{@code int}の配列にまとめて保持します。
+ *     行と行内の位置は保持せず、参照した時点で入力文字列から求めます。
+ *     {@link Token}のインスタンスは{@link #get(int)}や{@link #LT(int)}で初めて参照した時点で生成し、その文字列も参照した時点で入力文字列から切出します。
+ *     構文解析機の先読み（{@link #LA(int)}）は配列のみを参照するため、空白などの非表示チャネルのトークンは最後までインスタンスを生成しません。
+ * </p>
+ *
+ * <p>
+ *     トークンの文字列を参照した時点で切出すため、構文解析の後も入力文字列を参照し続けます。
+ *     入力文字列が呼出し元で再利用される場合は、構文解析の後に{@link #detachInput()}を実行してください。
+ * </p>
+ *
+ * <p>
+ *     字句解析はコンストラクタで全て行います。
+ *     その間は字句解析器のトークン生成器を配列に書込む生成器に差替え、終わった後は{@link CommonTokenFactory#DEFAULT}に戻します。
+ *     そのため、構文解析機がエラー回復のためにトークンを補う場合は通常のトークンを生成します。
+ * </p>
+ *
+ * <pre>
+ *     {@code
+ *     ClassFeatureLexer lexer = new ClassFeatureLexer(CharStreams.fromString("- number : int"));
+ *     ClassFeatureParser parser = new ClassFeatureParser(new CompactTokenStream(lexer));
+ *     }
+ * </pre>
+ */
+public class CompactTokenStream implements TokenStream {
+
+    /**
+     * 1つのトークンが{@link #data}で占める要素数
+     */
+    private static final int STRIDE = 4;
+
+    private static final int TYPE = 0;
+    private static final int START = 1;
+    private static final int STOP = 2;
+    private static final int CHANNEL = 3;
+
+    private final Lexer tokenSource;
+    private CharStream input;
+
+    /**
+     * <p> トークンの種類、開始位置、終了位置、チャネルを順に並べた配列 </p>
+     *
+     * <p>
+     *     終端以外のトークンは1文字以上のため、トークンの数は入力文字列の長さ+1以下です。
+     *     そのため、最初にその長さで確保し、通常は拡張しません。
+     * </p>
+     */
+    private int[] data;
+
+    /**
+     * 字句解析器のアクションで文字列を設定したトークンの文字列（ない場合は{@code null}のまま）
+     */
+    private String[] texts;
+
+    /**
+     * 生成済みのトークン
+     */
+    private Token[] tokens;
+
+    private int size = 0;
+    private int p;
+
+    /**
+     * <p> 字句解析器を設定するコンストラクタ </p>
+     *
+     * <p>
+     *     入力文字列の終端まで字句解析を行います。
+     *     {@code null}を設定した場合は{@link IllegalArgumentException}を投げます。
+     * </p>
+     *
+     * @param lexer 字句解析器<br>{@code null}不可
+     */
+    public CompactTokenStream(Lexer lexer) {
+        if (lexer == null) throw new IllegalArgumentException();
+
+        tokenSource = lexer;
+        input = lexer.getInputStream();
+        data = new int[(input.size() + 1) * STRIDE];
+
+        TokenFactory<?> original = lexer.getTokenFactory();
+        lexer.setTokenFactory(new RecordingTokenFactory());
+        try {
+            do {
+                lexer.nextToken();
+            } while (getType(size - 1) != Token.EOF);
+        } finally {
+            lexer.setTokenFactory(original instanceof RecordingTokenFactory ? CommonTokenFactory.DEFAULT : original);
+        }
+
+        tokens = new Token[size];
+        p = nextOnChannel(0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Token LT(int k) {
+        if (k == 0) return null;
+        int i = indexOf(k);
+        return i < 0 ? null : get(i);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int LA(int i) {
+        int index = indexOf(i);
+        return index < 0 ? Token.INVALID_TYPE : getType(index);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Token get(int i) {
+        if (i < 0 || i >= size) throw new IndexOutOfBoundsException("token index " + i + " out of range 0.." + (size - 1));
+
+        Token token = tokens[i];
+        if (token == null) tokens[i] = token = new CompactToken(this, i);
+        return token;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void consume() {
+        if (getType(p) == Token.EOF) throw new IllegalStateException("cannot consume EOF");
+        p = nextOnChannel(p + 1);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int mark() {
+        return 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void release(int marker) {}
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int index() {
+        return p;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void seek(int index) {
+        p = nextOnChannel(Math.max(0, index));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getSourceName() {
+        return tokenSource.getSourceName();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TokenSource getTokenSource() {
+        return tokenSource;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getText(Interval interval) {
+        int start = Math.max(0, interval.a);
+        int stop = Math.min(size - 1, interval.b);
+        if (start > stop) return "";
+
+        StringBuilder sb = new StringBuilder();
+        for (int i = start; i <= stop && getType(i) != Token.EOF; i++) sb.append(getTokenText(i));
+        return sb.toString();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getText() {
+        return getText(Interval.of(0, size - 1));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getText(RuleContext ctx) {
+        return getText(ctx.getSourceInterval());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getText(Token start, Token stop) {
+        if (start == null || stop == null) return "";
+        return getText(Interval.of(start.getTokenIndex(), stop.getTokenIndex()));
+    }
+
+    /**
+     * <p> 入力文字列を呼出し元の文字列から切離します。 </p>
+     *
+     * <p>
+     *     入力文字列が{@link CharSequenceCharStream}の場合は{@link CharSequenceCharStream#detach()}で差替え、以降のトークンの文字列をその複製から切出します。
+     *     そのため、このメソッドの後は呼出し元が文字列を変更しても、トークンの文字列は変わりません。
+     *     それ以外の文字ストリームは入力文字列を複製済みのため、何もしません。
+     *     字句解析器の文字ストリーム（{@link Lexer#getInputStream()}）は差替えません。
+     * </p>
+     */
+    public void detachInput() {
+        if (input instanceof CharSequenceCharStream) input = ((CharSequenceCharStream) input).detach();
+    }
+
+    /**
+     * <p> 入力文字列を取得します。 </p>
+     *
+     * @return 字句解析器の入力文字列
+     */
+    CharStream getInputStream() {
+        return input;
+    }
+
+    String getTokenText(int i) {
+        if (texts != null && texts[i] != null) return texts[i];
+        if (getType(i) == Token.EOF) return "<EOF>";
+        return input.getText(Interval.of(getStartIndex(i), getStopIndex(i)));
+    }
+
+    int getType(int i) {
+        return data[i * STRIDE + TYPE];
+    }
+
+    int getStartIndex(int i) {
+        return data[i * STRIDE + START];
+    }
+
+    int getStopIndex(int i) {
+        return data[i * STRIDE + STOP];
+    }
+
+    int getChannel(int i) {
+        return data[i * STRIDE + CHANNEL];
+    }
+
+    /**
+     * <p> トークンの行番号を求めます。 </p>
+     *
+     * <p>
+     *     字句解析器と同じく、開始位置より前の改行文字（{@code '\n'}）の数+1です。
+     *     主にエラーメッセージでのみ参照するため、保持せずに毎回求めます。
+     * </p>
+     *
+     * @param i トークンの番号
+     * @return {@code 1}から始まる行番号
+     */
+    int getLine(int i) {
+        String before = textBefore(i);
+        int line = 1;
+        for (int j = before.indexOf('\n'); j >= 0; j = before.indexOf('\n', j + 1)) line++;
+        return line;
+    }
+
+    /**
+     * <p> トークンの行内の位置を求めます。 </p>
+     *
+     * @param i トークンの番号
+     * @return {@code 0}から始まる行内の位置
+     */
+    int getCharPositionInLine(int i) {
+        String before = textBefore(i);
+        return before.length() - (before.lastIndexOf('\n') + 1);
+    }
+
+
+
+    /**
+     * <p> 字句解析器が生成するトークンを配列に書込むトークン生成器 </p>
+     *
+     * <p>
+     *     字句解析器には1つのトークンを使い回して返します。
+     *     返したトークンは字句解析器の内部でのみ使われ、構文解析機には渡りません。
+     * </p>
+     */
+    private class RecordingTokenFactory implements TokenFactory<Token> {
+
+        private final CompactToken flyweight = new CompactToken(CompactTokenStream.this, 0);
+
+        @Override
+        public Token create(Pair<TokenSource, CharStream> source, int type, String text, int channel, int start, int stop, int line, int charPositionInLine) {
+            if ((size + 1) * STRIDE > data.length) grow();
+
+            int offset = size * STRIDE;
+            data[offset + TYPE] = type;
+            data[offset + START] = start;
+            data[offset + STOP] = stop;
+            data[offset + CHANNEL] = channel;
+            if (text != null) {
+                if (texts == null) texts = new String[data.length / STRIDE];
+                texts[size] = text;
+            }
+            flyweight.setTokenIndex(size);
+            size++;
+            return flyweight;
+        }
+
+        @Override
+        public Token create(int type, String text) {
+            return CommonTokenFactory.DEFAULT.create(type, text);
+        }
+    }
+
+    private void grow() {
+        data = Arrays.copyOf(data, data.length * 2);
+        if (texts != null) texts = Arrays.copyOf(texts, data.length / STRIDE);
+    }
+
+    private String textBefore(int i) {
+        int start = getStartIndex(i);
+        return start <= 0 ? "" : input.getText(Interval.of(0, Math.min(start, input.size()) - 1));
+    }
+
+    /**
+     * <p> 指定した番号以降で最初の既定のチャネルのトークンの番号を求めます。 </p>
+     *
+     * @param i 探し始めるトークンの番号
+     * @return 既定のチャネルのトークンまたは終端のトークンの番号
+     */
+    private int nextOnChannel(int i) {
+        if (i >= size) return size - 1;
+        while (getChannel(i) != Token.DEFAULT_CHANNEL && getType(i) != Token.EOF) i++;
+        return i;
+    }
+
+    /**
+     * <p> 現在位置から数えて{@code k}番目の既定のチャネルのトークンの番号を求めます。 </p>
+     *
+     * @param k 正の場合は先読み、負の場合は後読みする数（{@code 0}不可）
+     * @return トークンの番号<br>後読みで先頭を越えた場合は{@code -1}
+     */
+    private int indexOf(int k) {
+        int i = p;
+        if (k > 0) {
+            for (int n = 1; n < k && getType(i) != Token.EOF; n++) i = nextOnChannel(i + 1);
+            return i;
+        }
+        for (int n = 0; n < -k; n++) {
+            do {
+                i--;
+            } while (i >= 0 && getChannel(i) != Token.DEFAULT_CHANNEL);
+            if (i < 0) return -1;
+        }
+        return i;
+    }
+}
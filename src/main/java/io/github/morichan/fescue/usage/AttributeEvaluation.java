@@ -5,9 +5,6 @@ import io.github.morichan.fescue.evaluation.FeatureEvaluation;
 import org.antlr.v4.runtime.InputMismatchException;
 import io.github.morichan.fescue.parser.ClassFeatureParser;
 
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * <p> 属性における要素の抽出クラス </p>
  *
@@ -40,9 +37,9 @@ import java.util.List;
 public class AttributeEvaluation extends FeatureEvaluation {
 
     /**
-     * 属性文コンテキスト
+     * 属性文コンテキストからの抽出結果
      */
-    private ClassFeatureParser.PropertyContext context;
+    private AttributeExtraction extraction;
 
     /**
      * 属性文
@@ -53,16 +50,14 @@ public class AttributeEvaluation extends FeatureEvaluation {
      * <p> 属性文を設定します。 </p>
      *
      * <p>
-     *     {@code "\\.\\."}という文字列（2つ連続したドット）が存在した場合、その両端に半角スペースを挿入します。
-     *     これは、多重度における下限と上限の指定の箇所をパースする際に、半角スペースが入っていない場合はうまくパースできないためです。
-     *     詳しくは{@link #insertSpaceBothEndsOfRangeOperator(String)}を参照してください。
+     *     多重度の範囲演算子（{@code ".."}）は字句解析器が区切るため、その両端に半角スペースは必要ありません。
      * </p>
      *
-     * @param text 設定する属性文 {@code null}不可（{@link #insertSpaceBothEndsOfRangeOperator(String)}で{@link IllegalArgumentException}を投げる。）
+     * @param text 設定する属性文 {@code null}不可（{@link #walk()}で{@link IllegalArgumentException}を投げる。）
      */
     @Override
     public void setText(String text) {
-        attribute = insertSpaceBothEndsOfRangeOperator(text);
+        attribute = text;
     }
 
     /**
@@ -85,6 +80,7 @@ public class AttributeEvaluation extends FeatureEvaluation {
      * <p> 字句解析と構文解析を行い、構文解析木を走査します。 </p>
      *
      * <p>
+     *     走査した時点で全ての要素を抽出するため、各抽出メソッドは構文解析木を走査しません。
      *     属性文を設定していない場合は{@link IllegalArgumentException}を投げます。
      * </p>
      */
@@ -95,7 +91,7 @@ public class AttributeEvaluation extends FeatureEvaluation {
 
         ClassFeatureParser parser = generateParser(attribute);
         FeatureEvalListener listener = walk(parser.property());
-        context = listener.getProperty();
+        extraction = new AttributeExtraction(listener.getProperty());
 
         try {
             extractName();
@@ -127,18 +123,10 @@ public class AttributeEvaluation extends FeatureEvaluation {
      * @return 属性名
      */
     public String extractName() {
-        String name = null;
-
-        for (int i = 0; i < context.getChildCount(); i++) {
-            if (context.getChild(i) instanceof ClassFeatureParser.NameContext) {
-                name = context.getChild(i).getText();
-                break;
-            }
-            if (context.exception != null) throw context.exception;
-        }
-        if (name == null) throw new IllegalArgumentException();
+        if (extraction.getNameException() != null) throw extraction.getNameException();
+        if (extraction.getName() == null) throw new IllegalArgumentException();
 
-        return name;
+        return extraction.getName();
     }
 
     /**
@@ -156,16 +144,7 @@ public class AttributeEvaluation extends FeatureEvaluation {
      * @return 可視性 {@code null}の可能性あり
      */
     public String extractVisibility() {
-        String visibility = null;
-
-        for (int i = 0; i < context.getChildCount(); i++) {
-            if (context.getChild(i) instanceof ClassFeatureParser.VisibilityContext) {
-                visibility = context.getChild(i).getText();
-                break;
-            }
-        }
-
-        return visibility;
+        return extraction.getVisibility();
     }
 
     /**
@@ -183,16 +162,7 @@ public class AttributeEvaluation extends FeatureEvaluation {
      * @return 派生 {@code null}の可能性あり
      */
     public String extractDivided() {
-        String divided = null;
-
-        for (int i = 0; i < context.getChildCount(); i++) {
-            if (context.getChild(i) instanceof ClassFeatureParser.DividedContext) {
-                divided = context.getChild(i).getText();
-                break;
-            }
-        }
-
-        return divided;
+        return extraction.getDivided();
     }
 
     /**
@@ -214,14 +184,7 @@ public class AttributeEvaluation extends FeatureEvaluation {
      * @return 型 {@code null}の可能性あり
      */
     public String extractPropType() {
-        String propType = null;
-
-        for (int i = 0; i < context.getChildCount(); i++) {
-            if (context.getChild(i) instanceof ClassFeatureParser.PropTypeContext) {
-                propType = context.getChild(i).getChild(0).getChild(1).getText();
-                break;
-            }
-        }
+        String propType = extraction.getPropType();
         checkIfNameIsSamePrimitiveType();
 
         return propType;
@@ -247,16 +210,7 @@ public class AttributeEvaluation extends FeatureEvaluation {
      * @return 多重度における下限
      */
     public String extractMultiplicityRangeLower() {
-        String multiplicityRangeLower = null;
-
-        for (int i = 0; i < context.getChildCount(); i++) {
-            if (context.getChild(i) instanceof ClassFeatureParser.MultiplicityRangeContext) {
-                if (context.getChild(i).getChild(1) instanceof ClassFeatureParser.LowerContext) {
-                    multiplicityRangeLower = formatMultiplicityRangeExpression((ClassFeatureParser.LowerContext) context.getChild(i).getChild(1));
-                    break;
-                }
-            }
-        }
+        String multiplicityRangeLower = extraction.getMultiplicityRangeLower();
         checkIfNameIsSamePrimitiveType();
 
         return multiplicityRangeLower;
@@ -281,18 +235,7 @@ public class AttributeEvaluation extends FeatureEvaluation {
      * @return 多重度における上限
      */
     public String extractMultiplicityRangeUpper() {
-        String multiplicityRangeUpper = null;
-
-        for (int i = 0; i < context.getChildCount(); i++) {
-            if (context.getChild(i) instanceof ClassFeatureParser.MultiplicityRangeContext) {
-                if (context.getChild(i).getChild(1) instanceof ClassFeatureParser.UpperContext) {
-                    multiplicityRangeUpper = formatMultiplicityRangeExpression((ClassFeatureParser.UpperContext) context.getChild(i).getChild(1));
-                } else {
-                    multiplicityRangeUpper = formatMultiplicityRangeExpression((ClassFeatureParser.UpperContext) context.getChild(i).getChild(3));
-                }
-                break;
-            }
-        }
+        String multiplicityRangeUpper = extraction.getMultiplicityRangeUpper();
         checkIfNameIsSamePrimitiveType();
 
         return multiplicityRangeUpper;
@@ -317,23 +260,7 @@ public class AttributeEvaluation extends FeatureEvaluation {
      * @return 既定値
      */
     public String extractDefaultValue() {
-        String defaultValue = null;
-
-        for (int i = 0; i < context.getChildCount(); i++) {
-            if (context.getChild(i) instanceof ClassFeatureParser.DefaultValueContext) {
-                if (context.getChild(i).getChild(1).getChild(1) instanceof ClassFeatureParser.CreatorContext) {
-                    StringBuilder sb = new StringBuilder();
-                    sb.append("new ");
-                    for (int j = 0; j < context.getChild(i).getChild(1).getChild(1).getChildCount(); j++) {
-                        sb.append(context.getChild(i).getChild(1).getChild(1).getChild(j).getText());
-                    }
-                    defaultValue = new String(sb);
-                } else {
-                    defaultValue = formatExpression((ClassFeatureParser.ExpressionContext) context.getChild(i).getChild(1));
-                }
-                break;
-            }
-        }
+        String defaultValue = extraction.getDefaultValue();
         checkIfNameIsSamePrimitiveType();
 
         return defaultValue;
@@ -358,149 +285,9 @@ public class AttributeEvaluation extends FeatureEvaluation {
      * @return プロパティ
      */
     public String extractPropModifier() {
-        String propModifier = null;
-
-        for (int i = 0; i < context.getChildCount(); i++) {
-            if (context.getChild(i) instanceof ClassFeatureParser.PropModifiersContext) {
-                List<String> modifiers = new ArrayList<>();
-                for (int j = 0; j < context.getChild(i).getChild(0).getChildCount(); j++) {
-                    if (context.getChild(i).getChild(0).getChild(j) instanceof ClassFeatureParser.PropModifierContext) {
-                        if (context.getChild(i).getChild(0).getChild(j).getChildCount() == 2) {
-                            modifiers.add(context.getChild(i).getChild(0).getChild(j).getChild(0).getText() + " " + context.getChild(i).getChild(0).getChild(j).getChild(1).getText());
-                        } else {
-                            modifiers.add(context.getChild(i).getChild(0).getChild(j).getText());
-                        }
-                    }
-                }
-                propModifier = String.join(", ", modifiers);
-                break;
-            }
-        }
+        String propModifier = extraction.getPropModifier();
         checkIfNameIsSamePrimitiveType();
 
         return propModifier;
     }
-
-
-
-    /**
-     * <p> 式の文章を整形します。 </p>
-     *
-     * <p>
-     *     次の場合、トークン間にスペースを挿入します。
-     * </p>
-     *
-     * <ul>
-     *     <li> {@code numberOrExpression ([+*%/-] | '<=' | '>=' | '>' | '<' | '==' | '!=' | '&&' | 'and' | 'AND' | '||' | 'or' | 'OR') numberOrExpression} </li>
-     *     <li> {@code ('!' | 'not' | 'NOT') numberOrExpression} </li>
-     * </ul>
-     *
-     * @param ctx 式のコンテキスト
-     * @return 式の文章
-     */
-    private String formatExpression(ClassFeatureParser.ExpressionContext ctx) {
-        String text;
-
-        if (ctx.getChildCount() == 2) {
-            if (ctx.getChild(1) instanceof ClassFeatureParser.ExpressionContext && (ctx.getChild(0).getText().equals("!") || ctx.getChild(0).getText().equals("not") || ctx.getChild(0).getText().equals("NOT"))) {
-                text = ctx.getChild(0).getText() + " " + formatExpression((ClassFeatureParser.ExpressionContext) ctx.getChild(1));
-            } else if (ctx.getChild(1) instanceof ClassFeatureParser.ExpressionContext) {
-                text = ctx.getChild(0).getText() + formatExpression((ClassFeatureParser.ExpressionContext) ctx.getChild(1));
-            } else {
-                text = ctx.getText();
-            }
-
-        } else if (ctx.getChildCount() == 3) {
-            if (ctx.getChild(0) instanceof ClassFeatureParser.ExpressionContext && ctx.getChild(2) instanceof ClassFeatureParser.ExpressionContext) {
-                text = formatExpression((ClassFeatureParser.ExpressionContext) ctx.getChild(0)) + " " + ctx.getChild(1).getText() + " " + formatExpression((ClassFeatureParser.ExpressionContext) ctx.getChild(2));
-            } else if (ctx.getChild(1) instanceof ClassFeatureParser.ExpressionContext) {
-                text = ctx.getChild(0).getText() + formatExpression((ClassFeatureParser.ExpressionContext) ctx.getChild(1)) + ctx.getChild(2).getText();
-            } else {
-                text = ctx.getText();
-            }
-
-        } else {
-            text = ctx.getText();
-        }
-
-        return text;
-    }
-
-    /**
-     * <p> 多重度における下限の文章を整形します。 </p>
-     *
-     * <ul>
-     *     <li> value-specificationの場合は"()"で囲んだ文字列を返します（{@link #formatMultiplicityRangeExpression(ClassFeatureParser.ValueSpecificationContext)}を参照）。 </li>
-     *     <li> 数値の場合は数値の文字列を返します。 </li>
-     * </ul>
-     *
-     * @param ctx 多重度における下限のコンテキスト
-     * @return 多重度における下限の文章
-     */
-    private String formatMultiplicityRangeExpression(ClassFeatureParser.LowerContext ctx) {
-        String text;
-
-        if (ctx.getChild(0) instanceof ClassFeatureParser.ValueSpecificationContext) {
-            text = formatMultiplicityRangeExpression((ClassFeatureParser.ValueSpecificationContext) ctx.getChild(0));
-        } else {
-            text = ctx.getText();
-        }
-
-        return text;
-    }
-
-    /**
-     * <p> 多重度における上限の文章を整形します。 </p>
-     *
-     * <ul>
-     *     <li> value-specificationの場合は"()"で囲んだ文字列を返します（{@link #formatMultiplicityRangeExpression(ClassFeatureParser.ValueSpecificationContext)}を参照）。 </li>
-     *     <li> {@code "*"}の場合はそのものを返します。 </li>
-     *     <li> 数値の場合は数値の文字列を返します。 </li>
-     * </ul>
-     *
-     * @param ctx 多重度における上限のコンテキスト
-     * @return 多重度における上限の文章
-     */
-    private String formatMultiplicityRangeExpression(ClassFeatureParser.UpperContext ctx) {
-        String text;
-
-        if (ctx.getChild(0) instanceof ClassFeatureParser.ValueSpecificationContext) {
-            text = formatMultiplicityRangeExpression((ClassFeatureParser.ValueSpecificationContext) ctx.getChild(0));
-        } else {
-            text = ctx.getText();
-        }
-
-        return text;
-    }
-
-    /**
-     * <p> 多重度における下限または上限のvalue-specificationの文章を整形します。 </p>
-     *
-     * <p>
-     *     {@link #formatMultiplicityRangeExpression(ClassFeatureParser.LowerContext)}または{@link #formatMultiplicityRangeExpression(ClassFeatureParser.UpperContext)}で利用します。
-     *     単語を{@code " "}で区切った文を{@code ", "}で区切った文章に整形し、それを{@code "()"}で囲んだ文字列を返します。
-     * </p>
-     *
-     * @param ctx 多重度における下限または上限のvalue-specificationコンテキスト
-     * @return 単語を{@code " "}で区切った文を{@code ", "}で区切った文章に整形し{@code "()"}で囲んだ文字列
-     */
-    private String formatMultiplicityRangeExpression(ClassFeatureParser.ValueSpecificationContext ctx) {
-        String text = "(";
-        List<String> expressions = new ArrayList<>();
-        List<String> expression = new ArrayList<>();
-
-        // 括弧 "(" と括弧閉じ ")" を無視
-        for (int i = 1; i < ctx.getChildCount() - 1; i++) {
-            if (ctx.getChild(i) instanceof ClassFeatureParser.ExpressionContext) {
-                expression.add(formatExpression((ClassFeatureParser.ExpressionContext) ctx.getChild(i)));
-            } else {
-                expressions.add(String.join(" ", expression));
-                expression.clear();
-            }
-        }
-        expressions.add(String.join(" ", expression));
-        text += String.join(", ", expressions) + ")";
-
-        return text;
-    }
 }
@@ -0,0 +1,374 @@
+package io.github.morichan.fescue.usage;
+
+import io.github.morichan.fescue.parser.ClassFeatureParser;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.tree.ParseTree;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p> 属性文コンテキストからの抽出結果クラス </p>
+ *
+ * <p>
+ *     {@link AttributeEvaluation}の各抽出メソッドが返す文字列を、属性文コンテキストの子を1回走査するだけで全て求めて保持します。
+ *     抽出時に例外が発生した要素は、その例外を保持して対応する取得メソッドで投げます（{@link Extracted}参照）。
+ *     生成後は変更できません。
+ * </p>
+ */
+final class AttributeExtraction {
+
+    private final String name;
+    private final RecognitionException nameException;
+    private final String visibility;
+    private final String divided;
+    private final Extracted propType;
+    private final Extracted multiplicityRangeLower;
+    private final Extracted multiplicityRangeUpper;
+    private final Extracted defaultValue;
+    private final Extracted propModifier;
+
+    /**
+     * <p> 属性文コンテキストから全ての要素を抽出するコンストラクタ </p>
+     *
+     * <p>
+     *     各要素は最初に現れたものを抽出します。
+     *     属性名より前に子が存在し、構文解析で例外が発生していた場合は、その例外を属性名の抽出時に投げる例外として保持します。
+     * </p>
+     *
+     * @param context 属性文コンテキスト<br>{@code null}不可
+     */
+    AttributeExtraction(ClassFeatureParser.PropertyContext context) {
+        String name = null;
+        int nameIndex = -1;
+        String visibility = null;
+        String divided = null;
+        Extracted propType = null;
+        Extracted lower = null;
+        Extracted upper = null;
+        Extracted defaultValue = null;
+        Extracted propModifier = null;
+
+        for (int i = 0; i < context.getChildCount(); i++) {
+            ParseTree child = context.getChild(i);
+
+            if (child instanceof ClassFeatureParser.NameContext) {
+                if (name == null) {
+                    name = child.getText();
+                    nameIndex = i;
+                }
+
+            } else if (child instanceof ClassFeatureParser.VisibilityContext) {
+                if (visibility == null) visibility = child.getText();
+
+            } else if (child instanceof ClassFeatureParser.DividedContext) {
+                if (divided == null) divided = child.getText();
+
+            } else if (child instanceof ClassFeatureParser.PropTypeContext) {
+                if (propType == null) propType = Extracted.of(() -> child.getChild(0).getChild(1).getText());
+
+            } else if (child instanceof ClassFeatureParser.MultiplicityRangeContext) {
+                if (lower == null && child.getChild(1) instanceof ClassFeatureParser.LowerContext) {
+                    lower = Extracted.of(() -> formatMultiplicityRangeExpression((ClassFeatureParser.LowerContext) child.getChild(1)));
+                }
+                if (upper == null) upper = Extracted.of(() -> formatMultiplicityRangeUpper((ClassFeatureParser.MultiplicityRangeContext) child));
+
+            } else if (child instanceof ClassFeatureParser.DefaultValueContext) {
+                if (defaultValue == null) defaultValue = Extracted.of(() -> formatDefaultValue((ClassFeatureParser.DefaultValueContext) child));
+
+            } else if (child instanceof ClassFeatureParser.PropModifiersContext) {
+                if (propModifier == null) propModifier = Extracted.of(() -> formatPropModifiers((ClassFeatureParser.PropModifiersContext) child));
+            }
+        }
+
+        boolean hasChildBeforeName = nameIndex != 0 && context.getChildCount() > 0;
+        this.name = name;
+        this.nameException = hasChildBeforeName ? context.exception : null;
+        this.visibility = visibility;
+        this.divided = divided;
+        this.propType = propType;
+        this.multiplicityRangeLower = lower;
+        this.multiplicityRangeUpper = upper;
+        this.defaultValue = defaultValue;
+        this.propModifier = propModifier;
+    }
+
+    /**
+     * <p> 属性名を取得します。 </p>
+     *
+     * @return 属性名 {@code null}の可能性あり
+     */
+    String getName() {
+        return name;
+    }
+
+    /**
+     * <p> 属性名の抽出時に投げる例外を取得します。 </p>
+     *
+     * @return 構文解析で発生した例外 {@code null}の可能性あり
+     */
+    RecognitionException getNameException() {
+        return nameException;
+    }
+
+    /**
+     * <p> 可視性を取得します。 </p>
+     *
+     * @return 可視性 {@code null}の可能性あり
+     */
+    String getVisibility() {
+        return visibility;
+    }
+
+    /**
+     * <p> 派生を取得します。 </p>
+     *
+     * @return 派生 {@code null}の可能性あり
+     */
+    String getDivided() {
+        return divided;
+    }
+
+    /**
+     * <p> 型を取得します。 </p>
+     *
+     * <p>
+     *     抽出時に例外が発生していた場合は、その例外を投げます。
+     * </p>
+     *
+     * @return 型 {@code null}の可能性あり
+     */
+    String getPropType() {
+        return propType == null ? null : propType.get();
+    }
+
+    /**
+     * <p> 多重度における下限を取得します。 </p>
+     *
+     * <p>
+     *     抽出時に例外が発生していた場合は、その例外を投げます。
+     * </p>
+     *
+     * @return 多重度における下限 {@code null}の可能性あり
+     */
+    String getMultiplicityRangeLower() {
+        return multiplicityRangeLower == null ? null : multiplicityRangeLower.get();
+    }
+
+    /**
+     * <p> 多重度における上限を取得します。 </p>
+     *
+     * <p>
+     *     抽出時に例外が発生していた場合は、その例外を投げます。
+     * </p>
+     *
+     * @return 多重度における上限 {@code null}の可能性あり
+     */
+    String getMultiplicityRangeUpper() {
+        return multiplicityRangeUpper == null ? null : multiplicityRangeUpper.get();
+    }
+
+    /**
+     * <p> 既定値を取得します。 </p>
+     *
+     * <p>
+     *     抽出時に例外が発生していた場合は、その例外を投げます。
+     * </p>
+     *
+     * @return 既定値 {@code null}の可能性あり
+     */
+    String getDefaultValue() {
+        return defaultValue == null ? null : defaultValue.get();
+    }
+
+    /**
+     * <p> プロパティを取得します。 </p>
+     *
+     * <p>
+     *     抽出時に例外が発生していた場合は、その例外を投げます。
+     * </p>
+     *
+     * @return プロパティ {@code null}の可能性あり
+     */
+    String getPropModifier() {
+        return propModifier == null ? null : propModifier.get();
+    }
+
+
+
+    /**
+     * <p> 多重度における上限の文章を整形します。 </p>
+     *
+     * <p>
+     *     上限のみの場合は2番目の子、下限と上限の場合は4番目の子を上限として整形します。
+     * </p>
+     *
+     * @param ctx 多重度のコンテキスト
+     * @return 多重度における上限の文章
+     */
+    private static String formatMultiplicityRangeUpper(ClassFeatureParser.MultiplicityRangeContext ctx) {
+        if (ctx.getChild(1) instanceof ClassFeatureParser.UpperContext) {
+            return formatMultiplicityRangeExpression((ClassFeatureParser.UpperContext) ctx.getChild(1));
+        }
+        return formatMultiplicityRangeExpression((ClassFeatureParser.UpperContext) ctx.getChild(3));
+    }
+
+    /**
+     * <p> 既定値の文章を整形します。 </p>
+     *
+     * @param ctx 既定値のコンテキスト
+     * @return 既定値の文章
+     */
+    private static String formatDefaultValue(ClassFeatureParser.DefaultValueContext ctx) {
+        if (ctx.getChild(1).getChild(1) instanceof ClassFeatureParser.CreatorContext) {
+            StringBuilder sb = new StringBuilder();
+            sb.append("new ");
+            for (int j = 0; j < ctx.getChild(1).getChild(1).getChildCount(); j++) {
+                sb.append(ctx.getChild(1).getChild(1).getChild(j).getText());
+            }
+            return sb.toString();
+        }
+        return formatExpression((ClassFeatureParser.ExpressionContext) ctx.getChild(1));
+    }
+
+    /**
+     * <p> プロパティの文章を整形します。 </p>
+     *
+     * @param ctx プロパティのコンテキスト
+     * @return プロパティを{@code ", "}で区切った文章
+     */
+    private static String formatPropModifiers(ClassFeatureParser.PropModifiersContext ctx) {
+        List<String> modifiers = new ArrayList<>();
+        for (int j = 0; j < ctx.getChild(0).getChildCount(); j++) {
+            if (ctx.getChild(0).getChild(j) instanceof ClassFeatureParser.PropModifierContext) {
+                if (ctx.getChild(0).getChild(j).getChildCount() == 2) {
+                    modifiers.add(ctx.getChild(0).getChild(j).getChild(0).getText() + " " + ctx.getChild(0).getChild(j).getChild(1).getText());
+                } else {
+                    modifiers.add(ctx.getChild(0).getChild(j).getText());
+                }
+            }
+        }
+        return String.join(", ", modifiers);
+    }
+
+    /**
+     * <p> 式の文章を整形します。 </p>
+     *
+     * <p>
+     *     次の場合、トークン間にスペースを挿入します。
+     * </p>
+     *
+     * <ul>
+     *     <li> {@code numberOrExpression ([+*%/-] | '<=' | '>=' | '>' | '<' | '==' | '!=' | '&&' | 'and' | 'AND' | '||' | 'or' | 'OR') numberOrExpression} </li>
+     *     <li> {@code ('!' | 'not' | 'NOT') numberOrExpression} </li>
+     * </ul>
+     *
+     * @param ctx 式のコンテキスト
+     * @return 式の文章
+     */
+    private static String formatExpression(ClassFeatureParser.ExpressionContext ctx) {
+        String text;
+
+        if (ctx.getChildCount() == 2) {
+            if (ctx.getChild(1) instanceof ClassFeatureParser.ExpressionContext && (ctx.getChild(0).getText().equals("!") || ctx.getChild(0).getText().equals("not") || ctx.getChild(0).getText().equals("NOT"))) {
+                text = ctx.getChild(0).getText() + " " + formatExpression((ClassFeatureParser.ExpressionContext) ctx.getChild(1));
+            } else if (ctx.getChild(1) instanceof ClassFeatureParser.ExpressionContext) {
+                text = ctx.getChild(0).getText() + formatExpression((ClassFeatureParser.ExpressionContext) ctx.getChild(1));
+            } else {
+                text = ctx.getText();
+            }
+
+        } else if (ctx.getChildCount() == 3) {
+            if (ctx.getChild(0) instanceof ClassFeatureParser.ExpressionContext && ctx.getChild(2) instanceof ClassFeatureParser.ExpressionContext) {
+                text = formatExpression((ClassFeatureParser.ExpressionContext) ctx.getChild(0)) + " " + ctx.getChild(1).getText() + " " + formatExpression((ClassFeatureParser.ExpressionContext) ctx.getChild(2));
+            } else if (ctx.getChild(1) instanceof ClassFeatureParser.ExpressionContext) {
+                text = ctx.getChild(0).getText() + formatExpression((ClassFeatureParser.ExpressionContext) ctx.getChild(1)) + ctx.getChild(2).getText();
+            } else {
+                text = ctx.getText();
+            }
+
+        } else {
+            text = ctx.getText();
+        }
+
+        return text;
+    }
+
+    /**
+     * <p> 多重度における下限の文章を整形します。 </p>
+     *
+     * <ul>
+     *     <li> value-specificationの場合は"()"で囲んだ文字列を返します（{@link #formatMultiplicityRangeExpression(ClassFeatureParser.ValueSpecificationContext)}を参照）。 </li>
+     *     <li> 数値の場合は数値の文字列を返します。 </li>
+     * </ul>
+     *
+     * @param ctx 多重度における下限のコンテキスト
+     * @return 多重度における下限の文章
+     */
+    private static String formatMultiplicityRangeExpression(ClassFeatureParser.LowerContext ctx) {
+        String text;
+
+        if (ctx.getChild(0) instanceof ClassFeatureParser.ValueSpecificationContext) {
+            text = formatMultiplicityRangeExpression((ClassFeatureParser.ValueSpecificationContext) ctx.getChild(0));
+        } else {
+            text = ctx.getText();
+        }
+
+        return text;
+    }
+
+    /**
+     * <p> 多重度における上限の文章を整形します。 </p>
+     *
+     * <ul>
+     *     <li> value-specificationの場合は"()"で囲んだ文字列を返します（{@link #formatMultiplicityRangeExpression(ClassFeatureParser.ValueSpecificationContext)}を参照）。 </li>
+     *     <li> {@code "*"}の場合はそのものを返します。 </li>
+     *     <li> 数値の場合は数値の文字列を返します。 </li>
+     * </ul>
+     *
+     * @param ctx 多重度における上限のコンテキスト
+     * @return 多重度における上限の文章
+     */
+    private static String formatMultiplicityRangeExpression(ClassFeatureParser.UpperContext ctx) {
+        String text;
+
+        if (ctx.getChild(0) instanceof ClassFeatureParser.ValueSpecificationContext) {
+            text = formatMultiplicityRangeExpression((ClassFeatureParser.ValueSpecificationContext) ctx.getChild(0));
+        } else {
+            text = ctx.getText();
+        }
+
+        return text;
+    }
+
+    /**
+     * <p> 多重度における下限または上限のvalue-specificationの文章を整形します。 </p>
+     *
+     * <p>
+     *     {@link #formatMultiplicityRangeExpression(ClassFeatureParser.LowerContext)}または{@link #formatMultiplicityRangeExpression(ClassFeatureParser.UpperContext)}で利用します。
+     *     単語を{@code " "}で区切った文を{@code ", "}で区切った文章に整形し、それを{@code "()"}で囲んだ文字列を返します。
+     * </p>
+     *
+     * @param ctx 多重度における下限または上限のvalue-specificationコンテキスト
+     * @return 単語を{@code " "}で区切った文を{@code ", "}で区切った文章に整形し{@code "()"}で囲んだ文字列
+     */
+    private static String formatMultiplicityRangeExpression(ClassFeatureParser.ValueSpecificationContext ctx) {
+        String text = "(";
+        List<String> expressions = new ArrayList<>();
+        List<String> expression = new ArrayList<>();
+
+        // 括弧 "(" と括弧閉じ ")" を無視
+        for (int i = 1; i < ctx.getChildCount() - 1; i++) {
+            if (ctx.getChild(i) instanceof ClassFeatureParser.ExpressionContext) {
+                expression.add(formatExpression((ClassFeatureParser.ExpressionContext) ctx.getChild(i)));
+            } else {
+                expressions.add(String.join(" ", expression));
+                expression.clear();
+            }
+        }
+        expressions.add(String.join(" ", expression));
+        text += String.join(", ", expressions) + ")";
+
+        return text;
+    }
+}
@@ -0,0 +1,55 @@
+package io.github.morichan.fescue.usage;
+
+import java.util.function.Supplier;
+
+/**
+ * <p> コンテキストから抽出した1つの要素の結果クラス </p>
+ *
+ * <p>
+ *     抽出した文字列、または抽出時に発生した例外のどちらかを保持します。
+ *     例外は{@link #get()}で投げるため、{@link AttributeExtraction}や{@link OperationExtraction}の生成時ではなく、対応する抽出メソッドを実行した時点で例外を投げます。
+ *     生成後は変更できません。
+ * </p>
+ */
+final class Extracted {
+
+    private final String text;
+    private final RuntimeException exception;
+
+    private Extracted(String text, RuntimeException exception) {
+        this.text = text;
+        this.exception = exception;
+    }
+
+    /**
+     * <p> 要素を抽出します。 </p>
+     *
+     * <p>
+     *     抽出時に発生した非検査例外は投げずに保持します。
+     * </p>
+     *
+     * @param extractor 要素の抽出処理<br>{@code null}不可
+     * @return 抽出結果 {@code null}なし
+     */
+    static Extracted of(Supplier<String> extractor) {
+        try {
+            return new Extracted(extractor.get(), null);
+        } catch (RuntimeException e) {
+            return new Extracted(null, e);
+        }
+    }
+
+    /**
+     * <p> 抽出した文字列を取得します。 </p>
+     *
+     * <p>
+     *     抽出時に例外が発生していた場合は、その例外を投げます。
+     * </p>
+     *
+     * @return 抽出した文字列 {@code null}の可能性あり
+     */
+    String get() {
+        if (exception != null) throw exception;
+        return text;
+    }
+}
\ No newline at end of file
@@ -5,9 +5,6 @@ import io.github.morichan.fescue.evaluation.FeatureEvaluation;
 import org.antlr.v4.runtime.InputMismatchException;
 import io.github.morichan.fescue.parser.ClassFeatureParser;
 
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * <p> 操作における要素の抽出クラス </p>
  *
@@ -41,9 +38,9 @@ import java.util.List;
 public class OperationEvaluation extends FeatureEvaluation {
 
     /**
-     * 操作文コンテキスト
+     * 操作文コンテキストからの抽出結果
      */
-    private ClassFeatureParser.OperationContext context;
+    private OperationExtraction extraction;
 
     /**
      * 操作文
@@ -80,6 +77,7 @@ public class OperationEvaluation extends FeatureEvaluation {
      * <p> 字句解析と構文解析を行い、構文解析木を走査します。 </p>
      *
      * <p>
+     *     走査した時点で全ての要素を抽出するため、各抽出メソッドは構文解析木を走査しません。
      *     操作文を設定していない場合は{@link IllegalArgumentException}を投げます。
      * </p>
      */
@@ -90,7 +88,7 @@ public class OperationEvaluation extends FeatureEvaluation {
 
         ClassFeatureParser parser = generateParser(operation);
         FeatureEvalListener listener = walk(parser.operation());
-        context = listener.getOperation();
+        extraction = new OperationExtraction(listener.getOperation());
 
         try {
             extractName();
@@ -122,18 +120,10 @@ public class OperationEvaluation extends FeatureEvaluation {
      * @return 操作名
      */
     public String extractName() {
-        String name = null;
-
-        for (int i = 0; i < context.getChildCount(); i++) {
-            if (context.getChild(i) instanceof ClassFeatureParser.NameContext) {
-                name = context.getChild(i).getText();
-                break;
-            }
-            if (context.exception != null) throw context.exception;
-        }
-        if (name == null) throw new IllegalArgumentException();
+        if (extraction.getNameException() != null) throw extraction.getNameException();
+        if (extraction.getName() == null) throw new IllegalArgumentException();
 
-        return name;
+        return extraction.getName();
     }
 
     /**
@@ -151,16 +141,7 @@ public class OperationEvaluation extends FeatureEvaluation {
      * @return 可視性 {@code null}の可能性あり
      */
     public String extractVisibility() {
-        String visibility = null;
-
-        for (int i = 0; i < context.getChildCount(); i++) {
-            if (context.getChild(i) instanceof ClassFeatureParser.VisibilityContext) {
-                visibility = context.getChild(i).getText();
-                break;
-            }
-        }
-
-        return visibility;
+        return extraction.getVisibility();
     }
 
     /**
@@ -182,14 +163,7 @@ public class OperationEvaluation extends FeatureEvaluation {
      * @return 型 {@code null}の可能性あり
      */
     public String extractReturnType() {
-        String returnType = null;
-
-        for (int i = 0; i < context.getChildCount(); i++) {
-            if (context.getChild(i) instanceof ClassFeatureParser.ReturnTypeContext) {
-                returnType = context.getChild(i).getChild(0).getChild(1).getText();
-                break;
-            }
-        }
+        String returnType = extraction.getReturnType();
         checkIfNameIsSamePrimitiveType();
 
         return returnType;
@@ -214,24 +188,7 @@ public class OperationEvaluation extends FeatureEvaluation {
      * @return プロパティ
      */
     public String extractOperationProperty() {
-        String operationProperty = null;
-
-        for (int i = 0; i < context.getChildCount(); i++) {
-            if (context.getChild(i) instanceof ClassFeatureParser.OperPropertiesContext) {
-                List<String> properties = new ArrayList<>();
-                for (int j = 0; j < context.getChild(i).getChildCount(); j++) {
-                    if (context.getChild(i).getChild(j) instanceof ClassFeatureParser.OperPropertyContext) {
-                        if (context.getChild(i).getChild(j).getChildCount() == 2) {
-                            properties.add(context.getChild(i).getChild(j).getChild(0).getText() + " " + context.getChild(i).getChild(j).getChild(1).getText());
-                        } else {
-                            properties.add(context.getChild(i).getChild(j).getText());
-                        }
-                    }
-                }
-                operationProperty = String.join(", ", properties);
-                break;
-            }
-        }
+        String operationProperty = extraction.getOperationProperty();
         checkIfNameIsSamePrimitiveType();
 
         return operationProperty;
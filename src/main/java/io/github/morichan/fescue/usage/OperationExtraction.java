@@ -0,0 +1,146 @@
+package io.github.morichan.fescue.usage;
+
+import io.github.morichan.fescue.parser.ClassFeatureParser;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.tree.ParseTree;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p> 操作文コンテキストからの抽出結果クラス </p>
+ *
+ * <p>
+ *     {@link OperationEvaluation}の各抽出メソッドが返す文字列を、操作文コンテキストの子を1回走査するだけで全て求めて保持します。
+ *     抽出時に例外が発生した要素は、その例外を保持して対応する取得メソッドで投げます（{@link Extracted}参照）。
+ *     生成後は変更できません。
+ * </p>
+ */
+final class OperationExtraction {
+
+    private final String name;
+    private final RecognitionException nameException;
+    private final String visibility;
+    private final Extracted returnType;
+    private final Extracted operationProperty;
+
+    /**
+     * <p> 操作文コンテキストから全ての要素を抽出するコンストラクタ </p>
+     *
+     * <p>
+     *     各要素は最初に現れたものを抽出します。
+     *     操作名より前に子が存在し、構文解析で例外が発生していた場合は、その例外を操作名の抽出時に投げる例外として保持します。
+     * </p>
+     *
+     * @param context 操作文コンテキスト<br>{@code null}不可
+     */
+    OperationExtraction(ClassFeatureParser.OperationContext context) {
+        String name = null;
+        int nameIndex = -1;
+        String visibility = null;
+        Extracted returnType = null;
+        Extracted operationProperty = null;
+
+        for (int i = 0; i < context.getChildCount(); i++) {
+            ParseTree child = context.getChild(i);
+
+            if (child instanceof ClassFeatureParser.NameContext) {
+                if (name == null) {
+                    name = child.getText();
+                    nameIndex = i;
+                }
+
+            } else if (child instanceof ClassFeatureParser.VisibilityContext) {
+                if (visibility == null) visibility = child.getText();
+
+            } else if (child instanceof ClassFeatureParser.ReturnTypeContext) {
+                if (returnType == null) returnType = Extracted.of(() -> child.getChild(0).getChild(1).getText());
+
+            } else if (child instanceof ClassFeatureParser.OperPropertiesContext) {
+                if (operationProperty == null) operationProperty = Extracted.of(() -> formatOperProperties((ClassFeatureParser.OperPropertiesContext) child));
+            }
+        }
+
+        boolean hasChildBeforeName = nameIndex != 0 && context.getChildCount() > 0;
+        this.name = name;
+        this.nameException = hasChildBeforeName ? context.exception : null;
+        this.visibility = visibility;
+        this.returnType = returnType;
+        this.operationProperty = operationProperty;
+    }
+
+    /**
+     * <p> 操作名を取得します。 </p>
+     *
+     * @return 操作名 {@code null}の可能性あり
+     */
+    String getName() {
+        return name;
+    }
+
+    /**
+     * <p> 操作名の抽出時に投げる例外を取得します。 </p>
+     *
+     * @return 構文解析で発生した例外 {@code null}の可能性あり
+     */
+    RecognitionException getNameException() {
+        return nameException;
+    }
+
+    /**
+     * <p> 可視性を取得します。 </p>
+     *
+     * @return 可視性 {@code null}の可能性あり
+     */
+    String getVisibility() {
+        return visibility;
+    }
+
+    /**
+     * <p> 戻り値の型を取得します。 </p>
+     *
+     * <p>
+     *     抽出時に例外が発生していた場合は、その例外を投げます。
+     * </p>
+     *
+     * @return 戻り値の型 {@code null}の可能性あり
+     */
+    String getReturnType() {
+        return returnType == null ? null : returnType.get();
+    }
+
+    /**
+     * <p> プロパティを取得します。 </p>
+     *
+     * <p>
+     *     抽出時に例外が発生していた場合は、その例外を投げます。
+     * </p>
+     *
+     * @return プロパティ {@code null}の可能性あり
+     */
+    String getOperationProperty() {
+        return operationProperty == null ? null : operationProperty.get();
+    }
+
+
+
+    /**
+     * <p> プロパティの文章を整形します。 </p>
+     *
+     * @param ctx プロパティのコンテキスト
+     * @return プロパティを{@code ", "}で区切った文章
+     */
+    private static String formatOperProperties(ClassFeatureParser.OperPropertiesContext ctx) {
+        List<String> properties = new ArrayList<>();
+        for (int j = 0; j < ctx.getChildCount(); j++) {
+            if (ctx.getChild(j) instanceof ClassFeatureParser.OperPropertyContext) {
+                if (ctx.getChild(j).getChildCount() == 2) {
+                    properties.add(ctx.getChild(j).getChild(0).getText() + " " + ctx.getChild(j).getChild(1).getText());
+                } else {
+                    properties.add(ctx.getChild(j).getText());
+                }
+            }
+        }
+        return String.join(", ", properties);
+    }
+}
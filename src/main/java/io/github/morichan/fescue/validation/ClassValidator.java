@@ -0,0 +1,251 @@
+package io.github.morichan.fescue.validation;
+
+import io.github.morichan.fescue.feature.Attribute;
+import io.github.morichan.fescue.feature.Operation;
+import io.github.morichan.fescue.feature.multiplicity.Bounder;
+import io.github.morichan.fescue.feature.multiplicity.MultiplicityRange;
+import io.github.morichan.fescue.feature.parameter.Parameter;
+import io.github.morichan.fescue.feature.property.Property;
+import io.github.morichan.fescue.feature.property.Redefines;
+import io.github.morichan.fescue.feature.property.Subsets;
+import io.github.morichan.fescue.model.ClassModel;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.stream.Collectors;
+
+/**
+ * <p> クラスの検証クラス </p>
+ *
+ * <p>
+ *     {@link ClassModel}が持つ属性と操作について、次の規則を検証します。
+ * </p>
+ *
+ * <ul>
+ *     <li> 属性名が重複していない（{@link DiagnosticKind#DuplicateAttribute}） </li>
+ *     <li> 操作名とパラメータの型の並び（シグネチャ）が重複していない（{@link DiagnosticKind#ConflictingOperation}）<br>型のないパラメータは{@code ?}として並べます（例、{@code "set(?)"}）。 </li>
+ *     <li> 属性の{@code subsets}と{@code redefines}の対象の属性が存在する（{@link DiagnosticKind#UnknownSubsetsTarget}、{@link DiagnosticKind#UnknownRedefinesTarget}） </li>
+ *     <li> 属性とパラメータの多重度の下限が上限以下である（{@link DiagnosticKind#InvalidMultiplicityRange}） </li>
+ * </ul>
+ *
+ * <p>
+ *     重複と対象の存在はハッシュで確認するため、属性と操作を1回ずつ走査するだけで全ての規則を検証します。
+ *     重複の場合は、2つ目以降の属性または操作を違反として返します。
+ *     {@code subsets}と{@code redefines}の対象は、修飾していない名前（例、{@code "total"}）の場合は同じクラスの属性から、
+ *     クラス名で修飾した名前（例、{@code "Base.total"}）の場合は検証する全てのクラスの属性から探します。
+ *     多重度は下限と上限がどちらも整数または{@code "*"}の場合のみ検証し、式の場合は検証しません。
+ * </p>
+ *
+ * <p>
+ *     使い方を次に示します。
+ * </p>
+ *
+ * <pre>
+ *     {@code
+ *     ClassValidator validator = new ClassValidator();
+ *     for (Diagnostic diagnostic : validator.validateAll(models)) {
+ *         System.out.println(diagnostic); // "DuplicateAttribute Sample.number"
+ *     }
+ *     }
+ * </pre>
+ *
+ * <p>
+ *     {@link #validateAll(Collection)}は複数のクラスを並列に検証します。
+ *     検証中にクラスを変更した場合の動作は保証しません。
+ * </p>
+ */
+public class ClassValidator {
+
+    /**
+     * 多重度の{@code "*"}を表す値
+     */
+    private static final long UNLIMITED = Long.MAX_VALUE;
+
+    /**
+     * 多重度が式の場合を表す値
+     */
+    private static final long UNKNOWN = Long.MIN_VALUE;
+
+    /**
+     * <p> 1つのクラスを検証します。 </p>
+     *
+     * <p>
+     *     クラス名で修飾した{@code subsets}と{@code redefines}の対象は、このクラスの属性からのみ探します。
+     *     {@code null}を設定した場合は{@link IllegalArgumentException}を投げます。
+     * </p>
+     *
+     * @param model クラス<br>{@code null}不可
+     * @return 違反のリスト<br>{@code null}なし（違反がない場合は空のリスト）
+     */
+    public List<Diagnostic> validate(ClassModel model) {
+        if (model == null) throw new IllegalArgumentException();
+        return validate(model, indexAttributes(Collections.singletonList(model)));
+    }
+
+    /**
+     * <p> 複数のクラスを並列に検証します。 </p>
+     *
+     * <p>
+     *     最初に全てのクラスの属性の索引を作成し、その後にクラスごとに並列で検証します。
+     *     返すリストは、設定したクラスの順に各クラスの違反を並べます。
+     *     {@code null}または{@code null}を含むコレクションを設定した場合は{@link IllegalArgumentException}を投げます。
+     * </p>
+     *
+     * @param models クラスのコレクション<br>{@code null}および{@code null}の要素不可
+     * @return 違反のリスト<br>{@code null}なし（違反がない場合は空のリスト）
+     */
+    public List<Diagnostic> validateAll(Collection<ClassModel> models) {
+        if (models == null) throw new IllegalArgumentException();
+        for (ClassModel model : models) if (model == null) throw new IllegalArgumentException();
+
+        Set<String> qualifiedNames = indexAttributes(models);
+        List<List<Diagnostic>> results = models.parallelStream()
+                .map(model -> validate(model, qualifiedNames))
+                .collect(Collectors.toList());
+
+        List<Diagnostic> diagnostics = new ArrayList<>();
+        for (List<Diagnostic> result : results) diagnostics.addAll(result);
+        return diagnostics;
+    }
+
+
+
+    /**
+     * <p> クラス名で修飾した全ての属性名の索引を作成します。 </p>
+     *
+     * @param models クラスのコレクション
+     * @return クラス名で修飾した属性名（例、{@code "Sample.number"}）の集合
+     */
+    private Set<String> indexAttributes(Collection<ClassModel> models) {
+        int size = 0;
+        for (ClassModel model : models) size += model.getAttributes().size();
+
+        Set<String> qualifiedNames = new HashSet<>(size * 4 / 3 + 1);
+        for (ClassModel model : models) {
+            String className = model.getName().getNameText();
+            for (Attribute attribute : model.getAttributes()) qualifiedNames.add(className + "." + attribute.getName().getNameText());
+        }
+        return qualifiedNames;
+    }
+
+    private List<Diagnostic> validate(ClassModel model, Set<String> qualifiedNames) {
+        String className = model.getName().getNameText();
+        List<Diagnostic> diagnostics = new ArrayList<>();
+
+        Set<String> attributeNames = new HashSet<>(model.getAttributes().size() * 4 / 3 + 1);
+        for (Attribute attribute : model.getAttributes()) {
+            String key = attribute.getName().getNameText();
+            if (!attributeNames.add(key)) diagnostics.add(new Diagnostic(DiagnosticKind.DuplicateAttribute, className, key, ""));
+
+            if (attribute.hasProperties()) {
+                for (Property property : attribute.getProperties()) {
+                    if (property instanceof Subsets) {
+                        String target = ((Subsets) property).getExpression().toString();
+                        if (!exists(target, className, qualifiedNames)) diagnostics.add(new Diagnostic(DiagnosticKind.UnknownSubsetsTarget, className, key, target));
+                    } else if (property instanceof Redefines) {
+                        String target = ((Redefines) property).getExpression().toString();
+                        if (!exists(target, className, qualifiedNames)) diagnostics.add(new Diagnostic(DiagnosticKind.UnknownRedefinesTarget, className, key, target));
+                    }
+                }
+            }
+
+            if (attribute.hasMultiplicityRange() && !isValid(attribute.getMultiplicityRange())) {
+                diagnostics.add(new Diagnostic(DiagnosticKind.InvalidMultiplicityRange, className, key, "[" + attribute.getMultiplicityRange() + "]"));
+            }
+        }
+
+        Set<String> signatures = new HashSet<>(model.getOperations().size() * 4 / 3 + 1);
+        for (Operation operation : model.getOperations()) {
+            String key = keyOf(operation);
+            if (!signatures.add(key)) diagnostics.add(new Diagnostic(DiagnosticKind.ConflictingOperation, className, key, ""));
+
+            if (operation.hasParameters()) {
+                for (Parameter parameter : operation.getParameters()) {
+                    if (parameter.hasMultiplicityRange() && !isValid(parameter.getMultiplicityRange())) {
+                        diagnostics.add(new Diagnostic(DiagnosticKind.InvalidMultiplicityRange, className,
+                                key + " " + parameter.getName().getNameText(), "[" + parameter.getMultiplicityRange() + "]"));
+                    }
+                }
+            }
+        }
+
+        return diagnostics;
+    }
+
+    private boolean exists(String target, String className, Set<String> qualifiedNames) {
+        return qualifiedNames.contains(className + "." + target) || qualifiedNames.contains(target);
+    }
+
+    private String keyOf(Operation operation) {
+        StringJoiner sj = new StringJoiner(",", operation.getName().getNameText() + "(", ")");
+        if (operation.hasParameters()) {
+            for (Parameter parameter : operation.getParameters()) {
+                sj.add(parameter.hasType() ? parameter.getType().toString() : "?");
+            }
+        }
+        return sj.toString();
+    }
+
+    /**
+     * <p> 多重度の下限が上限以下である場合は真を返す真偽値判定を行います。 </p>
+     *
+     * <p>
+     *     下限が負数または{@code "*"}の場合と、上限が負数の場合は偽を返します。
+     *     下限または上限が式の場合は比較できないため、もう一方のみを確認します。
+     * </p>
+     *
+     * @param range 多重度
+     * @return 正しい多重度の場合は真を返す真偽値
+     */
+    private boolean isValid(MultiplicityRange range) {
+        long upper = toBound(range.getUpper());
+        if (upper != UNKNOWN && upper < 0) return false;
+        if (range.isUpperOnly()) return true;
+
+        long lower = toBound(range.getLower());
+        if (lower == UNKNOWN) return true;
+        if (lower == UNLIMITED || lower < 0) return false;
+        return upper == UNKNOWN || lower <= upper;
+    }
+
+    /**
+     * <p> 多重度の下限または上限を数値に変換します。 </p>
+     *
+     * <p>
+     *     符号と10進数の数字（区切りの{@code '_'}を含む）のみの場合は数値に、{@code "*"}の場合は{@link #UNLIMITED}に変換します。
+     *     それ以外の場合と、桁数が多すぎる場合は{@link #UNKNOWN}を返します。
+     * </p>
+     *
+     * @param bounder 多重度の下限または上限
+     * @return 数値
+     */
+    private long toBound(Bounder bounder) {
+        String text = bounder.toString();
+        if (text.equals("*")) return UNLIMITED;
+
+        int i = 0;
+        boolean isNegative = false;
+        if (i < text.length() && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+            isNegative = text.charAt(i) == '-';
+            i++;
+            while (i < text.length() && text.charAt(i) == ' ') i++;
+        }
+        if (i >= text.length()) return UNKNOWN;
+
+        long value = 0;
+        int digits = 0;
+        for (; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '_') continue;
+            if (c < '0' || c > '9' || ++digits > 18) return UNKNOWN;
+            value = value * 10 + (c - '0');
+        }
+        if (digits == 0) return UNKNOWN;
+        return isNegative ? -value : value;
+    }
+}
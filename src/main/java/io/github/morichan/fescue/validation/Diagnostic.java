@@ -0,0 +1,81 @@
+package io.github.morichan.fescue.validation;
+
+/**
+ * <p> 診断クラス </p>
+ *
+ * <p>
+ *     {@link ClassValidator}が返す、1つの規則違反です。
+ *     違反の種類、クラス名、違反した属性または操作のキー、違反の内容を保持します。
+ * </p>
+ */
+public class Diagnostic {
+
+    private final DiagnosticKind kind;
+    private final String className;
+    private final String key;
+    private final String detail;
+
+    Diagnostic(DiagnosticKind kind, String className, String key, String detail) {
+        this.kind = kind;
+        this.className = className;
+        this.key = key;
+        this.detail = detail;
+    }
+
+    /**
+     * <p> 違反の種類を取得します。 </p>
+     *
+     * @return 違反の種類<br>{@code null}なし
+     */
+    public DiagnosticKind getKind() {
+        return kind;
+    }
+
+    /**
+     * <p> 違反したクラスの名前を取得します。 </p>
+     *
+     * @return クラス名<br>{@code null}なし
+     */
+    public String getClassName() {
+        return className;
+    }
+
+    /**
+     * <p> 違反した属性または操作のキーを取得します。 </p>
+     *
+     * <p>
+     *     属性の場合は属性名、操作の場合は操作名とパラメータの型の並び（例、{@code "setNumber(int)"}）です。
+     *     パラメータの多重度の場合は、操作のキーとパラメータ名を半角スペースで区切ります（例、{@code "setNumbers(int) numbers"}）。
+     * </p>
+     *
+     * @return キー<br>{@code null}なし
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * <p> 違反の内容を取得します。 </p>
+     *
+     * <p>
+     *     {@code subsets}と{@code redefines}の場合は対象の属性名、多重度の場合は多重度の文字列（例、{@code "[5..1]"}）です。
+     *     重複の場合は{@code ""}（空文字）です。
+     * </p>
+     *
+     * @return 違反の内容<br>{@code null}なし
+     */
+    public String getDetail() {
+        return detail;
+    }
+
+    /**
+     * <p> 診断の文字列を取得します。 </p>
+     *
+     * @return 診断の文字列（例、{@code "UnknownSubsetsTarget Sample.number total"}）<br>{@code null}および{@code ""}なし
+     */
+    @Override
+    public String toString() {
+        String text = kind + " " + className + "." + key;
+        return detail.isEmpty() ? text : text + " " + detail;
+    }
+}
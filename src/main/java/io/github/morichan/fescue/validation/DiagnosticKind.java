@@ -0,0 +1,36 @@
+package io.github.morichan.fescue.validation;
+
+/**
+ * <p> 診断の種類 </p>
+ *
+ * <p>
+ *     {@link Diagnostic}において、クラスのどの規則に違反しているかを表します。
+ * </p>
+ */
+public enum DiagnosticKind {
+
+    /**
+     * 同じ名前の属性が既に存在する
+     */
+    DuplicateAttribute,
+
+    /**
+     * 同じ操作名とパラメータの型の並び（シグネチャ）の操作が既に存在する
+     */
+    ConflictingOperation,
+
+    /**
+     * {@code subsets}の対象の属性が存在しない
+     */
+    UnknownSubsetsTarget,
+
+    /**
+     * {@code redefines}の対象の属性が存在しない
+     */
+    UnknownRedefinesTarget,
+
+    /**
+     * 多重度の下限が上限より大きい、または下限が負数か{@code "*"}である
+     */
+    InvalidMultiplicityRange,
+}
@@ -0,0 +1,115 @@
+package io.github.morichan.fescue.allocation;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * <p> 現在のスレッドが割当てたバイト数の計測クラス </p>
+ *
+ * <p>
+ *     {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)}を処理の前後で取得し、その差を割当てバイト数とします。
+ *     他のスレッドの割当ては含まないため、並列に実行する試験の影響を受けません。
+ * </p>
+ *
+ * <p>
+ *     JITコンパイル前は脱出解析が効かず割当てが多いため、{@link #measure(Runnable, int, int)}は事前に処理を繰返してから計測します。
+ *     また、一時的な割当て（クラスの初期化など）を除くため、複数回計測した最小値を返します。
+ *     計測値はJVMの実装や設定で変わるため、割当て量の上限（予算）は余裕を持って設定してください。
+ * </p>
+ *
+ * <pre>
+ *     {@code
+ *     assumeTrue(AllocationMeter.isSupported());
+ *
+ *     long bytes = AllocationMeter.measure(() -> sculptor.parse("- number : int"), 1000, 20);
+ *     assertThat(bytes).isLessThanOrEqualTo(12_000);
+ *     }
+ * </pre>
+ */
+public final class AllocationMeter {
+
+    private static final com.sun.management.ThreadMXBean THREADS = threads();
+
+    /**
+     * 計測自体の割当てバイト数（{@link #measureOnce(Runnable)}で空の処理を計測した最小値）
+     */
+    private static final long OVERHEAD = calibrate();
+
+    private AllocationMeter() {}
+
+    /**
+     * <p> このJVMで割当てバイト数を計測できる場合は真を返す真偽値判定を行います。 </p>
+     *
+     * <p>
+     *     偽の場合は{@link #measure(Runnable)}などが{@link IllegalStateException}を投げます。
+     *     試験では{@code Assumptions.assumeTrue}と組合わせて使ってください。
+     * </p>
+     *
+     * @return 計測できる場合は真を返す真偽値
+     */
+    public static boolean isSupported() {
+        return THREADS != null;
+    }
+
+    /**
+     * <p> 処理を1回実行し、その間に現在のスレッドが割当てたバイト数を計測します。 </p>
+     *
+     * @param action 計測する処理<br>{@code null}不可
+     * @return 割当てバイト数
+     */
+    public static long measure(Runnable action) {
+        return measure(action, 0, 1);
+    }
+
+    /**
+     * <p> 処理を繰返し実行した後、1回あたりに現在のスレッドが割当てたバイト数を計測します。 </p>
+     *
+     * <p>
+     *     {@code warmups}回実行した後に{@code repetitions}回計測し、その最小値を返します。
+     *     {@code null}を設定した場合と、{@code warmups}が負または{@code repetitions}が{@code 1}未満の場合は{@link IllegalArgumentException}を投げます。
+     * </p>
+     *
+     * @param action 計測する処理<br>{@code null}不可
+     * @param warmups 計測前に実行する回数
+     * @param repetitions 計測する回数
+     * @return 1回あたりの割当てバイト数の最小値
+     */
+    public static long measure(Runnable action, int warmups, int repetitions) {
+        if (action == null || warmups < 0 || repetitions < 1) throw new IllegalArgumentException();
+        if (!isSupported()) throw new IllegalStateException();
+
+        for (int i = 0; i < warmups; i++) action.run();
+
+        long minimum = Long.MAX_VALUE;
+        for (int i = 0; i < repetitions; i++) minimum = Math.min(minimum, measureOnce(action) - OVERHEAD);
+        return Math.max(0, minimum);
+    }
+
+
+
+    private static com.sun.management.ThreadMXBean threads() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (!(threads instanceof com.sun.management.ThreadMXBean)) return null;
+
+        com.sun.management.ThreadMXBean sunThreads = (com.sun.management.ThreadMXBean) threads;
+        if (!sunThreads.isThreadAllocatedMemorySupported()) return null;
+        if (!sunThreads.isThreadAllocatedMemoryEnabled()) sunThreads.setThreadAllocatedMemoryEnabled(true);
+        return sunThreads;
+    }
+
+    private static long calibrate() {
+        if (THREADS == null) return 0;
+
+        Runnable empty = () -> {};
+        long minimum = Long.MAX_VALUE;
+        for (int i = 0; i < 100; i++) minimum = Math.min(minimum, measureOnce(empty));
+        return minimum;
+    }
+
+    private static long measureOnce(Runnable action) {
+        long id = Thread.currentThread().getId();
+        long before = THREADS.getThreadAllocatedBytes(id);
+        action.run();
+        return THREADS.getThreadAllocatedBytes(id) - before;
+    }
+}
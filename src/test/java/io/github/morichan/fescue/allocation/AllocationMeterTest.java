@@ -0,0 +1,51 @@
+package io.github.morichan.fescue.allocation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class AllocationMeterTest {
+
+    byte[] allocated;
+
+    @BeforeEach
+    void setup() {
+        assumeTrue(AllocationMeter.isSupported());
+    }
+
+    @Test
+    void 配列を割当てた場合はその大きさ以上を返す() {
+        long bytes = AllocationMeter.measure(() -> allocated = new byte[1024]);
+
+        assertThat(bytes).isBetween(1024L, 1024L + 64);
+    }
+
+    @Test
+    void 何も割当てない場合は0を返す() {
+        long bytes = AllocationMeter.measure(() -> {}, 100, 10);
+
+        assertThat(bytes).isZero();
+    }
+
+    @Test
+    void 繰返し計測した場合は1回あたりの最小値を返す() {
+        int[] count = {0};
+
+        long bytes = AllocationMeter.measure(() -> allocated = new byte[count[0]++ == 0 ? 4096 : 1024], 0, 5);
+
+        assertThat(bytes).isBetween(1024L, 1024L + 64);
+    }
+
+    @Test
+    void 処理にnullを設定すると例外を投げる() {
+        assertThatThrownBy(() -> AllocationMeter.measure(null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 計測回数に0を設定すると例外を投げる() {
+        assertThatThrownBy(() -> AllocationMeter.measure(() -> {}, 0, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,223 @@
+package io.github.morichan.fescue.binary;
+
+import io.github.morichan.fescue.feature.Attribute;
+import io.github.morichan.fescue.feature.Operation;
+import io.github.morichan.fescue.sculptor.AttributeSculptor;
+import io.github.morichan.fescue.sculptor.OperationSculptor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FeatureReaderTest {
+
+    FeatureReader obj;
+
+    ByteArrayOutputStream bytes;
+    FeatureWriter writer;
+
+    @BeforeEach
+    void setup() throws IOException {
+        bytes = new ByteArrayOutputStream();
+        writer = new FeatureWriter(bytes);
+    }
+
+    FeatureReader createReader(byte[] data) throws IOException {
+        return new FeatureReader(new ByteArrayInputStream(data));
+    }
+
+    Attribute carveAttribute(String text) {
+        AttributeSculptor sculptor = new AttributeSculptor();
+        sculptor.parse(text);
+        return sculptor.carve();
+    }
+
+    Operation carveOperation(String text) {
+        OperationSculptor sculptor = new OperationSculptor();
+        sculptor.parse(text);
+        return sculptor.carve();
+    }
+
+    @Nested
+    class 属性を書込んだ場合 {
+
+        @ParameterizedTest
+        @ValueSource(strings = {
+                "name",
+                "- number : int",
+                "/ derived : Integer",
+                "# array : String[0..*]",
+                "~ upper : char[*] {readOnly}",
+                "+ sum : double = - 1.5 * (a + b) / c.method(x, 2)",
+                "+ flag : boolean = not isEmpty() and (x >= 10 or y != 0) {union, subsets parent, redefines other.name}",
+                "values : Integer[min..max] = list.size() % 3 {ordered, unique}",
+                "+ 名前 : 型 = \"文字列\"",
+        })
+        void 設定したインスタンスを返す(String text) throws IOException {
+            Attribute expected = carveAttribute(text);
+
+            writer.write(expected);
+            writer.close();
+            obj = createReader(bytes.toByteArray());
+
+            assertThat(obj.hasNext()).isTrue();
+            assertThat(obj.isNextAttribute()).isTrue();
+            Attribute actual = obj.readAttribute();
+
+            assertThat(actual).isEqualToComparingFieldByFieldRecursively(expected);
+            assertThat(actual.toString()).isEqualTo(expected.toString());
+            assertThat(obj.hasNext()).isFalse();
+        }
+    }
+
+    @Nested
+    class 操作を書込んだ場合 {
+
+        @ParameterizedTest
+        @ValueSource(strings = {
+                "name()",
+                "+ getName() : String {query}",
+                "- set(value : int)",
+                "# compute(in a : Integer[1..*], out b : double, inout c : char[*] = 'c', return d : boolean = true) : void",
+                "~ convert(x : int = - 1 {ordered}, y : String = method(a.b, (1 + 2))) : Integer[0..1] {redefines base, unique}",
+        })
+        void 設定したインスタンスを返す(String text) throws IOException {
+            Operation expected = carveOperation(text);
+
+            writer.write(expected);
+            writer.close();
+            obj = createReader(bytes.toByteArray());
+
+            assertThat(obj.hasNext()).isTrue();
+            assertThat(obj.isNextOperation()).isTrue();
+            Operation actual = obj.readOperation();
+
+            assertThat(actual).isEqualToComparingFieldByFieldRecursively(expected);
+            assertThat(actual.toString()).isEqualTo(expected.toString());
+            assertThat(obj.hasNext()).isFalse();
+        }
+    }
+
+    @Nested
+    class 属性と操作を交互に書込んだ場合 {
+
+        @Test
+        void 書込んだ順に返す() throws IOException {
+            for (int i = 0; i < 1000; i++) {
+                writer.write(carveAttribute("- attribute" + i + " : int = " + i));
+                writer.write(carveOperation("+ operation" + i + "(value : int) : int"));
+            }
+            writer.close();
+            obj = createReader(bytes.toByteArray());
+
+            for (int i = 0; i < 1000; i++) {
+                assertThat(obj.readAttribute().toString()).isEqualTo("- attribute" + i + " : int = " + i);
+                assertThat(obj.readOperation().toString()).isEqualTo("+ operation" + i + "(value : int) : int");
+            }
+            assertThat(obj.hasNext()).isFalse();
+        }
+    }
+
+    @Nested
+    class 不正なストリームの場合 {
+
+        @Test
+        void 識別子が異なると例外を投げる() {
+            byte[] data = {'X', 'S', 'C', 'B', 1, 0};
+
+            assertThatThrownBy(() -> createReader(data)).isInstanceOf(StreamCorruptedException.class);
+        }
+
+        @Test
+        void 形式の版が異なると例外を投げる() {
+            byte[] data = {'F', 'S', 'C', 'B', 2, 0};
+
+            assertThatThrownBy(() -> createReader(data)).isInstanceOf(StreamCorruptedException.class);
+        }
+
+        @Test
+        void 途中で終わっていると例外を投げる() throws IOException {
+            writer.write(carveAttribute("- number : int"));
+            writer.close();
+            byte[] data = bytes.toByteArray();
+            obj = createReader(Arrays.copyOf(data, data.length - 3));
+
+            assertThatThrownBy(() -> obj.readAttribute()).isInstanceOf(EOFException.class);
+        }
+
+        @Test
+        void 文字列の長さが残りのデータより長いと巨大な配列を確保せずに例外を投げる() throws IOException {
+            byte[] data = {'F', 'S', 'C', 'B', 1, BinaryFormat.ATTRIBUTE, 0, 0, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07, 'a'};
+            obj = createReader(data);
+
+            assertThatThrownBy(() -> obj.readAttribute()).isInstanceOf(EOFException.class);
+        }
+
+        @Test
+        void パラメータの数が残りのデータより多いと巨大なリストを確保せずに例外を投げる() throws IOException {
+            byte[] data = {'F', 'S', 'C', 'B', 1, BinaryFormat.OPERATION, BinaryFormat.HAS_PARAMETERS, 0, 1, 'f', (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07};
+            obj = createReader(data);
+
+            assertThatThrownBy(() -> obj.readOperation()).isInstanceOf(EOFException.class);
+        }
+
+        @Test
+        void 存在しない演算子を含むと例外を投げる() throws IOException {
+            writer.write(carveAttribute("- number : int = -1"));
+            writer.close();
+            byte[] data = bytes.toByteArray();
+            for (int i = data.length - 1; i >= 0; i--) {
+                if (data[i] == '-') {
+                    data[i] = '^';
+                    break;
+                }
+            }
+            obj = createReader(data);
+
+            assertThatThrownBy(() -> obj.readAttribute()).isInstanceOf(StreamCorruptedException.class);
+        }
+
+        @Test
+        void 式の入れ子が深すぎるとスタックを溢れさせずに例外を投げる() throws IOException {
+            byte[] header = {'F', 'S', 'C', 'B', 1, BinaryFormat.ATTRIBUTE, BinaryFormat.HAS_DEFAULT_VALUE, 0, 1, 'a'};
+            byte[] data = Arrays.copyOf(header, header.length + 100000);
+            Arrays.fill(data, header.length, data.length, (byte) BinaryFormat.EXPRESSION_WITH_PAREN);
+            obj = createReader(data);
+
+            assertThatThrownBy(() -> obj.readAttribute()).isInstanceOf(StreamCorruptedException.class);
+        }
+
+        @Test
+        void 記録の種類が異なると例外を投げる() throws IOException {
+            writer.write(carveAttribute("- number : int"));
+            writer.close();
+            obj = createReader(bytes.toByteArray());
+
+            assertThatThrownBy(() -> obj.readOperation()).isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        void 終端の後に読込むと例外を投げる() throws IOException {
+            writer.close();
+            obj = createReader(bytes.toByteArray());
+
+            assertThatThrownBy(() -> obj.readAttribute()).isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Test
+    void 読込み元がnullの場合は例外を投げる() {
+        assertThatThrownBy(() -> new FeatureReader(null)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
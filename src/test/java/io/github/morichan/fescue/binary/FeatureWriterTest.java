@@ -0,0 +1,121 @@
+package io.github.morichan.fescue.binary;
+
+import io.github.morichan.fescue.feature.Attribute;
+import io.github.morichan.fescue.feature.Operation;
+import io.github.morichan.fescue.feature.name.Name;
+import io.github.morichan.fescue.feature.property.Property;
+import io.github.morichan.fescue.feature.type.Type;
+import io.github.morichan.fescue.feature.value.DefaultValue;
+import io.github.morichan.fescue.feature.value.expression.Expression;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FeatureWriterTest {
+
+    FeatureWriter obj;
+
+    ByteArrayOutputStream bytes;
+
+    @BeforeEach
+    void setup() throws IOException {
+        bytes = new ByteArrayOutputStream();
+        obj = new FeatureWriter(bytes);
+    }
+
+    @Nested
+    class 何も書込まずに閉じた場合 {
+
+        @Test
+        void 識別子と形式の版と終端のみを書込む() throws IOException {
+            obj.close();
+
+            assertThat(bytes.toByteArray()).containsExactly('F', 'S', 'C', 'B', 1, 0);
+        }
+
+        @Test
+        void 複数回閉じても終端は1つのみである() throws IOException {
+            obj.close();
+            obj.close();
+
+            assertThat(bytes.toByteArray()).hasSize(6);
+        }
+    }
+
+    @Nested
+    class 同じ文字列を複数回書込む場合 {
+
+        @Test
+        void 文字列は1回のみ書込む() throws IOException {
+            for (int i = 0; i < 100; i++) {
+                Attribute attribute = new Attribute(new Name("veryLongAttributeName"));
+                attribute.setType(new Type("VeryLongTypeName"));
+                obj.write(attribute);
+            }
+            obj.close();
+
+            String written = new String(bytes.toByteArray(), StandardCharsets.ISO_8859_1);
+            assertThat(written.split("veryLongAttributeName", -1)).hasSize(2);
+            assertThat(written.split("VeryLongTypeName", -1)).hasSize(2);
+        }
+
+        @Test
+        void 属性文の文字列の5分の1より小さい() throws IOException {
+            Attribute attribute = new Attribute(new Name("veryLongAttributeName"));
+            attribute.setType(new Type("VeryLongTypeName"));
+            for (int i = 0; i < 100; i++) obj.write(attribute);
+            obj.close();
+
+            assertThat(bytes.size()).isLessThan(attribute.toString().length() * 100 / 5);
+        }
+    }
+
+    @Nested
+    class 書込めない場合 {
+
+        @Test
+        void 書込み先がnullの場合は例外を投げる() {
+            assertThatThrownBy(() -> new FeatureWriter(null)).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void 属性がnullの場合は例外を投げる() {
+            assertThatThrownBy(() -> obj.write((Attribute) null)).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void 操作がnullの場合は例外を投げる() {
+            assertThatThrownBy(() -> obj.write((Operation) null)).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void 閉じた後に書込むと例外を投げる() throws IOException {
+            obj.close();
+
+            assertThatThrownBy(() -> obj.write(new Attribute(new Name("name")))).isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        void 扱えないプロパティの場合は例外を投げる() {
+            Attribute attribute = new Attribute(new Name("name"));
+            attribute.addProperty(new Property() {});
+
+            assertThatThrownBy(() -> obj.write(attribute)).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void 扱えない式の場合は例外を投げる() {
+            Attribute attribute = new Attribute(new Name("name"));
+            attribute.setDefaultValue(new DefaultValue(new Expression() {}));
+
+            assertThatThrownBy(() -> obj.write(attribute)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package io.github.morichan.fescue.cli;
+
+import io.github.morichan.fescue.binary.FeatureReader;
+import io.github.morichan.fescue.metrics.FeatureKind;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BulkConverterTest {
+
+    BulkConverter obj;
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    StringBuilder errors = new StringBuilder();
+
+    String output() {
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    @Nested
+    class 文字列で出力する場合 {
+
+        @Test
+        void 複数のスレッドで変換しても入力順に書込む() throws IOException {
+            StringBuilder input = new StringBuilder();
+            StringBuilder expected = new StringBuilder();
+            for (int i = 0; i < 10000; i++) {
+                input.append("-   attribute").append(i).append(" :int\n");
+                expected.append("- attribute").append(i).append(" : int\n");
+            }
+            obj = new BulkConverter(FeatureKind.Attribute, OutputFormat.Text, 4);
+
+            ConversionReport actual = obj.convert(new StringReader(input.toString()), out, errors);
+
+            assertThat(output()).isEqualTo(expected.toString());
+            assertThat(actual.getFeatureCount()).isEqualTo(10000);
+            assertThat(actual.getErrorCount()).isZero();
+            assertThat(actual.getLatency().getCount()).isEqualTo(10000);
+        }
+
+        @Test
+        void 失敗した行は書込まずに行番号とともに報告する() throws IOException {
+            obj = new BulkConverter(FeatureKind.Attribute, OutputFormat.Text, 2);
+
+            ConversionReport actual = obj.convert(new StringReader("- a : int\n\n- : int\r\n+ b : char"), out, errors);
+
+            assertThat(output()).isEqualTo("- a : int\n+ b : char\n");
+            assertThat(errors.toString()).startsWith("3: - : int : ");
+            assertThat(actual.getFeatureCount()).isEqualTo(3);
+            assertThat(actual.getErrorCount()).isEqualTo(1);
+        }
+
+        @Test
+        void 形成中にエラーが発生した行も失敗として報告して変換を続ける() throws IOException {
+            obj = new BulkConverter(FeatureKind.Attribute, OutputFormat.Text, 2);
+
+            ConversionReport actual = obj.convert(new StringReader("- a : int\n- b : int = " + "(".repeat(100000) + "\n+ c : char"), out, errors);
+
+            assertThat(output()).isEqualTo("- a : int\n+ c : char\n");
+            assertThat(errors.toString()).startsWith("2: - b : int = (").contains(StackOverflowError.class.getName());
+            assertThat(actual.getFeatureCount()).isEqualTo(3);
+            assertThat(actual.getErrorCount()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    class JSONで出力する場合 {
+
+        @Test
+        void 失敗した行もエラーとして書込む() throws IOException {
+            obj = new BulkConverter(FeatureKind.Attribute, OutputFormat.Json, 2);
+
+            obj.convert(new StringReader("- a : int\n- : int\n"), out, null);
+
+            String[] lines = output().split("\n");
+            assertThat(lines).hasSize(2);
+            assertThat(lines[0]).startsWith("{\"kind\":\"attribute\",\"name\":\"a\"");
+            assertThat(lines[1]).startsWith("{\"kind\":\"error\",\"text\":\"- : int\"");
+        }
+    }
+
+    @Nested
+    class バイナリで出力する場合 {
+
+        @Test
+        void 読込むと同じ操作を得る() throws IOException {
+            obj = new BulkConverter(FeatureKind.Operation, OutputFormat.Binary, 3);
+
+            obj.convert(new StringReader("+ a() : int\n# b(c : char)\n- d(e : int = 1) {query}\n"), out, null);
+
+            List<String> actual = new ArrayList<>();
+            try (FeatureReader reader = new FeatureReader(new ByteArrayInputStream(out.toByteArray()))) {
+                while (reader.hasNext()) actual.add(reader.readOperation().toString());
+            }
+            assertThat(actual).containsExactly("+ a() : int", "# b(c : char)", "- d(e : int = 1) {query}");
+        }
+    }
+
+    @Test
+    void 結果報告を文字列で出力する() throws IOException {
+        obj = new BulkConverter(FeatureKind.Attribute, OutputFormat.Text, 1);
+
+        ConversionReport actual = obj.convert(new StringReader("- a : int\n- : int\n"), out, null);
+
+        assertThat(actual.toString()).matches("features: 2, errors: 1, elapsed: \\d+ ms, features/s: [\\d.]+, p50: \\d+ us, p99: \\d+ us");
+    }
+
+    @Test
+    void 並列数が1未満の場合は例外を投げる() {
+        assertThatThrownBy(() -> new BulkConverter(FeatureKind.Attribute, OutputFormat.Text, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 読込み元にnullを設定すると例外を投げる() {
+        obj = new BulkConverter(FeatureKind.Attribute, OutputFormat.Text, 1);
+
+        assertThatThrownBy(() -> obj.convert(null, out, null)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,61 @@
+package io.github.morichan.fescue.cli;
+
+import io.github.morichan.fescue.metrics.FeatureKind;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MainTest {
+
+    @Nested
+    class 要素の種類を解析する場合 {
+
+        @Test
+        void attributeとoperationを解析する() {
+            assertThat(Main.parseKind("attribute")).isEqualTo(FeatureKind.Attribute);
+            assertThat(Main.parseKind("operation")).isEqualTo(FeatureKind.Operation);
+        }
+
+        @Test
+        void それ以外の値は例外を投げる() {
+            assertThatThrownBy(() -> Main.parseKind("Operation")).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    class 出力形式を解析する場合 {
+
+        @Test
+        void textとjsonとbinaryを解析する() {
+            assertThat(Main.parseFormat("text")).isEqualTo(OutputFormat.Text);
+            assertThat(Main.parseFormat("json")).isEqualTo(OutputFormat.Json);
+            assertThat(Main.parseFormat("binary")).isEqualTo(OutputFormat.Binary);
+        }
+
+        @Test
+        void それ以外の値は例外を投げる() {
+            assertThatThrownBy(() -> Main.parseFormat("JSON")).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    class 並列数を解析する場合 {
+
+        @Test
+        void 整数を解析する() {
+            assertThat(Main.parseParallelism("8")).isEqualTo(8);
+        }
+
+        @Test
+        void 値が1未満の場合は例外を投げる() {
+            assertThatThrownBy(() -> Main.parseParallelism("0")).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void 値が整数でない場合は例外を投げる() {
+            assertThatThrownBy(() -> Main.parseParallelism("eight")).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
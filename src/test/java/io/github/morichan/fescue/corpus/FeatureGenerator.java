@@ -0,0 +1,471 @@
+package io.github.morichan.fescue.corpus;
+
+import io.github.morichan.fescue.metrics.FeatureKind;
+import net.java.quickcheck.Generator;
+import net.java.quickcheck.generator.distribution.Distribution;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static net.java.quickcheck.generator.PrimitiveGenerators.integers;
+import static net.java.quickcheck.generator.PrimitiveGenerators.letterStrings;
+
+/**
+ * <p> 構文上正しい属性または操作の文字列の生成器 </p>
+ *
+ * <p>
+ *     {@code ClassFeature.g4}の全ての構文規則（可視性、派生、型、多重度の範囲、既定値、プロパティ、パラメータ、戻り値の型、式など）を含む文字列を無作為に生成します。
+ *     式の入れ子の深さ、パラメータの数、プロパティの数はそれぞれ{@link Generator}で分布を変更できます。
+ *     既定では、いずれも小さい値ほど多く生成します（{@link Distribution#POSITIV_NORMAL}参照）。
+ * </p>
+ *
+ * <p>
+ *     生成する文字列は構文上正しいことのみを保証します（{@link FeatureSyntax#accepts(FeatureKind, CharSequence)}参照）。
+ *     乱数はQuickCheckの他の生成器と共有するため、再現する場合は{@link net.java.quickcheck.generator.distribution.RandomConfiguration#setSeed(long)}で種を設定してください。
+ * </p>
+ *
+ * <pre>
+ *     {@code
+ *     FeatureGenerator generator = new FeatureGenerator(FeatureKind.Operation);
+ *     generator.setParameterCounts(integers(0, 10));
+ *
+ *     String text = generator.next(); // 例、"# set(in a : int[0..*] = (1 + b) {ordered}) : void"
+ *     }
+ * </pre>
+ */
+public class FeatureGenerator implements Generator<String> {
+
+    /**
+     * 名前として使えない単語（キーワードおよびリテラル）
+     */
+    private static final Set<String> RESERVED_WORDS = new HashSet<>(Arrays.asList(
+            "readOnly", "union", "subsets", "redefines", "ordered", "unique", "query",
+            "in", "out", "inout", "return", "new", "void",
+            "Boolean", "Integer", "String", "UnlimitedNatural",
+            "not", "NOT", "and", "AND", "or", "OR",
+            "true", "TRUE", "True", "false", "FALSE", "False",
+            "null", "NULL", "Null", "nul", "NUL", "Nul", "nil", "NIL", "Nil", "none", "NONE", "None", "undef", "UNDEF", "Undef"));
+
+    private static final String[] NAMES = {"number", "total", "a", "b", "x", "_count", "$value", "name2", "Base", "値段"};
+    private static final String[] TYPES = {"int", "char", "double", "long", "T", "Sample", "Boolean", "Integer", "String", "UnlimitedNatural"};
+    private static final String[] BINARY_OPERATORS = {"*", "/", "%", "+", "-", "<=", ">=", ">", "<", "==", "!=", "&&", "and", "AND", "||", "or", "OR"};
+
+    /**
+     * 前後の空白を省略しても字句解析の結果が変わらない記号
+     */
+    private static final Set<String> PUNCTUATIONS = new HashSet<>(Arrays.asList("(", ")", "[", "]", "{", "}", ",", ":"));
+
+    private final FeatureKind kind;
+    private final Generator<Integer> choices = integers(0, Integer.MAX_VALUE - 1);
+    private final Generator<String> letters = letterStrings(1, 8);
+
+    private Generator<Integer> expressionDepths = integers(0, 3, Distribution.POSITIV_NORMAL);
+    private Generator<Integer> parameterCounts = integers(0, 4, Distribution.POSITIV_NORMAL);
+    private Generator<Integer> propertyCounts = integers(0, 3, Distribution.POSITIV_NORMAL);
+    private boolean isCreatorIncluded = true;
+
+    /**
+     * <p> 生成する要素の種類を設定するコンストラクタ </p>
+     *
+     * <p>
+     *     {@link FeatureKind#Attribute}または{@link FeatureKind#Operation}以外を設定した場合は{@link IllegalArgumentException}を投げます。
+     * </p>
+     *
+     * @param kind 要素の種類
+     */
+    public FeatureGenerator(FeatureKind kind) {
+        if (kind != FeatureKind.Attribute && kind != FeatureKind.Operation) throw new IllegalArgumentException();
+        this.kind = kind;
+    }
+
+    /**
+     * <p> 生成する要素の種類を取得します。 </p>
+     *
+     * @return 要素の種類
+     */
+    public FeatureKind getKind() {
+        return kind;
+    }
+
+    /**
+     * <p> 式の入れ子の深さの分布を設定します。 </p>
+     *
+     * <p>
+     *     {@code 0}の場合はリテラルまたは名前のみの式です。
+     *     {@code null}を設定した場合は{@link IllegalArgumentException}を投げます。
+     * </p>
+     *
+     * @param expressionDepths {@code 0}以上の整数の生成器<br>{@code null}不可
+     */
+    public void setExpressionDepths(Generator<Integer> expressionDepths) {
+        if (expressionDepths == null) throw new IllegalArgumentException();
+        this.expressionDepths = expressionDepths;
+    }
+
+    /**
+     * <p> 操作のパラメータの数の分布を設定します。 </p>
+     *
+     * <p>
+     *     {@code null}を設定した場合は{@link IllegalArgumentException}を投げます。
+     * </p>
+     *
+     * @param parameterCounts {@code 0}以上の整数の生成器<br>{@code null}不可
+     */
+    public void setParameterCounts(Generator<Integer> parameterCounts) {
+        if (parameterCounts == null) throw new IllegalArgumentException();
+        this.parameterCounts = parameterCounts;
+    }
+
+    /**
+     * <p> プロパティの数の分布を設定します。 </p>
+     *
+     * <p>
+     *     属性、操作、パラメータのプロパティに共通です。
+     *     {@code 0}の場合はプロパティを生成しません。
+     *     {@code null}を設定した場合は{@link IllegalArgumentException}を投げます。
+     * </p>
+     *
+     * @param propertyCounts {@code 0}以上の整数の生成器<br>{@code null}不可
+     */
+    public void setPropertyCounts(Generator<Integer> propertyCounts) {
+        if (propertyCounts == null) throw new IllegalArgumentException();
+        this.propertyCounts = propertyCounts;
+    }
+
+    /**
+     * <p> インスタンス生成式（{@code new T()}）を生成するかどうかを設定します。 </p>
+     *
+     * <p>
+     *     既定では生成します。
+     *     インスタンス生成式を含む既定値は彫刻できないため、彫刻まで行う場合は偽を設定してください。
+     * </p>
+     *
+     * @param isCreatorIncluded インスタンス生成式を生成する場合は真
+     */
+    public void setCreatorIncluded(boolean isCreatorIncluded) {
+        this.isCreatorIncluded = isCreatorIncluded;
+    }
+
+    /**
+     * <p> 構文上正しい要素の文字列を生成します。 </p>
+     *
+     * @return 要素の文字列<br>{@code null}および{@code ""}なし
+     */
+    @Override
+    public String next() {
+        return join(nextTokens());
+    }
+
+    /**
+     * <p> 構文上正しい要素のトークンの列を生成します。 </p>
+     *
+     * @return トークンの文字列のリスト
+     */
+    List<String> nextTokens() {
+        List<String> tokens = new ArrayList<>();
+        if (kind == FeatureKind.Attribute) addAttribute(tokens);
+        else addOperation(tokens);
+        return tokens;
+    }
+
+    /**
+     * <p> トークンの列を無作為な空白でつなげます。 </p>
+     *
+     * <p>
+     *     どちらかが記号のトークンの間は空白を省略する場合があります。
+     *     それ以外のトークンの間には、空白、タブ、改行のいずれかを1つ以上入れます。
+     * </p>
+     *
+     * @param tokens トークンの文字列のリスト
+     * @return つなげた文字列
+     */
+    String join(List<String> tokens) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < tokens.size(); i++) {
+            if (i > 0) sb.append(separator(tokens.get(i - 1), tokens.get(i)));
+            sb.append(tokens.get(i));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * <p> {@code 0}以上{@code bound}未満の整数を無作為に選びます。 </p>
+     *
+     * @param bound 上限（この値を含まない）
+     * @return 整数
+     */
+    int uniform(int bound) {
+        return choices.next() % bound;
+    }
+
+
+
+    private boolean chance(int percent) {
+        return uniform(100) < percent;
+    }
+
+    private String pick(String... values) {
+        return values[uniform(values.length)];
+    }
+
+    private String separator(String previous, String current) {
+        if ((PUNCTUATIONS.contains(previous) || PUNCTUATIONS.contains(current)) && chance(40)) return "";
+        if (chance(90)) return " ";
+        return pick("  ", "\t", "\n", " \r\n ");
+    }
+
+    private void addAttribute(List<String> tokens) {
+        if (chance(70)) tokens.add(pick("+", "-", "#", "~"));
+        if (chance(15)) tokens.add("/");
+        tokens.add(identifier());
+        if (chance(80)) addType(tokens);
+        if (chance(30)) addMultiplicityRange(tokens);
+        if (chance(40)) addDefaultValue(tokens);
+        addProperties(tokens, propertyCounts.next());
+    }
+
+    private void addOperation(List<String> tokens) {
+        if (chance(70)) tokens.add(pick("+", "-", "#", "~"));
+        tokens.add(identifier());
+        tokens.add("(");
+        int count = parameterCounts.next();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) tokens.add(",");
+            addParameter(tokens);
+        }
+        tokens.add(")");
+        if (chance(70)) {
+            if (chance(20)) {
+                tokens.add(":");
+                tokens.add("void");
+            } else {
+                addType(tokens);
+            }
+        }
+
+        int propertyCount = propertyCounts.next();
+        if (propertyCount == 0) return;
+        tokens.add("{");
+        for (int i = 0; i < propertyCount; i++) {
+            if (i > 0) tokens.add(",");
+            String property = pick("redefines", "query", "ordered", "unique");
+            tokens.add(property);
+            if (property.equals("redefines")) addPropertyName(tokens);
+        }
+        tokens.add("}");
+    }
+
+    private void addParameter(List<String> tokens) {
+        if (chance(30)) tokens.add(pick("in", "out", "inout", "return"));
+        tokens.add(identifier());
+        addType(tokens);
+        if (chance(20)) addMultiplicityRange(tokens);
+        if (chance(30)) addDefaultValue(tokens);
+        if (chance(15)) addProperties(tokens, propertyCounts.next());
+    }
+
+    private void addType(List<String> tokens) {
+        tokens.add(":");
+        tokens.add(chance(80) ? pick(TYPES) : identifier());
+    }
+
+    private void addMultiplicityRange(List<String> tokens) {
+        tokens.add("[");
+        if (chance(50)) {
+            addBound(tokens, false);
+            tokens.add("..");
+        }
+        addBound(tokens, true);
+        tokens.add("]");
+    }
+
+    private void addBound(List<String> tokens, boolean isUpper) {
+        if (isUpper && chance(35)) tokens.add("*");
+        else if (chance(75)) tokens.add(integerLiteral());
+        else addValueSpecification(tokens);
+    }
+
+    /**
+     * <p> 値指定（例、{@code "(n + 1)"}、{@code "(a b, )"}）を追加します。 </p>
+     *
+     * <p>
+     *     文法上、丸括弧内の式はカンマで区切った各部分に0個以上並べられます。
+     * </p>
+     */
+    private void addValueSpecification(List<String> tokens) {
+        tokens.add("(");
+        int slots = 1 + uniform(3);
+        for (int i = 0; i < slots; i++) {
+            if (i > 0) tokens.add(",");
+            int count = i == 0 ? 1 + uniform(2) : uniform(3);
+            for (int j = 0; j < count; j++) addExpression(tokens, expressionDepths.next());
+        }
+        tokens.add(")");
+    }
+
+    private void addDefaultValue(List<String> tokens) {
+        tokens.add("=");
+        addExpression(tokens, expressionDepths.next());
+    }
+
+    private void addProperties(List<String> tokens, int count) {
+        if (count == 0) return;
+        tokens.add("{");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) tokens.add(",");
+            String property = pick("readOnly", "union", "subsets", "redefines", "ordered", "unique");
+            tokens.add(property);
+            if (property.equals("subsets") || property.equals("redefines")) addPropertyName(tokens);
+        }
+        tokens.add("}");
+    }
+
+    private void addPropertyName(List<String> tokens) {
+        if (chance(25)) {
+            tokens.add(identifier());
+            tokens.add(".");
+        }
+        tokens.add(identifier());
+    }
+
+    private void addExpression(List<String> tokens, int depth) {
+        if (depth <= 0) {
+            tokens.add(chance(50) ? literal() : identifier());
+            return;
+        }
+
+        switch (uniform(8)) {
+            case 0:
+                tokens.add("(");
+                addExpression(tokens, depth - 1);
+                tokens.add(")");
+                break;
+            case 1:
+                addMemberOwner(tokens, depth - 1);
+                tokens.add(".");
+                tokens.add(identifier());
+                break;
+            case 2:
+                if (chance(50)) {
+                    addMemberOwner(tokens, depth - 1);
+                    tokens.add(".");
+                }
+                tokens.add(identifier());
+                addArguments(tokens, depth - 1);
+                break;
+            case 3:
+                if (isCreatorIncluded) {
+                    tokens.add("new");
+                    tokens.add(identifier());
+                    while (chance(30)) {
+                        tokens.add(".");
+                        tokens.add(identifier());
+                    }
+                    addArguments(tokens, depth - 1);
+                } else {
+                    // インスタンス生成式を生成しない場合は単項演算子の式とする
+                    tokens.add(pick("+", "-"));
+                    addExpression(tokens, depth - 1);
+                }
+                break;
+            case 4:
+                tokens.add(pick("+", "-"));
+                addExpression(tokens, depth - 1);
+                break;
+            case 5:
+                tokens.add(pick("!", "not", "NOT"));
+                addExpression(tokens, depth - 1);
+                break;
+            default:
+                addExpression(tokens, depth - 1);
+                tokens.add(pick(BINARY_OPERATORS));
+                addExpression(tokens, depth - 1);
+                break;
+        }
+    }
+
+    /**
+     * <p> メンバ参照（例、{@code "a.b"}）の左辺を追加します。 </p>
+     *
+     * <p>
+     *     数値リテラルの直後のドットは小数点とみなされるため、名前以外の左辺は丸括弧で囲みます。
+     * </p>
+     */
+    private void addMemberOwner(List<String> tokens, int depth) {
+        if (chance(50)) {
+            tokens.add(identifier());
+        } else {
+            tokens.add("(");
+            addExpression(tokens, depth);
+            tokens.add(")");
+        }
+    }
+
+    private void addArguments(List<String> tokens, int depth) {
+        tokens.add("(");
+        int count = uniform(3);
+        for (int i = 0; i < count; i++) {
+            if (i > 0) tokens.add(",");
+            addExpression(tokens, depth);
+        }
+        tokens.add(")");
+    }
+
+    private String identifier() {
+        if (chance(70)) return pick(NAMES);
+
+        String name;
+        do {
+            name = letters.next();
+        } while (RESERVED_WORDS.contains(name));
+        return chance(20) ? name + uniform(10) : name;
+    }
+
+    private String literal() {
+        switch (uniform(6)) {
+            case 0:
+                return integerLiteral();
+            case 1:
+                return pick("1.5", "3.", ".25", "1e10", "2.5E-3f", "7d", "1_000.0_1", "0x1.8p3", "0X.Fp-2d");
+            case 2:
+                return pick("'a'", "'\\n'", "'\\u0041'", "''");
+            case 3:
+                return pick("\"text\"", "\"with \\\"escape\\\"\"", "\"\\t\\101\"", "\"\"");
+            case 4:
+                return pick("true", "TRUE", "True", "false", "FALSE", "False");
+            default:
+                return pick("null", "NULL", "Null", "nul", "NUL", "Nul", "nil", "NIL", "Nil", "none", "NONE", "None", "undef", "UNDEF", "Undef");
+        }
+    }
+
+    /**
+     * <p> 整数リテラル（10進数、16進数、8進数、2進数）を生成します。 </p>
+     *
+     * <p>
+     *     {@code "0"}で始まる10進数は8進数とみなされるため生成しません。
+     * </p>
+     */
+    private String integerLiteral() {
+        int value = 1 + uniform(100000);
+        String suffix = chance(10) ? pick("l", "L") : "";
+        switch (uniform(6)) {
+            case 0:
+                return pick("0", "1");
+            case 1:
+                return Integer.toHexString(value).length() > 1 && chance(30)
+                        ? "0x" + Integer.toHexString(value).charAt(0) + "_" + Integer.toHexString(value).substring(1) + suffix
+                        : pick("0x", "0X") + Integer.toHexString(value).toUpperCase() + suffix;
+            case 2:
+                return pick("0", "0o", "0_") + Integer.toOctalString(value) + suffix;
+            case 3:
+                return pick("0b", "0B") + Integer.toBinaryString(value) + suffix;
+            case 4:
+                return value + "_" + uniform(10) + suffix;
+            default:
+                return value + suffix;
+        }
+    }
+}
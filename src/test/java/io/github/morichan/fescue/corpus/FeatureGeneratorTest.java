@@ -0,0 +1,139 @@
+package io.github.morichan.fescue.corpus;
+
+import io.github.morichan.fescue.feature.Operation;
+import io.github.morichan.fescue.metrics.FeatureKind;
+import io.github.morichan.fescue.parser.ClassFeatureBaseListener;
+import io.github.morichan.fescue.parser.ClassFeatureParser;
+import io.github.morichan.fescue.sculptor.AttributeSculptor;
+import io.github.morichan.fescue.sculptor.OperationSculptor;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static net.java.quickcheck.generator.PrimitiveGenerators.fixedValues;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FeatureGeneratorTest {
+
+    FeatureGenerator obj;
+
+    @Nested
+    class 属性の場合 {
+
+        @Test
+        void 構文上正しい文字列を生成する() {
+            obj = new FeatureGenerator(FeatureKind.Attribute);
+
+            for (int i = 0; i < 1000; i++) {
+                String text = obj.next();
+                assertThat(FeatureSyntax.accepts(FeatureKind.Attribute, text)).as(text).isTrue();
+            }
+        }
+
+        @Test
+        void インスタンス生成式を含めない場合は全て彫刻できる() {
+            obj = new FeatureGenerator(FeatureKind.Attribute);
+            obj.setCreatorIncluded(false);
+
+            for (int i = 0; i < 1000; i++) {
+                String text = obj.next();
+                AttributeSculptor sculptor = new AttributeSculptor();
+                assertThatCode(() -> {
+                    sculptor.parse(text);
+                    sculptor.carve();
+                }).as(text).doesNotThrowAnyException();
+            }
+        }
+    }
+
+    @Nested
+    class 操作の場合 {
+
+        @Test
+        void 構文上正しい文字列を生成する() {
+            obj = new FeatureGenerator(FeatureKind.Operation);
+
+            for (int i = 0; i < 1000; i++) {
+                String text = obj.next();
+                assertThat(FeatureSyntax.accepts(FeatureKind.Operation, text)).as(text).isTrue();
+            }
+        }
+
+        @Test
+        void インスタンス生成式を含めない場合は全て彫刻できる() {
+            obj = new FeatureGenerator(FeatureKind.Operation);
+            obj.setCreatorIncluded(false);
+
+            for (int i = 0; i < 1000; i++) {
+                String text = obj.next();
+                OperationSculptor sculptor = new OperationSculptor();
+                assertThatCode(() -> {
+                    sculptor.parse(text);
+                    sculptor.carve();
+                }).as(text).doesNotThrowAnyException();
+            }
+        }
+
+        @Test
+        void 指定した分布の数のパラメータを生成する() {
+            obj = new FeatureGenerator(FeatureKind.Operation);
+            obj.setCreatorIncluded(false);
+            obj.setParameterCounts(fixedValues(3));
+
+            for (int i = 0; i < 100; i++) {
+                OperationSculptor sculptor = new OperationSculptor();
+                sculptor.parse(obj.next());
+                Operation operation = sculptor.carve();
+
+                assertThat(operation.getParameters()).hasSize(3);
+            }
+        }
+    }
+
+    @Test
+    void 全ての構文規則を生成する() {
+        Set<String> rules = new TreeSet<>();
+        ClassFeatureBaseListener listener = new ClassFeatureBaseListener() {
+            @Override
+            public void enterEveryRule(ParserRuleContext ctx) {
+                rules.add(ClassFeatureParser.ruleNames[ctx.getRuleIndex()]);
+            }
+        };
+
+        for (FeatureKind kind : Arrays.asList(FeatureKind.Attribute, FeatureKind.Operation)) {
+            obj = new FeatureGenerator(kind);
+            for (int i = 0; i < 3000; i++) new ParseTreeWalker().walk(listener, FeatureSyntax.parse(kind, obj.next()));
+        }
+
+        assertThat(rules).containsExactlyInAnyOrder(ClassFeatureParser.ruleNames);
+    }
+
+    @Test
+    void プロパティの数に0を指定するとプロパティを生成しない() {
+        obj = new FeatureGenerator(FeatureKind.Attribute);
+        obj.setPropertyCounts(fixedValues(0));
+
+        for (int i = 0; i < 100; i++) assertThat(obj.next()).doesNotContain("{");
+    }
+
+    @Test
+    void パラメータの種類を設定すると例外を投げる() {
+        assertThatThrownBy(() -> new FeatureGenerator(FeatureKind.Parameter)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 分布にnullを設定すると例外を投げる() {
+        obj = new FeatureGenerator(FeatureKind.Attribute);
+
+        assertThatThrownBy(() -> obj.setExpressionDepths(null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> obj.setParameterCounts(null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> obj.setPropertyCounts(null)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
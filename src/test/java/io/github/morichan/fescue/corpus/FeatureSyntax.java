@@ -0,0 +1,82 @@
+package io.github.morichan.fescue.corpus;
+
+import io.github.morichan.fescue.metrics.FeatureKind;
+import io.github.morichan.fescue.parser.ClassFeatureLexer;
+import io.github.morichan.fescue.parser.ClassFeatureParser;
+import io.github.morichan.fescue.token.CharSequenceCharStream;
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+
+/**
+ * <p> 要素の文字列が構文上正しいかどうかの判定クラス </p>
+ *
+ * <p>
+ *     彫刻器と異なり、字句解析または構文解析で1つでもエラーがある場合と、入力文字列の終端まで構文解析しなかった場合は正しくないとみなします。
+ *     {@link FeatureGenerator}と{@link MutatedFeatureGenerator}が生成する文字列の基準です。
+ *     末尾で字句解析エラーを通知する際に範囲外の文字列を切出さないよう、{@link CharSequenceCharStream}で字句解析します。
+ * </p>
+ */
+public final class FeatureSyntax {
+
+    private FeatureSyntax() {}
+
+    /**
+     * <p> 要素の文字列が構文上正しい場合は真を返す真偽値判定を行います。 </p>
+     *
+     * <p>
+     *     {@link FeatureKind#Attribute}または{@link FeatureKind#Operation}以外を設定した場合は{@link IllegalArgumentException}を投げます。
+     * </p>
+     *
+     * @param kind 要素の種類
+     * @param text 要素の文字列<br>{@code null}不可
+     * @return 構文上正しい場合は真を返す真偽値
+     */
+    public static boolean accepts(FeatureKind kind, CharSequence text) {
+        return parse(kind, text) != null;
+    }
+
+    /**
+     * <p> 要素の文字列を構文解析します。 </p>
+     *
+     * @param kind 要素の種類
+     * @param text 要素の文字列<br>{@code null}不可
+     * @return 構文木<br>構文上正しくない場合は{@code null}
+     */
+    static ParserRuleContext parse(FeatureKind kind, CharSequence text) {
+        if (kind != FeatureKind.Attribute && kind != FeatureKind.Operation) throw new IllegalArgumentException();
+        if (text == null) throw new IllegalArgumentException();
+
+        ClassFeatureLexer lexer = new ClassFeatureLexer(new CharSequenceCharStream(text));
+        lexer.removeErrorListeners();
+        lexer.addErrorListener(Bail.INSTANCE);
+        ClassFeatureParser parser = new ClassFeatureParser(new CommonTokenStream(lexer));
+        parser.removeErrorListeners();
+        parser.addErrorListener(Bail.INSTANCE);
+        parser.setErrorHandler(new BailErrorStrategy());
+
+        try {
+            ParserRuleContext tree = kind == FeatureKind.Attribute ? parser.property() : parser.operation();
+            return parser.getCurrentToken().getType() == Token.EOF ? tree : null;
+        } catch (ParseCancellationException e) {
+            return null;
+        }
+    }
+
+
+
+    private static class Bail extends BaseErrorListener {
+
+        private static final Bail INSTANCE = new Bail();
+
+        @Override
+        public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line, int charPositionInLine, String msg, RecognitionException e) {
+            throw new ParseCancellationException(msg);
+        }
+    }
+}
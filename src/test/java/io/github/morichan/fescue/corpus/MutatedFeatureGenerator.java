@@ -0,0 +1,137 @@
+package io.github.morichan.fescue.corpus;
+
+import net.java.quickcheck.Generator;
+
+import java.util.List;
+
+/**
+ * <p> 構文上正しくない属性または操作の文字列の生成器 </p>
+ *
+ * <p>
+ *     {@link FeatureGenerator}が生成した正しいトークンの列を1箇所だけ変異させ（{@link Mutation}参照）、構文上正しくない文字列を生成します。
+ *     変異させても正しいままの場合（例、可視性の削除）は変異させ直すため、生成する文字列は必ず{@link FeatureSyntax#accepts(io.github.morichan.fescue.metrics.FeatureKind, CharSequence)}が偽を返します。
+ *     元の文字列に近いため、エラー処理や回復処理の試験に利用できます。
+ * </p>
+ */
+public class MutatedFeatureGenerator implements Generator<String> {
+
+    /**
+     * 変異させ直す上限の回数
+     */
+    private static final int MAX_ATTEMPTS = 1000;
+
+    /**
+     * 挿入する不正なトークン（字句解析器が認識しない文字を含む）
+     */
+    private static final String[] STRAY_TOKENS = {"(", ")", "[", "]", "{", "}", ",", ":", "=", "..", "*", "new", "@", "?", ";", "&", "|"};
+
+    private final FeatureGenerator valid;
+    private Mutation lastMutation;
+
+    /**
+     * <p> 変異の種類 </p>
+     */
+    public enum Mutation {
+
+        /**
+         * トークンを1つ削除する
+         */
+        Delete,
+
+        /**
+         * トークンを1つ複製する
+         */
+        Duplicate,
+
+        /**
+         * 隣り合うトークンを入れ替える
+         */
+        Swap,
+
+        /**
+         * 不正なトークンを1つ挿入する
+         */
+        Insert,
+
+        /**
+         * 途中で打ち切る
+         */
+        Truncate,
+    }
+
+    /**
+     * <p> 変異させる元の文字列の生成器を設定するコンストラクタ </p>
+     *
+     * <p>
+     *     {@code null}を設定した場合は{@link IllegalArgumentException}を投げます。
+     * </p>
+     *
+     * @param valid 構文上正しい文字列の生成器<br>{@code null}不可
+     */
+    public MutatedFeatureGenerator(FeatureGenerator valid) {
+        if (valid == null) throw new IllegalArgumentException();
+        this.valid = valid;
+    }
+
+    /**
+     * <p> 構文上正しくない要素の文字列を生成します。 </p>
+     *
+     * <p>
+     *     変異させ直す回数が上限に達した場合は{@link IllegalStateException}を投げます。
+     * </p>
+     *
+     * @return 要素の文字列<br>{@code null}なし（{@code ""}の場合あり）
+     */
+    @Override
+    public String next() {
+        for (int i = 0; i < MAX_ATTEMPTS; i++) {
+            List<String> tokens = valid.nextTokens();
+            Mutation mutation = Mutation.values()[valid.uniform(Mutation.values().length)];
+            mutate(tokens, mutation);
+
+            String text = valid.join(tokens);
+            if (!FeatureSyntax.accepts(valid.getKind(), text)) {
+                lastMutation = mutation;
+                return text;
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    /**
+     * <p> 最後に生成した文字列の変異の種類を取得します。 </p>
+     *
+     * <p>
+     *     まだ生成していない場合は{@link IllegalStateException}を投げます。
+     * </p>
+     *
+     * @return 変異の種類
+     */
+    public Mutation getLastMutation() {
+        if (lastMutation == null) throw new IllegalStateException();
+        return lastMutation;
+    }
+
+
+
+    private void mutate(List<String> tokens, Mutation mutation) {
+        int index = valid.uniform(tokens.size());
+        switch (mutation) {
+            case Delete:
+                tokens.remove(index);
+                break;
+            case Duplicate:
+                tokens.add(index, tokens.get(index));
+                break;
+            case Swap:
+                if (index + 1 < tokens.size()) tokens.add(index + 1, tokens.remove(index));
+                break;
+            case Insert:
+                tokens.add(valid.uniform(tokens.size() + 1), STRAY_TOKENS[valid.uniform(STRAY_TOKENS.length)]);
+                break;
+            case Truncate:
+                tokens.subList(index, tokens.size()).clear();
+                break;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package io.github.morichan.fescue.corpus;
+
+import io.github.morichan.fescue.metrics.FeatureKind;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MutatedFeatureGeneratorTest {
+
+    MutatedFeatureGenerator obj;
+
+    @Test
+    void 属性の場合は構文上正しくない文字列を生成する() {
+        obj = new MutatedFeatureGenerator(new FeatureGenerator(FeatureKind.Attribute));
+
+        for (int i = 0; i < 500; i++) {
+            String text = obj.next();
+            assertThat(FeatureSyntax.accepts(FeatureKind.Attribute, text)).as(text).isFalse();
+        }
+    }
+
+    @Test
+    void 操作の場合は構文上正しくない文字列を生成する() {
+        obj = new MutatedFeatureGenerator(new FeatureGenerator(FeatureKind.Operation));
+
+        for (int i = 0; i < 500; i++) {
+            String text = obj.next();
+            assertThat(FeatureSyntax.accepts(FeatureKind.Operation, text)).as(text).isFalse();
+        }
+    }
+
+    @Test
+    void 全ての種類の変異を生成する() {
+        obj = new MutatedFeatureGenerator(new FeatureGenerator(FeatureKind.Operation));
+        Set<MutatedFeatureGenerator.Mutation> mutations = EnumSet.noneOf(MutatedFeatureGenerator.Mutation.class);
+
+        for (int i = 0; i < 500; i++) {
+            obj.next();
+            mutations.add(obj.getLastMutation());
+        }
+
+        assertThat(mutations).containsExactlyInAnyOrder(MutatedFeatureGenerator.Mutation.values());
+    }
+
+    @Test
+    void 生成する前に変異の種類を取得しようとすると例外を投げる() {
+        obj = new MutatedFeatureGenerator(new FeatureGenerator(FeatureKind.Attribute));
+
+        assertThatThrownBy(() -> obj.getLastMutation()).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void 生成器にnullを設定すると例外を投げる() {
+        assertThatThrownBy(() -> new MutatedFeatureGenerator(null)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
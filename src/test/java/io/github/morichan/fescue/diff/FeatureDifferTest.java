@@ -0,0 +1,220 @@
+package io.github.morichan.fescue.diff;
+
+import io.github.morichan.fescue.feature.Attribute;
+import io.github.morichan.fescue.feature.Operation;
+import io.github.morichan.fescue.feature.name.Name;
+import io.github.morichan.fescue.feature.parameter.Parameter;
+import io.github.morichan.fescue.sculptor.AttributeSculptor;
+import io.github.morichan.fescue.sculptor.OperationSculptor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FeatureDifferTest {
+
+    FeatureDiffer obj;
+
+    @BeforeEach
+    void setup() {
+        obj = new FeatureDiffer();
+    }
+
+    List<Attribute> carveAttributes(String... texts) {
+        List<Attribute> attributes = new ArrayList<>();
+        for (String text : texts) {
+            AttributeSculptor sculptor = new AttributeSculptor();
+            sculptor.parse(text);
+            attributes.add(sculptor.carve());
+        }
+        return attributes;
+    }
+
+    List<Operation> carveOperations(String... texts) {
+        List<Operation> operations = new ArrayList<>();
+        for (String text : texts) {
+            OperationSculptor sculptor = new OperationSculptor();
+            sculptor.parse(text);
+            operations.add(sculptor.carve());
+        }
+        return operations;
+    }
+
+    Operation untypedOperation(String name, String... parameterNames) {
+        Operation operation = new Operation(new Name(name));
+        for (String parameterName : parameterNames) operation.addParameter(new Parameter(new Name(parameterName)));
+        return operation;
+    }
+
+    @Nested
+    class 属性の場合 {
+
+        @Test
+        void 同じ場合は空のリストを返す() {
+            List<Attribute> before = carveAttributes("- number : int = 1 {readOnly}", "+ names : String[*]");
+            List<Attribute> after = carveAttributes("- number : int = 1 {readOnly}", "+ names : String[*]");
+
+            List<FeatureChange<Attribute>> actual = obj.diffAttributes(before, after);
+
+            assertThat(actual).isEmpty();
+        }
+
+        @Test
+        void 追加と削除を返す() {
+            List<Attribute> before = carveAttributes("- number : int", "- removed : int");
+            List<Attribute> after = carveAttributes("- added : int", "- number : int");
+
+            List<FeatureChange<Attribute>> actual = obj.diffAttributes(before, after);
+
+            assertThat(actual).hasSize(2);
+            assertThat(actual.get(0).getType()).isEqualTo(ChangeType.Removed);
+            assertThat(actual.get(0).getBefore()).isSameAs(before.get(1));
+            assertThat(actual.get(1).getType()).isEqualTo(ChangeType.Added);
+            assertThat(actual.get(1).getAfter()).isSameAs(after.get(0));
+        }
+
+        @Test
+        void 変更した要素の種類を返す() {
+            List<Attribute> before = carveAttributes("- number : int[1] = 1 {readOnly}");
+            List<Attribute> after = carveAttributes("+ / number : double[0..1] = 2 {ordered}");
+
+            List<FeatureChange<Attribute>> actual = obj.diffAttributes(before, after);
+
+            assertThat(actual).hasSize(1);
+            assertThat(actual.get(0).getType()).isEqualTo(ChangeType.Changed);
+            assertThat(actual.get(0).getKey()).isEqualTo("number");
+            assertThat(actual.get(0).getChangedFields()).containsExactly(
+                    Field.Visibility, Field.Derived, Field.Type, Field.Multiplicity, Field.DefaultValue, Field.Properties);
+        }
+
+        @Test
+        void 同じ名前が複数ある場合は出現順に照合する() {
+            List<Attribute> before = carveAttributes("- same : int", "- same : char");
+            List<Attribute> after = carveAttributes("- same : int", "- same : char", "- same : double");
+
+            List<FeatureChange<Attribute>> actual = obj.diffAttributes(before, after);
+
+            assertThat(actual).hasSize(1);
+            assertThat(actual.get(0).getType()).isEqualTo(ChangeType.Added);
+            assertThat(actual.get(0).getAfter()).isSameAs(after.get(2));
+        }
+
+        @Test
+        void 追加の場合は変更前を取得しようとすると例外を投げる() {
+            List<FeatureChange<Attribute>> actual = obj.diffAttributes(Collections.emptyList(), carveAttributes("added"));
+
+            assertThatThrownBy(() -> actual.get(0).getBefore()).isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        void nullを設定すると例外を投げる() {
+            assertThatThrownBy(() -> obj.diffAttributes(null, Collections.emptyList())).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    class 操作の場合 {
+
+        @Test
+        void 同じ場合は空のリストを返す() {
+            List<Operation> before = carveOperations("+ set(in value : int = 0) : void {query}");
+            List<Operation> after = carveOperations("+ set(in value : int = 0) : void {query}");
+
+            assertThat(obj.diffOperations(before, after)).isEmpty();
+        }
+
+        @Test
+        void シグネチャで照合する() {
+            List<Operation> before = carveOperations("+ set(value : int)", "+ set(value : String)");
+            List<Operation> after = carveOperations("- set(text : String) : void", "+ set(value : int)");
+
+            List<FeatureChange<Operation>> actual = obj.diffOperations(before, after);
+
+            assertThat(actual).hasSize(1);
+            assertThat(actual.get(0).getKey()).isEqualTo("set(String)");
+            assertThat(actual.get(0).getChangedFields()).containsExactly(Field.Visibility, Field.Type, Field.Parameters);
+        }
+
+        @Test
+        void 複数のパラメータの型は空白を入れずにカンマで区切る() {
+            List<Operation> before = carveOperations("+ set(key : String, value : int)");
+            List<Operation> after = carveOperations("- set(key : String, value : int)");
+
+            List<FeatureChange<Operation>> actual = obj.diffOperations(before, after);
+
+            assertThat(actual).extracting(FeatureChange::getKey).containsExactly("set(String,int)");
+        }
+
+        @Test
+        void パラメータの型を変更すると削除と追加を返す() {
+            List<Operation> before = carveOperations("+ set(value : int)");
+            List<Operation> after = carveOperations("+ set(value : long)");
+
+            List<FeatureChange<Operation>> actual = obj.diffOperations(before, after);
+
+            assertThat(actual).extracting(FeatureChange::toString).containsExactly("Removed set(int)", "Added set(long)");
+        }
+
+        @Test
+        void 型のないパラメータを追加すると削除と追加を返す() {
+            List<Operation> before = Collections.singletonList(untypedOperation("f"));
+            List<Operation> after = Collections.singletonList(untypedOperation("f", "x"));
+
+            List<FeatureChange<Operation>> actual = obj.diffOperations(before, after);
+
+            assertThat(actual).extracting(FeatureChange::toString).containsExactly("Removed f()", "Added f(?)");
+        }
+
+        @Test
+        void 型のないパラメータを削除すると削除と追加を返す() {
+            List<Operation> before = Collections.singletonList(untypedOperation("f", "x"));
+            List<Operation> after = Collections.singletonList(untypedOperation("f"));
+
+            List<FeatureChange<Operation>> actual = obj.diffOperations(before, after);
+
+            assertThat(actual).extracting(FeatureChange::toString).containsExactly("Removed f(?)", "Added f()");
+        }
+
+        @Test
+        void 型のないパラメータの名前を変更すると変更を返す() {
+            List<Operation> before = Collections.singletonList(untypedOperation("f", "x"));
+            List<Operation> after = Collections.singletonList(untypedOperation("f", "y"));
+
+            List<FeatureChange<Operation>> actual = obj.diffOperations(before, after);
+
+            assertThat(actual).extracting(FeatureChange::toString).containsExactly("Changed f(?) [Parameters]");
+        }
+
+        @Test
+        void パラメータの方向を変更すると変更を返す() {
+            List<Operation> before = carveOperations("+ set(in value : int)");
+            List<Operation> after = carveOperations("+ set(inout value : int)");
+
+            List<FeatureChange<Operation>> actual = obj.diffOperations(before, after);
+
+            assertThat(actual).extracting(FeatureChange::toString).containsExactly("Changed set(int) [Parameters]");
+        }
+    }
+
+    @Test
+    void 多数の要素でも比較できる() {
+        List<Attribute> before = new ArrayList<>();
+        List<Attribute> after = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            before.addAll(carveAttributes("- attribute" + i + " : int"));
+            after.addAll(carveAttributes("- attribute" + i + (i % 100 == 0 ? " : long" : " : int")));
+        }
+        Collections.reverse(after);
+
+        List<FeatureChange<Attribute>> actual = obj.diffAttributes(before, after);
+
+        assertThat(actual).hasSize(100).allMatch(change -> change.getChangedFields().equals(Collections.singleton(Field.Type)));
+        assertThat(actual).allMatch(change -> change.getType() == ChangeType.Changed);
+    }
+}
@@ -1,11 +1,18 @@
 package io.github.morichan.fescue.evaluation;
 
+import io.github.morichan.fescue.parser.ClassFeatureLexer;
 import mockit.MockUp;
 import org.antlr.v4.runtime.InputMismatchException;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Nested;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -48,7 +55,7 @@ class FeatureEvaluationTest {
     }
 
     @Nested
-    class 多重度の文字列置換に関して {
+    class 多重度の範囲演算子の字句解析に関して {
 
         @BeforeEach
         void setup() {
@@ -56,49 +63,65 @@ class FeatureEvaluationTest {
         }
 
         @Test
-        void 空文字を入力した場合は空文字を返す() {
-            String expected = "";
+        void 数字に挟まれたドット2つは範囲演算子として区切る() {
+            List<Integer> expected = Arrays.asList(ClassFeatureLexer.DECIMAL_LITERAL, ClassFeatureLexer.RANGE, ClassFeatureLexer.DECIMAL_LITERAL);
 
-            String actual = obj.insertSpaceBothEndsOfRangeOperator("");
+            List<Integer> actual = lex("0..1");
 
             assertThat(actual).isEqualTo(expected);
         }
 
         @Test
-        void ドットを入力した場合はドットを返す() {
-            String expected = ".";
+        void 数字と無制限に挟まれたドット2つは範囲演算子として区切る() {
+            List<Integer> expected = Arrays.asList(ClassFeatureLexer.DECIMAL_LITERAL, ClassFeatureLexer.RANGE, ClassFeatureLexer.UNLIMITATION);
 
-            String actual = obj.insertSpaceBothEndsOfRangeOperator(".");
+            List<Integer> actual = lex("1..*");
 
             assertThat(actual).isEqualTo(expected);
         }
 
         @Test
-        void ドット2つを入力した場合はドット2つの両端にスペースを挿入した文字列を返す() {
-            String expected = " .. ";
+        void 両端にスペースを含む場合と同じトークンに区切る() {
+            List<Integer> expected = lex("[0 .. 1]");
 
-            String actual = obj.insertSpaceBothEndsOfRangeOperator("..");
+            List<Integer> actual = lex("[0..1]");
 
             assertThat(actual).isEqualTo(expected);
         }
 
         @Test
-        void ドット2つの間にスペースを含む文字列を入力した場合はその文字列を返す() {
-            String expected = ". .";
+        void ドット2つの間にスペースを含む場合はドットとして区切る() {
+            List<Integer> expected = Arrays.asList(ClassFeatureLexer.DOT, ClassFeatureLexer.DOT);
 
-            String actual = obj.insertSpaceBothEndsOfRangeOperator(". .");
+            List<Integer> actual = lex(". .");
 
             assertThat(actual).isEqualTo(expected);
         }
 
         @Test
-        void ドット2つの両端に数字を含む文字列を入力した場合はドット2つの両端と数値の間にスペースを挿入した文字列を返す() {
-            String expected = "0 .. 1";
+        void 末尾にドットを含む数字は小数として区切る() {
+            List<Integer> expected = Arrays.asList(ClassFeatureLexer.FLOAT_LITERAL, ClassFeatureLexer.RBRACK);
 
-            String actual = obj.insertSpaceBothEndsOfRangeOperator("0..1");
+            List<Integer> actual = lex("1.]");
 
             assertThat(actual).isEqualTo(expected);
         }
+
+        @Test
+        void 小数を含む場合は小数として区切る() {
+            List<Integer> expected = Arrays.asList(ClassFeatureLexer.FLOAT_LITERAL, ClassFeatureLexer.RANGE, ClassFeatureLexer.FLOAT_LITERAL);
+
+            List<Integer> actual = lex("0.5...5");
+
+            assertThat(actual).isEqualTo(expected);
+        }
+    }
+
+    private List<Integer> lex(String text) {
+        TokenStream tokens = obj.generateParser(text).getTokenStream();
+        List<Integer> types = new ArrayList<>();
+        for (int i = 1; tokens.LA(i) != Token.EOF; i++) types.add(tokens.LA(i));
+        return types;
     }
 
     private void setObj() {
@@ -15,6 +15,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -88,6 +89,18 @@ class AttributeTest {
         void 可視性を設定せずに取得しようとすると例外を返す() {
             assertThatThrownBy(() -> obj.getVisibility()).isInstanceOf(IllegalStateException.class);
         }
+
+        @Test
+        void 可視性を設定すると可視性を保持している() {
+            obj.setVisibility(Visibility.Private);
+
+            assertThat(obj.hasVisibility()).isTrue();
+        }
+
+        @Test
+        void 可視性を設定しなければ可視性を保持していない() {
+            assertThat(obj.hasVisibility()).isFalse();
+        }
     }
 
     @Nested
@@ -171,6 +184,18 @@ class AttributeTest {
         void 型を設定せずに取得しようとすると例外を返す() {
             assertThatThrownBy(() -> obj.getType()).isInstanceOf(IllegalStateException.class);
         }
+
+        @Test
+        void 型を設定すると型を保持している() {
+            obj.setType(new Type("int"));
+
+            assertThat(obj.hasType()).isTrue();
+        }
+
+        @Test
+        void 型を設定しなければ型を保持していない() {
+            assertThat(obj.hasType()).isFalse();
+        }
     }
 
     @Nested
@@ -317,6 +342,67 @@ class AttributeTest {
                 assertThatThrownBy(() -> obj.getProperties()).isInstanceOf(IllegalStateException.class);
             }
         }
+
+        @Nested
+        class フラグの場合 {
+
+            @BeforeEach
+            void setup() {
+                obj = new Attribute(new Name("name"));
+            }
+
+            @Test
+            void プロパティを持たない場合は全て偽を返す() {
+                assertThat(obj.isReadOnly()).isFalse();
+                assertThat(obj.isUnion()).isFalse();
+                assertThat(obj.isOrdered()).isFalse();
+                assertThat(obj.isUnique()).isFalse();
+            }
+
+            @Test
+            void 追加したプロパティのみ真を返す() {
+
+                obj.addProperty(new Ordered());
+                obj.addProperty(new Subsets(new OneIdentifier("instance")));
+
+                assertThat(obj.isOrdered()).isTrue();
+                assertThat(obj.isUnique()).isFalse();
+            }
+
+            @Test
+            void リストで設定したプロパティを反映する() {
+
+                obj.setProperties(Arrays.asList(new Ordered(), new Unique()));
+
+                assertThat(obj.isOrdered()).isTrue();
+                assertThat(obj.isUnique()).isTrue();
+            }
+
+            @Test
+            void 取得したリストから削除すると偽を返す() {
+                obj.addProperty(new Ordered());
+
+                obj.getProperties().remove(0);
+
+                assertThat(obj.isOrdered()).isFalse();
+            }
+
+            @Test
+            void 設定したリストを後から変更しても反映しない() {
+                List<Property> properties = new ArrayList<>();
+                obj.setProperties(properties);
+
+                properties.add(new Ordered());
+
+                assertThat(obj.isOrdered()).isFalse();
+                assertThat(obj.hasProperties()).isFalse();
+            }
+
+            @Test
+            void nullを含むリストを設定すると例外を投げる() {
+                assertThatThrownBy(() -> obj.setProperties(Arrays.asList(new Ordered(), null))).isInstanceOf(IllegalArgumentException.class);
+            }
+        }
     }
 
     @Nested
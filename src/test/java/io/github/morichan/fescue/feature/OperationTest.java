@@ -18,6 +18,7 @@ import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -275,6 +276,66 @@ class OperationTest {
                 assertThatThrownBy(() -> obj.getProperties()).isInstanceOf(IllegalStateException.class);
             }
         }
+
+        @Nested
+        class フラグの場合 {
+
+            @BeforeEach
+            void setup() {
+                obj = new Operation(new Name("name"));
+            }
+
+            @Test
+            void プロパティを持たない場合は全て偽を返す() {
+                assertThat(obj.isQuery()).isFalse();
+                assertThat(obj.isOrdered()).isFalse();
+                assertThat(obj.isUnique()).isFalse();
+            }
+
+            @Test
+            void 追加したプロパティのみ真を返す() {
+
+                obj.addProperty(new Query());
+                obj.addProperty(new Subsets(new OneIdentifier("instance")));
+
+                assertThat(obj.isQuery()).isTrue();
+                assertThat(obj.isUnique()).isFalse();
+            }
+
+            @Test
+            void リストで設定したプロパティを反映する() {
+
+                obj.setProperties(Arrays.asList(new Query(), new Unique()));
+
+                assertThat(obj.isQuery()).isTrue();
+                assertThat(obj.isUnique()).isTrue();
+            }
+
+            @Test
+            void 取得したリストから削除すると偽を返す() {
+                obj.addProperty(new Query());
+
+                obj.getProperties().remove(0);
+
+                assertThat(obj.isQuery()).isFalse();
+            }
+
+            @Test
+            void 設定したリストを後から変更しても反映しない() {
+                List<Property> properties = new ArrayList<>();
+                obj.setProperties(properties);
+
+                properties.add(new Query());
+
+                assertThat(obj.isQuery()).isFalse();
+                assertThat(obj.hasProperties()).isFalse();
+            }
+
+            @Test
+            void nullを含むリストを設定すると例外を投げる() {
+                assertThatThrownBy(() -> obj.setProperties(Arrays.asList(new Query(), null))).isInstanceOf(IllegalArgumentException.class);
+            }
+        }
     }
 
     @Nested
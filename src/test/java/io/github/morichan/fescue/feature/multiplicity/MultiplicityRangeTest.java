@@ -53,6 +53,23 @@ class MultiplicityRangeTest {
 
             assertThat(actual).isTrue();
         }
+
+        @Test
+        void 設定した上限を返す() {
+            Bounder expected = new Bounder("*");
+
+            obj = new MultiplicityRange(expected);
+            Bounder actual = obj.getUpper();
+
+            assertThat(actual).isSameAs(expected);
+        }
+
+        @Test
+        void 下限を取得しようとすると例外を投げる() {
+            obj = new MultiplicityRange(new Bounder("*"));
+
+            assertThatThrownBy(() -> obj.getLower()).isInstanceOf(IllegalStateException.class);
+        }
     }
 
     @Nested
@@ -116,5 +133,13 @@ class MultiplicityRangeTest {
 
             assertThat(actual).isTrue();
         }
+
+        @Test
+        void 設定した下限と上限を返す() {
+            obj = new MultiplicityRange(bounders[0], bounders[1]);
+
+            assertThat(obj.getLower()).isSameAs(bounders[0]);
+            assertThat(obj.getUpper()).isSameAs(bounders[1]);
+        }
     }
 }
\ No newline at end of file
@@ -6,9 +6,11 @@ import io.github.morichan.fescue.feature.direction.InOut;
 import io.github.morichan.fescue.feature.multiplicity.Bounder;
 import io.github.morichan.fescue.feature.multiplicity.MultiplicityRange;
 import io.github.morichan.fescue.feature.name.Name;
+import io.github.morichan.fescue.feature.property.Ordered;
 import io.github.morichan.fescue.feature.property.Property;
 import io.github.morichan.fescue.feature.property.ReadOnly;
 import io.github.morichan.fescue.feature.property.Subsets;
+import io.github.morichan.fescue.feature.property.Unique;
 import io.github.morichan.fescue.feature.type.Type;
 import io.github.morichan.fescue.feature.value.DefaultValue;
 import io.github.morichan.fescue.feature.value.expression.Binomial;
@@ -18,6 +20,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -240,6 +243,67 @@ class ParameterTest {
                 assertThatThrownBy(() -> obj.getProperties()).isInstanceOf(IllegalStateException.class);
             }
         }
+
+        @Nested
+        class フラグの場合 {
+
+            @BeforeEach
+            void setup() {
+                obj = new Parameter(new Name("name"));
+            }
+
+            @Test
+            void プロパティを持たない場合は全て偽を返す() {
+                assertThat(obj.isReadOnly()).isFalse();
+                assertThat(obj.isUnion()).isFalse();
+                assertThat(obj.isOrdered()).isFalse();
+                assertThat(obj.isUnique()).isFalse();
+            }
+
+            @Test
+            void 追加したプロパティのみ真を返す() {
+
+                obj.addProperty(new Ordered());
+                obj.addProperty(new Subsets(new OneIdentifier("instance")));
+
+                assertThat(obj.isOrdered()).isTrue();
+                assertThat(obj.isUnique()).isFalse();
+            }
+
+            @Test
+            void リストで設定したプロパティを反映する() {
+
+                obj.setProperties(Arrays.asList(new Ordered(), new Unique()));
+
+                assertThat(obj.isOrdered()).isTrue();
+                assertThat(obj.isUnique()).isTrue();
+            }
+
+            @Test
+            void 取得したリストから削除すると偽を返す() {
+                obj.addProperty(new Ordered());
+
+                obj.getProperties().remove(0);
+
+                assertThat(obj.isOrdered()).isFalse();
+            }
+
+            @Test
+            void 設定したリストを後から変更しても反映しない() {
+                List<Property> properties = new ArrayList<>();
+                obj.setProperties(properties);
+
+                properties.add(new Ordered());
+
+                assertThat(obj.isOrdered()).isFalse();
+                assertThat(obj.hasProperties()).isFalse();
+            }
+
+            @Test
+            void nullを含むリストを設定すると例外を投げる() {
+                assertThatThrownBy(() -> obj.setProperties(Arrays.asList(new Ordered(), null))).isInstanceOf(IllegalArgumentException.class);
+            }
+        }
     }
 
     @Nested
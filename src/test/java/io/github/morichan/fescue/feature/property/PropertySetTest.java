@@ -0,0 +1,232 @@
+package io.github.morichan.fescue.feature.property;
+
+import io.github.morichan.fescue.feature.value.expression.OneIdentifier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PropertySetTest {
+
+    PropertySet obj;
+
+    @BeforeEach
+    void setup() {
+        obj = new PropertySet();
+    }
+
+    @Nested
+    class リストとして {
+
+        @Test
+        void 追加した順番で同じインスタンスを返す() {
+            Property readOnly = new ReadOnly();
+            Property subsets = new Subsets(new OneIdentifier("total"));
+            Property ordered = new Ordered();
+
+            obj.add(readOnly);
+            obj.add(subsets);
+            obj.add(ordered);
+
+            assertThat(obj).containsExactly(readOnly, subsets, ordered);
+        }
+
+        @Test
+        void 途中に挿入すると順番を保つ() {
+            Property readOnly = new ReadOnly();
+            Property union = new Union();
+            Property unique = new Unique();
+            obj.add(readOnly);
+            obj.add(unique);
+
+            obj.add(1, union);
+
+            assertThat(obj).containsExactly(readOnly, union, unique);
+        }
+
+        @Test
+        void コレクションから生成すると順番を保つ() {
+            Property query = new Query();
+            Property redefines = new Redefines(new OneIdentifier("get"));
+
+            obj = new PropertySet(Arrays.asList(redefines, query));
+
+            assertThat(obj).containsExactly(redefines, query);
+        }
+
+        @Test
+        void 同じプロパティのリストと等しい() {
+            Property readOnly = new ReadOnly();
+            Property union = new Union();
+
+            obj.add(readOnly);
+            obj.add(union);
+
+            assertThat(obj).isEqualTo(Arrays.asList(readOnly, union));
+        }
+
+        @Test
+        void 範囲外のインデックスを取得しようとすると例外を投げる() {
+            obj.add(new ReadOnly());
+
+            assertThatThrownBy(() -> obj.get(1)).isInstanceOf(IndexOutOfBoundsException.class);
+        }
+
+        @Test
+        void nullを追加すると例外を投げる() {
+            assertThatThrownBy(() -> obj.add(null)).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void nullで置換すると例外を投げる() {
+            obj.add(new ReadOnly());
+
+            assertThatThrownBy(() -> obj.set(0, null)).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void nullのコレクションから生成すると例外を投げる() {
+            assertThatThrownBy(() -> new PropertySet(null)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    class フラグについて {
+
+        @Test
+        void 空の場合は全て偽を返す() {
+            assertThat(obj.isReadOnly()).isFalse();
+            assertThat(obj.isUnion()).isFalse();
+            assertThat(obj.isOrdered()).isFalse();
+            assertThat(obj.isUnique()).isFalse();
+            assertThat(obj.isQuery()).isFalse();
+        }
+
+        @Test
+        void 追加したプロパティのみ真を返す() {
+            obj.add(new ReadOnly());
+            obj.add(new Unique());
+
+            assertThat(obj.isReadOnly()).isTrue();
+            assertThat(obj.isUnion()).isFalse();
+            assertThat(obj.isOrdered()).isFalse();
+            assertThat(obj.isUnique()).isTrue();
+            assertThat(obj.isQuery()).isFalse();
+        }
+
+        @Test
+        void 全てのフラグを追加すると全て真を返す() {
+            obj = new PropertySet(Arrays.asList(new ReadOnly(), new Union(), new Ordered(), new Unique(), new Query()));
+
+            assertThat(obj.isReadOnly()).isTrue();
+            assertThat(obj.isUnion()).isTrue();
+            assertThat(obj.isOrdered()).isTrue();
+            assertThat(obj.isUnique()).isTrue();
+            assertThat(obj.isQuery()).isTrue();
+        }
+
+        @Test
+        void 削除すると偽を返す() {
+            obj.add(new Ordered());
+            obj.add(new Unique());
+
+            obj.remove(0);
+
+            assertThat(obj.isOrdered()).isFalse();
+            assertThat(obj.isUnique()).isTrue();
+        }
+
+        @Test
+        void 重複している場合は1つ削除しても真を返す() {
+            obj.add(new Ordered());
+            obj.add(new Ordered());
+
+            obj.remove(0);
+
+            assertThat(obj.isOrdered()).isTrue();
+        }
+
+        @Test
+        void 置換すると置換後のプロパティを反映する() {
+            obj.add(new ReadOnly());
+
+            obj.set(0, new Union());
+
+            assertThat(obj.isReadOnly()).isFalse();
+            assertThat(obj.isUnion()).isTrue();
+        }
+
+        @Test
+        void 反復子で削除すると偽を返す() {
+            obj.add(new Query());
+            Iterator<Property> iterator = obj.iterator();
+            iterator.next();
+
+            iterator.remove();
+
+            assertThat(obj.isQuery()).isFalse();
+        }
+
+        @Test
+        void 全て削除すると全て偽を返す() {
+            obj.add(new ReadOnly());
+            obj.add(new Subsets(new OneIdentifier("total")));
+
+            obj.clear();
+
+            assertThat(obj).isEmpty();
+            assertThat(obj.isReadOnly()).isFalse();
+            assertThat(obj.getSubsets()).isEmpty();
+        }
+    }
+
+    @Nested
+    class 式を持つプロパティについて {
+
+        @Test
+        void subsetsを追加した順番で返す() {
+            Subsets total = new Subsets(new OneIdentifier("total"));
+            Subsets sum = new Subsets(new OneIdentifier("sum"));
+
+            obj.add(total);
+            obj.add(new ReadOnly());
+            obj.add(sum);
+
+            assertThat(obj.getSubsets()).containsExactly(total, sum);
+            assertThat(obj.getRedefines()).isEmpty();
+        }
+
+        @Test
+        void redefinesを返す() {
+            Redefines redefines = new Redefines(new OneIdentifier("number"));
+
+            obj.add(new Unique());
+            obj.add(redefines);
+
+            assertThat(obj.getRedefines()).containsExactly(redefines);
+            assertThat(obj.getSubsets()).isEmpty();
+        }
+
+        @Test
+        void 削除すると返さない() {
+            Subsets total = new Subsets(new OneIdentifier("total"));
+            obj.add(total);
+
+            obj.remove(total);
+
+            assertThat(obj.getSubsets()).isEmpty();
+        }
+
+        @Test
+        void 取得したリストは変更できない() {
+            obj.add(new Subsets(new OneIdentifier("total")));
+
+            assertThatThrownBy(() -> obj.getSubsets().clear()).isInstanceOf(UnsupportedOperationException.class);
+        }
+    }
+}
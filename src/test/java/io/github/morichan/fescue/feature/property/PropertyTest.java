@@ -103,6 +103,13 @@ class PropertyTest {
         void 式としてnullを設定すると例外を投げる() {
             assertThatThrownBy(() -> obj = new Redefines(null)).isInstanceOf(IllegalArgumentException.class);
         }
+
+        @Test
+        void 遅延生成する場合は参照した時に式を生成する() {
+            obj = Redefines.lazy(() -> new OneIdentifier("base"));
+
+            assertThat(obj).hasToString("redefines base");
+        }
     }
 
     @Nested
@@ -123,5 +130,12 @@ class PropertyTest {
         void 式としてnullを設定すると例外を投げる() {
             assertThatThrownBy(() -> obj = new Subsets(null)).isInstanceOf(IllegalArgumentException.class);
         }
+
+        @Test
+        void 遅延生成する場合は参照した時に式を生成する() {
+            obj = Subsets.lazy(() -> new OneIdentifier("base"));
+
+            assertThat(obj).hasToString("subsets base");
+        }
     }
 }
\ No newline at end of file
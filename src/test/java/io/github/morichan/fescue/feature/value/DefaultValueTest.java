@@ -5,6 +5,8 @@ import io.github.morichan.fescue.feature.value.expression.Expression;
 import io.github.morichan.fescue.feature.value.expression.OneIdentifier;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.*;
@@ -37,4 +39,30 @@ class DefaultValueTest {
 
         assertThat(actual).hasToString(expected);
     }
+
+    @Test
+    void 遅延生成する場合は初めて参照した時に1度だけ式を生成する() {
+        AtomicInteger count = new AtomicInteger();
+        obj = DefaultValue.lazy(() -> {
+            count.incrementAndGet();
+            return new OneIdentifier(1);
+        });
+
+        assertThat(count.get()).isZero();
+        assertThat(obj.getExpression()).hasToString("1");
+        assertThat(obj).hasToString("1");
+        assertThat(count.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 遅延生成する式がnullの場合は例外を投げる() {
+        obj = DefaultValue.lazy(() -> null);
+
+        assertThatThrownBy(() -> obj.getExpression()).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void 遅延生成する関数にnullを設定すると例外を投げる() {
+        assertThatThrownBy(() -> DefaultValue.lazy(null)).isInstanceOf(IllegalArgumentException.class);
+    }
 }
\ No newline at end of file
@@ -137,4 +137,20 @@ class BinomialTest {
                     .isInstanceOf(IllegalArgumentException.class);
         }
     }
+
+    @Nested
+    class 構成要素の取得に関して {
+
+        @Test
+        void 設定した演算子と式を返す() {
+            OneIdentifier first = new OneIdentifier(1);
+            OneIdentifier second = new OneIdentifier(2);
+
+            obj = new Binomial("+", first, second);
+
+            assertThat(obj.getSymbol().toString()).isEqualTo("+");
+            assertThat(obj.getFirst()).isSameAs(first);
+            assertThat(obj.getSecond()).isSameAs(second);
+        }
+    }
 }
\ No newline at end of file
@@ -202,4 +202,25 @@ class MethodCallTest {
             assertThat(actual).isEqualTo(expected);
         }
     }
+
+    @Nested
+    class 構成要素の取得に関して {
+
+        @Test
+        void 設定したメソッド名と引数を返す() {
+            OneIdentifier arg = new OneIdentifier("instanceName");
+
+            obj = new MethodCall("method", arg, new OneIdentifier(1));
+
+            assertThat(obj.getName()).isEqualTo("method");
+            assertThat(obj.getArguments()).hasSize(2).startsWith(arg);
+        }
+
+        @Test
+        void 取得した引数のリストは変更できない() {
+            obj = new MethodCall("method");
+
+            assertThatThrownBy(() -> obj.getArguments().add(new OneIdentifier(1))).isInstanceOf(UnsupportedOperationException.class);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,226 @@
+package io.github.morichan.fescue.generator;
+
+import io.github.morichan.fescue.feature.name.Name;
+import io.github.morichan.fescue.model.ClassModel;
+import io.github.morichan.fescue.sculptor.AttributeSculptor;
+import io.github.morichan.fescue.sculptor.OperationSculptor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JavaStubGeneratorTest {
+
+    JavaStubGenerator obj;
+
+    ClassModel model;
+
+    @BeforeEach
+    void setup() {
+        obj = new JavaStubGenerator();
+        model = new ClassModel(new Name("Sample"));
+    }
+
+    void addAttribute(String text) {
+        AttributeSculptor sculptor = new AttributeSculptor();
+        sculptor.parse(text);
+        model.addAttribute(sculptor.carve());
+    }
+
+    void addOperation(String text) {
+        OperationSculptor sculptor = new OperationSculptor();
+        sculptor.parse(text);
+        model.addOperation(sculptor.carve());
+    }
+
+    String generate() throws IOException {
+        StringWriter writer = new StringWriter();
+        obj.generate(model, writer);
+        return writer.toString();
+    }
+
+    @Nested
+    class 属性の場合 {
+
+        @Test
+        void 可視性とUMLのプリミティブ型を変換する() throws IOException {
+            addAttribute("+ count : Integer");
+            addAttribute("- flag : Boolean");
+            addAttribute("# text : String");
+            addAttribute("~ natural : UnlimitedNatural");
+            addAttribute("other : Sample");
+
+            assertThat(generate()).isEqualTo("public class Sample {\n" +
+                    "    public int count;\n" +
+                    "    private boolean flag;\n" +
+                    "    protected String text;\n" +
+                    "    long natural;\n" +
+                    "    Sample other;\n" +
+                    "}\n");
+        }
+
+        @Test
+        void 多重度をコレクションに変換する() throws IOException {
+            addAttribute("- one : int[1]");
+            addAttribute("- optional : int[0..1]");
+            addAttribute("- list : Integer[*]");
+            addAttribute("- sorted : String[1..5] {ordered, unique}");
+            addAttribute("- set : String[0..*] {unique}");
+
+            assertThat(generate()).isEqualTo("import java.util.List;\n" +
+                    "import java.util.Set;\n" +
+                    "\n" +
+                    "public class Sample {\n" +
+                    "    private int one;\n" +
+                    "    private Integer optional;\n" +
+                    "    private List<Integer> list;\n" +
+                    "    private List<String> sorted;\n" +
+                    "    private Set<String> set;\n" +
+                    "}\n");
+        }
+
+        @Test
+        void 既定値と読取り専用と派生を変換する() throws IOException {
+            addAttribute("- number : int = (1 + 2) * max(a, b) {readOnly}");
+            addAttribute("- flag : boolean = not a and b or c.isEmpty()");
+            addAttribute("/ total : int");
+
+            assertThat(generate()).isEqualTo("public class Sample {\n" +
+                    "    private final int number = (1 + 2) * max(a, b);\n" +
+                    "    private boolean flag = !a && b || c.isEmpty();\n" +
+                    "    int total; // derived\n" +
+                    "}\n");
+        }
+
+        @Test
+        void 初期化子のない読取り専用はfinalにしない() throws IOException {
+            addAttribute("- count : int {readOnly}");
+            addAttribute("- items : String[*] = \"a\" {readOnly}");
+            addAttribute("- / sum : int {readOnly}");
+            addAttribute("- limit : int = 10 {readOnly}");
+
+            assertThat(generate()).isEqualTo("import java.util.List;\n" +
+                    "\n" +
+                    "public class Sample {\n" +
+                    "    private int count; // readOnly\n" +
+                    "    private List<String> items; // readOnly\n" +
+                    "    private int sum; // readOnly, derived\n" +
+                    "    private final int limit = 10;\n" +
+                    "}\n");
+        }
+
+        @Test
+        void 読取り専用の属性を持つスタブをコンパイルできる() throws IOException {
+            addAttribute("- count : int {readOnly}");
+            addAttribute("- items : String[*] = \"a\" {readOnly}");
+            addAttribute("- names : String[0..*] {readOnly, unique}");
+            addAttribute("- limit : int = 10 {readOnly}");
+            addOperation("+ getCount() : int {query}");
+            String source = generate();
+
+            JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+            Path directory = Files.createTempDirectory("fescue-stub");
+            ByteArrayOutputStream errors = new ByteArrayOutputStream();
+            boolean isCompiled;
+            try (StandardJavaFileManager files = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+                JavaFileObject file = new SimpleJavaFileObject(URI.create("string:///Sample.java"), JavaFileObject.Kind.SOURCE) {
+                    @Override
+                    public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                        return source;
+                    }
+                };
+                isCompiled = compiler.getTask(new OutputStreamWriter(errors, StandardCharsets.UTF_8), files, null,
+                        Arrays.asList("-d", directory.toString()), null, Collections.singletonList(file)).call();
+            }
+
+            assertThat(isCompiled).as(errors.toString("UTF-8") + "\n" + source).isTrue();
+        }
+    }
+
+    @Nested
+    class 操作の場合 {
+
+        @Test
+        void メソッドに変換する() throws IOException {
+            addOperation("+ getCount() : Integer {query}");
+            addOperation("- set(count : int, out result : String[*], inout flag : Boolean)");
+
+            assertThat(generate()).isEqualTo("import java.util.List;\n" +
+                    "\n" +
+                    "public class Sample {\n" +
+                    "    public int getCount() {\n" +
+                    "        throw new UnsupportedOperationException();\n" +
+                    "    }\n" +
+                    "\n" +
+                    "    private void set(int count, /* out */ List<String> result, /* inout */ boolean flag) {\n" +
+                    "        throw new UnsupportedOperationException();\n" +
+                    "    }\n" +
+                    "}\n");
+        }
+    }
+
+    @Nested
+    class パッケージ名に関して {
+
+        @Test
+        void 設定するとパッケージ宣言を書込む() throws IOException {
+            obj.setPackageName("com.example");
+
+            assertThat(generate()).startsWith("package com.example;\n\npublic class Sample {\n");
+        }
+
+        @Test
+        void 設定せずに取得しようとすると例外を投げる() {
+            assertThatThrownBy(() -> obj.getPackageName()).isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Nested
+    class 複数のクラスの場合 {
+
+        @Test
+        void クラスごとのファイルに書込む() throws IOException {
+            Path directory = Files.createTempDirectory("stub");
+            List<ClassModel> models = new ArrayList<>();
+            for (int i = 0; i < 50; i++) models.add(new ClassModel(new Name("Sample" + i)));
+            obj.setPackageName("com.example");
+
+            List<Path> actual = obj.generateAll(models, directory, 4);
+
+            assertThat(actual).hasSize(50);
+            assertThat(actual.get(7)).isEqualTo(directory.resolve("com/example/Sample7.java"));
+            assertThat(new String(Files.readAllBytes(actual.get(7)), StandardCharsets.UTF_8)).contains("public class Sample7 {");
+        }
+
+        @Test
+        void 並列数が1未満の場合は例外を投げる() {
+            assertThatThrownBy(() -> obj.generateAll(new ArrayList<>(), Paths.get("."), 0)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    void nullを設定すると例外を投げる() {
+        assertThatThrownBy(() -> obj.generate(null, new StringWriter())).isInstanceOf(IllegalArgumentException.class);
+    }
+}
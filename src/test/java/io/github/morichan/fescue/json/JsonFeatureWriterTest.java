@@ -0,0 +1,203 @@
+package io.github.morichan.fescue.json;
+
+import io.github.morichan.fescue.feature.Attribute;
+import io.github.morichan.fescue.feature.Operation;
+import io.github.morichan.fescue.feature.name.Name;
+import io.github.morichan.fescue.feature.type.Type;
+import io.github.morichan.fescue.sculptor.AttributeSculptor;
+import io.github.morichan.fescue.sculptor.OperationSculptor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JsonFeatureWriterTest {
+
+    JsonFeatureWriter obj;
+
+    StringBuilder sb;
+
+    @BeforeEach
+    void setup() {
+        sb = new StringBuilder();
+        obj = new JsonFeatureWriter(sb);
+    }
+
+    Attribute carveAttribute(String text) {
+        AttributeSculptor sculptor = new AttributeSculptor();
+        sculptor.parse(text);
+        return sculptor.carve();
+    }
+
+    Operation carveOperation(String text) {
+        OperationSculptor sculptor = new OperationSculptor();
+        sculptor.parse(text);
+        return sculptor.carve();
+    }
+
+    @Nested
+    class 属性の場合 {
+
+        @Test
+        void 名前のみの場合は保持していない要素をnullとして書込む() throws IOException {
+            String expected = "{\"kind\":\"attribute\",\"name\":\"name\",\"visibility\":null,\"derived\":false,\"type\":null," +
+                    "\"multiplicityLower\":null,\"multiplicityUpper\":null,\"defaultValue\":null,\"defaultValueExpression\":null," +
+                    "\"properties\":[]}\n";
+
+            obj.write(carveAttribute("name"));
+
+            assertThat(sb.toString()).isEqualTo(expected);
+        }
+
+        @Test
+        void 全ての要素を書込む() throws IOException {
+            String expected = "{\"kind\":\"attribute\",\"name\":\"number\",\"visibility\":\"private\",\"derived\":true,\"type\":\"int\"," +
+                    "\"multiplicityLower\":\"0\",\"multiplicityUpper\":\"*\",\"defaultValue\":\"- 1 + max(a, (b))\"," +
+                    "\"defaultValueExpression\":{\"node\":\"binomial\",\"symbol\":\"+\"," +
+                    "\"first\":{\"node\":\"monomial\",\"symbol\":\"-\",\"operand\":{\"node\":\"identifier\",\"text\":\"1\"}}," +
+                    "\"second\":{\"node\":\"methodCall\",\"name\":\"max\",\"arguments\":[{\"node\":\"identifier\",\"text\":\"a\"}," +
+                    "{\"node\":\"paren\",\"expression\":{\"node\":\"identifier\",\"text\":\"b\"}}]}}," +
+                    "\"properties\":[{\"property\":\"readOnly\",\"target\":null}," +
+                    "{\"property\":\"subsets\",\"target\":{\"node\":\"identifier\",\"text\":\"parent\"}}]}\n";
+
+            obj.write(carveAttribute("- / number : int[0..*] = - 1 + max(a, (b)) {readOnly, subsets parent}"));
+
+            assertThat(sb.toString()).isEqualTo(expected);
+        }
+
+        @Test
+        void 既定のロケールに関わらず可視性を英小文字で書込む() throws IOException {
+            Locale locale = Locale.getDefault();
+            try {
+                Locale.setDefault(new Locale("tr", "TR"));
+
+                obj.write(carveAttribute("- number"));
+            } finally {
+                Locale.setDefault(locale);
+            }
+
+            assertThat(sb.toString()).contains("\"visibility\":\"private\"");
+        }
+
+        @Test
+        void 文字列をエスケープして書込む() throws IOException {
+            Attribute attribute = new Attribute(new Name("name"));
+            attribute.setType(new Type("a\"b\\c\u0001"));
+
+            obj.write(attribute);
+
+            assertThat(sb.toString()).contains("\"type\":\"a\\\"b\\\\c\\u0001\"");
+        }
+
+        @Test
+        void nullを設定すると例外を投げる() {
+            assertThatThrownBy(() -> obj.write((Attribute) null)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    class 操作の場合 {
+
+        @Test
+        void 名前のみの場合は保持していない要素をnullとして書込む() throws IOException {
+            String expected = "{\"kind\":\"operation\",\"name\":\"name\",\"visibility\":null,\"parameters\":[],\"returnType\":null,\"properties\":[]}\n";
+
+            obj.write(carveOperation("name()"));
+
+            assertThat(sb.toString()).isEqualTo(expected);
+        }
+
+        @Test
+        void パラメータを書込む() throws IOException {
+            String expected = "{\"kind\":\"operation\",\"name\":\"set\",\"visibility\":\"public\",\"parameters\":[" +
+                    "{\"direction\":\"in\",\"directionOuted\":false,\"name\":\"a\",\"type\":\"int\"," +
+                    "\"multiplicityLower\":null,\"multiplicityUpper\":null,\"defaultValue\":null,\"defaultValueExpression\":null,\"properties\":[]}," +
+                    "{\"direction\":\"inout\",\"directionOuted\":true,\"name\":\"b\",\"type\":\"char\"," +
+                    "\"multiplicityLower\":null,\"multiplicityUpper\":\"*\",\"defaultValue\":\"'c'\"," +
+                    "\"defaultValueExpression\":{\"node\":\"identifier\",\"text\":\"'c'\"},\"properties\":[{\"property\":\"ordered\",\"target\":null}]}]," +
+                    "\"returnType\":\"void\",\"properties\":[{\"property\":\"query\",\"target\":null}]}\n";
+
+            obj.write(carveOperation("+ set(a : int, inout b : char[*] = 'c' {ordered}) : void {query}"));
+
+            assertThat(sb.toString()).isEqualTo(expected);
+        }
+
+        @Test
+        void nullを設定すると例外を投げる() {
+            assertThatThrownBy(() -> obj.write((Operation) null)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    class 形成に失敗した場合 {
+
+        @Test
+        void 入力文字列と理由を書込む() throws IOException {
+            obj.writeError("- \"a : int", "syntax error");
+
+            assertThat(sb.toString()).isEqualTo("{\"kind\":\"error\",\"text\":\"- \\\"a : int\",\"message\":\"syntax error\"}\n");
+        }
+
+        @Test
+        void 入力文字列にnullを設定すると例外を投げる() {
+            assertThatThrownBy(() -> obj.writeError(null, "message")).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    class 配列の場合 {
+
+        @Test
+        void 要素をカンマで区切って書込む() throws IOException {
+            String expected = "[" +
+                    "{\"kind\":\"operation\",\"name\":\"a\",\"visibility\":null,\"parameters\":[],\"returnType\":null,\"properties\":[]}," +
+                    "{\"kind\":\"operation\",\"name\":\"b\",\"visibility\":null,\"parameters\":[],\"returnType\":null,\"properties\":[]}" +
+                    "]\n";
+
+            obj.beginArray();
+            obj.write(new Operation(new Name("a")));
+            obj.write(new Operation(new Name("b")));
+            obj.endArray();
+
+            assertThat(sb.toString()).isEqualTo(expected);
+        }
+
+        @Test
+        void 空の配列を書込む() throws IOException {
+            obj.beginArray();
+            obj.close();
+
+            assertThat(sb.toString()).isEqualTo("[]\n");
+        }
+
+        @Test
+        void 開始せずに終了すると例外を投げる() {
+            assertThatThrownBy(() -> obj.endArray()).isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        void 二重に開始すると例外を投げる() throws IOException {
+            obj.beginArray();
+
+            assertThatThrownBy(() -> obj.beginArray()).isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Test
+    void バイトストリームにはUTF8で書込む() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (JsonFeatureWriter writer = new JsonFeatureWriter(bytes)) {
+            writer.write(new Attribute(new Name("名前")));
+        }
+
+        assertThat(new String(bytes.toByteArray(), StandardCharsets.UTF_8)).startsWith("{\"kind\":\"attribute\",\"name\":\"名前\"");
+    }
+}
@@ -0,0 +1,118 @@
+package io.github.morichan.fescue.metrics;
+
+import io.github.morichan.fescue.sculptor.AttributeSculptor;
+import io.github.morichan.fescue.sculptor.OperationSculptor;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FeatureEventTest {
+
+    Recording recording;
+    Path file;
+
+    @BeforeEach
+    void setup() throws IOException {
+        file = Files.createTempFile("fescue", ".jfr");
+        recording = new Recording();
+        recording.enable("io.github.morichan.fescue.Parse").withoutThreshold();
+        recording.enable("io.github.morichan.fescue.Carve").withoutThreshold();
+        recording.enable("io.github.morichan.fescue.Batch").withoutThreshold();
+        recording.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        recording.close();
+        Files.deleteIfExists(file);
+    }
+
+    @Nested
+    class 属性文を構文解析した場合 {
+
+        @Test
+        void 構文解析とインスタンス形成のイベントを記録する() throws IOException {
+            String text = "- number : int";
+            AttributeSculptor sculptor = new AttributeSculptor();
+            sculptor.parse(text);
+            sculptor.carve();
+
+            List<RecordedEvent> parses = stopAndRead("io.github.morichan.fescue.Parse");
+            List<RecordedEvent> carves = stopAndRead("io.github.morichan.fescue.Carve");
+
+            assertThat(parses).hasSize(1);
+            assertThat(parses.get(0).getString("kind")).isEqualTo("attribute");
+            assertThat(parses.get(0).getInt("inputLength")).isEqualTo(text.length());
+            assertThat(parses.get(0).getString("predictionMode")).isEqualTo("LL");
+            assertThat(parses.get(0).getString("outcome")).isEqualTo("success");
+            assertThat(carves).hasSize(1);
+            assertThat(carves.get(0).getString("kind")).isEqualTo("attribute");
+        }
+
+        @Test
+        void 失敗した場合は例外のクラス名を記録する() throws IOException {
+            AttributeSculptor sculptor = new AttributeSculptor();
+            assertThatThrownBy(() -> sculptor.parse("Integer")).isInstanceOf(RuntimeException.class);
+
+            List<RecordedEvent> parses = stopAndRead("io.github.morichan.fescue.Parse");
+
+            assertThat(parses).hasSize(1);
+            assertThat(parses.get(0).getString("outcome")).isNotEqualTo("success");
+        }
+    }
+
+    @Nested
+    class 操作文を構文解析した場合 {
+
+        @Test
+        void 構文解析とインスタンス形成のイベントを記録する() throws IOException {
+            OperationSculptor sculptor = new OperationSculptor();
+            sculptor.parse("+ setNumber(number : int) : void");
+            sculptor.carve();
+
+            assertThat(stopAndRead("io.github.morichan.fescue.Parse")).extracting(e -> e.getString("kind")).containsExactly("operation");
+            assertThat(stopAndRead("io.github.morichan.fescue.Carve")).extracting(e -> e.getString("kind")).containsExactly("operation");
+        }
+    }
+
+    @Nested
+    class 一括処理の場合 {
+
+        @Test
+        void 処理した要素の数を記録する() throws IOException {
+            BatchEvent event = new BatchEvent();
+            event.begin();
+            event.report(FeatureKind.Attribute, "test", 10, 2);
+
+            List<RecordedEvent> batches = stopAndRead("io.github.morichan.fescue.Batch");
+
+            assertThat(batches).hasSize(1);
+            assertThat(batches.get(0).getInt("featureCount")).isEqualTo(10);
+            assertThat(batches.get(0).getInt("errorCount")).isEqualTo(2);
+            assertThat(batches.get(0).getString("source")).isEqualTo("test");
+        }
+    }
+
+    private List<RecordedEvent> stopAndRead(String eventName) throws IOException {
+        if (recording.getState() == jdk.jfr.RecordingState.RUNNING) {
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().equals(eventName))
+                .collect(Collectors.toList());
+    }
+}
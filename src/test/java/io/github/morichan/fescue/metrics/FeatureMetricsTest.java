@@ -0,0 +1,122 @@
+package io.github.morichan.fescue.metrics;
+
+import io.github.morichan.fescue.sculptor.AttributeSculptor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FeatureMetricsTest {
+
+    FeatureMetrics obj;
+
+    @BeforeEach
+    void setup() {
+        obj = new FeatureMetrics();
+    }
+
+    @Nested
+    class 記録する場合 {
+
+        @Test
+        void 処理段階と要素の種類ごとに処理時間を記録する() {
+            obj.recordLatency(Stage.Carve, FeatureKind.Attribute, 100);
+            obj.recordLatency(Stage.Carve, FeatureKind.Attribute, 300);
+            obj.recordLatency(Stage.Parse, FeatureKind.Operation, 50);
+
+            assertThat(obj.getLatency(Stage.Carve, FeatureKind.Attribute).getCount()).isEqualTo(2);
+            assertThat(obj.getLatency(Stage.Carve, FeatureKind.Attribute).getMean()).isEqualTo(200.0);
+            assertThat(obj.getLatency(Stage.Parse, FeatureKind.Operation).getCount()).isEqualTo(1);
+            assertThat(obj.getLatency(Stage.Lex, FeatureKind.Parameter).getCount()).isEqualTo(0);
+        }
+
+        @Test
+        void 例外発生回数を記録する() {
+            obj.recordError(Stage.Parse, FeatureKind.Attribute);
+            obj.recordError(Stage.Parse, FeatureKind.Attribute);
+
+            assertThat(obj.getErrorCount(Stage.Parse, FeatureKind.Attribute)).isEqualTo(2);
+            assertThat(obj.getErrorCount(Stage.Carve, FeatureKind.Attribute)).isEqualTo(0);
+        }
+
+        @Test
+        void 入力文字列の長さを記録する() {
+            obj.recordInputLength(FeatureKind.Operation, 10);
+            obj.recordInputLength(FeatureKind.Operation, 20);
+
+            assertThat(obj.getInputLength(FeatureKind.Operation).getMean()).isEqualTo(15.0);
+        }
+
+        @Test
+        void 破棄すると全ての計測値を破棄する() {
+            obj.recordLatency(Stage.Render, FeatureKind.Parameter, 100);
+            obj.recordError(Stage.Render, FeatureKind.Parameter);
+            obj.recordInputLength(FeatureKind.Parameter, 10);
+
+            obj.reset();
+
+            assertThat(obj.getLatency(Stage.Render, FeatureKind.Parameter).getCount()).isEqualTo(0);
+            assertThat(obj.getErrorCount(Stage.Render, FeatureKind.Parameter)).isEqualTo(0);
+            assertThat(obj.getInputLength(FeatureKind.Parameter).getCount()).isEqualTo(0);
+        }
+    }
+
+    @Nested
+    class JMXから参照する場合 {
+
+        @Test
+        void 処理段階と要素の種類をキーとして処理回数を返す() {
+            obj.recordLatency(Stage.Lex, FeatureKind.Attribute, 100);
+
+            Map<String, Long> actual = obj.getCounts();
+
+            assertThat(actual).hasSize(Stage.values().length * FeatureKind.values().length);
+            assertThat(actual).containsEntry("lex.attribute", 1L).containsEntry("lex.operation", 0L);
+        }
+
+        @Test
+        void 処理段階と要素の種類をキーとして例外発生回数を返す() {
+            obj.recordError(Stage.Carve, FeatureKind.Operation);
+
+            assertThat(obj.getErrorCounts()).containsEntry("carve.operation", 1L);
+        }
+
+        @Test
+        void 要素の種類をキーとして入力文字列の長さのパーセンタイル値を返す() {
+            obj.recordInputLength(FeatureKind.Attribute, 5);
+
+            assertThat(obj.getInputLengthPercentile(50.0)).containsEntry("attribute", 5L);
+        }
+
+        @Test
+        void 計測の一時停止を設定できる() {
+            obj.setRecording(false);
+
+            assertThat(obj.isRecording()).isFalse();
+        }
+    }
+
+    @Nested
+    class システムプロパティを設定していない場合 {
+
+        @Test
+        void 計測は無効である() {
+            assertThat(FeatureMetrics.isEnabled()).isFalse();
+            assertThat(FeatureMetrics.startTimer()).isEqualTo(0L);
+        }
+
+        @Test
+        void 構文解析しても何も記録しない() {
+            long before = FeatureMetrics.getInstance().getLatency(Stage.Carve, FeatureKind.Attribute).getCount();
+
+            AttributeSculptor sculptor = new AttributeSculptor();
+            sculptor.parse("- number : int");
+            sculptor.carve();
+
+            assertThat(FeatureMetrics.getInstance().getLatency(Stage.Carve, FeatureKind.Attribute).getCount()).isEqualTo(before);
+        }
+    }
+}
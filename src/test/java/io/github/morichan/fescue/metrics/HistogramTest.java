@@ -0,0 +1,109 @@
+package io.github.morichan.fescue.metrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HistogramTest {
+
+    Histogram obj;
+
+    @BeforeEach
+    void setup() {
+        obj = new Histogram();
+    }
+
+    @Nested
+    class 何も記録していない場合 {
+
+        @Test
+        void 個数として0を返す() {
+            assertThat(obj.getCount()).isEqualTo(0);
+        }
+
+        @Test
+        void 平均として0を返す() {
+            assertThat(obj.getMean()).isEqualTo(0.0);
+        }
+
+        @Test
+        void パーセンタイル値として0を返す() {
+            assertThat(obj.getPercentile(99.0)).isEqualTo(0);
+        }
+    }
+
+    @Nested
+    class 値を記録した場合 {
+
+        @BeforeEach
+        void setup() {
+            for (long value = 1; value <= 100; value++) obj.record(value);
+        }
+
+        @Test
+        void 個数と合計と最大値を返す() {
+            assertThat(obj.getCount()).isEqualTo(100);
+            assertThat(obj.getSum()).isEqualTo(5050);
+            assertThat(obj.getMax()).isEqualTo(100);
+        }
+
+        @Test
+        void 平均を返す() {
+            assertThat(obj.getMean()).isEqualTo(50.5);
+        }
+
+        @Test
+        void 誤差の範囲内でパーセンタイル値を返す() {
+            assertThat(obj.getPercentile(50.0)).isBetween(44L, 50L);
+            assertThat(obj.getPercentile(99.0)).isBetween(88L, 99L);
+            assertThat(obj.getPercentile(100.0)).isBetween(88L, 100L);
+        }
+
+        @Test
+        void 破棄すると何も記録していない状態に戻る() {
+            obj.reset();
+
+            assertThat(obj.getCount()).isEqualTo(0);
+            assertThat(obj.getSum()).isEqualTo(0);
+            assertThat(obj.getMax()).isEqualTo(0);
+        }
+    }
+
+    @Nested
+    class 境界値の場合 {
+
+        @Test
+        void 負の値は0として記録する() {
+            obj.record(-1);
+
+            assertThat(obj.getMax()).isEqualTo(0);
+            assertThat(obj.getPercentile(50.0)).isEqualTo(0);
+        }
+
+        @Test
+        void 最大値を記録できる() {
+            obj.record(Long.MAX_VALUE);
+
+            assertThat(obj.getPercentile(50.0)).isGreaterThan(Long.MAX_VALUE / 8 * 7);
+        }
+
+        @Test
+        void 区間の下限値は区間の番号から求めた値と一致する() {
+            for (long value : new long[] {0, 1, 7, 8, 15, 16, 17, 1000, 123456789}) {
+                long lower = Histogram.lowerBoundOf(Histogram.indexOf(value));
+
+                assertThat(lower).isLessThanOrEqualTo(value);
+                assertThat(Histogram.indexOf(lower)).isEqualTo(Histogram.indexOf(value));
+            }
+        }
+
+        @Test
+        void 範囲外のパーセンタイルを入力すると例外を投げる() {
+            assertThatThrownBy(() -> obj.getPercentile(-0.1)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> obj.getPercentile(100.1)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package io.github.morichan.fescue.model;
+
+import io.github.morichan.fescue.feature.Attribute;
+import io.github.morichan.fescue.feature.Operation;
+import io.github.morichan.fescue.feature.name.Name;
+import io.github.morichan.fescue.feature.property.Ordered;
+import io.github.morichan.fescue.feature.property.Query;
+import io.github.morichan.fescue.feature.property.ReadOnly;
+import io.github.morichan.fescue.feature.type.Type;
+import io.github.morichan.fescue.feature.visibility.Visibility;
+import io.github.morichan.fescue.sculptor.AttributeSculptor;
+import io.github.morichan.fescue.sculptor.OperationSculptor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ClassModelTest {
+
+    ClassModel obj;
+
+    @BeforeEach
+    void setup() {
+        obj = new ClassModel(new Name("Sample"));
+    }
+
+    Attribute carveAttribute(String text) {
+        AttributeSculptor sculptor = new AttributeSculptor();
+        sculptor.parse(text);
+        return sculptor.carve();
+    }
+
+    Operation carveOperation(String text) {
+        OperationSculptor sculptor = new OperationSculptor();
+        sculptor.parse(text);
+        return sculptor.carve();
+    }
+
+    @Nested
+    class 属性に関して {
+        Attribute number;
+        Attribute names;
+        Attribute count;
+
+        @BeforeEach
+        void setup() {
+            number = carveAttribute("- number : int {readOnly}");
+            names = carveAttribute("+ names : String[*] {ordered}");
+            count = carveAttribute("- count : int");
+            obj.addAttribute(number);
+            obj.addAttribute(names);
+            obj.addAttribute(count);
+        }
+
+        @Test
+        void 追加した順に属性を返す() {
+            assertThat(obj.getAttributes()).containsExactly(number, names, count);
+        }
+
+        @Test
+        void 名前で検索した属性を返す() {
+            assertThat(obj.findAttributesByName("names")).containsExactly(names);
+        }
+
+        @Test
+        void 型名で検索した属性を返す() {
+            assertThat(obj.findAttributesByType("int")).containsExactly(number, count);
+        }
+
+        @Test
+        void 可視性で検索した属性を返す() {
+            assertThat(obj.findAttributesByVisibility(Visibility.Private)).containsExactly(number, count);
+        }
+
+        @Test
+        void プロパティで検索した属性を返す() {
+            assertThat(obj.findAttributesByProperty(ReadOnly.class)).containsExactly(number);
+            assertThat(obj.findAttributesByProperty(Ordered.class)).containsExactly(names);
+        }
+
+        @Test
+        void 存在しない場合は空の集合を返す() {
+            assertThat(obj.findAttributesByName("none")).isEmpty();
+            assertThat(obj.findAttributesByType(null)).isEmpty();
+            assertThat(obj.findAttributesByVisibility(Visibility.Protected)).isEmpty();
+        }
+
+        @Test
+        void 削除した属性は検索結果に含まない() {
+            boolean actual = obj.removeAttribute(number);
+
+            assertThat(actual).isTrue();
+            assertThat(obj.getAttributes()).containsExactly(names, count);
+            assertThat(obj.findAttributesByType("int")).containsExactly(count);
+            assertThat(obj.findAttributesByProperty(ReadOnly.class)).isEmpty();
+        }
+
+        @Test
+        void 検索結果はその後の削除や追加を反映しない() {
+            Set<Attribute> actual = obj.findAttributesByType("int");
+            obj.removeAttribute(number);
+            obj.removeAttribute(count);
+            obj.addAttribute(number);
+
+            assertThat(actual).containsExactly(number, count);
+            assertThat(obj.findAttributesByType("int")).containsExactly(number);
+        }
+
+        @Test
+        void 保持していない属性を削除すると偽を返す() {
+            assertThat(obj.removeAttribute(carveAttribute("other"))).isFalse();
+        }
+
+        @Test
+        void 同じ属性を複数回追加しても1つのみ保持する() {
+            obj.addAttribute(number);
+
+            assertThat(obj.getAttributes()).hasSize(3);
+        }
+
+        @Test
+        void 内容を変更して索引を更新すると新しい内容で検索できる() {
+            number.setType(new Type("double"));
+            obj.reindex(number);
+
+            assertThat(obj.findAttributesByType("int")).containsExactly(count);
+            assertThat(obj.findAttributesByType("double")).containsExactly(number);
+        }
+
+        @Test
+        void 保持していない属性の索引を更新すると例外を投げる() {
+            assertThatThrownBy(() -> obj.reindex(carveAttribute("other"))).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void 返す集合は変更できない() {
+            assertThatThrownBy(() -> obj.findAttributesByType("int").clear()).isInstanceOf(UnsupportedOperationException.class);
+        }
+
+        @Test
+        void nullを追加すると例外を投げる() {
+            assertThatThrownBy(() -> obj.addAttribute(null)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    class 操作に関して {
+        Operation getNumber;
+        Operation setNumber;
+        Operation setNumberWithText;
+
+        @BeforeEach
+        void setup() {
+            getNumber = carveOperation("+ getNumber() : int {query}");
+            setNumber = carveOperation("+ setNumber(number : int) : void");
+            setNumberWithText = carveOperation("- setNumber(text : String) : void");
+            obj.addOperation(getNumber);
+            obj.addOperation(setNumber);
+            obj.addOperation(setNumberWithText);
+        }
+
+        @Test
+        void 名前で検索するとオーバーロードした操作を全て返す() {
+            assertThat(obj.findOperationsByName("setNumber")).containsExactly(setNumber, setNumberWithText);
+        }
+
+        @Test
+        void 戻り値の型名で検索した操作を返す() {
+            assertThat(obj.findOperationsByReturnType("int")).containsExactly(getNumber);
+        }
+
+        @Test
+        void 可視性で検索した操作を返す() {
+            assertThat(obj.findOperationsByVisibility(Visibility.Public)).containsExactly(getNumber, setNumber);
+        }
+
+        @Test
+        void プロパティで検索した操作を返す() {
+            assertThat(obj.findOperationsByProperty(Query.class)).containsExactly(getNumber);
+        }
+
+        @Test
+        void 削除した操作は検索結果に含まない() {
+            obj.removeOperation(setNumber);
+
+            assertThat(obj.getOperations()).containsExactly(getNumber, setNumberWithText);
+            assertThat(obj.findOperationsByName("setNumber")).containsExactly(setNumberWithText);
+        }
+
+        @Test
+        void 全て削除すると何も返さない() {
+            obj.clear();
+
+            assertThat(obj.getOperations()).isEmpty();
+            assertThat(obj.findOperationsByName("getNumber")).isEmpty();
+        }
+    }
+
+    @Nested
+    class クラス名に関して {
+
+        @Test
+        void 設定したクラス名を返す() {
+            assertThat(obj.getName().getNameText()).isEqualTo("Sample");
+            assertThat(obj.toString()).isEqualTo("Sample");
+        }
+
+        @Test
+        void nullを設定すると例外を投げる() {
+            assertThatThrownBy(() -> new ClassModel(null)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
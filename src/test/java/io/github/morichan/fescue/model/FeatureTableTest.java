@@ -0,0 +1,210 @@
+package io.github.morichan.fescue.model;
+
+import io.github.morichan.fescue.allocation.AllocationMeter;
+import io.github.morichan.fescue.feature.Attribute;
+import io.github.morichan.fescue.feature.visibility.Visibility;
+import io.github.morichan.fescue.sculptor.AttributeSculptor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class FeatureTableTest {
+
+    FeatureTable obj;
+
+    @BeforeEach
+    void setup() {
+        obj = new FeatureTable();
+    }
+
+    Attribute carveAttribute(String text) {
+        AttributeSculptor sculptor = new AttributeSculptor();
+        sculptor.parse(text);
+        return sculptor.carve();
+    }
+
+    @Nested
+    class 属性を生成し直す場合 {
+
+        @ParameterizedTest
+        @ValueSource(strings = {
+                "number",
+                "- number : int",
+                "+ / names : String [*] {readOnly, union, ordered, unique}",
+                "# count : Integer [0..1] = 1 + 2",
+                "~ items : Item [2..100] {ordered}",
+                "- n : int [(m + 1)]",
+                "- n : int [0x10]",
+                "- n : int [0..*] {unique, ordered}",
+                "- n : int {ordered, ordered}",
+                "- number : int {readOnly, subsets total, redefines count}",
+        })
+        void 追加した属性と同じ文字列になる(String text) {
+            Attribute attribute = carveAttribute(text);
+
+            int row = obj.append(attribute);
+
+            assertThat(obj.materialize(row).toString()).isEqualTo(attribute.toString());
+        }
+
+        @Test
+        void 呼出すたびに新しいインスタンスを返す() {
+            int row = obj.append(carveAttribute("- number : int"));
+
+            assertThat(obj.materialize(row)).isNotSameAs(obj.materialize(row));
+        }
+
+        @Test
+        void 既定値は追加した属性と同じインスタンスを共有する() {
+            Attribute attribute = carveAttribute("- number : int = 1");
+
+            int row = obj.append(attribute);
+
+            assertThat(obj.materialize(row).getDefaultValue()).isSameAs(attribute.getDefaultValue());
+        }
+
+        @Test
+        void 多重度の範囲の式を参照できる() {
+            int row = obj.append(carveAttribute("- number : int [0..*]"));
+
+            assertThat(obj.materialize(row).getMultiplicityRange().getUpper().getExpression().toString()).isEqualTo("*");
+        }
+    }
+
+    @Nested
+    class 列を参照する場合 {
+        int full;
+        int bare;
+
+        @BeforeEach
+        void setup() {
+            full = obj.append(carveAttribute("+ / names : String [*] = \"a\" {readOnly, ordered}"));
+            bare = obj.append(carveAttribute("number"));
+        }
+
+        @Test
+        void 名前と型名を返す() {
+            assertThat(obj.getNameText(full)).isEqualTo("names");
+            assertThat(obj.hasType(full)).isTrue();
+            assertThat(obj.getTypeNameText(full)).isEqualTo("String");
+            assertThat(obj.getNameText(bare)).isEqualTo("number");
+            assertThat(obj.hasType(bare)).isFalse();
+        }
+
+        @Test
+        void 可視性と派生を返す() {
+            assertThat(obj.getVisibility(full)).isEqualTo(Visibility.Public);
+            assertThat(obj.isDerived(full)).isTrue();
+            assertThat(obj.hasVisibility(bare)).isFalse();
+            assertThat(obj.isDerived(bare)).isFalse();
+        }
+
+        @Test
+        void プロパティを返す() {
+            assertThat(obj.isReadOnly(full)).isTrue();
+            assertThat(obj.isOrdered(full)).isTrue();
+            assertThat(obj.isUnion(full)).isFalse();
+            assertThat(obj.isUnique(full)).isFalse();
+            assertThat(obj.isReadOnly(bare)).isFalse();
+        }
+
+        @Test
+        void 参照のまま保持したプロパティも返す() {
+            int row = obj.append(carveAttribute("- n : int {unique, subsets total}"));
+
+            assertThat(obj.isUnique(row)).isTrue();
+            assertThat(obj.isOrdered(row)).isFalse();
+        }
+
+        @Test
+        void 多重度の範囲と既定値の有無を返す() {
+            assertThat(obj.hasMultiplicityRange(full)).isTrue();
+            assertThat(obj.hasDefaultValue(full)).isTrue();
+            assertThat(obj.hasMultiplicityRange(bare)).isFalse();
+            assertThat(obj.hasDefaultValue(bare)).isFalse();
+        }
+
+        @Test
+        void ない要素を取得しようとすると例外を投げる() {
+            assertThatThrownBy(() -> obj.getTypeNameText(bare)).isInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> obj.getVisibility(bare)).isInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> obj.getDefaultValue(bare)).isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        void 範囲外の行を参照しようとすると例外を投げる() {
+            assertThatThrownBy(() -> obj.getNameText(2)).isInstanceOf(IndexOutOfBoundsException.class);
+            assertThatThrownBy(() -> obj.materialize(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+        }
+    }
+
+    @Nested
+    class まとめて追加する場合 {
+
+        @Test
+        void 全ての属性を順に追加する() {
+            int count = obj.appendAll(new AttributeSculptor(), Arrays.asList("- a : int", "- b : char [0..1]", "- c : double {ordered}"));
+
+            assertThat(count).isEqualTo(3);
+            assertThat(obj.size()).isEqualTo(3);
+            assertThat(obj.getNameText(2)).isEqualTo("c");
+        }
+
+        @Test
+        void 初期容量を超えても追加できる() {
+            obj = new FeatureTable(0);
+
+            for (int i = 0; i < 100; i++) obj.append(carveAttribute("- a" + i + " : int [" + i + "]"));
+
+            assertThat(obj.size()).isEqualTo(100);
+            assertThat(obj.materialize(99).toString()).isEqualTo("- a99 : int [99]");
+        }
+
+        @Test
+        void 途中で例外を投げた場合はそれまでの行を残す() {
+            assertThatThrownBy(() -> obj.appendAll(new AttributeSculptor(), Arrays.asList("- a : int", "- b : int", "- in : int")))
+                    .isInstanceOf(RuntimeException.class);
+
+            assertThat(obj.size()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void 属性のインスタンスより少ないメモリで保持する() {
+        assumeTrue(AllocationMeter.isSupported());
+        List<Attribute> attributes = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) attributes.add(carveAttribute("- number" + (i % 50) + " : int [0..*] {ordered}"));
+        FeatureTable table = new FeatureTable(attributes.size());
+        for (Attribute attribute : attributes) table.append(attribute);
+
+        long tableBytes = AllocationMeter.measure(() -> {
+            FeatureTable copy = new FeatureTable(attributes.size());
+            for (Attribute attribute : attributes) copy.append(attribute);
+        }, 20, 5);
+        long objectBytes = AllocationMeter.measure(() -> {
+            for (int i = 0; i < table.size(); i++) table.materialize(i);
+        }, 20, 5);
+
+        assertThat(tableBytes * 5).isLessThan(objectBytes);
+    }
+
+    @Test
+    void 属性にnullを設定すると例外を投げる() {
+        assertThatThrownBy(() -> obj.append(null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 初期容量に負の数を設定すると例外を投げる() {
+        assertThatThrownBy(() -> new FeatureTable(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
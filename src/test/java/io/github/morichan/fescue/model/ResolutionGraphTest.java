@@ -0,0 +1,287 @@
+package io.github.morichan.fescue.model;
+
+import io.github.morichan.fescue.feature.Attribute;
+import io.github.morichan.fescue.feature.Operation;
+import io.github.morichan.fescue.feature.name.Name;
+import io.github.morichan.fescue.feature.property.Property;
+import io.github.morichan.fescue.sculptor.AttributeSculptor;
+import io.github.morichan.fescue.sculptor.OperationSculptor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResolutionGraphTest {
+
+    ResolutionGraph obj;
+
+    @BeforeEach
+    void setup() {
+        obj = new ResolutionGraph();
+    }
+
+    Attribute carveAttribute(String text) {
+        AttributeSculptor sculptor = new AttributeSculptor();
+        sculptor.parse(text);
+        return sculptor.carve();
+    }
+
+    Operation carveOperation(String text) {
+        OperationSculptor sculptor = new OperationSculptor();
+        sculptor.parse(text);
+        return sculptor.carve();
+    }
+
+    ClassModel createClass(String name, Object... features) {
+        ClassModel model = new ClassModel(new Name(name));
+        for (Object feature : features) {
+            if (feature instanceof Attribute) model.addAttribute((Attribute) feature);
+            else model.addOperation((Operation) feature);
+        }
+        return model;
+    }
+
+    Property propertyOf(Attribute attribute) {
+        return attribute.getProperties().get(0);
+    }
+
+    Property propertyOf(Operation operation) {
+        return operation.getProperties().get(0);
+    }
+
+    @Nested
+    class 属性のsubsetsに関して {
+        Attribute total;
+        Attribute number;
+
+        @BeforeEach
+        void setup() {
+            total = carveAttribute("- total : int");
+            number = carveAttribute("- number : int {subsets total}");
+        }
+
+        @Test
+        void 同じクラスの属性を対象とする() {
+            obj.putClass(createClass("Sample", total, number), Collections.emptyList());
+
+            assertThat(obj.hasTarget(propertyOf(number))).isTrue();
+            assertThat(obj.getAttributeTarget(propertyOf(number))).isSameAs(total);
+        }
+
+        @Test
+        void スーパークラスの属性を対象とする() {
+            obj.putClass(createClass("Base", total), Collections.emptyList());
+            obj.putClass(createClass("Sample", number), Collections.singletonList("Base"));
+
+            assertThat(obj.getAttributeTarget(propertyOf(number))).isSameAs(total);
+        }
+
+        @Test
+        void 近い祖先のクラスの属性を優先する() {
+            Attribute farTotal = carveAttribute("- total : int");
+            obj.putClass(createClass("Root", farTotal), Collections.emptyList());
+            obj.putClass(createClass("Base", total), Collections.singletonList("Root"));
+            obj.putClass(createClass("Sample", number), Collections.singletonList("Base"));
+
+            assertThat(obj.getAttributeTarget(propertyOf(number))).isSameAs(total);
+        }
+
+        @Test
+        void クラス名で修飾した属性を対象とする() {
+            Attribute qualified = carveAttribute("- number : int {subsets Base.total}");
+            obj.putClass(createClass("Base", total), Collections.emptyList());
+            obj.putClass(createClass("Sample", qualified), Collections.emptyList());
+
+            assertThat(obj.getAttributeTarget(propertyOf(qualified))).isSameAs(total);
+        }
+
+        @Test
+        void 対象が見つからない場合は未解決のプロパティとして返す() {
+            obj.putClass(createClass("Sample", number), Collections.singletonList("Base"));
+
+            assertThat(obj.hasTarget(propertyOf(number))).isFalse();
+            assertThat(obj.getUnresolvedProperties()).containsExactly(propertyOf(number));
+            assertThatThrownBy(() -> obj.getAttributeTarget(propertyOf(number))).isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Nested
+    class 属性のredefinesに関して {
+
+        @Test
+        void 同じクラスの属性は対象としない() {
+            Attribute number = carveAttribute("- number : int {redefines number}");
+            obj.putClass(createClass("Sample", number), Collections.emptyList());
+
+            assertThat(obj.hasTarget(propertyOf(number))).isFalse();
+        }
+
+        @Test
+        void スーパークラスの同じ名前の属性を対象とする() {
+            Attribute base = carveAttribute("- number : int");
+            Attribute number = carveAttribute("- number : int {redefines number}");
+            obj.putClass(createClass("Base", base), Collections.emptyList());
+            obj.putClass(createClass("Sample", number), Collections.singletonList("Base"));
+
+            assertThat(obj.getAttributeTarget(propertyOf(number))).isSameAs(base);
+        }
+    }
+
+    @Nested
+    class 操作のredefinesに関して {
+
+        @Test
+        void パラメータの型が同じ操作を優先する() {
+            Operation other = carveOperation("+ set(a : String) : void");
+            Operation same = carveOperation("+ set(a : int) : void");
+            Operation redefining = carveOperation("+ set(b : int) : void {redefines set}");
+            obj.putClass(createClass("Base", other, same), Collections.emptyList());
+            obj.putClass(createClass("Sample", redefining), Collections.singletonList("Base"));
+
+            assertThat(obj.getOperationTarget(propertyOf(redefining))).isSameAs(same);
+        }
+
+        @Test
+        void 属性の対象として取得しようとすると例外を投げる() {
+            Operation base = carveOperation("+ get() : int");
+            Operation redefining = carveOperation("+ get() : int {redefines get}");
+            obj.putClass(createClass("Base", base), Collections.emptyList());
+            obj.putClass(createClass("Sample", redefining), Collections.singletonList("Base"));
+
+            assertThatThrownBy(() -> obj.getAttributeTarget(propertyOf(redefining))).isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Nested
+    class クラスを変更する場合 {
+        Attribute total;
+        Attribute number;
+
+        @BeforeEach
+        void setup() {
+            total = carveAttribute("- total : int");
+            number = carveAttribute("- number : int {subsets total}");
+            obj.putClass(createClass("Sample", number), Collections.singletonList("Base"));
+        }
+
+        @Test
+        void 後から追加したスーパークラスの属性を対象とする() {
+            obj.putClass(createClass("Base", total), Collections.emptyList());
+
+            assertThat(obj.getAttributeTarget(propertyOf(number))).isSameAs(total);
+        }
+
+        @Test
+        void スーパークラスを削除すると未解決に戻る() {
+            obj.putClass(createClass("Base", total), Collections.emptyList());
+
+            assertThat(obj.removeClass("Base")).isTrue();
+
+            assertThat(obj.hasTarget(propertyOf(number))).isFalse();
+        }
+
+        @Test
+        void スーパークラスを置換すると新しい属性を対象とする() {
+            Attribute replaced = carveAttribute("+ total : long");
+            obj.putClass(createClass("Base", total), Collections.emptyList());
+
+            obj.putClass(createClass("Base", replaced), Collections.emptyList());
+
+            assertThat(obj.getAttributeTarget(propertyOf(number))).isSameAs(replaced);
+        }
+
+        @Test
+        void 関係しないクラスの変更では解決し直さない() {
+            obj.putClass(createClass("Base", total), Collections.emptyList());
+            long before = obj.getResolutionCount();
+
+            obj.putClass(createClass("Other", carveAttribute("- other : int {subsets total}")), Collections.emptyList());
+            obj.putClass(createClass("Unrelated", carveAttribute("- a : int")), Collections.emptyList());
+
+            assertThat(obj.getResolutionCount() - before).isEqualTo(1);
+        }
+
+        @Test
+        void 参照していたクラスの変更では参照していたプロパティのみ解決し直す() {
+            obj.putClass(createClass("Other", carveAttribute("- other : int {subsets total}")), Collections.emptyList());
+            long before = obj.getResolutionCount();
+
+            obj.putClass(createClass("Base", total), Collections.emptyList());
+
+            assertThat(obj.getResolutionCount() - before).isEqualTo(1);
+        }
+
+        @Test
+        void 存在しないクラスを削除すると偽を返す() {
+            assertThat(obj.removeClass("Nothing")).isFalse();
+        }
+    }
+
+    @Nested
+    class 循環に関して {
+
+        @Test
+        void 属性のsubsetsの循環を返す() {
+            Attribute a = carveAttribute("- a : int {subsets b}");
+            Attribute b = carveAttribute("- b : int {subsets a}");
+            obj.putClass(createClass("Sample", a, b), Collections.emptyList());
+
+            List<List<String>> cycles = obj.findFeatureCycles();
+
+            assertThat(cycles).hasSize(1);
+            assertThat(cycles.get(0)).containsExactlyInAnyOrder("Sample.a", "Sample.b");
+        }
+
+        @Test
+        void 自身を対象とする場合は要素数が1の循環を返す() {
+            Attribute a = carveAttribute("- a : int {subsets a}");
+            obj.putClass(createClass("Sample", a), Collections.emptyList());
+
+            assertThat(obj.findFeatureCycles()).containsExactly(Collections.singletonList("Sample.a"));
+        }
+
+        @Test
+        void 循環がない場合は空のリストを返す() {
+            obj.putClass(createClass("Sample", carveAttribute("- a : int"), carveAttribute("- b : int {subsets a}")), Collections.emptyList());
+
+            assertThat(obj.findFeatureCycles()).isEmpty();
+        }
+
+        @Test
+        void 汎化の循環を返す() {
+            obj.putClass(createClass("A"), Collections.singletonList("B"));
+            obj.putClass(createClass("B"), Collections.singletonList("A"));
+            obj.putClass(createClass("C"), Arrays.asList("A", "Missing"));
+
+            List<List<String>> cycles = obj.findGeneralizationCycles();
+
+            assertThat(cycles).hasSize(1);
+            assertThat(cycles.get(0)).containsExactlyInAnyOrder("A", "B");
+        }
+
+        @Test
+        void 汎化が循環していても解決を終える() {
+            Attribute number = carveAttribute("- number : int {subsets total}");
+            obj.putClass(createClass("A", number), Collections.singletonList("B"));
+            obj.putClass(createClass("B"), Collections.singletonList("A"));
+
+            assertThat(obj.hasTarget(propertyOf(number))).isFalse();
+        }
+    }
+
+    @Test
+    void クラスにnullを設定すると例外を投げる() {
+        assertThatThrownBy(() -> obj.putClass(null, Collections.emptyList())).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void スーパークラス名にnullを含むと例外を投げる() {
+        assertThatThrownBy(() -> obj.putClass(createClass("Sample"), Collections.singletonList(null))).isInstanceOf(IllegalArgumentException.class);
+    }
+}
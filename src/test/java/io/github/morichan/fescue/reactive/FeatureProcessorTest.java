@@ -0,0 +1,237 @@
+package io.github.morichan.fescue.reactive;
+
+import io.github.morichan.fescue.feature.Attribute;
+import io.github.morichan.fescue.feature.Operation;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FeatureProcessorTest {
+
+    FeatureProcessor<Attribute> obj;
+
+    /**
+     * 受取った形成結果を全て保持する購読者
+     */
+    static class CollectingSubscriber<T> implements Flow.Subscriber<T> {
+        final List<T> items = new CopyOnWriteArrayList<>();
+        final CountDownLatch done = new CountDownLatch(1);
+        final AtomicReference<Throwable> error = new AtomicReference<>();
+        final long initialRequest;
+        Flow.Subscription subscription;
+
+        CollectingSubscriber(long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(initialRequest);
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error.set(throwable);
+            done.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            done.countDown();
+        }
+
+        void await() throws InterruptedException {
+            assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+
+    /**
+     * 要求された数だけ属性文を発行し、要求の合計を記録する発行者
+     */
+    static class CountingPublisher implements Flow.Publisher<String> {
+        final AtomicLong requested = new AtomicLong();
+        final int total;
+
+        CountingPublisher(int total) {
+            this.total = total;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super String> subscriber) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                long sent = 0;
+                boolean isCompleted = false;
+
+                @Override
+                public synchronized void request(long n) {
+                    requested.addAndGet(n);
+                    for (long i = 0; i < n && sent < total; i++) subscriber.onNext("- attribute" + sent++ + " : int");
+                    if (sent == total && !isCompleted) {
+                        isCompleted = true;
+                        subscriber.onComplete();
+                    }
+                }
+
+                @Override
+                public void cancel() {}
+            });
+        }
+    }
+
+    List<String> createTexts(int count) {
+        List<String> texts = new ArrayList<>();
+        for (int i = 0; i < count; i++) texts.add("- attribute" + i + " : int = " + i);
+        return texts;
+    }
+
+    void publish(Flow.Processor<String, ?> processor, List<String> texts) {
+        try (SubmissionPublisher<String> source = new SubmissionPublisher<>()) {
+            source.subscribe(processor);
+            for (String text : texts) source.submit(text);
+        }
+    }
+
+    @Nested
+    class 入力順に発行する場合 {
+
+        @Test
+        void 全ての形成結果を入力順に返す() throws InterruptedException {
+            List<String> texts = createTexts(1000);
+            CollectingSubscriber<Carved<Attribute>> subscriber = new CollectingSubscriber<>(Long.MAX_VALUE);
+            obj = FeatureProcessor.ofAttributes(4, 16, OutputMode.Ordered);
+
+            obj.subscribe(subscriber);
+            publish(obj, texts);
+            subscriber.await();
+
+            assertThat(subscriber.error.get()).isNull();
+            assertThat(subscriber.items).extracting(Carved::toString).containsExactlyElementsOf(texts);
+            assertThat(subscriber.items).extracting(Carved::getIndex).isSorted();
+        }
+
+        @Test
+        void 形成に失敗した場合は例外を保持した形成結果を返す() throws InterruptedException {
+            CollectingSubscriber<Carved<Attribute>> subscriber = new CollectingSubscriber<>(Long.MAX_VALUE);
+            obj = FeatureProcessor.ofAttributes(2, 4, OutputMode.Ordered);
+
+            obj.subscribe(subscriber);
+            publish(obj, List.of("- first : int", "- : invalid", "- last : int"));
+            subscriber.await();
+
+            assertThat(subscriber.items).hasSize(3);
+            assertThat(subscriber.items.get(0).isSucceeded()).isTrue();
+            assertThat(subscriber.items.get(1).isSucceeded()).isFalse();
+            assertThat(subscriber.items.get(1).getText()).isEqualTo("- : invalid");
+            assertThatThrownBy(() -> subscriber.items.get(1).getFeature()).isInstanceOf(IllegalStateException.class);
+            assertThat(subscriber.items.get(2).getFeature().toString()).isEqualTo("- last : int");
+        }
+
+        @Test
+        void 形成中にエラーが発生した場合もエラーを保持した形成結果を返して完了する() throws InterruptedException {
+            String nested = "- nested : int = " + "(".repeat(100000);
+            CollectingSubscriber<Carved<Attribute>> subscriber = new CollectingSubscriber<>(Long.MAX_VALUE);
+            obj = FeatureProcessor.ofAttributes(2, 4, OutputMode.Ordered);
+
+            obj.subscribe(subscriber);
+            publish(obj, List.of("- first : int", nested, "- last : int"));
+            subscriber.await();
+
+            assertThat(subscriber.error.get()).isNull();
+            assertThat(subscriber.items).hasSize(3);
+            assertThat(subscriber.items.get(1).isSucceeded()).isFalse();
+            assertThat(subscriber.items.get(1).getError()).isInstanceOf(StackOverflowError.class);
+            assertThat(subscriber.items.get(2).getFeature().toString()).isEqualTo("- last : int");
+            assertThat(obj.getPendingCount()).isZero();
+        }
+    }
+
+    @Nested
+    class 形成が終わった順に発行する場合 {
+
+        @Test
+        void 全ての形成結果を返す() throws InterruptedException {
+            List<String> texts = createTexts(1000);
+            CollectingSubscriber<Carved<Attribute>> subscriber = new CollectingSubscriber<>(Long.MAX_VALUE);
+            obj = FeatureProcessor.ofAttributes(4, 16, OutputMode.Unordered);
+
+            obj.subscribe(subscriber);
+            publish(obj, texts);
+            subscriber.await();
+
+            assertThat(subscriber.items).extracting(Carved::toString).containsExactlyInAnyOrderElementsOf(texts);
+        }
+    }
+
+    @Nested
+    class 下流が遅い場合 {
+
+        @Test
+        void 上流への要求はバッファサイズの範囲に留まる() throws InterruptedException {
+            CountingPublisher source = new CountingPublisher(100000);
+            CollectingSubscriber<Carved<Attribute>> subscriber = new CollectingSubscriber<>(1);
+            obj = FeatureProcessor.ofAttributes(4, 8, OutputMode.Ordered);
+
+            obj.subscribe(subscriber);
+            source.subscribe(obj);
+            Thread.sleep(500);
+
+            assertThat(subscriber.items).hasSize(1);
+            assertThat(source.requested.get()).isLessThanOrEqualTo(8 + 8 + 2);
+            assertThat(obj.getPendingCount()).isLessThanOrEqualTo(8 + 8 + 1);
+        }
+
+        @Test
+        void 要求を再開すると続きを発行する() throws InterruptedException {
+            CountingPublisher source = new CountingPublisher(100);
+            CollectingSubscriber<Carved<Attribute>> subscriber = new CollectingSubscriber<>(1);
+            obj = FeatureProcessor.ofAttributes(2, 4, OutputMode.Ordered);
+
+            obj.subscribe(subscriber);
+            source.subscribe(obj);
+            Thread.sleep(200);
+            subscriber.subscription.request(Long.MAX_VALUE);
+            subscriber.await();
+
+            assertThat(subscriber.items).hasSize(100);
+        }
+    }
+
+    @Test
+    void 上流が例外で終了すると下流も例外で終了する() throws InterruptedException {
+        CollectingSubscriber<Carved<Operation>> subscriber = new CollectingSubscriber<>(Long.MAX_VALUE);
+        FeatureProcessor<Operation> processor = FeatureProcessor.ofOperations(2, 4, OutputMode.Ordered);
+        IllegalStateException expected = new IllegalStateException();
+
+        processor.subscribe(subscriber);
+        SubmissionPublisher<String> source = new SubmissionPublisher<>();
+        source.subscribe(processor);
+        source.submit("+ operation() : void");
+        source.closeExceptionally(expected);
+        subscriber.await();
+
+        assertThat(subscriber.error.get()).isSameAs(expected);
+    }
+
+    @Test
+    void 並列数が1未満の場合は例外を投げる() {
+        assertThatThrownBy(() -> FeatureProcessor.ofAttributes(0, 4, OutputMode.Ordered)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,94 @@
+package io.github.morichan.fescue.sculptor;
+
+import io.github.morichan.fescue.allocation.AllocationMeter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+// 予算はJDK 17（HotSpot）での計測値に約2割の余裕を加えた値であり、割当てを減らす変更を加えた場合は予算も減らす
+class AllocationBudgetTest {
+
+    static final int WARMUPS = 2000;
+    static final int REPETITIONS = 20;
+
+    @BeforeEach
+    void setup() {
+        assumeTrue(AllocationMeter.isSupported());
+    }
+
+    @Nested
+    class 属性の場合 {
+
+        @ParameterizedTest
+        @CsvSource(delimiter = '|', value = {
+                "- number : int                                                      |  4000",
+                "+ / names : String[*] = \"text\" {readOnly, unique}                 | 10000",
+                "- number : int[0..*] = (1 + 2) * max(a, b) {ordered, subsets total} | 21000",
+        })
+        void 構文解析と形成の割当てバイト数が予算以下である(String text, long budget) {
+            long bytes = AllocationMeter.measure(() -> {
+                AttributeSculptor sculptor = new AttributeSculptor();
+                sculptor.parse(text);
+                sculptor.carve();
+            }, WARMUPS, REPETITIONS);
+
+            assertThat(bytes).as(text).isLessThanOrEqualTo(budget);
+        }
+
+        @ParameterizedTest
+        @CsvSource(delimiter = '|', value = {
+                "- number : int                                                      |  2800",
+                "+ / names : String[*] = \"text\" {readOnly, unique}                 |  6500",
+                "- number : int[0..*] = (1 + 2) * max(a, b) {ordered, subsets total} | 16000",
+        })
+        void 構文木を構築しない場合の割当てバイト数が予算以下である(String text, long budget) {
+            long bytes = AllocationMeter.measure(() -> {
+                AttributeSculptor sculptor = new AttributeSculptor();
+                sculptor.setParseTreeBuilt(false);
+                sculptor.parse(text);
+                sculptor.carve();
+            }, WARMUPS, REPETITIONS);
+
+            assertThat(bytes).as(text).isLessThanOrEqualTo(budget);
+        }
+    }
+
+    @Nested
+    class 操作の場合 {
+
+        @ParameterizedTest
+        @CsvSource(delimiter = '|', value = {
+                "+ getNumber() : int                                                                          |  4000",
+                "+ set(in a : int = 1, out b : char[*] {ordered}, c : String[0..1] = \"text\") : void {query} | 23000",
+        })
+        void 構文解析と形成の割当てバイト数が予算以下である(String text, long budget) {
+            long bytes = AllocationMeter.measure(() -> {
+                OperationSculptor sculptor = new OperationSculptor();
+                sculptor.parse(text);
+                sculptor.carve();
+            }, WARMUPS, REPETITIONS);
+
+            assertThat(bytes).as(text).isLessThanOrEqualTo(budget);
+        }
+
+        @ParameterizedTest
+        @CsvSource(delimiter = '|', value = {
+                "+ getNumber() : int                                                                          |  3200",
+                "+ set(in a : int = 1, out b : char[*] {ordered}, c : String[0..1] = \"text\") : void {query} | 17000",
+        })
+        void 構文木を構築しない場合の割当てバイト数が予算以下である(String text, long budget) {
+            long bytes = AllocationMeter.measure(() -> {
+                OperationSculptor sculptor = new OperationSculptor();
+                sculptor.setParseTreeBuilt(false);
+                sculptor.parse(text);
+                sculptor.carve();
+            }, WARMUPS, REPETITIONS);
+
+            assertThat(bytes).as(text).isLessThanOrEqualTo(budget);
+        }
+    }
+}
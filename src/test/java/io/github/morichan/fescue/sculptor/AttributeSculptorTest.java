@@ -1,5 +1,7 @@
 package io.github.morichan.fescue.sculptor;
 
+import io.github.morichan.fescue.corpus.FeatureGenerator;
+import io.github.morichan.fescue.corpus.MutatedFeatureGenerator;
 import io.github.morichan.fescue.feature.Attribute;
 import io.github.morichan.fescue.feature.multiplicity.Bounder;
 import io.github.morichan.fescue.feature.multiplicity.MultiplicityRange;
@@ -9,16 +11,22 @@ import io.github.morichan.fescue.feature.type.Type;
 import io.github.morichan.fescue.feature.value.DefaultValue;
 import io.github.morichan.fescue.feature.value.expression.*;
 import io.github.morichan.fescue.feature.visibility.Visibility;
+import io.github.morichan.fescue.metrics.FeatureKind;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import io.github.morichan.fescue.parser.ClassFeatureParser;
+import io.github.morichan.fescue.token.CharSequenceCharStream;
 
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
 
 class AttributeSculptorTest {
 
@@ -500,6 +508,204 @@ class AttributeSculptorTest {
         }
     }
 
+    @Nested
+    class 文字列を複製せずに構文解析する場合 {
+
+        @BeforeEach
+        void setup() {
+            obj = new AttributeSculptor();
+        }
+
+        @Test
+        void 文字列の構築器の属性文を形成する() {
+            obj.parse(new StringBuilder("- number : int = 1 {readOnly}"));
+
+            assertThat(obj.carve()).hasToString("- number : int = 1 {readOnly}");
+        }
+
+        @Test
+        void 文字配列の一部の属性文を形成する() {
+            char[] chars = "xx+ a : char[0..*]yy".toCharArray();
+
+            obj.parse(CharBuffer.wrap(chars, 2, 16));
+
+            assertThat(obj.carve()).hasToString("+ a : char [0..*]");
+        }
+
+        @Test
+        void バイトバッファの属性文を形成する() {
+            ByteBuffer bytes = ByteBuffer.wrap("- 名前 : String".getBytes(StandardCharsets.UTF_8));
+
+            obj.parse(CharSequenceCharStream.asCharSequence(bytes));
+
+            assertThat(obj.carve()).hasToString("- 名前 : String");
+        }
+
+        @Test
+        void 構文解析の後に文字列を再利用しても構文解析した属性文を形成する() {
+            StringBuilder text = new StringBuilder("- number : int = 12");
+
+            obj.parse(text);
+            text.setLength(0);
+            text.append("+ abcdef : xyz = 99");
+
+            assertThat(obj.carve()).hasToString("- number : int = 12");
+        }
+
+        @Test
+        void 構文解析の後にバイトバッファを上書きしても構文解析した属性文を形成する() {
+            byte[] bytes = "- number : int = 12".getBytes(StandardCharsets.US_ASCII);
+
+            obj.parse(CharSequenceCharStream.asCharSequence(ByteBuffer.wrap(bytes)));
+            System.arraycopy("+ abcdef : xyz = 99".getBytes(StandardCharsets.US_ASCII), 0, bytes, 0, bytes.length);
+
+            assertThat(obj.carve()).hasToString("- number : int = 12");
+        }
+
+        @Test
+        void nullの場合は例外を投げる() {
+            assertThatThrownBy(() -> obj.parse((CharSequence) null)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    class 遅延形成する場合 {
+
+        @BeforeEach
+        void setup() {
+            obj = new AttributeSculptor();
+            obj.setLazy(true);
+        }
+
+        @Test
+        void 既定値とプロパティの式は参照した時点で生成する() {
+            obj.parse("- number : int = (1 + 2) * max(a, b) {subsets total, redefines Base.number}");
+            Attribute actual = obj.carve();
+
+            assertThat(actual.getDefaultValue().getExpression()).isInstanceOf(Binomial.class);
+            assertThat(((Subsets) actual.getProperties().get(0)).getExpression()).isInstanceOf(OneIdentifier.class);
+            assertThat(actual).hasToString("- number : int = (1 + 2) * max(a, b) {subsets total, redefines Base.number}");
+        }
+
+        @Test
+        void 遅延形成しない場合と同じ文字列を返す() {
+            String[] texts = {"+ a : int[0..*] = 3 {ordered, unique}", "# /b = not c or d.e(f, g)", "~ h : char = 'i' {readOnly, union}"};
+            AttributeSculptor eager = new AttributeSculptor();
+
+            for (String text : texts) {
+                obj.parse(text);
+                eager.parse(text);
+
+                assertThat(obj.carve()).hasToString(eager.carve().toString());
+            }
+        }
+
+        @Test
+        void 式を参照する前に文字列を再利用しても構文解析した式を生成する() {
+            StringBuilder text = new StringBuilder("- number : int = 12 {subsets total}");
+
+            obj.parse(text);
+            Attribute actual = obj.carve();
+            text.setLength(0);
+            text.append("+ abcdef : xyz = 99 {subsets other}");
+
+            assertThat(actual).hasToString("- number : int = 12 {subsets total}");
+        }
+
+        @Test
+        void 既定値は偽である() {
+            assertThat(new AttributeSculptor().isLazy()).isFalse();
+        }
+    }
+
+    @Nested
+    class 構文木を構築しない場合 {
+
+        @BeforeEach
+        void setup() {
+            obj = new AttributeSculptor();
+            obj.setParseTreeBuilt(false);
+        }
+
+        @Test
+        void 構文木を構築する場合と同じ文字列を返す() {
+            String[] texts = {"- number : int", "+ / names : String[*] = \"text\" {readOnly, unique}", "# x : int[(a, b)..3] = a.b.c(1, -2) {redefines a.b, subsets total}", "~ y : Boolean = !flag && not other || x <= 3 % 2", "z = (1 + 2) * max(a, b) {ordered}"};
+            AttributeSculptor tree = new AttributeSculptor();
+
+            for (String text : texts) {
+                obj.parse(text);
+                tree.parse(text);
+
+                assertThat(obj.carve()).hasToString(tree.carve().toString());
+            }
+        }
+
+        @Test
+        void 生成した属性文でも構文木を構築する場合と同じ文字列を返す() {
+            FeatureGenerator generator = new FeatureGenerator(FeatureKind.Attribute);
+            generator.setCreatorIncluded(false);
+            AttributeSculptor tree = new AttributeSculptor();
+
+            for (int i = 0; i < 500; i++) {
+                String text = generator.next();
+                obj.parse(text);
+                tree.parse(text);
+
+                assertThat(obj.carve()).as(text).hasToString(tree.carve().toString());
+            }
+        }
+
+        @Test
+        void 構文上正しくない属性文では不正引数例外のみを投げる() {
+            MutatedFeatureGenerator generator = new MutatedFeatureGenerator(new FeatureGenerator(FeatureKind.Attribute));
+
+            for (int i = 0; i < 500; i++) {
+                String text = generator.next();
+
+                Throwable thrown = catchThrowable(() -> {
+                    obj.parse(text);
+                    obj.carve();
+                });
+
+                if (thrown != null) assertThat(thrown).as(text).isInstanceOf(IllegalArgumentException.class);
+            }
+        }
+
+        @Test
+        void 何度形成しても構文解析で形成したインスタンスを返す() {
+            obj.parse("- number : int");
+
+            assertThat(obj.carve()).isSameAs(obj.carve());
+        }
+
+        @Test
+        void コンテキストを取得しようとすると例外を投げる() {
+            obj.parse("- number : int");
+
+            assertThatThrownBy(() -> obj.getContext()).isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        void 構文エラーがある場合は構文解析で例外を投げる() {
+            assertThatThrownBy(() -> obj.parse("- : int")).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void インスタンス生成式を含む場合は構文解析で例外を投げる() {
+            assertThatThrownBy(() -> obj.parse("- a : A = new A()")).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void 括弧で囲んだ式を呼出す場合は構文解析で例外を投げる() {
+            assertThatThrownBy(() -> obj.parse("- a : int = (b)(c)")).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void 既定値は真である() {
+            assertThat(new AttributeSculptor().isParseTreeBuilt()).isTrue();
+        }
+    }
+
     @Nested
     class 不正な属性文の際 {
 
@@ -522,5 +728,15 @@ class AttributeSculptorTest {
         void パースする前にコンテキストを取得しようとすると例外を投げる() {
             assertThatThrownBy(() -> obj.getContext()).isInstanceOf(IllegalStateException.class);
         }
+
+        @Test
+        void 既定値のドットの後に識別子がない場合は例外を投げる() {
+            assertThatThrownBy(() -> obj.parse("x : int = a.")).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void プロパティのドットの後に識別子がない場合は例外を投げる() {
+            assertThatThrownBy(() -> obj.parse("x : int {subsets a.}")).isInstanceOf(IllegalArgumentException.class);
+        }
     }
 }
\ No newline at end of file
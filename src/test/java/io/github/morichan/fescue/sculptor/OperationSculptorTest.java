@@ -1,5 +1,7 @@
 package io.github.morichan.fescue.sculptor;
 
+import io.github.morichan.fescue.corpus.FeatureGenerator;
+import io.github.morichan.fescue.corpus.MutatedFeatureGenerator;
 import io.github.morichan.fescue.feature.Operation;
 import io.github.morichan.fescue.feature.direction.In;
 import io.github.morichan.fescue.feature.direction.InOut;
@@ -14,17 +16,20 @@ import io.github.morichan.fescue.feature.type.Type;
 import io.github.morichan.fescue.feature.value.DefaultValue;
 import io.github.morichan.fescue.feature.value.expression.*;
 import io.github.morichan.fescue.feature.visibility.Visibility;
+import io.github.morichan.fescue.metrics.FeatureKind;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import io.github.morichan.fescue.parser.ClassFeatureParser;
 
+import java.nio.CharBuffer;
 import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
 
 class OperationSculptorTest {
 
@@ -674,6 +679,171 @@ class OperationSculptorTest {
         }
     }
 
+    @Nested
+    class 文字列を複製せずに構文解析する場合 {
+
+        @BeforeEach
+        void setup() {
+            obj = new OperationSculptor();
+        }
+
+        @Test
+        void 文字配列の一部の操作文を形成する() {
+            char[] chars = "xx+ set(a : int) : voidyy".toCharArray();
+
+            obj.parse(CharBuffer.wrap(chars, 2, 21));
+
+            assertThat(obj.carve()).hasToString("+ set(a : int) : void");
+        }
+
+        @Test
+        void 構文解析の後に文字列を再利用しても構文解析した操作文を形成する() {
+            StringBuilder text = new StringBuilder("- get(x : int) : long");
+
+            obj.parse(text);
+            text.setLength(0);
+            text.append("+ abc(y : xyz) : def");
+
+            assertThat(obj.carve()).hasToString("- get(x : int) : long");
+        }
+
+        @Test
+        void 空文字の場合は例外を投げる() {
+            assertThatThrownBy(() -> obj.parse(new StringBuilder())).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    class 遅延形成する場合 {
+
+        @BeforeEach
+        void setup() {
+            obj = new OperationSculptor();
+            obj.setLazy(true);
+        }
+
+        @Test
+        void 遅延形成しない場合と同じ文字列を返す() {
+            String[] texts = {"+ a(b : int = 1 + 2 {subsets c}) : void {redefines d.e()}", "- f(inout g : char[*] = max(h, i) {redefines j})"};
+            OperationSculptor eager = new OperationSculptor();
+
+            for (String text : texts) {
+                obj.parse(text);
+                eager.parse(text);
+
+                assertThat(obj.carve()).hasToString(eager.carve().toString());
+            }
+        }
+
+        @Test
+        void 式を参照する前に文字列を再利用しても構文解析した式を生成する() {
+            StringBuilder text = new StringBuilder("+ a(b : int = 12 {subsets c})");
+
+            obj.parse(text);
+            Operation actual = obj.carve();
+            text.setLength(0);
+            text.append("- x(y : abc = 99 {subsets z})");
+
+            assertThat(actual).hasToString("+ a(b : int = 12 {subsets c})");
+        }
+
+        @Test
+        void パラメータの既定値の式は参照した時点で生成する() {
+            obj.parse("+ a(b : int = 1 + 2)");
+            Operation actual = obj.carve();
+
+            assertThat(actual.getParameters().get(0).getDefaultValue().getExpression()).isInstanceOf(Binomial.class);
+        }
+    }
+
+    @Nested
+    class 構文木を構築しない場合 {
+
+        @BeforeEach
+        void setup() {
+            obj = new OperationSculptor();
+            obj.setParseTreeBuilt(false);
+        }
+
+        @Test
+        void 構文木を構築する場合と同じ文字列を返す() {
+            String[] texts = {"+ getNumber() : int", "+ set(in a : int = 1, out b : char[*] {ordered}, c : String[0..1] = \"text\") : void {query}", "- f(inout g.h : char[*] = max(h, i) {redefines j}) {redefines d.e, unique}", "# k(return l : Boolean = not m)"};
+            OperationSculptor tree = new OperationSculptor();
+
+            for (String text : texts) {
+                obj.parse(text);
+                tree.parse(text);
+
+                assertThat(obj.carve()).hasToString(tree.carve().toString());
+            }
+        }
+
+        @Test
+        void 生成した操作文でも構文木を構築する場合と同じ文字列を返す() {
+            FeatureGenerator generator = new FeatureGenerator(FeatureKind.Operation);
+            generator.setCreatorIncluded(false);
+            OperationSculptor tree = new OperationSculptor();
+
+            for (int i = 0; i < 500; i++) {
+                String text = generator.next();
+                obj.parse(text);
+                tree.parse(text);
+
+                assertThat(obj.carve()).as(text).hasToString(tree.carve().toString());
+            }
+        }
+
+        @Test
+        void 構文上正しくない操作文では不正引数例外のみを投げる() {
+            MutatedFeatureGenerator generator = new MutatedFeatureGenerator(new FeatureGenerator(FeatureKind.Operation));
+
+            for (int i = 0; i < 500; i++) {
+                String text = generator.next();
+
+                Throwable thrown = catchThrowable(() -> {
+                    obj.parse(text);
+                    obj.carve();
+                });
+
+                if (thrown != null) assertThat(thrown).as(text).isInstanceOf(IllegalArgumentException.class);
+            }
+        }
+
+        @Test
+        void 何度形成しても構文解析で形成したインスタンスを返す() {
+            obj.parse("+ getNumber() : int");
+
+            assertThat(obj.carve()).isSameAs(obj.carve());
+        }
+
+        @Test
+        void コンテキストを取得しようとすると例外を投げる() {
+            obj.parse("+ getNumber() : int");
+
+            assertThatThrownBy(() -> obj.getContext()).isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        void 構文エラーがある場合は構文解析で例外を投げる() {
+            assertThatThrownBy(() -> obj.parse("+ get(: int)")).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void インスタンス生成式を含む場合は構文解析で例外を投げる() {
+            assertThatThrownBy(() -> obj.parse("+ set(a : A = new A())")).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void 括弧で囲んだ式を呼出す場合は構文解析で例外を投げる() {
+            assertThatThrownBy(() -> obj.parse("+ set(a : int = (b)(c))")).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void 既定値は真である() {
+            assertThat(new OperationSculptor().isParseTreeBuilt()).isTrue();
+        }
+    }
+
     @Nested
     class 不正な操作文の場合 {
 
@@ -696,5 +866,15 @@ class OperationSculptorTest {
         void パースする前にコンテキストを取得しようとすると例外を投げる() {
             assertThatThrownBy(() -> obj.getContext()).isInstanceOf(IllegalStateException.class);
         }
+
+        @Test
+        void 引数の既定値のドットの後に識別子がない場合は例外を投げる() {
+            assertThatThrownBy(() -> obj.parse("f(x : int = a.)")).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void 引数の既定値のドットの後に括弧が続く場合は引数を落とさずに例外を投げる() {
+            assertThatThrownBy(() -> obj.parse("b( Q : String = new b number .( ) )")).isInstanceOf(IllegalArgumentException.class);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,203 @@
+package io.github.morichan.fescue.server;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FeatureServerTest {
+
+    FeatureServer obj;
+
+    int status;
+    String body;
+
+    @BeforeEach
+    void setup() {
+        obj = new FeatureServer(0);
+    }
+
+    @AfterEach
+    void teardown() {
+        if (obj.isRunning()) obj.stop();
+    }
+
+    void request(String method, String path, String content) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL("http://127.0.0.1:" + obj.getPort() + path).openConnection();
+        connection.setRequestMethod(method);
+        if (content != null) {
+            connection.setDoOutput(true);
+            try (OutputStream out = connection.getOutputStream()) {
+                out.write(content.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        status = connection.getResponseCode();
+        InputStream in = status < 400 ? connection.getInputStream() : connection.getErrorStream();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        if (in != null) {
+            try (InputStream stream = in) {
+                byte[] buffer = new byte[8192];
+                int n;
+                while ((n = stream.read(buffer)) != -1) bytes.write(buffer, 0, n);
+            }
+        }
+        body = new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    @Nested
+    class 要素を1つ解析する場合 {
+
+        @BeforeEach
+        void setup() throws IOException {
+            obj.start();
+        }
+
+        @Test
+        void 属性文をJSONで返す() throws IOException {
+            request("POST", "/attribute", "- number : int = 1\n");
+
+            assertThat(status).isEqualTo(200);
+            assertThat(body).startsWith("{\"kind\":\"attribute\",\"name\":\"number\",\"visibility\":\"private\"");
+        }
+
+        @Test
+        void 操作文をJSONで返す() throws IOException {
+            request("POST", "/operation", "+ getNumber() : int");
+
+            assertThat(status).isEqualTo(200);
+            assertThat(body).startsWith("{\"kind\":\"operation\",\"name\":\"getNumber\"");
+        }
+
+        @Test
+        void 解析に失敗した場合は400で失敗の内容を返す() throws IOException {
+            request("POST", "/attribute", "- : int");
+
+            assertThat(status).isEqualTo(400);
+            assertThat(body).startsWith("{\"kind\":\"error\",\"text\":\"- : int\",\"message\":");
+        }
+    }
+
+    @Nested
+    class 一括解析する場合 {
+
+        @BeforeEach
+        void setup() throws IOException {
+            obj.start();
+        }
+
+        @Test
+        void 行ごとの結果を配列で返す() throws IOException {
+            request("POST", "/attributes", "- a : int\r\n\r\n- : invalid\n# b : char\n");
+
+            assertThat(status).isEqualTo(200);
+            assertThat(body).startsWith("[{\"kind\":\"attribute\",\"name\":\"a\"");
+            assertThat(body).contains(",{\"kind\":\"error\",\"text\":\"- : invalid\"");
+            assertThat(body).contains(",{\"kind\":\"attribute\",\"name\":\"b\"");
+            assertThat(body).endsWith("]\n");
+        }
+
+        @Test
+        void 操作文の結果も配列で返す() throws IOException {
+            request("POST", "/operations", "+ a() : int\n# b(c : char)\n");
+
+            assertThat(status).isEqualTo(200);
+            assertThat(body).startsWith("[{\"kind\":\"operation\",\"name\":\"a\"");
+            assertThat(body).contains(",{\"kind\":\"operation\",\"name\":\"b\"");
+        }
+
+        @Test
+        void 統計に要素数と失敗数を記録する() throws IOException {
+            request("POST", "/attributes", "- a : int\n- : invalid\n- b : int\n");
+            request("GET", "/stats", null);
+
+            assertThat(status).isEqualTo(200);
+            assertThat(body).startsWith("{\"requests\":1,\"rejected\":0,\"features\":3,\"errors\":1,");
+            assertThat(obj.getStatistics().getLatency().getCount()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    class 上限を超えた場合 {
+
+        @Test
+        void 本文が大きすぎる場合は413を返す() throws IOException {
+            obj.setMaxBodySize(16);
+            obj.start();
+
+            request("POST", "/attribute", "- number : int = 1234567890");
+
+            assertThat(status).isEqualTo(413);
+        }
+
+        @Test
+        void 行数が多すぎる場合は413を返す() throws IOException {
+            obj.setMaxBatchSize(2);
+            obj.start();
+
+            request("POST", "/attributes", "- a : int\n- b : int\n- c : int\n");
+
+            assertThat(status).isEqualTo(413);
+        }
+    }
+
+    @Nested
+    class 誤ったリクエストの場合 {
+
+        @BeforeEach
+        void setup() throws IOException {
+            obj.start();
+        }
+
+        @Test
+        void POST以外で解析しようとすると405を返す() throws IOException {
+            request("GET", "/attribute", null);
+
+            assertThat(status).isEqualTo(405);
+        }
+
+        @Test
+        void 存在しないパスの場合は404を返す() throws IOException {
+            request("POST", "/attributex", "- a : int");
+
+            assertThat(status).isEqualTo(404);
+        }
+    }
+
+    @Nested
+    class 設定に関して {
+
+        @Test
+        void 起動後に設定すると例外を投げる() throws IOException {
+            obj.start();
+
+            assertThatThrownBy(() -> obj.setMaxConcurrency(1)).isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        void 同時実行数に1未満を設定すると例外を投げる() {
+            assertThatThrownBy(() -> obj.setMaxConcurrency(0)).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void 範囲外のポート番号を設定すると例外を投げる() {
+            assertThatThrownBy(() -> new FeatureServer(65536)).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void 起動せずにポート番号を取得しようとすると例外を投げる() {
+            assertThatThrownBy(() -> obj.getPort()).isInstanceOf(IllegalStateException.class);
+        }
+    }
+}
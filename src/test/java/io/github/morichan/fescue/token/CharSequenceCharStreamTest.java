@@ -0,0 +1,156 @@
+package io.github.morichan.fescue.token;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.IntStream;
+import org.antlr.v4.runtime.misc.Interval;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CharSequenceCharStreamTest {
+
+    CharSequenceCharStream obj;
+
+    void assertSameAs(CharStream actual, CharStream expected) {
+        assertThat(actual.size()).isEqualTo(expected.size());
+        for (int i = 0; i <= expected.size(); i++) {
+            assertThat(actual.index()).isEqualTo(expected.index());
+            assertThat(actual.LA(1)).isEqualTo(expected.LA(1));
+            assertThat(actual.LA(-1)).isEqualTo(expected.LA(-1));
+            assertThat(actual.LA(2)).isEqualTo(expected.LA(2));
+            if (expected.LA(1) != IntStream.EOF) {
+                actual.consume();
+                expected.consume();
+            }
+        }
+        assertThat(actual.getText(Interval.of(1, 3))).isEqualTo(expected.getText(Interval.of(1, 3)));
+        assertThat(actual.getText(Interval.of(0, expected.size() + 5))).isEqualTo(expected.getText(Interval.of(0, expected.size() + 5)));
+    }
+
+    @Nested
+    class CodePointCharStreamと比べる場合 {
+
+        @Test
+        void ASCII文字のみの文字列は同じ文字を返す() {
+            String text = "- number : int[0..*] = 1";
+
+            assertSameAs(new CharSequenceCharStream(text), CharStreams.fromString(text));
+        }
+
+        @Test
+        void 日本語を含む文字列は同じ文字を返す() {
+            String text = "- 名前 : String";
+
+            assertSameAs(new CharSequenceCharStream(new StringBuilder(text)), CharStreams.fromString(text));
+        }
+
+        @Test
+        void サロゲートペアを含む文字列はコードポイント単位で同じ文字を返す() {
+            String text = "- a𠮷 : int";
+
+            assertSameAs(new CharSequenceCharStream(text), CharStreams.fromString(text));
+        }
+
+        @Test
+        void UTF8のバイトバッファは同じ文字を返す() {
+            String text = "+ 取得(a : int) : void";
+
+            assertSameAs(CharSequenceCharStream.of(ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8))), CharStreams.fromString(text));
+        }
+    }
+
+    @Test
+    void 文字配列の一部を参照する() {
+        char[] chars = "xx- a : intyy".toCharArray();
+
+        obj = CharSequenceCharStream.of(chars, 2, 9);
+        chars[4] = 'b';
+
+        assertThat(obj).hasToString("- b : int");
+    }
+
+    @Test
+    void ASCII文字のみのバイトバッファは複製せずに参照する() {
+        ByteBuffer bytes = ByteBuffer.wrap("xx- a : int".getBytes(StandardCharsets.US_ASCII));
+        bytes.position(2);
+
+        obj = CharSequenceCharStream.of(bytes);
+        bytes.put(4, (byte) 'b');
+
+        assertThat(obj).hasToString("- b : int");
+        assertThat(bytes.position()).isEqualTo(2);
+    }
+
+    @Test
+    void ASCII文字のみのバイトバッファの部分文字列を返す() {
+        CharSequence actual = CharSequenceCharStream.asCharSequence(ByteBuffer.wrap("- a : int".getBytes(StandardCharsets.US_ASCII)));
+
+        assertThat(actual).isInstanceOf(AsciiCharSequence.class);
+        assertThat(actual.subSequence(2, 5)).hasToString("a :");
+        assertThat(actual.charAt(8)).isEqualTo('t');
+    }
+
+    @Test
+    void 文字列を変更すると参照している文字列も変わる() {
+        StringBuilder text = new StringBuilder("- a : int");
+
+        obj = new CharSequenceCharStream(text);
+        text.setCharAt(2, 'b');
+
+        assertThat(obj.LA(3)).isEqualTo('b');
+    }
+
+    @Test
+    void 切離した後は文字列を変更しても変わらない() {
+        StringBuilder text = new StringBuilder("- a : int");
+
+        obj = new CharSequenceCharStream(text, "input.txt");
+        obj.consume();
+        CharSequenceCharStream detached = obj.detach();
+        text.setCharAt(2, 'b');
+
+        assertThat(detached.LA(2)).isEqualTo('a');
+        assertThat(detached.index()).isEqualTo(1);
+        assertThat(detached.getSourceName()).isEqualTo("input.txt");
+    }
+
+    @Test
+    void 変更できない文字列は切離しても同じインスタンスを返す() {
+        obj = new CharSequenceCharStream("- a : int");
+
+        assertThat(obj.detach()).isSameAs(obj);
+    }
+
+    @Test
+    void 入力元の名前を返す() {
+        assertThat(new CharSequenceCharStream("a").getSourceName()).isEqualTo(IntStream.UNKNOWN_SOURCE_NAME);
+        assertThat(new CharSequenceCharStream("a", "input.txt").getSourceName()).isEqualTo("input.txt");
+    }
+
+    @Test
+    void 終端を消費しようとすると例外を投げる() {
+        obj = new CharSequenceCharStream("a");
+        obj.consume();
+
+        assertThatThrownBy(() -> obj.consume()).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void 範囲外の文字配列を参照しようとすると例外を投げる() {
+        assertThatThrownBy(() -> CharSequenceCharStream.of(new char[3], 2, 2)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void nullを設定すると例外を投げる() {
+        assertThatThrownBy(() -> new CharSequenceCharStream(null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CharSequenceCharStream.of(null, 0, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CharSequenceCharStream.of((ByteBuffer) null)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,134 @@
+package io.github.morichan.fescue.token;
+
+import io.github.morichan.fescue.parser.ClassFeatureLexer;
+import io.github.morichan.fescue.parser.ClassFeatureParser;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenFactory;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Token;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompactTokenStreamTest {
+
+    CompactTokenStream obj;
+
+    ClassFeatureLexer createLexer(String text) {
+        return new ClassFeatureLexer(CharStreams.fromString(text));
+    }
+
+    List<String> describe(List<Token> tokens) {
+        List<String> descriptions = new ArrayList<>();
+        for (Token token : tokens) descriptions.add(token.toString());
+        return descriptions;
+    }
+
+    @Nested
+    class CommonTokenStreamと比べる場合 {
+
+        @Test
+        void 全てのトークンが同じ内容である() {
+            String text = "- number :\r\n  int[0..*] = (1 + 2) * max(a, b)\n{subsets total}";
+            CommonTokenStream expected = new CommonTokenStream(createLexer(text));
+            expected.fill();
+
+            obj = new CompactTokenStream(createLexer(text));
+            List<Token> actual = new ArrayList<>();
+            for (int i = 0; i < obj.size(); i++) actual.add(obj.get(i));
+
+            assertThat(describe(actual)).isEqualTo(describe(expected.getTokens()));
+        }
+
+        @Test
+        void 先読みは非表示チャネルのトークンを読飛ばす() {
+            String text = "+  set ( a : int )";
+            CommonTokenStream expected = new CommonTokenStream(createLexer(text));
+
+            obj = new CompactTokenStream(createLexer(text));
+
+            for (int i = 0; i < 8; i++) {
+                assertThat(obj.LA(1)).isEqualTo(expected.LA(1));
+                assertThat(obj.LT(2).getTokenIndex()).isEqualTo(expected.LT(2).getTokenIndex());
+                assertThat(obj.index()).isEqualTo(expected.index());
+                if (expected.LA(1) != Token.EOF) {
+                    obj.consume();
+                    expected.consume();
+                }
+            }
+            assertThat(obj.LT(-1).getText()).isEqualTo(expected.LT(-1).getText());
+        }
+
+        @Test
+        void 構文解析結果が同じである() {
+            String text = "+ set(in a : int = 1, out b : char[*] {ordered}) : void {query}";
+
+            String expected = new ClassFeatureParser(new CommonTokenStream(createLexer(text))).operation().toStringTree();
+            String actual = new ClassFeatureParser(new CompactTokenStream(createLexer(text))).operation().toStringTree();
+
+            assertThat(actual).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void 同じ番号のトークンは同じインスタンスを返す() {
+        obj = new CompactTokenStream(createLexer("- a : int"));
+
+        assertThat(obj.get(2)).isSameAs(obj.get(2));
+    }
+
+    @Test
+    void 区間の文字列を返す() {
+        obj = new CompactTokenStream(createLexer("- a : int"));
+
+        assertThat(obj.getText()).isEqualTo("- a : int");
+        assertThat(obj.getText(obj.get(2), obj.get(4))).isEqualTo("a :");
+    }
+
+    @Test
+    void 入力文字列を切離した後は文字列を変更してもトークンの文字列は変わらない() {
+        StringBuilder text = new StringBuilder("- a : int");
+
+        obj = new CompactTokenStream(new ClassFeatureLexer(new CharSequenceCharStream(text)));
+        obj.detachInput();
+        text.setLength(0);
+        text.append("+ b : xyz");
+
+        assertThat(obj.get(2).getText()).isEqualTo("a");
+        assertThat(obj.getText()).isEqualTo("- a : int");
+    }
+
+    @Test
+    void 字句解析後は字句解析器のトークン生成器を元に戻す() {
+        ClassFeatureLexer lexer = createLexer("- a : int");
+
+        obj = new CompactTokenStream(lexer);
+
+        assertThat(lexer.getTokenFactory()).isSameAs(CommonTokenFactory.DEFAULT);
+    }
+
+    @Test
+    void 終端を消費しようとすると例外を投げる() {
+        obj = new CompactTokenStream(createLexer("a"));
+        obj.consume();
+
+        assertThatThrownBy(() -> obj.consume()).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void 範囲外のトークンを取得しようとすると例外を投げる() {
+        obj = new CompactTokenStream(createLexer("a"));
+
+        assertThatThrownBy(() -> obj.get(obj.size())).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void 字句解析器にnullを設定すると例外を投げる() {
+        assertThatThrownBy(() -> new CompactTokenStream(null)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
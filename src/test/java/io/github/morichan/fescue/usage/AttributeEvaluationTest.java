@@ -1942,6 +1942,47 @@ class AttributeEvaluationTest {
             }
         }
 
+        @Nested
+        class 抽出できない要素を含む場合 {
+
+            @Test
+            void 型がなくても走査して他の要素を返す() {
+                walk("+ Base :");
+
+                assertAll(
+                        () -> assertThat(obj.extractName()).isEqualTo("Base"),
+                        () -> assertThat(obj.extractVisibility()).isEqualTo("+"),
+                        () -> assertThat(obj.extractMultiplicityRangeUpper()).isNull(),
+                        () -> assertThat(obj.extractDefaultValue()).isNull()
+                );
+            }
+
+            @Test
+            void 型がない場合は型を取得しようとしたら例外を返す() {
+                walk("+ Base :");
+
+                assertThatThrownBy(() -> obj.extractPropType()).isInstanceOf(NullPointerException.class);
+            }
+
+            @Test
+            void 多重度の上限がなくても走査して他の要素を返す() {
+                walk("a : int [");
+
+                assertAll(
+                        () -> assertThat(obj.extractName()).isEqualTo("a"),
+                        () -> assertThat(obj.extractPropType()).isEqualTo("int"),
+                        () -> assertThat(obj.extractMultiplicityRangeLower()).isNull()
+                );
+            }
+
+            @Test
+            void 多重度の上限がない場合は上限を取得しようとしたら例外を返す() {
+                walk("a : int [");
+
+                assertThatThrownBy(() -> obj.extractMultiplicityRangeUpper()).isInstanceOf(NullPointerException.class);
+            }
+        }
+
         @Nested
         class 取得する要素が {
 
@@ -2104,6 +2145,28 @@ class AttributeEvaluationTest {
         }
     }
 
+    @Nested
+    class 同じインスタンスで走査し直す場合 {
+
+        @Test
+        void 後に走査した属性文の要素を返す() {
+            obj = new AttributeEvaluation();
+            obj.setText("+ first : int[0..*] = 1 {readOnly}");
+            obj.walk();
+            obj.setText("- second : char");
+            obj.walk();
+
+            assertAll(
+                    () -> assertThat(obj.extractName()).isEqualTo("second"),
+                    () -> assertThat(obj.extractVisibility()).isEqualTo("-"),
+                    () -> assertThat(obj.extractPropType()).isEqualTo("char"),
+                    () -> assertThat(obj.extractMultiplicityRangeUpper()).isNull(),
+                    () -> assertThat(obj.extractDefaultValue()).isNull(),
+                    () -> assertThat(obj.extractPropModifier()).isNull()
+            );
+        }
+    }
+
     private void walk(String text) {
         obj = new AttributeEvaluation();
         obj.setText(text);
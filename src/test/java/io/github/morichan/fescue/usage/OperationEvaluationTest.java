@@ -127,6 +127,34 @@ class OperationEvaluationTest {
             }
         }
 
+        @Nested
+        class 戻り値の型がvoidの場合 {
+            final String operation = "+ operation() : void";
+
+            @BeforeEach
+            void setup() {
+                walk(operation);
+            }
+
+            @Test
+            void 名前を返す() {
+                String expected = "operation";
+
+                String actual = obj.extractName();
+
+                assertThat(actual).isEqualTo(expected);
+            }
+
+            @Test
+            void 可視性を返す() {
+                String expected = "+";
+
+                String actual = obj.extractVisibility();
+
+                assertThat(actual).isEqualTo(expected);
+            }
+        }
+
         @Nested
         class プロパティを含む場合 {
 
@@ -219,6 +247,27 @@ class OperationEvaluationTest {
             }
         }
 
+        @Nested
+        class 抽出できない要素を含む場合 {
+
+            @BeforeEach
+            void setup() {
+                walk("+ operation() :");
+            }
+
+            @Test
+            void 走査して他の要素を返す() {
+                assertThat(obj.extractName()).isEqualTo("operation");
+                assertThat(obj.extractVisibility()).isEqualTo("+");
+                assertThat(obj.extractOperationProperty()).isNull();
+            }
+
+            @Test
+            void 型を取得しようとしたら例外を返す() {
+                assertThatThrownBy(() -> obj.extractReturnType()).isInstanceOf(NullPointerException.class);
+            }
+        }
+
         @Nested
         class 取得する要素が {
 
@@ -275,6 +324,24 @@ class OperationEvaluationTest {
         }
     }
 
+    @Nested
+    class 同じインスタンスで走査し直す場合 {
+
+        @Test
+        void 後に走査した操作文の要素を返す() {
+            obj = new OperationEvaluation();
+            obj.setText("+ first() : int {query}");
+            obj.walk();
+            obj.setText("second()");
+            obj.walk();
+
+            assertThat(obj.extractName()).isEqualTo("second");
+            assertThat(obj.extractVisibility()).isNull();
+            assertThat(obj.extractReturnType()).isNull();
+            assertThat(obj.extractOperationProperty()).isNull();
+        }
+    }
+
     private void walk(String text) {
         obj = new OperationEvaluation();
         obj.setText(text);
@@ -0,0 +1,197 @@
+package io.github.morichan.fescue.validation;
+
+import io.github.morichan.fescue.feature.Attribute;
+import io.github.morichan.fescue.feature.Operation;
+import io.github.morichan.fescue.feature.multiplicity.Bounder;
+import io.github.morichan.fescue.feature.multiplicity.MultiplicityRange;
+import io.github.morichan.fescue.feature.name.Name;
+import io.github.morichan.fescue.feature.parameter.Parameter;
+import io.github.morichan.fescue.feature.value.expression.Monomial;
+import io.github.morichan.fescue.feature.value.expression.OneIdentifier;
+import io.github.morichan.fescue.model.ClassModel;
+import io.github.morichan.fescue.sculptor.AttributeSculptor;
+import io.github.morichan.fescue.sculptor.OperationSculptor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ClassValidatorTest {
+
+    ClassValidator obj;
+
+    @BeforeEach
+    void setup() {
+        obj = new ClassValidator();
+    }
+
+    ClassModel createModel(String className, List<String> attributes, List<String> operations) {
+        ClassModel model = new ClassModel(new Name(className));
+        for (String text : attributes) {
+            AttributeSculptor sculptor = new AttributeSculptor();
+            sculptor.parse(text);
+            model.addAttribute(sculptor.carve());
+        }
+        for (String text : operations) {
+            OperationSculptor sculptor = new OperationSculptor();
+            sculptor.parse(text);
+            model.addOperation(sculptor.carve());
+        }
+        return model;
+    }
+
+    List<String> describe(List<Diagnostic> diagnostics) {
+        List<String> descriptions = new ArrayList<>();
+        for (Diagnostic diagnostic : diagnostics) descriptions.add(diagnostic.toString());
+        return descriptions;
+    }
+
+    @Test
+    void 違反がない場合は空のリストを返す() {
+        ClassModel model = createModel("Sample",
+                Arrays.asList("- total : int[0..*]", "- number : int[1] {subsets total}", "- names : String[*] {redefines Sample.total}"),
+                Arrays.asList("+ set(a : int)", "+ set(a : char)", "+ get() : int"));
+
+        List<Diagnostic> actual = obj.validate(model);
+
+        assertThat(actual).isEmpty();
+    }
+
+    @Nested
+    class 重複がある場合 {
+
+        @Test
+        void 同じ名前の2つ目以降の属性を返す() {
+            ClassModel model = createModel("Sample",
+                    Arrays.asList("- number : int", "+ number : char", "- name : String", "# number : int"),
+                    Arrays.asList());
+
+            List<Diagnostic> actual = obj.validate(model);
+
+            assertThat(describe(actual)).containsExactly("DuplicateAttribute Sample.number", "DuplicateAttribute Sample.number");
+        }
+
+        @Test
+        void 操作名とパラメータの型が同じ操作を返す() {
+            ClassModel model = createModel("Sample",
+                    Arrays.asList(),
+                    Arrays.asList("+ set(a : int) : void", "- set(b : int) : int", "+ set(a : int, b : int)"));
+
+            List<Diagnostic> actual = obj.validate(model);
+
+            assertThat(actual).hasSize(1);
+            assertThat(actual.get(0).getKind()).isEqualTo(DiagnosticKind.ConflictingOperation);
+            assertThat(actual.get(0).getClassName()).isEqualTo("Sample");
+            assertThat(actual.get(0).getKey()).isEqualTo("set(int)");
+            assertThat(actual.get(0).getDetail()).isEmpty();
+        }
+
+        @Test
+        void 型のないパラメータの数が異なる操作は重複としない() {
+            ClassModel model = new ClassModel(new Name("Sample"));
+            Operation withoutParameter = new Operation(new Name("f"));
+            Operation withParameter = new Operation(new Name("f"));
+            withParameter.addParameter(new Parameter(new Name("x")));
+            model.addOperation(withoutParameter);
+            model.addOperation(withParameter);
+
+            assertThat(obj.validate(model)).isEmpty();
+        }
+
+        @Test
+        void 型のないパラメータの数が同じ操作を返す() {
+            ClassModel model = new ClassModel(new Name("Sample"));
+            for (String parameterName : Arrays.asList("x", "y")) {
+                Operation operation = new Operation(new Name("f"));
+                operation.addParameter(new Parameter(new Name(parameterName)));
+                model.addOperation(operation);
+            }
+
+            assertThat(describe(obj.validate(model))).containsExactly("ConflictingOperation Sample.f(?)");
+        }
+    }
+
+    @Nested
+    class プロパティの対象が存在しない場合 {
+
+        @Test
+        void subsetsとredefinesの対象を返す() {
+            ClassModel model = createModel("Sample",
+                    Arrays.asList("- number : int {subsets total}", "- count : int {redefines Base.count}"),
+                    Arrays.asList());
+
+            List<Diagnostic> actual = obj.validate(model);
+
+            assertThat(describe(actual)).containsExactly("UnknownSubsetsTarget Sample.number total", "UnknownRedefinesTarget Sample.count Base.count");
+        }
+
+        @Test
+        void 複数のクラスを検証する場合は他のクラスの属性から探す() {
+            ClassModel base = createModel("Base", Arrays.asList("- count : int"), Arrays.asList());
+            ClassModel sample = createModel("Sample",
+                    Arrays.asList("- count : int {redefines Base.count}", "- total : int {redefines Other.total}"),
+                    Arrays.asList());
+
+            List<Diagnostic> actual = obj.validateAll(Arrays.asList(base, sample));
+
+            assertThat(describe(actual)).containsExactly("UnknownRedefinesTarget Sample.total Other.total");
+        }
+    }
+
+    @Nested
+    class 多重度が正しくない場合 {
+
+        @Test
+        void 下限が上限より大きい属性とパラメータを返す() {
+            ClassModel model = createModel("Sample",
+                    Arrays.asList("- a : int[5..1]", "- b : int[1..1]", "- c : int[3..*]", "- d : int[(n)..2]"),
+                    Arrays.asList("+ set(values : int[2..1])"));
+
+            List<Diagnostic> actual = obj.validate(model);
+
+            assertThat(describe(actual)).containsExactly("InvalidMultiplicityRange Sample.a [5..1]", "InvalidMultiplicityRange Sample.set(int) values [2..1]");
+        }
+
+        @Test
+        void 下限が負数または無制限の属性を返す() {
+            Attribute negative = new Attribute(new Name("negative"));
+            negative.setMultiplicityRange(new MultiplicityRange(new Bounder(new Monomial("-", new OneIdentifier(1))), new Bounder("*")));
+            Attribute unlimited = new Attribute(new Name("unlimited"));
+            unlimited.setMultiplicityRange(new MultiplicityRange(new Bounder("*"), new Bounder("*")));
+            ClassModel model = new ClassModel(new Name("Sample"));
+            model.addAttribute(negative);
+            model.addAttribute(unlimited);
+
+            List<Diagnostic> actual = obj.validate(model);
+
+            assertThat(actual).extracting(Diagnostic::getKey).containsExactly("negative", "unlimited");
+        }
+    }
+
+    @Test
+    void 複数のクラスの違反を設定した順に返す() {
+        List<ClassModel> models = new ArrayList<>();
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            models.add(createModel("C" + i, Arrays.asList("- a : int", "- a : int"), Arrays.asList()));
+            expected.add("DuplicateAttribute C" + i + ".a");
+        }
+
+        List<Diagnostic> actual = obj.validateAll(models);
+
+        assertThat(describe(actual)).isEqualTo(expected);
+    }
+
+    @Test
+    void nullを設定すると例外を投げる() {
+        assertThatThrownBy(() -> obj.validate(null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> obj.validateAll(null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> obj.validateAll(Arrays.asList(new ClassModel(new Name("Sample")), null))).isInstanceOf(IllegalArgumentException.class);
+    }
+}